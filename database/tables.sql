@@ -28,10 +28,12 @@ CREATE TABLE `Roles` (
 /*----------------------------------------------------------------------------------*/
 DROP TABLE IF EXISTS `Photos`;
 CREATE TABLE `Photos` (
-  `id`               INT UNSIGNED NOT NULL AUTO_INCREMENT,
-  `title`            VARCHAR(50)  NOT NULL,
-  `photo_link_short` VARCHAR(100) NOT NULL,
-  `photo_link_long`  VARCHAR(100)          DEFAULT NULL,
+  `id`                  INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `title`               VARCHAR(50)  NOT NULL,
+  `photo_link_short`    VARCHAR(100) NOT NULL,
+  `photo_link_long`     VARCHAR(100)          DEFAULT NULL,
+  `photo_link_thumb`    VARCHAR(100)          DEFAULT NULL,
+  `photo_link_thumb_2x` VARCHAR(100)          DEFAULT NULL,
   PRIMARY KEY (`id`),
   UNIQUE (`title`)
 )
@@ -132,3 +134,32 @@ CREATE TABLE `Sales` (
 )
   ENGINE = InnoDB
   DEFAULT CHARSET = utf8;
+
+
+/*----------------------------------------------------------------------------------*/
+DROP TABLE IF EXISTS `Outbox`;
+CREATE TABLE `Outbox` (
+  `id`           INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `subject`      VARCHAR(255) NOT NULL,
+  `text`         TEXT         NOT NULL,
+  `created`      DATETIME     NOT NULL,
+  `attempts`     INT UNSIGNED NOT NULL DEFAULT 0,
+  `locked_until` DATETIME     NULL,
+  PRIMARY KEY (`id`),
+  INDEX (`attempts`, `locked_until`, `id`)
+)
+  ENGINE = InnoDB
+  DEFAULT CHARSET = utf8;
+
+
+/*----------------------------------------------------------------------------------*/
+DROP TABLE IF EXISTS `Carts`;
+CREATE TABLE `Carts` (
+  `id`      VARCHAR(64)    NOT NULL,
+  `items`   VARBINARY(4096) NOT NULL,
+  `updated` DATETIME       NOT NULL,
+  PRIMARY KEY (`id`),
+  INDEX (`updated`)
+)
+  ENGINE = InnoDB
+  DEFAULT CHARSET = utf8;
@@ -0,0 +1,315 @@
+package ua.com.alexcoffee.benchmark;
+
+import ua.com.alexcoffee.cache.impl.CatalogCacheImpl;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.controller.client.HomeController;
+import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.dao.interfaces.ShoppingCartDAO;
+import ua.com.alexcoffee.enums.RoleEnum;
+import ua.com.alexcoffee.enums.StatusEnum;
+import ua.com.alexcoffee.model.Category;
+import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.model.Role;
+import ua.com.alexcoffee.model.SalePosition;
+import ua.com.alexcoffee.model.ShoppingCart;
+import ua.com.alexcoffee.model.Status;
+import ua.com.alexcoffee.model.User;
+import ua.com.alexcoffee.search.impl.InvertedSearchIndex;
+import ua.com.alexcoffee.service.impl.CategoryServiceImpl;
+import ua.com.alexcoffee.service.impl.ProductServiceImpl;
+import ua.com.alexcoffee.service.impl.ShoppingCartServiceImpl;
+import ua.com.alexcoffee.service.interfaces.OrderService;
+import ua.com.alexcoffee.service.interfaces.RoleService;
+import ua.com.alexcoffee.service.interfaces.StatusService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Класс готовит данные для бенчмарков: каталог из заданного количества
+ * товаров, разложенных по категориям, и DAO, которые отдают этот каталог
+ * из памяти. DAO товаров и категорий - заглушки Mockito в режиме stubOnly(),
+ * они не запоминают вызовы и не растут по памяти за время измерений.
+ * Сервисы и контроллер создаются настоящие, с настоящим кешем каталога,
+ * поэтому бенчмарки измеряют тот же путь, что и приложение после
+ * прогрева кеша.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ */
+public final class BenchmarkData {
+    /**
+     * Количество категорий каталога.
+     */
+    public static final int CATEGORIES = 4;
+
+    /**
+     * Товары каталога по порядку кодов, код товара - индекс + 1.
+     */
+    private final List<Product> products;
+
+    /**
+     * Категории каталога.
+     */
+    private final List<Category> categories;
+
+    /**
+     * Корзина, с которой работает сервис корзины.
+     */
+    private final ShoppingCart shoppingCart;
+
+    /**
+     * Конструктор готовит каталог из size товаров и корзину
+     * из cartSize позиций.
+     *
+     * @param size     Количество товаров каталога.
+     * @param cartSize Количество позиций в корзине.
+     */
+    public BenchmarkData(final int size, final int cartSize) {
+        this.categories = new ArrayList<>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            final Category category = new Category("Category " + i, "category_" + i, "", null);
+            category.setId((long) i + 1);
+            this.categories.add(category);
+        }
+        this.products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.products.add(createProduct(i + 1, this.categories.get(i % CATEGORIES)));
+        }
+        this.shoppingCart = new ShoppingCart();
+        for (int i = 0; i < Math.min(cartSize, size); i++) {
+            this.shoppingCart.addSalePosition(new SalePosition(this.products.get(i), 1 + i % 3));
+        }
+    }
+
+    /**
+     * Создает товар с заданным кодом.
+     *
+     * @param id       Код товара.
+     * @param category Категория товара.
+     * @return Объект класса {@link Product} - товар.
+     */
+    public static Product createProduct(final long id, final Category category) {
+        final Product product = new Product("Coffee " + id, "coffee_" + id, category, null, 100.0 + id % 50);
+        product.setId(id);
+        product.setArticle((int) (100000 + id));
+        return product;
+    }
+
+    /**
+     * Создает заказ клиента из positions торговых позиций.
+     *
+     * @param positions Количество позиций в заказе.
+     * @return Объект класса {@link Order} - заказ.
+     */
+    public static Order createOrder(final int positions) {
+        final List<SalePosition> salePositions = new ArrayList<>(positions);
+        for (int i = 0; i < positions; i++) {
+            salePositions.add(new SalePosition(createProduct(i + 1, null), 1 + i % 3));
+        }
+        final User client = new User(
+                "Client", "client@alexcoffee.com.ua", "+380000000000",
+                new Role(RoleEnum.CLIENT, "Client")
+        );
+        final Order order = new Order(new Status(StatusEnum.NEW, "New"), client, salePositions);
+        order.setShippingAddress("Kyiv, Khreshchatyk, 1");
+        order.setDescription("Call before delivery");
+        return order;
+    }
+
+    /**
+     * Возвращает товары каталога.
+     *
+     * @return Объект типа {@link List} - товары каталога.
+     */
+    public List<Product> getProducts() {
+        return this.products;
+    }
+
+    /**
+     * Возвращает категории каталога.
+     *
+     * @return Объект типа {@link List} - категории каталога.
+     */
+    public List<Category> getCategories() {
+        return this.categories;
+    }
+
+    /**
+     * Создает сервис товаров над каталогом в памяти.
+     *
+     * @return Объект класса {@link ProductServiceImpl}.
+     */
+    public ProductServiceImpl createProductService() {
+        return createProductService(new CatalogCacheImpl());
+    }
+
+    /**
+     * Создает контроллер главной страницы над каталогом и корзиной в памяти.
+     * Сервисы заказов, статусов и ролей в измеряемых методах не используются.
+     *
+     * @return Объект класса {@link HomeController}.
+     */
+    public HomeController createHomeController() {
+        final CatalogCache catalogCache = new CatalogCacheImpl();
+        return new HomeController(
+                createProductService(catalogCache),
+                new CategoryServiceImpl(createCategoryDAO(), catalogCache),
+                new ShoppingCartServiceImpl(new MemoryShoppingCartDAO(this.shoppingCart)),
+                mock(OrderService.class, withSettings().stubOnly()),
+                mock(StatusService.class, withSettings().stubOnly()),
+                mock(RoleService.class, withSettings().stubOnly()),
+                catalogCache
+        );
+    }
+
+    /**
+     * Создает сервис товаров с заданным кешем каталога.
+     *
+     * @param catalogCache Кеш каталога.
+     * @return Объект класса {@link ProductServiceImpl}.
+     */
+    private ProductServiceImpl createProductService(final CatalogCache catalogCache) {
+        return new ProductServiceImpl(
+                createProductDAO(),
+                createCategoryDAO(),
+                catalogCache,
+                new InvertedSearchIndex()
+        );
+    }
+
+    /**
+     * Создает DAO товаров, которое отдает товары каталога из памяти.
+     *
+     * @return Реализация интерфейса {@link ProductDAO}.
+     */
+    private ProductDAO createProductDAO() {
+        final Map<String, Product> byUrl = new HashMap<>();
+        final Map<Long, List<Product>> byCategory = new HashMap<>();
+        final Map<Long, List<Long>> idsByCategory = new HashMap<>();
+        final List<Long> ids = new ArrayList<>(this.products.size());
+        for (Product product : this.products) {
+            byUrl.put(product.getUrl(), product);
+            final Long categoryId = product.getCategory().getId();
+            byCategory.computeIfAbsent(categoryId, key -> new ArrayList<>()).add(product);
+            idsByCategory.computeIfAbsent(categoryId, key -> new ArrayList<>()).add(product.getId());
+            ids.add(product.getId());
+        }
+        final ProductDAO productDAO = mock(ProductDAO.class, withSettings().stubOnly());
+        when(productDAO.getAll()).thenReturn(this.products);
+        when(productDAO.getAllIds()).thenReturn(ids);
+        when(productDAO.getByUrl(anyString())).thenAnswer(
+                invocation -> byUrl.get((String) invocation.getArguments()[0])
+        );
+        when(productDAO.getListByCategoryId(anyLong())).thenAnswer(
+                invocation -> byCategory.get((Long) invocation.getArguments()[0])
+        );
+        when(productDAO.getIdsByCategoryId(anyLong())).thenAnswer(
+                invocation -> idsByCategory.get((Long) invocation.getArguments()[0])
+        );
+        when(productDAO.getList(anyCollectionOf(Long.class))).thenAnswer(invocation -> {
+            final Collection<?> keys = (Collection<?>) invocation.getArguments()[0];
+            final List<Product> result = new ArrayList<>(keys.size());
+            for (Object key : keys) {
+                result.add(this.products.get(((Long) key).intValue() - 1));
+            }
+            return result;
+        });
+        return productDAO;
+    }
+
+    /**
+     * Создает DAO категорий, которое отдает категории каталога из памяти.
+     *
+     * @return Реализация интерфейса {@link CategoryDAO}.
+     */
+    private CategoryDAO createCategoryDAO() {
+        final Map<String, Category> byUrl = new HashMap<>();
+        for (Category category : this.categories) {
+            byUrl.put(category.getUrl(), category);
+        }
+        final CategoryDAO categoryDAO = mock(CategoryDAO.class, withSettings().stubOnly());
+        when(categoryDAO.getAll()).thenReturn(this.categories);
+        when(categoryDAO.get(anyString())).thenAnswer(
+                invocation -> byUrl.get((String) invocation.getArguments()[0])
+        );
+        return categoryDAO;
+    }
+
+    /**
+     * Реализация {@link ShoppingCartDAO}, которая работает с одной
+     * корзиной в памяти без запроса и внешнего хранилища.
+     */
+    private static final class MemoryShoppingCartDAO implements ShoppingCartDAO {
+        /**
+         * Корзина.
+         */
+        private final ShoppingCart shoppingCart;
+
+        /**
+         * Конструктор для инициализации корзины.
+         *
+         * @param shoppingCart Корзина.
+         */
+        MemoryShoppingCartDAO(final ShoppingCart shoppingCart) {
+            this.shoppingCart = shoppingCart;
+        }
+
+        @Override
+        public List<SalePosition> getSalePositions() {
+            return this.shoppingCart.getSalePositions();
+        }
+
+        @Override
+        public void addSalePosition(final SalePosition salePosition) {
+            this.shoppingCart.addSalePosition(salePosition);
+        }
+
+        @Override
+        public void removeSalePosition(final SalePosition salePosition) {
+            this.shoppingCart.removeSalePosition(salePosition);
+        }
+
+        @Override
+        public boolean setQuantity(final long productId, final int quantity) {
+            return this.shoppingCart.setQuantity(productId, quantity);
+        }
+
+        @Override
+        public boolean decrement(final long productId) {
+            return this.shoppingCart.decrement(productId);
+        }
+
+        @Override
+        public void clearSalePositions() {
+            this.shoppingCart.clearSalePositions();
+        }
+
+        @Override
+        public ShoppingCart get() {
+            return this.shoppingCart;
+        }
+
+        @Override
+        public int getSize() {
+            return this.shoppingCart.getSize();
+        }
+
+        @Override
+        public double getPrice() {
+            return this.shoppingCart.getPrice();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ua.com.alexcoffee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+import ua.com.alexcoffee.controller.client.HomeController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк обработчиков страниц магазина {@link HomeController}
+ * над каталогом из {@code size} товаров и корзиной из 10 позиций
+ * в памяти. Измеряется работа контроллера и сервисов с прогретым
+ * кешем каталога, без базы данных и отрисовки JSP.
+ * Запуск: mvn -P benchmark test-compile exec:exec.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see HomeController
+ * @see BenchmarkData
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HomeControllerBenchmark {
+    /**
+     * Количество позиций в корзине.
+     */
+    private static final int CART_SIZE = 10;
+
+    /**
+     * Количество товаров в каталоге.
+     */
+    @Param({"100", "10000"})
+    private int size;
+
+    /**
+     * Контроллер.
+     */
+    private HomeController homeController;
+
+    /**
+     * URL товара.
+     */
+    private String productUrl;
+
+    /**
+     * URL категории.
+     */
+    private String categoryUrl;
+
+    /**
+     * Подготавливает контроллер и прогревает кеш каталога.
+     */
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = new BenchmarkData(this.size, CART_SIZE);
+        this.homeController = data.createHomeController();
+        this.productUrl = data.getProducts().get(this.size / 2).getUrl();
+        this.categoryUrl = data.getCategories().get(0).getUrl();
+        home();
+        viewProduct();
+        viewProductsInCategory();
+    }
+
+    /**
+     * Главная страница.
+     *
+     * @return Модель страницы.
+     */
+    @Benchmark
+    public ModelAndView home() {
+        return this.homeController.home(new ModelAndView());
+    }
+
+    /**
+     * Страница товара.
+     *
+     * @return Модель страницы.
+     */
+    @Benchmark
+    public ModelAndView viewProduct() {
+        return this.homeController.viewProduct(
+                this.productUrl, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
+    }
+
+    /**
+     * Страница категории.
+     *
+     * @return Модель страницы.
+     */
+    @Benchmark
+    public ModelAndView viewProductsInCategory() {
+        return this.homeController.viewProductsInCategory(
+                this.categoryUrl, null, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
+    }
+
+    /**
+     * Страница корзины.
+     *
+     * @return Модель страницы.
+     */
+    @Benchmark
+    public ModelAndView viewCart() {
+        return this.homeController.viewCart(new ModelAndView());
+    }
+}
@@ -0,0 +1,217 @@
+package ua.com.alexcoffee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.model.SalePosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сравнения и хеширования моделей. Сравнивает текущие методы
+ * equals() и hashCode(), которые работают по натуральным ключам и кодам,
+ * с прежней реализацией через строки toEquals()/toString(), которая
+ * воспроизведена в методах legacy*(). Поиск позиции в корзине измеряется
+ * для списка из {@code size} позиций, искомая позиция - последняя.
+ * Запуск: mvn -P benchmark test-compile exec:exec,
+ * профилировщик gc показывает количество выделенной памяти на операцию.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.model.Model
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelEqualsBenchmark {
+    /**
+     * Количество позиций в корзине.
+     */
+    @Param({"10", "50"})
+    private int size;
+
+    /**
+     * Товар для сравнения.
+     */
+    private Product product;
+
+    /**
+     * Товар с тем же артикулом.
+     */
+    private Product sameProduct;
+
+    /**
+     * Заказ для сравнения.
+     */
+    private Order order;
+
+    /**
+     * Заказ с тем же номером.
+     */
+    private Order sameOrder;
+
+    /**
+     * Позиции корзины.
+     */
+    private List<SalePosition> cart;
+
+    /**
+     * Позиция, равная последней позиции корзины.
+     */
+    private SalePosition last;
+
+    /**
+     * Подготавливает модели для измерений.
+     */
+    @Setup
+    public void setUp() {
+        this.product = new Product("Coffee", "coffee", null, null, 100.0);
+        this.sameProduct = new Product("Coffee", "coffee", null, null, 100.0);
+        this.sameProduct.setArticle(this.product.getArticle());
+        this.order = new Order();
+        this.sameOrder = new Order();
+        this.sameOrder.setNumber(this.order.getNumber());
+        this.cart = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            final Product item = new Product("Coffee " + i, "coffee_" + i, null, null, 100.0 + i);
+            item.setArticle(100000 + i);
+            this.cart.add(new SalePosition(item, 1));
+        }
+        final Product original = this.cart.get(this.size - 1).getProduct();
+        final Product copy = new Product(
+                original.getTitle(), original.getUrl(), null, null, original.getPrice()
+        );
+        copy.setArticle(original.getArticle());
+        this.last = new SalePosition(copy, 1);
+    }
+
+    /**
+     * Сравнивает товары методом equals().
+     *
+     * @return Результат сравнения.
+     */
+    @Benchmark
+    public boolean productEquals() {
+        return this.product.equals(this.sameProduct);
+    }
+
+    /**
+     * Сравнивает товары прежним способом.
+     *
+     * @return Результат сравнения.
+     */
+    @Benchmark
+    public boolean productEqualsLegacy() {
+        return legacyKey(this.product).equals(legacyKey(this.sameProduct));
+    }
+
+    /**
+     * Возвращает хеш код нового товара методом hashCode().
+     *
+     * @return Хеш код.
+     */
+    @Benchmark
+    public int productHashCode() {
+        return this.product.hashCode();
+    }
+
+    /**
+     * Возвращает хеш код нового товара прежним способом.
+     *
+     * @return Хеш код.
+     */
+    @Benchmark
+    public int productHashCodeLegacy() {
+        return (this.product.getId() != null)
+                ? this.product.getId().hashCode()
+                : this.product.toString().hashCode();
+    }
+
+    /**
+     * Сравнивает заказы методом equals().
+     *
+     * @return Результат сравнения.
+     */
+    @Benchmark
+    public boolean orderEquals() {
+        return this.order.equals(this.sameOrder);
+    }
+
+    /**
+     * Ищет позицию в корзине одним проходом, как ShoppingCart.addSalePosition().
+     *
+     * @return Индекс позиции.
+     */
+    @Benchmark
+    public int cartIndexOf() {
+        return this.cart.indexOf(this.last);
+    }
+
+    /**
+     * Ищет позицию в корзине прежним способом: contains() и indexOf(),
+     * каждое сравнение строит строки.
+     *
+     * @return Индекс позиции.
+     */
+    @Benchmark
+    public int cartIndexOfLegacy() {
+        return (legacyIndexOf(this.cart, this.last) >= 0)
+                ? legacyIndexOf(this.cart, this.last) : -1;
+    }
+
+    /**
+     * Возвращает строку сравнения товара, как прежний метод Product.toEquals().
+     *
+     * @param product Товар.
+     * @return Строка сравнения.
+     */
+    private static String legacyKey(final Product product) {
+        return product.getArticle() + product.getTitle() + product.getUrl() + product.getPrice();
+    }
+
+    /**
+     * Возвращает строку сравнения позиции, как прежний метод SalePosition.toEquals().
+     *
+     * @param position Торговая позиция.
+     * @return Строка сравнения.
+     */
+    private static String legacyKey(final SalePosition position) {
+        String line = legacyKey(position.getProduct());
+        if (position.getId() != null) {
+            line += position.getId();
+        }
+        return line;
+    }
+
+    /**
+     * Ищет позицию в списке, сравнивая строки, как прежний Model.equals().
+     *
+     * @param positions Список позиций.
+     * @param target    Искомая позиция.
+     * @return Индекс позиции или -1.
+     */
+    private static int legacyIndexOf(final List<SalePosition> positions, final SalePosition target) {
+        final String key = legacyKey(target);
+        for (int i = 0; i < positions.size(); i++) {
+            if (legacyKey(positions.get(i)).equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
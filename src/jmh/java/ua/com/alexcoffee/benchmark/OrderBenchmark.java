@@ -0,0 +1,62 @@
+package ua.com.alexcoffee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.com.alexcoffee.model.Order;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк описания заказа {@link Order#toString()}, из которого
+ * строится текст письма менеджерам, для заказа из {@code positions} позиций.
+ * Запуск: mvn -P benchmark test-compile exec:exec.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+    /**
+     * Количество позиций в заказе.
+     */
+    @Param({"1", "10", "50"})
+    private int positions;
+
+    /**
+     * Заказ.
+     */
+    private Order order;
+
+    /**
+     * Подготавливает заказ для измерений.
+     */
+    @Setup
+    public void setUp() {
+        this.order = BenchmarkData.createOrder(this.positions);
+    }
+
+    /**
+     * Возвращает описание заказа.
+     *
+     * @return Описание заказа.
+     */
+    @Benchmark
+    public String orderToString() {
+        return this.order.toString();
+    }
+}
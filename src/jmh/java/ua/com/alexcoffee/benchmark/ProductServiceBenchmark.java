@@ -0,0 +1,122 @@
+package ua.com.alexcoffee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
+import ua.com.alexcoffee.service.impl.ProductServiceImpl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк выборки случайных товаров {@link ProductServiceImpl} для каталога
+ * из {@code size} товаров. Измеряется весь путь сервиса: выборка кодов
+ * из кеша каталога, загрузка товаров из DAO в памяти и перемешивание
+ * результата (getShuffleSubList()). Время не должно заметно расти
+ * с размером каталога. Метод search() измеряет поиск по индексу в памяти,
+ * который строится при подготовке.
+ * Запуск: mvn -P benchmark test-compile exec:exec.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ProductServiceImpl
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceBenchmark {
+    /**
+     * Количество товаров в каталоге.
+     */
+    @Param({"100", "10000"})
+    private int size;
+
+    /**
+     * Сервис товаров.
+     */
+    private ProductServiceImpl productService;
+
+    /**
+     * Товар, похожие на который выбираются из его категории.
+     */
+    private Product product;
+
+    /**
+     * Подготавливает каталог и прогревает кеш каталога.
+     */
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = new BenchmarkData(this.size, 0);
+        this.productService = data.createProductService();
+        this.product = data.getProducts().get(0);
+        getRandom();
+        getRandomByCategoryId();
+        search();
+        filterCategory();
+    }
+
+    /**
+     * Возвращает 12 случайных товаров, как на главной странице.
+     *
+     * @return Список товаров.
+     */
+    @Benchmark
+    public List<Product> getRandom() {
+        return this.productService.getRandom(12);
+    }
+
+    /**
+     * Возвращает 4 случайных товара категории, кроме текущего,
+     * как на странице товара.
+     *
+     * @return Список товаров.
+     */
+    @Benchmark
+    public List<Product> getRandomByCategoryId() {
+        return this.productService.getRandomByCategoryId(
+                4,
+                this.product.getCategory().getId(),
+                this.product.getId()
+        );
+    }
+
+    /**
+     * Ищет товары по запросу из двух слов, второе слово - начало числа,
+     * как при вводе запроса покупателем.
+     *
+     * @return Список карточек товаров.
+     */
+    @Benchmark
+    public List<ProductCard> search() {
+        return this.productService.search("coffee 1", 12);
+    }
+
+    /**
+     * Фильтрует товары категории по диапазону цен,
+     * как на странице категории с выбранным фасетом.
+     *
+     * @return Товары категории и фасеты.
+     */
+    @Benchmark
+    public FacetedProducts filterCategory() {
+        return this.productService.getByCategoryUrl(
+                this.product.getCategory().getUrl(),
+                Collections.singletonList("Цена:100 - 200 грн")
+        );
+    }
+}
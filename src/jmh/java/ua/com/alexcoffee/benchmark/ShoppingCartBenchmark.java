@@ -0,0 +1,135 @@
+package ua.com.alexcoffee.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.model.SalePosition;
+import ua.com.alexcoffee.model.ShoppingCart;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк операций корзины для корзины из {@code size} позиций.
+ * Метод fill() измеряет наполнение пустой корзины целиком, остальные
+ * методы - одну операцию с уже наполненной корзиной; их время не должно
+ * зависеть от размера корзины.
+ * Запуск: mvn -P benchmark test-compile exec:exec.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ShoppingCart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingCartBenchmark {
+    /**
+     * Количество позиций в корзине.
+     */
+    @Param({"10", "100"})
+    private int size;
+
+    /**
+     * Товары для наполнения корзины.
+     */
+    private List<Product> products;
+
+    /**
+     * Наполненная корзина.
+     */
+    private ShoppingCart cart;
+
+    /**
+     * Позиция с последним товаром корзины.
+     */
+    private SalePosition last;
+
+    /**
+     * Код последнего товара корзины.
+     */
+    private long lastId;
+
+    /**
+     * Подготавливает корзину для измерений.
+     */
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = new BenchmarkData(this.size, 0);
+        this.products = data.getProducts();
+        this.cart = new ShoppingCart();
+        for (Product product : this.products) {
+            this.cart.addSalePosition(new SalePosition(product, 1));
+        }
+        this.lastId = this.products.get(this.size - 1).getId();
+        this.last = new SalePosition(this.products.get(this.size - 1), 1);
+    }
+
+    /**
+     * Наполняет пустую корзину всеми товарами.
+     *
+     * @return Корзина.
+     */
+    @Benchmark
+    public ShoppingCart fill() {
+        final ShoppingCart shoppingCart = new ShoppingCart();
+        for (Product product : this.products) {
+            shoppingCart.addSalePosition(new SalePosition(product, 1));
+        }
+        return shoppingCart;
+    }
+
+    /**
+     * Добавляет в корзину товар, который в ней уже есть,
+     * и уменьшает количество товаров в его позиции обратно.
+     *
+     * @return Количество товаров в корзине.
+     */
+    @Benchmark
+    public int addExisting() {
+        this.cart.addSalePosition(this.last);
+        return this.cart.decrement(this.lastId) ? this.cart.getSize() : -1;
+    }
+
+    /**
+     * Меняет количество товаров в последней позиции.
+     *
+     * @return Результат операции.
+     */
+    @Benchmark
+    public boolean setQuantity() {
+        return this.cart.setQuantity(this.lastId, 1);
+    }
+
+    /**
+     * Возвращает цену корзины.
+     *
+     * @return Цена корзины.
+     */
+    @Benchmark
+    public double getPrice() {
+        return this.cart.getPrice();
+    }
+
+    /**
+     * Возвращает количество товаров в корзине.
+     *
+     * @return Количество товаров.
+     */
+    @Benchmark
+    public int getSize() {
+        return this.cart.getSize();
+    }
+}
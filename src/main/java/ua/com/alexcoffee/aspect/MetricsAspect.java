@@ -0,0 +1,75 @@
+package ua.com.alexcoffee.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.stereotype.Component;
+import ua.com.alexcoffee.metrics.interfaces.MethodMetrics;
+
+/**
+ * Класс реализует сквозную функциональность, а именно замер времени
+ * выполнения методов контроллеров, сервисов и DAO. Время, количество
+ * вызовов и ошибок записываются в {@link MethodMetrics}.
+ * Помечен аннотациями @Aspect - аспект изменяет поведение остального кода,
+ * применяя совет в точках соединения.
+ * Помечен аннотациями @Component указывает, что клас является компонентом
+ * фреймворка Spring.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MethodMetrics
+ */
+@Component
+@Aspect
+@ComponentScan(basePackages = "ua.com.alexcoffee.metrics")
+public class MetricsAspect {
+    /**
+     * Показатели методов.
+     */
+    private final MethodMetrics methodMetrics;
+
+    /**
+     * Конструктор для инициализации аспекта.
+     * Помечен аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param methodMetrics Показатели методов.
+     */
+    @Autowired
+    public MetricsAspect(final MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    /**
+     * Замеряет время выполнения метода и учитывает вызов,
+     * в том числе завершившийся исключением.
+     *
+     * @param joinPoint Вызов метода.
+     * @return Объект, который вернул метод.
+     * @throws Throwable Исключение, брошенное методом.
+     */
+    @Around(
+            "execution(* ua.com.alexcoffee..controller..*(..))"
+                    + " || execution(* ua.com.alexcoffee..service..*(..))"
+                    + " || execution(* ua.com.alexcoffee..dao..*(..))"
+    )
+    public Object aroundAdvice(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            this.methodMetrics.record(
+                    joinPoint.getTarget().getClass(),
+                    ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    System.nanoTime() - start,
+                    failed
+            );
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.com.alexcoffee.cache.interfaces.CacheStore;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.facet.interfaces.FacetIndex;
+import ua.com.alexcoffee.model.Category;
+import ua.com.alexcoffee.model.Model;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Класс реализует методы интерфейса {@link CatalogCache}. Товары, списки товаров,
+ * списки карточек товаров, списки кодов товаров, индексы фасетов, категории, списки категорий
+ * и HTML-фрагменты страниц хранятся в отдельных
+ * хранилищах {@link CacheStore}, реализацию которых можно подменить через
+ * конструктор. Списки сохраняются
+ * только для чтения, чтобы вызывающий код не мог изменить содержимое кеша.
+ * Класс помечен аннотацией @Component - Spring автоматически зарегестрирует
+ * компонент в своём контексте для последующей инъекции; аннотацией
+ * @ManagedResource - попадания, промахи и вытеснения публикуются через JMX.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CatalogCache
+ * @see LruCacheStore
+ */
+@Component
+@ManagedResource(
+        objectName = "ua.com.alexcoffee:type=CatalogCache",
+        description = "Catalog cache metrics"
+)
+public final class CatalogCacheImpl implements CatalogCache {
+    /**
+     * Хранилище товаров.
+     */
+    private final CacheStore<String, Product> products;
+
+    /**
+     * Хранилище списков товаров.
+     */
+    private final CacheStore<String, List<Product>> productLists;
+
+    /**
+     * Хранилище списков карточек товаров.
+     */
+    private final CacheStore<String, List<ProductCard>> productCards;
+
+    /**
+     * Хранилище списков кодов товаров.
+     */
+    private final CacheStore<String, List<Long>> productIds;
+
+    /**
+     * Хранилище индексов фасетов.
+     */
+    private final CacheStore<String, FacetIndex> facetIndexes;
+
+    /**
+     * Хранилище категорий.
+     */
+    private final CacheStore<String, Category> categories;
+
+    /**
+     * Хранилище списков категорий.
+     */
+    private final CacheStore<String, List<Category>> categoryLists;
+
+    /**
+     * Хранилище HTML-фрагментов страниц каталога.
+     */
+    private final CacheStore<String, String> fragments;
+
+    /**
+     * Версия каталога, увеличивается при каждом сбросе кеша.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Время последнего сброса кеша в миллисекундах.
+     */
+    private volatile long lastModified = System.currentTimeMillis();
+
+    /**
+     * Конструктор без параметров, хранилища создаются
+     * с настройками по-умолчанию.
+     */
+    public CatalogCacheImpl() {
+        this(new AppSettings());
+    }
+
+    /**
+     * Конструктор для инициализации кеша хранилищами, ограниченными
+     * размером alexcoffee.cache.catalog.max-size и временем жизни
+     * записи alexcoffee.cache.catalog.time-to-live.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param settings Настройки приложения.
+     */
+    @Autowired
+    public CatalogCacheImpl(final AppSettings settings) {
+        this(
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive()),
+                new LruCacheStore<>(settings.getCatalogCacheSize(), settings.getCatalogCacheTimeToLive())
+        );
+    }
+
+    /**
+     * Конструктор для инициализации кеша заданными хранилищами.
+     *
+     * @param products      Хранилище товаров.
+     * @param productLists  Хранилище списков товаров.
+     * @param productCards  Хранилище списков карточек товаров.
+     * @param productIds    Хранилище списков кодов товаров.
+     * @param facetIndexes  Хранилище индексов фасетов.
+     * @param categories    Хранилище категорий.
+     * @param categoryLists Хранилище списков категорий.
+     * @param fragments     Хранилище HTML-фрагментов страниц каталога.
+     */
+    public CatalogCacheImpl(
+            final CacheStore<String, Product> products,
+            final CacheStore<String, List<Product>> productLists,
+            final CacheStore<String, List<ProductCard>> productCards,
+            final CacheStore<String, List<Long>> productIds,
+            final CacheStore<String, FacetIndex> facetIndexes,
+            final CacheStore<String, Category> categories,
+            final CacheStore<String, List<Category>> categoryLists,
+            final CacheStore<String, String> fragments
+    ) {
+        this.products = products;
+        this.productLists = productLists;
+        this.productCards = productCards;
+        this.productIds = productIds;
+        this.facetIndexes = facetIndexes;
+        this.categories = categories;
+        this.categoryLists = categoryLists;
+        this.fragments = fragments;
+    }
+
+    /**
+     * Возвращает товар по ключу, при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ товара (URL или артикль).
+     * @param loader Загрузчик товара из базы данных.
+     * @return Объект класса {@link Product} - товар или null.
+     */
+    @Override
+    public Product getProduct(final String key, final Supplier<Product> loader) {
+        return this.products.get(key, loader);
+    }
+
+    /**
+     * Возвращает список товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка товаров.
+     * @param loader Загрузчик списка товаров из базы данных.
+     * @return Объект типа {@link List} - список товаров только для чтения.
+     */
+    @Override
+    public List<Product> getProducts(final String key, final Supplier<List<Product>> loader) {
+        return this.productLists.get(key, () -> Model.getUnmodifiableList(loader.get()));
+    }
+
+    /**
+     * Возвращает список карточек товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка карточек товаров.
+     * @param loader Загрузчик списка карточек товаров из базы данных.
+     * @return Объект типа {@link List} - список карточек товаров только для чтения.
+     */
+    @Override
+    public List<ProductCard> getProductCards(final String key, final Supplier<List<ProductCard>> loader) {
+        return this.productCards.get(key, () -> {
+            final List<ProductCard> cards = loader.get();
+            return (cards != null) ? Collections.unmodifiableList(cards) : Collections.emptyList();
+        });
+    }
+
+    /**
+     * Возвращает список кодов товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка кодов товаров.
+     * @param loader Загрузчик списка кодов товаров из базы данных.
+     * @return Объект типа {@link List} - список кодов товаров только для чтения.
+     */
+    @Override
+    public List<Long> getProductIds(final String key, final Supplier<List<Long>> loader) {
+        return this.productIds.get(key, () -> {
+            final List<Long> ids = loader.get();
+            return (ids != null) ? Collections.unmodifiableList(ids) : Collections.emptyList();
+        });
+    }
+
+    /**
+     * Возвращает индекс фасетов по ключу,
+     * при промахе строит его загрузчиком loader.
+     *
+     * @param key    Ключ индекса фасетов.
+     * @param loader Загрузчик индекса фасетов.
+     * @return Объект типа {@link FacetIndex} - индекс фасетов.
+     */
+    @Override
+    public FacetIndex getFacetIndex(final String key, final Supplier<FacetIndex> loader) {
+        return this.facetIndexes.get(key, loader);
+    }
+
+    /**
+     * Возвращает категорию по ключу, при промахе загружает ее загрузчиком loader.
+     *
+     * @param key    Ключ категории.
+     * @param loader Загрузчик категории из базы данных.
+     * @return Объект класса {@link Category} - категория или null.
+     */
+    @Override
+    public Category getCategory(final String key, final Supplier<Category> loader) {
+        return this.categories.get(key, loader);
+    }
+
+    /**
+     * Возвращает список категорий по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка категорий.
+     * @param loader Загрузчик списка категорий из базы данных.
+     * @return Объект типа {@link List} - список категорий только для чтения.
+     */
+    @Override
+    public List<Category> getCategories(final String key, final Supplier<List<Category>> loader) {
+        return this.categoryLists.get(key, () -> Model.getUnmodifiableList(loader.get()));
+    }
+
+    /**
+     * Возвращает отрисованный HTML-фрагмент страницы каталога по ключу,
+     * при промахе отрисовывает его загрузчиком loader.
+     *
+     * @param key    Ключ фрагмента.
+     * @param loader Загрузчик, который отрисовывает фрагмент.
+     * @return Значение типа {@link String} - HTML-фрагмент.
+     */
+    @Override
+    public String getFragment(final String key, final Supplier<String> loader) {
+        return this.fragments.get(key, loader);
+    }
+
+    /**
+     * Сбрасывает весь кеш каталога. Внутри транзакции кеш сбрасывается
+     * еще раз после коммита, чтобы параллельный запрос не успел
+     * закешировать данные, которые были прочитаны до коммита.
+     */
+    @Override
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronizationAdapter() {
+                        @Override
+                        public void afterCommit() {
+                            clear();
+                        }
+                    }
+            );
+        }
+    }
+
+    /**
+     * Возвращает версию каталога, которая увеличивается при каждом сбросе кеша.
+     *
+     * @return Значение типа long - версия каталога.
+     */
+    @Override
+    @ManagedAttribute(description = "Catalog version, incremented on every invalidation")
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Возвращает время последнего сброса кеша, а до первого сброса -
+     * время создания кеша.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    @Override
+    public long getLastModified() {
+        return this.lastModified;
+    }
+
+    /**
+     * Возвращает суммарное количество попаданий в кеш каталога.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    @Override
+    @ManagedAttribute(description = "Catalog cache hits")
+    public long getHitCount() {
+        return this.products.getHitCount() + this.productLists.getHitCount()
+                + this.productCards.getHitCount() + this.productIds.getHitCount()
+                + this.facetIndexes.getHitCount() + this.categories.getHitCount()
+                + this.categoryLists.getHitCount() + this.fragments.getHitCount();
+    }
+
+    /**
+     * Возвращает суммарное количество промахов кеша каталога.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    @Override
+    @ManagedAttribute(description = "Catalog cache misses")
+    public long getMissCount() {
+        return this.products.getMissCount() + this.productLists.getMissCount()
+                + this.productCards.getMissCount() + this.productIds.getMissCount()
+                + this.facetIndexes.getMissCount() + this.categories.getMissCount()
+                + this.categoryLists.getMissCount() + this.fragments.getMissCount();
+    }
+
+    /**
+     * Возвращает суммарное количество вытесненных из кеша каталога значений.
+     *
+     * @return Значение типа long - количество вытесненных значений.
+     */
+    @Override
+    @ManagedAttribute(description = "Catalog cache evictions")
+    public long getEvictionCount() {
+        return this.products.getEvictionCount() + this.productLists.getEvictionCount()
+                + this.productCards.getEvictionCount() + this.productIds.getEvictionCount()
+                + this.facetIndexes.getEvictionCount() + this.categories.getEvictionCount()
+                + this.categoryLists.getEvictionCount() + this.fragments.getEvictionCount();
+    }
+
+    /**
+     * Возвращает описание кеша каталога.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - состояние всех хранилищ.
+     */
+    @Override
+    public String toString() {
+        return "Products: " + this.products
+                + "\nProduct lists: " + this.productLists
+                + "\nProduct cards: " + this.productCards
+                + "\nProduct ids: " + this.productIds
+                + "\nFacet indexes: " + this.facetIndexes
+                + "\nCategories: " + this.categories
+                + "\nCategory lists: " + this.categoryLists
+                + "\nFragments: " + this.fragments;
+    }
+
+    /**
+     * Очищает все хранилища кеша, увеличивает версию каталога
+     * и запоминает время сброса.
+     */
+    private void clear() {
+        this.lastModified = System.currentTimeMillis();
+        this.version.incrementAndGet();
+        this.products.clear();
+        this.productLists.clear();
+        this.productCards.clear();
+        this.productIds.clear();
+        this.facetIndexes.clear();
+        this.categories.clear();
+        this.categoryLists.clear();
+        this.fragments.clear();
+    }
+}
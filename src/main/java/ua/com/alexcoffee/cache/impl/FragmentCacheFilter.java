@@ -0,0 +1,210 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Фильтр кеширует отрисованный HTML-фрагмент списка товаров в кеше каталога
+ * {@link CatalogCache}. Фильтр вешается на включение (include) шаблонов
+ * {@link #FRAGMENTS}, ключ фрагмента контроллер передает в модели под
+ * именем {@link #KEY_ATTRIBUTE}. Без ключа шаблон отрисовывается как обычно.
+ * Если контроллер уже нашел фрагмент в кеше, он передает его под именем
+ * {@link #CONTENT_ATTRIBUTE} и не загружает товары, фильтр отдает этот
+ * фрагмент без отрисовки шаблона. Счетчик корзины отрисовывается вне
+ * фрагмента, поэтому фрагмент одинаков для всех посетителей и сбрасывается
+ * вместе с кешем каталога.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CatalogCache
+ * @see ua.com.alexcoffee.config.AppInitializer
+ */
+public final class FragmentCacheFilter implements Filter {
+    /**
+     * Шаблоны списков товаров категории и всех товаров, вывод которых кешируется.
+     * В них входит вся разметка страницы, которая зависит от товаров.
+     */
+    public static final String[] FRAGMENTS = {
+            "/WEB-INF/views/client/template/category_products.jsp",
+            "/WEB-INF/views/client/template/all_products.jsp"
+    };
+
+    /**
+     * Имя атрибута запроса с ключом фрагмента.
+     */
+    public static final String KEY_ATTRIBUTE = "fragment_key";
+
+    /**
+     * Имя атрибута запроса с фрагментом, который контроллер нашел в кеше.
+     */
+    public static final String CONTENT_ATTRIBUTE = "fragment_content";
+
+    /**
+     * Адрес для проверки, дописывает ли контейнер код сессии в ссылки.
+     */
+    private static final String PROBE_URL = "/";
+
+    /**
+     * Кеш каталога.
+     */
+    private volatile CatalogCache catalogCache;
+
+    /**
+     * Конструктор без параметров, кеш каталога берется из контекста
+     * Диспетчера Сервлета при первом запросе - тем же кешем пользуются
+     * контроллеры, которые сбрасывают его при изменении каталога.
+     */
+    public FragmentCacheFilter() {
+    }
+
+    /**
+     * Конструктор для инициализации фильтра заданным кешем каталога.
+     *
+     * @param catalogCache Кеш каталога.
+     */
+    public FragmentCacheFilter(final CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * Фильтр не требует инициализации.
+     *
+     * @param filterConfig Настройки фильтра.
+     */
+    @Override
+    public void init(final FilterConfig filterConfig) {
+    }
+
+    /**
+     * Отдает фрагмент, найденный контроллером, или фрагмент из кеша, при промахе отрисовывает шаблон
+     * в буфер и сохраняет результат. Фрагмент не кешируется, если
+     * контейнер дописывает код сессии в ссылки (у клиента отключены
+     * cookies), чтобы код сессии не попал на страницы других посетителей.
+     *
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @param chain    Цепочка фильтров.
+     * @throws IOException      Исключение записи в ответ.
+     * @throws ServletException Исключение отрисовки шаблона.
+     */
+    @Override
+    public void doFilter(
+            final ServletRequest request,
+            final ServletResponse response,
+            final FilterChain chain
+    ) throws IOException, ServletException {
+        final Object content = request.getAttribute(CONTENT_ATTRIBUTE);
+        if (content != null) {
+            response.getWriter().write(content.toString());
+            return;
+        }
+        final Object key = request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null || !isShareable((HttpServletResponse) response)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final String fragment;
+        try {
+            fragment = getCatalogCache(request).getFragment(
+                    key.toString(),
+                    () -> render(request, (HttpServletResponse) response, chain)
+            );
+        } catch (RenderException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw (ServletException) ex.getCause();
+        }
+        response.getWriter().write(fragment);
+    }
+
+    /**
+     * Фильтр не держит ресурсов.
+     */
+    @Override
+    public void destroy() {
+    }
+
+    /**
+     * Возвращает кеш каталога, при первом вызове берет его из контекста
+     * Диспетчера Сервлета, который отрисовывает страницу.
+     *
+     * @param request Объект запроса.
+     * @return Объект класса {@link CatalogCache} - кеш каталога.
+     */
+    private CatalogCache getCatalogCache(final ServletRequest request) {
+        if (this.catalogCache == null) {
+            final WebApplicationContext context = (WebApplicationContext) request
+                    .getAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE);
+            this.catalogCache = context.getBean(CatalogCache.class);
+        }
+        return this.catalogCache;
+    }
+
+    /**
+     * Проверяет, что ссылки в ответе не содержат код сессии.
+     *
+     * @param response Объект ответа.
+     * @return Значение типа boolean - true, если фрагмент можно
+     * отдавать другим посетителям.
+     */
+    public static boolean isShareable(final HttpServletResponse response) {
+        return PROBE_URL.equals(response.encodeURL(PROBE_URL));
+    }
+
+    /**
+     * Отрисовывает шаблон в буфер.
+     *
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @param chain    Цепочка фильтров.
+     * @return Значение типа {@link String} - HTML-фрагмент.
+     */
+    private static String render(
+            final ServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) {
+        final CharArrayWriter buffer = new CharArrayWriter();
+        final PrintWriter writer = new PrintWriter(buffer);
+        try {
+            chain.doFilter(request, new HttpServletResponseWrapper(response) {
+                @Override
+                public PrintWriter getWriter() {
+                    return writer;
+                }
+            });
+        } catch (IOException | ServletException ex) {
+            throw new RenderException(ex);
+        }
+        writer.flush();
+        return buffer.toString();
+    }
+
+    /**
+     * Исключение отрисовки шаблона внутри загрузчика кеша.
+     */
+    private static final class RenderException extends RuntimeException {
+        /**
+         * Конструктор для инициализации исключения.
+         *
+         * @param cause Исключение отрисовки.
+         */
+        RenderException(final Exception cause) {
+            super(cause);
+        }
+    }
+}
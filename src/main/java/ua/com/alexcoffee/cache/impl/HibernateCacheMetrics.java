@@ -0,0 +1,154 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import ua.com.alexcoffee.cache.interfaces.EntityCacheMetrics;
+
+/**
+ * Класс реализует методы интерфейса {@link EntityCacheMetrics}, читая
+ * статистику Hibernate. Статистика собирается, если включена настройка
+ * hibernate.generate_statistics. Помечен аннотацией @ManagedResource -
+ * показатели публикуются через JMX.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see EntityCacheMetrics
+ */
+@ManagedResource(
+        objectName = "ua.com.alexcoffee:type=EntityCacheMetrics",
+        description = "Hibernate second-level and query cache metrics"
+)
+public final class HibernateCacheMetrics implements EntityCacheMetrics {
+    /**
+     * Статистика Hibernate.
+     */
+    private final Statistics statistics;
+
+    /**
+     * Конструктор для инициализации показателей.
+     *
+     * @param statistics Статистика фабрики сессий Hibernate.
+     */
+    public HibernateCacheMetrics(final Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Возвращает количество сущностей, найденных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    @Override
+    @ManagedAttribute(description = "Second-level cache hits")
+    public long getEntityHitCount() {
+        return this.statistics.getSecondLevelCacheHitCount();
+    }
+
+    /**
+     * Возвращает количество сущностей, не найденных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    @Override
+    @ManagedAttribute(description = "Second-level cache misses")
+    public long getEntityMissCount() {
+        return this.statistics.getSecondLevelCacheMissCount();
+    }
+
+    /**
+     * Возвращает количество сущностей, сохраненных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество сохранений.
+     */
+    @Override
+    @ManagedAttribute(description = "Second-level cache puts")
+    public long getEntityPutCount() {
+        return this.statistics.getSecondLevelCachePutCount();
+    }
+
+    /**
+     * Возвращает количество результатов, найденных в кеше запросов.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    @Override
+    @ManagedAttribute(description = "Query cache hits")
+    public long getQueryHitCount() {
+        return this.statistics.getQueryCacheHitCount();
+    }
+
+    /**
+     * Возвращает количество результатов, не найденных в кеше запросов.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    @Override
+    @ManagedAttribute(description = "Query cache misses")
+    public long getQueryMissCount() {
+        return this.statistics.getQueryCacheMissCount();
+    }
+
+    /**
+     * Возвращает количество результатов, сохраненных в кеше запросов.
+     *
+     * @return Значение типа long - количество сохранений.
+     */
+    @Override
+    @ManagedAttribute(description = "Query cache puts")
+    public long getQueryPutCount() {
+        return this.statistics.getQueryCachePutCount();
+    }
+
+    /**
+     * Возвращает долю попаданий во второй уровень кеша и кеш запросов.
+     *
+     * @return Значение типа double - доля попаданий от 0 до 1.
+     */
+    @Override
+    @ManagedAttribute(description = "Hit ratio of second-level and query caches")
+    public double getHitRatio() {
+        final long hits = getEntityHitCount() + getQueryHitCount();
+        final long total = hits + getEntityMissCount() + getQueryMissCount();
+        return (total > 0) ? (double) hits / total : 0;
+    }
+
+    /**
+     * Обнуляет показатели.
+     */
+    @Override
+    @ManagedOperation(description = "Reset statistics")
+    public void clear() {
+        this.statistics.clear();
+    }
+
+    /**
+     * Возвращает описание показателей кеша и
+     * количество попаданий по каждому региону.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - показатели кеша.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder()
+                .append("entity hit/miss/put = ").append(getEntityHitCount())
+                .append("/").append(getEntityMissCount())
+                .append("/").append(getEntityPutCount())
+                .append(", query hit/miss/put = ").append(getQueryHitCount())
+                .append("/").append(getQueryMissCount())
+                .append("/").append(getQueryPutCount());
+        for (String region : this.statistics.getSecondLevelCacheRegionNames()) {
+            final SecondLevelCacheStatistics regionStatistics =
+                    this.statistics.getSecondLevelCacheStatistics(region);
+            if (regionStatistics != null) {
+                sb.append(", ").append(region)
+                        .append(" hit/miss = ").append(regionStatistics.getHitCount())
+                        .append("/").append(regionStatistics.getMissCount());
+            }
+        }
+        return sb.toString();
+    }
+}
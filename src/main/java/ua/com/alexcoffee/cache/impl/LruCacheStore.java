@@ -0,0 +1,275 @@
+package ua.com.alexcoffee.cache.impl;
+
+import ua.com.alexcoffee.cache.interfaces.CacheStore;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Класс реализует методы интерфейса {@link CacheStore}. Кеш ограничен
+ * по количеству записей (вытесняются давно не используемые записи - LRU)
+ * и по времени жизни записи. Ведет счетчики попаданий, промахов и
+ * вытесненных записей. Загрузка значения при промахе выполняется вне
+ * блокировки, чтобы медленный запрос к базе данных не блокировал
+ * остальных читателей.
+ *
+ * @param <K> Тип ключа.
+ * @param <V> Тип значения.
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CacheStore
+ */
+public final class LruCacheStore<K, V> implements CacheStore<K, V> {
+    /**
+     * Максимальное количество записей в кеше.
+     */
+    private final int maxSize;
+
+    /**
+     * Время жизни записи в миллисекундах.
+     */
+    private final long timeToLive;
+
+    /**
+     * Записи кеша в порядке доступа к ним.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Количество попаданий в кеш.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Количество промахов кеша.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Количество вытесненных записей.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Поколение кеша, увеличивается при каждом удалении значений.
+     * Значение, загрузка которого началась до удаления, в кеш не попадет.
+     */
+    private long generation;
+
+    /**
+     * Конструктор для инициализации основных переменных кеша.
+     *
+     * @param maxSize    Максимальное количество записей в кеше.
+     * @param timeToLive Время жизни записи в миллисекундах.
+     * @throws IllegalArgumentException Бросает исключение, если
+     *                                  размер или время жизни не положительные.
+     */
+    public LruCacheStore(final int maxSize, final long timeToLive)
+            throws IllegalArgumentException {
+        if (maxSize <= 0 || timeToLive <= 0) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive!");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                final boolean remove = size() > LruCacheStore.this.maxSize;
+                if (remove) {
+                    LruCacheStore.this.evictions.incrementAndGet();
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Возвращает значение по ключу, при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ значения.
+     * @param loader Загрузчик значения, вызывается при промахе.
+     * @return Значение по ключу или null.
+     */
+    @Override
+    public V get(final K key, final Supplier<V> loader) {
+        final long loadGeneration;
+        synchronized (this.entries) {
+            final Entry<V> entry = this.entries.get(key);
+            if (entry != null) {
+                if (!entry.isExpired()) {
+                    this.hits.incrementAndGet();
+                    return entry.value;
+                }
+                this.entries.remove(key);
+                this.evictions.incrementAndGet();
+            }
+            loadGeneration = this.generation;
+        }
+        this.misses.incrementAndGet();
+        final V value = loader.get();
+        if (value != null) {
+            synchronized (this.entries) {
+                if (loadGeneration == this.generation) {
+                    store(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Сохраняет значение в кеше. Значение null не сохраняется.
+     *
+     * @param key   Ключ значения.
+     * @param value Значение для сохранения.
+     */
+    @Override
+    public void put(final K key, final V value) {
+        if (value != null) {
+            synchronized (this.entries) {
+                store(key, value);
+            }
+        }
+    }
+
+    /**
+     * Удаляет значение из кеша по ключу.
+     *
+     * @param key Ключ значения для удаления.
+     */
+    @Override
+    public void evict(final K key) {
+        synchronized (this.entries) {
+            this.generation++;
+            if (this.entries.remove(key) != null) {
+                this.evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Удаляет все значения из кеша.
+     */
+    @Override
+    public void clear() {
+        synchronized (this.entries) {
+            this.generation++;
+            this.evictions.addAndGet(this.entries.size());
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Возвращает количество актуальных значений в кеше,
+     * попутно удаляя записи с истекшим временем жизни.
+     *
+     * @return Значение типа int - количество значений.
+     */
+    @Override
+    public int size() {
+        synchronized (this.entries) {
+            final Iterator<Entry<V>> iterator = this.entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired()) {
+                    iterator.remove();
+                    this.evictions.incrementAndGet();
+                }
+            }
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Возвращает количество попаданий в кеш.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    @Override
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    /**
+     * Возвращает количество промахов кеша.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    @Override
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    /**
+     * Возвращает количество вытесненых из кеша значений.
+     *
+     * @return Значение типа long - количество вытесненых значений.
+     */
+    @Override
+    public long getEvictionCount() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Сохраняет запись в кеше, вызывается под блокировкой.
+     *
+     * @param key   Ключ значения.
+     * @param value Значение для сохранения.
+     */
+    private void store(final K key, final V value) {
+        this.entries.put(key, new Entry<>(value, System.currentTimeMillis() + this.timeToLive));
+    }
+
+    /**
+     * Возвращает описание кеша.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - размер и счетчики кеша.
+     */
+    @Override
+    public String toString() {
+        return "size = " + size() + " / " + this.maxSize
+                + ", hits = " + getHitCount()
+                + ", misses = " + getMissCount()
+                + ", evictions = " + getEvictionCount();
+    }
+
+    /**
+     * Запись кеша - значение и момент истечения времени жизни.
+     *
+     * @param <V> Тип значения.
+     */
+    private static final class Entry<V> {
+        /**
+         * Значение записи.
+         */
+        private final V value;
+
+        /**
+         * Момент времени в миллисекундах, после которого запись недействительна.
+         */
+        private final long expiresAt;
+
+        /**
+         * Конструктор для инициализации записи.
+         *
+         * @param value     Значение записи.
+         * @param expiresAt Момент истечения времени жизни.
+         */
+        Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Проверяет, истекло ли время жизни записи.
+         *
+         * @return Значение типа boolean - true, если время жизни истекло.
+         */
+        boolean isExpired() {
+            return System.currentTimeMillis() > this.expiresAt;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ua.com.alexcoffee.cache.interfaces;
+
+import ua.com.alexcoffee.cache.impl.LruCacheStore;
+
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс описывает набор методов для работы с кешем в памяти
+ * приложения. Кеш работает по принципу "read-through": если значения
+ * нет в кеше, оно загружается переданным загрузчиком и сохраняется.
+ * Реализация сама отвечает за ограничение размера и время жизни записей.
+ *
+ * @param <K> Тип ключа.
+ * @param <V> Тип значения.
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see LruCacheStore
+ * @see CatalogCache
+ */
+public interface CacheStore<K, V> {
+    /**
+     * Возвращает значение по ключу. Если значения нет в кеше или
+     * время его жизни истекло, значение загружается загрузчиком loader
+     * и сохраняется в кеше. Значение null в кеш не сохраняется.
+     *
+     * @param key    Ключ значения.
+     * @param loader Загрузчик значения, вызывается при промахе.
+     * @return Значение по ключу или null.
+     */
+    V get(K key, Supplier<V> loader);
+
+    /**
+     * Сохраняет значение в кеше.
+     *
+     * @param key   Ключ значения.
+     * @param value Значение для сохранения.
+     */
+    void put(K key, V value);
+
+    /**
+     * Удаляет значение из кеша по ключу.
+     *
+     * @param key Ключ значения для удаления.
+     */
+    void evict(K key);
+
+    /**
+     * Удаляет все значения из кеша.
+     */
+    void clear();
+
+    /**
+     * Возвращает количество значений в кеше.
+     *
+     * @return Значение типа int - количество значений.
+     */
+    int size();
+
+    /**
+     * Возвращает количество попаданий в кеш.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    long getHitCount();
+
+    /**
+     * Возвращает количество промахов кеша.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    long getMissCount();
+
+    /**
+     * Возвращает количество вытесненых из кеша значений
+     * (по размеру, времени жизни или явному удалению).
+     *
+     * @return Значение типа long - количество вытесненых значений.
+     */
+    long getEvictionCount();
+}
@@ -0,0 +1,149 @@
+package ua.com.alexcoffee.cache.interfaces;
+
+import ua.com.alexcoffee.facet.interfaces.FacetIndex;
+import ua.com.alexcoffee.model.Category;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс описывает кеш каталога магазина - товаров и категорий,
+ * который стоит перед сервисным слоем и снимает нагрузку чтения
+ * каталога с базы данных. Каталог меняется редко, поэтому при
+ * любом изменении товаров, категорий или изображений кеш
+ * сбрасывается полностью методом invalidate().
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CacheStore
+ * @see ua.com.alexcoffee.cache.impl.CatalogCacheImpl
+ * @see Product
+ * @see Category
+ */
+public interface CatalogCache {
+    /**
+     * Возвращает товар по ключу, при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ товара (URL или артикль).
+     * @param loader Загрузчик товара из базы данных.
+     * @return Объект класса {@link Product} - товар или null.
+     */
+    Product getProduct(String key, Supplier<Product> loader);
+
+    /**
+     * Возвращает список товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка товаров.
+     * @param loader Загрузчик списка товаров из базы данных.
+     * @return Объект типа {@link List} - список товаров только для чтения.
+     */
+    List<Product> getProducts(String key, Supplier<List<Product>> loader);
+
+    /**
+     * Возвращает список карточек товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка карточек товаров.
+     * @param loader Загрузчик списка карточек товаров из базы данных.
+     * @return Объект типа {@link List} - список карточек товаров только для чтения.
+     */
+    List<ProductCard> getProductCards(String key, Supplier<List<ProductCard>> loader);
+
+    /**
+     * Возвращает список кодов товаров по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка кодов товаров.
+     * @param loader Загрузчик списка кодов товаров из базы данных.
+     * @return Объект типа {@link List} - список кодов товаров только для чтения.
+     */
+    List<Long> getProductIds(String key, Supplier<List<Long>> loader);
+
+    /**
+     * Возвращает индекс фасетов по ключу,
+     * при промахе строит его загрузчиком loader.
+     *
+     * @param key    Ключ индекса фасетов.
+     * @param loader Загрузчик индекса фасетов.
+     * @return Объект типа {@link FacetIndex} - индекс фасетов.
+     */
+    FacetIndex getFacetIndex(String key, Supplier<FacetIndex> loader);
+
+    /**
+     * Возвращает категорию по ключу, при промахе загружает ее загрузчиком loader.
+     *
+     * @param key    Ключ категории.
+     * @param loader Загрузчик категории из базы данных.
+     * @return Объект класса {@link Category} - категория или null.
+     */
+    Category getCategory(String key, Supplier<Category> loader);
+
+    /**
+     * Возвращает список категорий по ключу,
+     * при промахе загружает его загрузчиком loader.
+     *
+     * @param key    Ключ списка категорий.
+     * @param loader Загрузчик списка категорий из базы данных.
+     * @return Объект типа {@link List} - список категорий только для чтения.
+     */
+    List<Category> getCategories(String key, Supplier<List<Category>> loader);
+
+    /**
+     * Возвращает отрисованный HTML-фрагмент страницы каталога по ключу,
+     * при промахе отрисовывает его загрузчиком loader.
+     * Если загрузчик вернул null, в кеше ничего не сохраняется.
+     *
+     * @param key    Ключ фрагмента.
+     * @param loader Загрузчик, который отрисовывает фрагмент.
+     * @return Значение типа {@link String} - HTML-фрагмент или null.
+     */
+    String getFragment(String key, Supplier<String> loader);
+
+    /**
+     * Сбрасывает весь кеш каталога. Если метод вызван внутри транзакции,
+     * кеш дополнительно сбрасывается после ее успешного завершения.
+     */
+    void invalidate();
+
+    /**
+     * Возвращает версию каталога, которая увеличивается при каждом
+     * сбросе кеша. По версии производные от каталога данные (например,
+     * карта сайта) определяют, что их нужно построить заново.
+     *
+     * @return Значение типа long - версия каталога.
+     */
+    long getVersion();
+
+    /**
+     * Возвращает время последнего сброса кеша, а до первого сброса -
+     * время создания кеша. По нему страницы каталога отвечают на
+     * условные запросы с заголовком If-Modified-Since.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    long getLastModified();
+
+    /**
+     * Возвращает суммарное количество попаданий в кеш каталога.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    long getHitCount();
+
+    /**
+     * Возвращает суммарное количество промахов кеша каталога.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    long getMissCount();
+
+    /**
+     * Возвращает суммарное количество вытесненных из кеша каталога значений.
+     *
+     * @return Значение типа long - количество вытесненных значений.
+     */
+    long getEvictionCount();
+}
@@ -0,0 +1,66 @@
+package ua.com.alexcoffee.cache.interfaces;
+
+/**
+ * Интерфейс описывает показатели второго уровня кеша и кеша запросов
+ * Hibernate, в которых хранятся статусы, роли, категории и изображения.
+ * По этим показателям видно, сколько запросов к базе данных сберегает кеш.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.cache.impl.HibernateCacheMetrics
+ */
+public interface EntityCacheMetrics {
+    /**
+     * Возвращает количество сущностей, найденных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    long getEntityHitCount();
+
+    /**
+     * Возвращает количество сущностей, не найденных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    long getEntityMissCount();
+
+    /**
+     * Возвращает количество сущностей, сохраненных во втором уровне кеша.
+     *
+     * @return Значение типа long - количество сохранений.
+     */
+    long getEntityPutCount();
+
+    /**
+     * Возвращает количество результатов, найденных в кеше запросов.
+     *
+     * @return Значение типа long - количество попаданий.
+     */
+    long getQueryHitCount();
+
+    /**
+     * Возвращает количество результатов, не найденных в кеше запросов.
+     *
+     * @return Значение типа long - количество промахов.
+     */
+    long getQueryMissCount();
+
+    /**
+     * Возвращает количество результатов, сохраненных в кеше запросов.
+     *
+     * @return Значение типа long - количество сохранений.
+     */
+    long getQueryPutCount();
+
+    /**
+     * Возвращает долю попаданий во второй уровень кеша и кеш запросов.
+     *
+     * @return Значение типа double - доля попаданий от 0 до 1.
+     */
+    double getHitRatio();
+
+    /**
+     * Обнуляет показатели.
+     */
+    void clear();
+}
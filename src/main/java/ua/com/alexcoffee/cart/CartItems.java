@@ -0,0 +1,189 @@
+package ua.com.alexcoffee.cart;
+
+import ua.com.alexcoffee.exception.WrongInformationException;
+import ua.com.alexcoffee.model.SalePosition;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Класс описывает компактную запись содержимого корзины для внешнего
+ * хранилища {@link ua.com.alexcoffee.cart.interfaces.CartStore}.
+ * Из торговой позиции сохраняются только код товара и количество,
+ * товары при чтении корзины берутся из каталога. Запись начинается
+ * с номера формата и общего количества товаров, дальше идут пары
+ * "код товара - количество", каждое число записано переменным
+ * количеством байт (по 7 бит в байте), поэтому позиция обычно
+ * занимает 2-4 байта. Количество товаров читается из начала записи
+ * без разбора позиций, записи первого формата без количества
+ * по-прежнему читаются.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.cart.interfaces.CartStore
+ * @see SalePosition
+ */
+public final class CartItems {
+    /**
+     * Номер формата записи.
+     */
+    private static final int FORMAT = 2;
+
+    /**
+     * Номер первого формата записи, без общего количества товаров.
+     */
+    private static final int FORMAT_WITHOUT_SIZE = 1;
+
+    /**
+     * Маска значащих бит в байте записи.
+     */
+    private static final int DATA_BITS = 0x7F;
+
+    /**
+     * Признак того, что число продолжается в следующем байте.
+     */
+    private static final int NEXT_BYTE = 0x80;
+
+    /**
+     * Закрытый конструктор, класс содержит только статические методы.
+     */
+    private CartItems() {
+    }
+
+    /**
+     * Записывает торговые позиции в компактном виде.
+     *
+     * @param salePositions Торговые позиции корзины.
+     * @return Массив байт - запись корзины.
+     */
+    public static byte[] encode(final Collection<SalePosition> salePositions) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(3 + salePositions.size() * 4);
+        writeNumber(out, FORMAT);
+        long size = 0;
+        for (SalePosition salePosition : salePositions) {
+            size += salePosition.getNumber();
+        }
+        writeNumber(out, Math.min(size, Integer.MAX_VALUE));
+        for (SalePosition salePosition : salePositions) {
+            writeNumber(out, salePosition.getProduct().getId());
+            writeNumber(out, salePosition.getNumber());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Читает запись корзины.
+     *
+     * @param data Запись корзины.
+     * @return Объект типа {@link Map} - количество товаров по кодам
+     * товаров в порядке добавления в корзину.
+     * @throws WrongInformationException Бросает исключение, если
+     *                                   запись повреждена или неизвестного формата.
+     */
+    public static Map<Long, Integer> decode(final byte[] data) throws WrongInformationException {
+        final Map<Long, Integer> items = new LinkedHashMap<>();
+        if ((data == null) || (data.length == 0)) {
+            return items;
+        }
+        final int[] position = {0};
+        if (readFormat(data, position) == FORMAT) {
+            readNumber(data, position);
+        }
+        while (position[0] < data.length) {
+            final long productId = readNumber(data, position);
+            final long number = readNumber(data, position);
+            if (number > Integer.MAX_VALUE) {
+                throw new WrongInformationException("Shopping cart record is corrupted!");
+            }
+            items.put(productId, (int) number);
+        }
+        return items;
+    }
+
+    /**
+     * Возвращает количество товаров в корзине из начала записи,
+     * не разбирая позиции. В записи первого формата количество
+     * товаров складывается по позициям.
+     *
+     * @param data Запись корзины.
+     * @return Значение типа int - количество товаров в корзине.
+     * @throws WrongInformationException Бросает исключение, если
+     *                                   запись повреждена или неизвестного формата.
+     */
+    public static int size(final byte[] data) throws WrongInformationException {
+        if ((data == null) || (data.length == 0)) {
+            return 0;
+        }
+        final int[] position = {0};
+        if (readFormat(data, position) == FORMAT) {
+            final long size = readNumber(data, position);
+            if (size > Integer.MAX_VALUE) {
+                throw new WrongInformationException("Shopping cart record is corrupted!");
+            }
+            return (int) size;
+        }
+        long size = 0;
+        for (int number : decode(data).values()) {
+            size += number;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Читает номер формата записи.
+     *
+     * @param data     Запись корзины.
+     * @param position Позиция чтения, сдвигается за номер формата.
+     * @return Значение типа int - номер формата.
+     * @throws WrongInformationException Бросает исключение, если формат неизвестный.
+     */
+    private static int readFormat(final byte[] data, final int[] position)
+            throws WrongInformationException {
+        final long format = readNumber(data, position);
+        if ((format != FORMAT) && (format != FORMAT_WITHOUT_SIZE)) {
+            throw new WrongInformationException("Unknown shopping cart format!");
+        }
+        return (int) format;
+    }
+
+    /**
+     * Записывает неотрицательное число по 7 бит в байт.
+     *
+     * @param out   Поток для записи.
+     * @param value Число для записи.
+     */
+    private static void writeNumber(final ByteArrayOutputStream out, final long value) {
+        long rest = value;
+        while ((rest & ~DATA_BITS) != 0) {
+            out.write((int) ((rest & DATA_BITS) | NEXT_BYTE));
+            rest >>>= 7;
+        }
+        out.write((int) rest);
+    }
+
+    /**
+     * Читает число, записанное методом writeNumber().
+     *
+     * @param data     Запись корзины.
+     * @param position Позиция чтения, сдвигается за прочитанное число.
+     * @return Значение типа long - прочитанное число.
+     * @throws WrongInformationException Бросает исключение, если запись оборвана.
+     */
+    private static long readNumber(final byte[] data, final int[] position)
+            throws WrongInformationException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (position[0] >= data.length) {
+                throw new WrongInformationException("Shopping cart record is corrupted!");
+            }
+            final int next = data[position[0]++];
+            value |= (long) (next & DATA_BITS) << shift;
+            if ((next & NEXT_BYTE) == 0) {
+                return value;
+            }
+        }
+        throw new WrongInformationException("Shopping cart record is corrupted!");
+    }
+}
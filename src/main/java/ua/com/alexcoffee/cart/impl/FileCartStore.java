@@ -0,0 +1,169 @@
+package ua.com.alexcoffee.cart.impl;
+
+import org.apache.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+import ua.com.alexcoffee.exception.WrongInformationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+/**
+ * Класс реализует методы интерфейса {@link CartStore} в каталоге
+ * файловой системы, одна корзина - один файл. Файл записывается
+ * во временный файл и атомарно переименовывается, поэтому читатель
+ * никогда не видит запись наполовину. Если каталог общий для узлов
+ * приложения (например, сетевой диск), корзины видят все узлы.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartStore
+ */
+public final class FileCartStore implements CartStore {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(FileCartStore.class);
+
+    /**
+     * Интервал удаления устаревших корзин 1 час.
+     */
+    private static final long PURGE_DELAY = 60 * 60 * 1000L;
+
+    /**
+     * Расширение файлов корзин.
+     */
+    private static final String EXTENSION = ".cart";
+
+    /**
+     * Допустимый код корзины, код используется в имени файла.
+     */
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    /**
+     * Каталог с файлами корзин.
+     */
+    private final Path directory;
+
+    /**
+     * Время жизни корзины в миллисекундах.
+     */
+    private final long timeToLive;
+
+    /**
+     * Конструктор для инициализации основных переменных хранилища.
+     * Создает каталог, если его нет.
+     *
+     * @param directory  Каталог с файлами корзин.
+     * @param timeToLive Время жизни корзины в миллисекундах.
+     * @throws UncheckedIOException Бросает исключение, если каталог нельзя создать.
+     */
+    public FileCartStore(final Path directory, final long timeToLive) throws UncheckedIOException {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Возвращает запись корзины по коду.
+     *
+     * @param id Код корзины.
+     * @return Массив байт - запись корзины или null, если корзины нет.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя прочитать.
+     */
+    @Override
+    public byte[] load(final String id) throws UncheckedIOException {
+        try {
+            return Files.readAllBytes(getFile(id));
+        } catch (NoSuchFileException ex) {
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Сохраняет запись корзины, заменяя предыдущую.
+     *
+     * @param id    Код корзины.
+     * @param items Запись корзины.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя записать.
+     */
+    @Override
+    public void save(final String id, final byte[] items) throws UncheckedIOException {
+        final Path file = getFile(id);
+        try {
+            final Path temp = Files.createTempFile(this.directory, id, ".tmp");
+            try {
+                Files.write(temp, items);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Удаляет корзину по коду.
+     *
+     * @param id Код корзины.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя удалить.
+     */
+    @Override
+    public void remove(final String id) throws UncheckedIOException {
+        try {
+            Files.deleteIfExists(getFile(id));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Удаляет файлы корзин, которые не менялись дольше времени жизни корзины.
+     * Выполняется по расписанию раз в час.
+     */
+    @Override
+    @Scheduled(fixedDelay = PURGE_DELAY)
+    public void removeExpired() {
+        final long expired = System.currentTimeMillis() - this.timeToLive;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < expired) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException ex) {
+                    LOGGER.warn("Can't remove expired cart " + file + ": " + ex.getMessage());
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Can't remove expired carts: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Возвращает файл корзины по коду.
+     *
+     * @param id Код корзины.
+     * @return Объект класса {@link Path} - файл корзины.
+     * @throws WrongInformationException Бросает исключение, если код
+     *                                   корзины содержит недопустимые символы.
+     */
+    private Path getFile(final String id) throws WrongInformationException {
+        if ((id == null) || !ID_PATTERN.matcher(id).matches()) {
+            throw new WrongInformationException("Wrong shopping cart id!");
+        }
+        return this.directory.resolve(id + EXTENSION);
+    }
+}
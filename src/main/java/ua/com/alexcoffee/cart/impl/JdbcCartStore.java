@@ -0,0 +1,119 @@
+package ua.com.alexcoffee.cart.impl;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Класс реализует методы интерфейса {@link CartStore} в таблице
+ * Carts базы данных. Корзина занимает одну строку с компактной записью,
+ * поэтому ее видят все узлы приложения, которые работают с этой базой.
+ * Запросы выполняются через {@link JdbcTemplate} вне транзакций JPA,
+ * каждый запрос фиксируется сразу.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartStore
+ */
+public final class JdbcCartStore implements CartStore {
+    /**
+     * Интервал удаления устаревших корзин 1 час.
+     */
+    private static final long PURGE_DELAY = 60 * 60 * 1000L;
+
+    /**
+     * Запрос на чтение записи корзины.
+     */
+    private static final String SELECT = "SELECT `items` FROM `Carts` WHERE `id` = ?";
+
+    /**
+     * Запрос на сохранение записи корзины.
+     */
+    private static final String UPSERT = "INSERT INTO `Carts` (`id`, `items`, `updated`) VALUES (?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE `items` = VALUES(`items`), `updated` = VALUES(`updated`)";
+
+    /**
+     * Запрос на удаление корзины.
+     */
+    private static final String DELETE = "DELETE FROM `Carts` WHERE `id` = ?";
+
+    /**
+     * Запрос на удаление устаревших корзин.
+     */
+    private static final String DELETE_EXPIRED = "DELETE FROM `Carts` WHERE `updated` < ?";
+
+    /**
+     * Объект для выполнения запросов к базе данных.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Время жизни корзины в миллисекундах.
+     */
+    private final long timeToLive;
+
+    /**
+     * Конструктор для инициализации основных переменных хранилища.
+     *
+     * @param dataSource Источник соединений с базой данных.
+     * @param timeToLive Время жизни корзины в миллисекундах.
+     */
+    public JdbcCartStore(final DataSource dataSource, final long timeToLive) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Возвращает запись корзины по коду.
+     *
+     * @param id Код корзины.
+     * @return Массив байт - запись корзины или null, если корзины нет.
+     */
+    @Override
+    public byte[] load(final String id) {
+        final List<byte[]> items = this.jdbcTemplate.query(
+                SELECT,
+                (resultSet, row) -> resultSet.getBytes(1),
+                id
+        );
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    /**
+     * Сохраняет запись корзины, заменяя предыдущую.
+     *
+     * @param id    Код корзины.
+     * @param items Запись корзины.
+     */
+    @Override
+    public void save(final String id, final byte[] items) {
+        this.jdbcTemplate.update(UPSERT, id, items, new Timestamp(System.currentTimeMillis()));
+    }
+
+    /**
+     * Удаляет корзину по коду.
+     *
+     * @param id Код корзины.
+     */
+    @Override
+    public void remove(final String id) {
+        this.jdbcTemplate.update(DELETE, id);
+    }
+
+    /**
+     * Удаляет корзины, которые не менялись дольше времени жизни корзины.
+     * Выполняется по расписанию раз в час.
+     */
+    @Override
+    @Scheduled(fixedDelay = PURGE_DELAY)
+    public void removeExpired() {
+        this.jdbcTemplate.update(
+                DELETE_EXPIRED,
+                new Timestamp(System.currentTimeMillis() - this.timeToLive)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package ua.com.alexcoffee.cart.impl;
+
+import ua.com.alexcoffee.cache.impl.LruCacheStore;
+import ua.com.alexcoffee.cache.interfaces.CacheStore;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+
+/**
+ * Класс реализует методы интерфейса {@link CartStore} в памяти приложения.
+ * Записи корзин хранятся в {@link LruCacheStore}, который ограничен
+ * количеством корзин и временем жизни записи. Корзины видны только
+ * текущему узлу приложения, поэтому хранилище подходит для одного
+ * узла и для тестов.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartStore
+ * @see LruCacheStore
+ */
+public final class MemoryCartStore implements CartStore {
+    /**
+     * Записи корзин по кодам корзин.
+     */
+    private final CacheStore<String, byte[]> carts;
+
+    /**
+     * Конструктор для инициализации основных переменных хранилища.
+     *
+     * @param maxSize    Максимальное количество корзин.
+     * @param timeToLive Время жизни корзины в миллисекундах.
+     */
+    public MemoryCartStore(final int maxSize, final long timeToLive) {
+        this.carts = new LruCacheStore<>(maxSize, timeToLive);
+    }
+
+    /**
+     * Возвращает запись корзины по коду.
+     *
+     * @param id Код корзины.
+     * @return Массив байт - запись корзины или null, если корзины нет.
+     */
+    @Override
+    public byte[] load(final String id) {
+        return this.carts.get(id, () -> null);
+    }
+
+    /**
+     * Сохраняет запись корзины, заменяя предыдущую.
+     *
+     * @param id    Код корзины.
+     * @param items Запись корзины.
+     */
+    @Override
+    public void save(final String id, final byte[] items) {
+        this.carts.put(id, items);
+    }
+
+    /**
+     * Удаляет корзину по коду.
+     *
+     * @param id Код корзины.
+     */
+    @Override
+    public void remove(final String id) {
+        this.carts.evict(id);
+    }
+
+    /**
+     * Ничего не делает, устаревшие записи вытесняет сам {@link LruCacheStore}.
+     */
+    @Override
+    public void removeExpired() {
+    }
+}
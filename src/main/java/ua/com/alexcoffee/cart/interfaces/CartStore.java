@@ -0,0 +1,47 @@
+package ua.com.alexcoffee.cart.interfaces;
+
+import ua.com.alexcoffee.cart.CartItems;
+
+/**
+ * Интерфейс описывает внешнее хранилище корзин клиентов. Корзина
+ * хранится по ее коду в компактной записи {@link CartItems}, поэтому
+ * сессия клиента не содержит товаров, а любой узел приложения может
+ * прочитать корзину по коду из cookie клиента. Реализация сама удаляет
+ * корзины, которые давно не менялись.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CartItems
+ * @see ua.com.alexcoffee.cart.impl.MemoryCartStore
+ * @see ua.com.alexcoffee.cart.impl.JdbcCartStore
+ * @see ua.com.alexcoffee.cart.impl.FileCartStore
+ */
+public interface CartStore {
+    /**
+     * Возвращает запись корзины по коду.
+     *
+     * @param id Код корзины.
+     * @return Массив байт - запись корзины или null, если корзины нет.
+     */
+    byte[] load(String id);
+
+    /**
+     * Сохраняет запись корзины, заменяя предыдущую.
+     *
+     * @param id    Код корзины.
+     * @param items Запись корзины.
+     */
+    void save(String id, byte[] items);
+
+    /**
+     * Удаляет корзину по коду.
+     *
+     * @param id Код корзины.
+     */
+    void remove(String id);
+
+    /**
+     * Удаляет корзины, которые не менялись дольше времени жизни корзины.
+     */
+    void removeExpired();
+}
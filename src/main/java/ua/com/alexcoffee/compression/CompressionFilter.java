@@ -0,0 +1,715 @@
+package ua.com.alexcoffee.compression;
+
+import org.springframework.web.context.support.WebApplicationContextUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.WebUtils;
+import ua.com.alexcoffee.config.AppSettings;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Фильтр минифицирует HTML страниц и сжимает текстовые ответы gzip.
+ * Способ записи ответа выбирается по его заголовкам при первой записи
+ * в ответ. Ответы, которые не имеет смысла сжимать (изображения, файлы
+ * для скачивания с заголовком "Content-Disposition: attachment", ответы,
+ * которые уже сжаты, например карта сайта), пишутся клиенту сразу,
+ * без буфера. Из HTML по мере записи удаляются комментарии и лишние
+ * пробелы (см. {@link HtmlMinifyingOutputStream}), страница целиком
+ * не накапливается. Текстовые ответы, в том числе минифицированный HTML,
+ * накапливаются, только пока они меньше заданного размера, дальше они
+ * сжимаются потоком gzip по мере записи, если клиент принимает gzip.
+ * Статические ресурсы фильтр
+ * пропускает - их сжатые копии готовит сборка. Асинхронные запросы
+ * дописываются в ответ после асинхронной обработки.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.config.AppInitializer
+ * @see AppSettings
+ */
+public final class CompressionFilter extends OncePerRequestFilter {
+    /**
+     * Типы содержимого, которые имеет смысл сжимать.
+     */
+    private static final List<String> COMPRESSIBLE_TYPES = Arrays.asList(
+            "text/html", "text/plain", "text/css", "text/xml", "text/javascript",
+            "application/javascript", "application/json", "application/xml"
+    );
+
+    /**
+     * Путь к статическим ресурсам.
+     */
+    private static final String RESOURCES_PATH = "/resources/";
+
+    /**
+     * Помощник для получения пути запроса внутри приложения.
+     */
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    /**
+     * Минимальный размер ответа в байтах, который сжимается gzip.
+     */
+    private int minSize = -1;
+
+    /**
+     * Конструктор без параметров, настройки берутся
+     * из корневого контекста Spring при инициализации фильтра.
+     */
+    public CompressionFilter() {
+    }
+
+    /**
+     * Конструктор для инициализации фильтра заданными настройками.
+     *
+     * @param settings Настройки приложения.
+     */
+    public CompressionFilter(final AppSettings settings) {
+        init(settings);
+    }
+
+    /**
+     * Берет настройки приложения из корневого контекста Spring,
+     * если они не были переданы через конструктор.
+     */
+    @Override
+    protected void initFilterBean() {
+        if (this.minSize < 0) {
+            init(
+                    WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext())
+                            .getBean(AppSettings.class)
+            );
+        }
+    }
+
+    /**
+     * Фильтр дописывает ответ и после асинхронной обработки запроса.
+     *
+     * @return Значение типа boolean - false.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Статические ресурсы не обрабатываются.
+     *
+     * @param request Объект запроса.
+     * @return Значение типа boolean - true для статических ресурсов.
+     */
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return URL_PATH_HELPER.getPathWithinApplication(request).startsWith(RESOURCES_PATH);
+    }
+
+    /**
+     * Оборачивает ответ и после обработки запроса дописывает
+     * в него накопленные данные.
+     *
+     * @param request     Объект запроса.
+     * @param response    Объект ответа.
+     * @param filterChain Цепочка фильтров.
+     * @throws ServletException Исключение обработки запроса.
+     * @throws IOException      Исключение записи в ответ.
+     */
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        CompressionResponse responseToUse = WebUtils.getNativeResponse(response, CompressionResponse.class);
+        if (responseToUse == null) {
+            responseToUse = new CompressionResponse(request, response);
+        }
+        filterChain.doFilter(request, responseToUse);
+        if (!isAsyncStarted(request)) {
+            responseToUse.finish();
+        }
+    }
+
+    /**
+     * Инициализирует фильтр настройками.
+     *
+     * @param settings Настройки приложения.
+     */
+    private void init(final AppSettings settings) {
+        this.minSize = settings.getCompressionMinSize();
+    }
+
+    /**
+     * Проверяет, входит ли тип содержимого в список сжимаемых.
+     *
+     * @param contentType Тип содержимого ответа.
+     * @return Значение типа boolean - true, если ответ текстовый.
+     */
+    private static boolean isCompressible(final String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        final int semicolon = contentType.indexOf(';');
+        final String mimeType = ((semicolon != -1) ? contentType.substring(0, semicolon) : contentType)
+                .trim().toLowerCase(Locale.ROOT);
+        return COMPRESSIBLE_TYPES.contains(mimeType);
+    }
+
+    /**
+     * Проверяет, является ли ответ страницей HTML.
+     *
+     * @param contentType Тип содержимого ответа.
+     * @return Значение типа boolean - true для HTML.
+     */
+    private static boolean isHtml(final String contentType) {
+        return contentType.toLowerCase(Locale.ROOT).startsWith("text/html");
+    }
+
+    /**
+     * Проверяет, совместима ли кодировка с ASCII, то есть можно ли
+     * минифицировать HTML в этой кодировке по байтам.
+     *
+     * @param charset Кодировка ответа.
+     * @return Значение типа boolean - false для UTF-16 и UTF-32.
+     */
+    private static boolean isAsciiCompatible(final String charset) {
+        final String name = charset.toUpperCase(Locale.ROOT);
+        return !name.startsWith("UTF-16") && !name.startsWith("UTF-32");
+    }
+
+    /**
+     * Проверяет, принимает ли клиент ответ, сжатый gzip.
+     *
+     * @param request Объект запроса.
+     * @return Значение типа boolean - true, если клиент принимает gzip.
+     */
+    private static boolean acceptsGzip(final HttpServletRequest request) {
+        final String encoding = request.getHeader("Accept-Encoding");
+        return encoding != null && encoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    /**
+     * Способы записи ответа.
+     */
+    private enum Mode {
+        /**
+         * В ответ еще ничего не записано.
+         */
+        UNDECIDED,
+
+        /**
+         * Ответ пишется клиенту без изменений.
+         */
+        PASS,
+
+        /**
+         * Ответ накапливается, пока он меньше минимального размера сжатия.
+         */
+        BUFFER,
+
+        /**
+         * Ответ сжимается потоком gzip.
+         */
+        GZIP
+    }
+
+    /**
+     * Обертка ответа, которая при первой записи выбирает способ
+     * записи по типу содержимого и заголовкам ответа. HTML проходит
+     * через поток минификации, затем пишется выбранным способом. Пока ответ
+     * накапливается, длина содержимого, заданная приложением,
+     * запоминается и передается клиенту, только если ответ
+     * записывается без изменений.
+     */
+    private final class CompressionResponse extends HttpServletResponseWrapper {
+        /**
+         * Объект запроса.
+         */
+        private final HttpServletRequest request;
+
+        /**
+         * Способ записи ответа.
+         */
+        private Mode mode = Mode.UNDECIDED;
+
+        /**
+         * Накопленные данные для способа BUFFER.
+         */
+        private ByteArrayOutputStream buffer;
+
+        /**
+         * Поток минификации HTML или null, если ответ не минифицируется.
+         */
+        private HtmlMinifyingOutputStream minifier;
+
+        /**
+         * Поток сжатия для способа GZIP.
+         */
+        private GZIPOutputStream gzip;
+
+        /**
+         * Поток ответа, который получает приложение.
+         */
+        private ServletOutputStream outputStream;
+
+        /**
+         * Символьный поток ответа, который получает приложение.
+         */
+        private PrintWriter writer;
+
+        /**
+         * Длина содержимого, заданная приложением, или -1.
+         */
+        private long contentLength = -1;
+
+        /**
+         * Конструктор для инициализации обертки.
+         *
+         * @param request  Объект запроса.
+         * @param response Объект ответа.
+         */
+        CompressionResponse(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        /**
+         * Возвращает поток ответа.
+         *
+         * @return Объект класса {@link ServletOutputStream}.
+         */
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (this.outputStream == null) {
+                this.outputStream = new CompressionOutputStream();
+            }
+            return this.outputStream;
+        }
+
+        /**
+         * Возвращает символьный поток ответа в кодировке ответа.
+         *
+         * @return Объект класса {@link PrintWriter}.
+         * @throws IOException Неизвестная кодировка ответа.
+         */
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (this.writer == null) {
+                this.writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return this.writer;
+        }
+
+        /**
+         * Задает длину содержимого.
+         *
+         * @param length Длина содержимого в байтах.
+         */
+        @Override
+        public void setContentLength(final int length) {
+            setContentLengthLong(length);
+        }
+
+        /**
+         * Задает длину содержимого. Пока способ записи не выбран или
+         * ответ изменяется, длина запоминается.
+         *
+         * @param length Длина содержимого в байтах.
+         */
+        @Override
+        public void setContentLengthLong(final long length) {
+            if ((this.mode == Mode.PASS) && (this.minifier == null)) {
+                super.setContentLengthLong(length);
+            } else {
+                this.contentLength = length;
+            }
+        }
+
+        /**
+         * Отправляет клиенту записанные данные. Буфер до минимального
+         * размера сжатия не отправляется, он не больше этого размера.
+         *
+         * @throws IOException Исключение записи в ответ.
+         */
+        @Override
+        public void flushBuffer() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            } else if (this.outputStream != null) {
+                this.outputStream.flush();
+            }
+            if ((this.mode == Mode.PASS) || (this.mode == Mode.GZIP)) {
+                super.flushBuffer();
+            }
+        }
+
+        /**
+         * Очищает записанные, но не отправленные данные.
+         * Сжатие gzip начинается заново.
+         */
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (this.buffer != null) {
+                this.buffer.reset();
+            }
+            if (this.minifier != null) {
+                this.minifier = newMinifier();
+            }
+            if (this.mode == Mode.GZIP) {
+                this.gzip = newGzip();
+            }
+        }
+
+        /**
+         * Очищает данные и заголовки ответа,
+         * способ записи выбирается заново.
+         */
+        @Override
+        public void reset() {
+            super.reset();
+            this.mode = Mode.UNDECIDED;
+            this.buffer = null;
+            this.minifier = null;
+            this.gzip = null;
+            this.contentLength = -1;
+        }
+
+        /**
+         * Отправляет ошибку, накопленные данные отбрасываются.
+         *
+         * @param status Код ошибки.
+         * @throws IOException Исключение записи в ответ.
+         */
+        @Override
+        public void sendError(final int status) throws IOException {
+            discard();
+            super.sendError(status);
+        }
+
+        /**
+         * Отправляет ошибку, накопленные данные отбрасываются.
+         *
+         * @param status  Код ошибки.
+         * @param message Сообщение ошибки.
+         * @throws IOException Исключение записи в ответ.
+         */
+        @Override
+        public void sendError(final int status, final String message) throws IOException {
+            discard();
+            super.sendError(status, message);
+        }
+
+        /**
+         * Отправляет перенаправление, накопленные данные отбрасываются.
+         *
+         * @param location Адрес перенаправления.
+         * @throws IOException Исключение записи в ответ.
+         */
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            discard();
+            super.sendRedirect(location);
+        }
+
+        /**
+         * Дописывает ответ после обработки запроса: дописывает конец
+         * минифицированного HTML, записывает буфер, который не достиг
+         * минимального размера сжатия, или завершает поток gzip.
+         *
+         * @throws IOException Исключение записи в ответ.
+         */
+        void finish() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (this.minifier != null) {
+                this.minifier.finish();
+                this.minifier = null;
+            }
+            switch (this.mode) {
+                case BUFFER:
+                    super.setContentLength(this.buffer.size());
+                    this.buffer.writeTo(getResponse().getOutputStream());
+                    break;
+                case GZIP:
+                    this.gzip.finish();
+                    break;
+                case UNDECIDED:
+                    if (this.contentLength >= 0) {
+                        super.setContentLengthLong(this.contentLength);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            this.mode = Mode.PASS;
+            this.buffer = null;
+        }
+
+        /**
+         * Выбирает способ записи ответа по типу содержимого и заголовкам.
+         */
+        private void decide() {
+            final String contentType = getContentType();
+            if (!isCompressible(contentType) || containsHeader("Content-Encoding") || isAttachment()) {
+                pass();
+                return;
+            }
+            addHeader("Vary", "Accept-Encoding");
+            if (isHtml(contentType) && isAsciiCompatible(getCharacterEncoding())) {
+                this.minifier = newMinifier();
+            }
+            if (acceptsGzip(this.request)) {
+                this.mode = Mode.BUFFER;
+                this.buffer = new ByteArrayOutputStream(minSize);
+            } else {
+                pass();
+            }
+        }
+
+        /**
+         * Переключает ответ на запись без сжатия и передает запомненную
+         * длину содержимого, если ответ не минифицируется.
+         */
+        private void pass() {
+            this.mode = Mode.PASS;
+            if ((this.contentLength >= 0) && (this.minifier == null)) {
+                super.setContentLengthLong(this.contentLength);
+            }
+        }
+
+        /**
+         * Отбрасывает накопленные данные, дальше ответ
+         * пишется без изменений.
+         */
+        private void discard() {
+            this.mode = Mode.PASS;
+            this.buffer = null;
+            this.minifier = null;
+            this.gzip = null;
+        }
+
+        /**
+         * Проверяет, отдается ли ответ как файл для скачивания.
+         *
+         * @return Значение типа boolean - true для файла.
+         */
+        private boolean isAttachment() {
+            final String disposition = getHeader("Content-Disposition");
+            return (disposition != null) && disposition.trim().toLowerCase(Locale.ROOT).startsWith("attachment");
+        }
+
+        /**
+         * Начинает сжатие gzip: записывает в поток сжатия
+         * накопленный буфер, дальше данные сжимаются по мере записи.
+         *
+         * @throws IOException Исключение записи в ответ.
+         */
+        private void startGzip() throws IOException {
+            setHeader("Content-Encoding", "gzip");
+            this.gzip = newGzip();
+            this.buffer.writeTo(this.gzip);
+            this.buffer = null;
+            this.mode = Mode.GZIP;
+        }
+
+        /**
+         * Создает поток сжатия gzip поверх потока ответа. Метод flush()
+         * потока отправляет клиенту все сжатые к этому моменту данные.
+         *
+         * @return Объект класса {@link GZIPOutputStream}.
+         */
+        private GZIPOutputStream newGzip() {
+            try {
+                return new GZIPOutputStream(getResponse().getOutputStream(), true);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Создает поток минификации HTML, который передает
+         * результат в поток {@link BodyOutputStream}.
+         *
+         * @return Объект класса {@link HtmlMinifyingOutputStream}.
+         */
+        private HtmlMinifyingOutputStream newMinifier() {
+            return new HtmlMinifyingOutputStream(new BodyOutputStream());
+        }
+
+        /**
+         * Записывает данные выбранным способом: накапливает их,
+         * пока они меньше минимального размера сжатия, сжимает
+         * gzip или пишет без изменений.
+         *
+         * @param bytes  Данные.
+         * @param offset Начало данных в массиве.
+         * @param length Количество байт.
+         * @throws IOException Исключение записи в ответ.
+         */
+        private void writeBody(final byte[] bytes, final int offset, final int length) throws IOException {
+            if ((this.mode == Mode.BUFFER) && (this.buffer.size() + length >= minSize)) {
+                startGzip();
+            }
+            switch (this.mode) {
+                case BUFFER:
+                    this.buffer.write(bytes, offset, length);
+                    break;
+                case GZIP:
+                    this.gzip.write(bytes, offset, length);
+                    break;
+                default:
+                    getResponse().getOutputStream().write(bytes, offset, length);
+                    break;
+            }
+        }
+
+        /**
+         * Отправляет клиенту данные, которые пишутся без изменений
+         * или сжимаются потоком gzip.
+         *
+         * @throws IOException Исключение записи в ответ.
+         */
+        private void flushBody() throws IOException {
+            if (this.mode == Mode.GZIP) {
+                this.gzip.flush();
+            } else if (this.mode == Mode.PASS) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        /**
+         * Поток, через который минифицированный HTML
+         * пишется выбранным способом.
+         */
+        private final class BodyOutputStream extends OutputStream {
+            /**
+             * Записывает байт.
+             *
+             * @param b Байт для записи.
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            /**
+             * Записывает данные выбранным способом.
+             *
+             * @param bytes  Данные.
+             * @param offset Начало данных в массиве.
+             * @param length Количество байт.
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                writeBody(bytes, offset, length);
+            }
+
+            /**
+             * Отправляет клиенту записанные данные.
+             *
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void flush() throws IOException {
+                flushBody();
+            }
+        }
+
+        /**
+         * Поток ответа, который пишет данные выбранным способом.
+         */
+        private final class CompressionOutputStream extends ServletOutputStream {
+            /**
+             * Записывает байт.
+             *
+             * @param b Байт для записи.
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            /**
+             * Записывает данные выбранным способом, HTML - через поток
+             * минификации. При первой записи выбирает способ.
+             *
+             * @param bytes  Данные.
+             * @param offset Начало данных в массиве.
+             * @param length Количество байт.
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                if (length == 0) {
+                    return;
+                }
+                if (mode == Mode.UNDECIDED) {
+                    decide();
+                }
+                if (minifier != null) {
+                    minifier.write(bytes, offset, length);
+                } else {
+                    writeBody(bytes, offset, length);
+                }
+            }
+
+            /**
+             * Отправляет клиенту данные, которые пишутся без изменений
+             * или сжимаются потоком gzip.
+             *
+             * @throws IOException Исключение записи в ответ.
+             */
+            @Override
+            public void flush() throws IOException {
+                flushBody();
+            }
+
+            /**
+             * Проверяет, можно ли писать в поток ответа без блокировки.
+             *
+             * @return Значение типа boolean.
+             */
+            @Override
+            public boolean isReady() {
+                try {
+                    return getResponse().getOutputStream().isReady();
+                } catch (IOException ex) {
+                    return false;
+                }
+            }
+
+            /**
+             * Передает слушателя записи потоку ответа.
+             *
+             * @param listener Слушатель записи.
+             */
+            @Override
+            public void setWriteListener(final WriteListener listener) {
+                try {
+                    getResponse().getOutputStream().setWriteListener(listener);
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+    }
+}
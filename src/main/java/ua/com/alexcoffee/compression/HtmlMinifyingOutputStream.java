@@ -0,0 +1,413 @@
+package ua.com.alexcoffee.compression;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Поток минифицирует HTML по мере записи и сразу передает результат
+ * в следующий поток, поэтому страница не накапливается целиком.
+ * Удаляются комментарии (кроме условных комментариев вида "&lt;!--[if"),
+ * подряд идущие пробельные символы в тексте и внутри тегов заменяются
+ * одним пробелом, пробелы в начале и конце страницы отбрасываются.
+ * Значения атрибутов в кавычках и содержимое элементов pre, textarea,
+ * script и style не меняются. Поток работает с байтами, поэтому
+ * подходит для кодировок, совместимых с ASCII, например UTF-8:
+ * в них байты пробелов и символов разметки не встречаются внутри
+ * многобайтовых символов.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see CompressionFilter
+ */
+public final class HtmlMinifyingOutputStream extends FilterOutputStream {
+    /**
+     * Начало комментария после символа "&lt;".
+     */
+    private static final byte[] COMMENT_START = "!--".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Элементы, содержимое которых не меняется.
+     */
+    private static final List<String> RAW_TAGS = Arrays.asList("pre", "textarea", "script", "style");
+
+    /**
+     * Состояния разбора HTML.
+     */
+    private enum State {
+        /**
+         * Текст между тегами.
+         */
+        TEXT,
+
+        /**
+         * После символа "&lt;": тег или комментарий.
+         */
+        OPEN,
+
+        /**
+         * Комментарий, который удаляется.
+         */
+        COMMENT,
+
+        /**
+         * Тег до символа "&gt;".
+         */
+        TAG,
+
+        /**
+         * Содержимое элемента, которое не меняется.
+         */
+        RAW
+    }
+
+    /**
+     * Текущее состояние разбора.
+     */
+    private State state = State.TEXT;
+
+    /**
+     * Встретились пробельные символы, которые еще не записаны.
+     */
+    private boolean pendingSpace;
+
+    /**
+     * В поток еще ничего не записано.
+     */
+    private boolean empty = true;
+
+    /**
+     * Количество совпавших символов начала комментария.
+     */
+    private int openMatched;
+
+    /**
+     * Количество дефисов подряд внутри комментария.
+     */
+    private int dashes;
+
+    /**
+     * Имя текущего тега в нижнем регистре.
+     */
+    private final StringBuilder tagName = new StringBuilder();
+
+    /**
+     * Имя тега еще читается.
+     */
+    private boolean naming;
+
+    /**
+     * Кавычка открытого значения атрибута или 0.
+     */
+    private int quote;
+
+    /**
+     * Закрывающий тег элемента, содержимое которого не меняется.
+     */
+    private byte[] rawEnd;
+
+    /**
+     * Количество совпавших символов закрывающего тега.
+     */
+    private int rawMatched;
+
+    /**
+     * Минифицированные данные одной записи.
+     */
+    private byte[] chunk = new byte[256];
+
+    /**
+     * Количество байт в chunk.
+     */
+    private int count;
+
+    /**
+     * Конструктор для инициализации потока.
+     *
+     * @param out Поток, который получает минифицированный HTML.
+     */
+    public HtmlMinifyingOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Минифицирует и записывает байт.
+     *
+     * @param b Байт для записи.
+     * @throws IOException Исключение записи в поток.
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    /**
+     * Минифицирует данные и записывает результат в следующий поток.
+     *
+     * @param bytes  Данные.
+     * @param offset Начало данных в массиве.
+     * @param length Количество байт.
+     * @throws IOException Исключение записи в поток.
+     */
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            process(bytes[i] & 0xFF);
+        }
+        drain();
+    }
+
+    /**
+     * Дописывает незавершенную разметку в конце страницы,
+     * незакрытый комментарий и конечные пробелы отбрасываются.
+     * Следующий поток не закрывается.
+     *
+     * @throws IOException Исключение записи в поток.
+     */
+    public void finish() throws IOException {
+        if ((this.state == State.OPEN) && (this.openMatched < COMMENT_START.length)) {
+            emitSpace();
+            emit('<');
+            for (int i = 0; i < this.openMatched; i++) {
+                emit(COMMENT_START[i]);
+            }
+        }
+        this.state = State.TEXT;
+        this.pendingSpace = false;
+        drain();
+    }
+
+    /**
+     * Разбирает очередной байт HTML.
+     *
+     * @param b Байт.
+     */
+    private void process(final int b) {
+        switch (this.state) {
+            case TEXT:
+                text(b);
+                break;
+            case OPEN:
+                open(b);
+                break;
+            case COMMENT:
+                comment(b);
+                break;
+            case TAG:
+                tag(b);
+                break;
+            default:
+                raw(b);
+                break;
+        }
+    }
+
+    /**
+     * Разбирает байт текста: пробелы откладываются,
+     * символ "&lt;" начинает тег или комментарий.
+     *
+     * @param b Байт.
+     */
+    private void text(final int b) {
+        if (isSpace(b)) {
+            this.pendingSpace = true;
+        } else if (b == '<') {
+            this.state = State.OPEN;
+            this.openMatched = 0;
+        } else {
+            emitSpace();
+            emit(b);
+        }
+    }
+
+    /**
+     * Разбирает байт после символа "&lt;": после "&lt;!--" начинается
+     * комментарий, в остальных случаях - тег.
+     *
+     * @param b Байт.
+     */
+    private void open(final int b) {
+        if (this.openMatched == COMMENT_START.length) {
+            if (b == '[') {
+                startTag();
+                tag(b);
+            } else {
+                this.state = State.COMMENT;
+                this.dashes = 0;
+                comment(b);
+            }
+        } else if (b == COMMENT_START[this.openMatched]) {
+            this.openMatched++;
+        } else {
+            startTag();
+            tag(b);
+        }
+    }
+
+    /**
+     * Пропускает байт комментария до "--&gt;".
+     *
+     * @param b Байт.
+     */
+    private void comment(final int b) {
+        if (b == '-') {
+            this.dashes++;
+        } else if ((b == '>') && (this.dashes >= 2)) {
+            this.state = State.TEXT;
+        } else {
+            this.dashes = 0;
+        }
+    }
+
+    /**
+     * Записывает начало тега, отложенный пробел перед ним
+     * и уже прочитанные после "&lt;" символы.
+     */
+    private void startTag() {
+        emitSpace();
+        emit('<');
+        this.state = State.TAG;
+        this.tagName.setLength(0);
+        this.naming = true;
+        this.quote = 0;
+        final int matched = this.openMatched;
+        for (int i = 0; i < matched; i++) {
+            tag(COMMENT_START[i]);
+        }
+    }
+
+    /**
+     * Разбирает байт тега: читает имя тега, сохраняет значения
+     * атрибутов в кавычках и сжимает пробелы между атрибутами.
+     *
+     * @param b Байт.
+     */
+    private void tag(final int b) {
+        if (this.quote != 0) {
+            emit(b);
+            if (b == this.quote) {
+                this.quote = 0;
+            }
+            return;
+        }
+        if (this.naming) {
+            if (isNameChar(b)) {
+                this.tagName.append((char) Character.toLowerCase(b));
+                emit(b);
+                return;
+            }
+            this.naming = false;
+        }
+        if (isSpace(b)) {
+            this.pendingSpace = true;
+        } else if (b == '>') {
+            this.pendingSpace = false;
+            emit(b);
+            endTag();
+        } else {
+            emitSpace();
+            emit(b);
+            if ((b == '"') || (b == '\'')) {
+                this.quote = b;
+            }
+        }
+    }
+
+    /**
+     * Завершает тег: после открывающего тега pre, textarea, script
+     * или style содержимое записывается без изменений.
+     */
+    private void endTag() {
+        final String name = this.tagName.toString();
+        if (RAW_TAGS.contains(name)) {
+            this.state = State.RAW;
+            this.rawEnd = ("</" + name).getBytes(StandardCharsets.US_ASCII);
+            this.rawMatched = 0;
+        } else {
+            this.state = State.TEXT;
+        }
+    }
+
+    /**
+     * Записывает байт содержимого без изменений
+     * до закрывающего тега элемента.
+     *
+     * @param b Байт.
+     */
+    private void raw(final int b) {
+        emit(b);
+        final int lower = Character.toLowerCase(b);
+        if (lower == this.rawEnd[this.rawMatched]) {
+            this.rawMatched++;
+        } else {
+            this.rawMatched = (lower == this.rawEnd[0]) ? 1 : 0;
+        }
+        if (this.rawMatched == this.rawEnd.length) {
+            this.state = State.TAG;
+            this.tagName.setLength(0);
+            this.naming = false;
+            this.quote = 0;
+        }
+    }
+
+    /**
+     * Записывает отложенный пробел, если перед ним уже что-то записано.
+     */
+    private void emitSpace() {
+        if (this.pendingSpace && !this.empty) {
+            emit(' ');
+        }
+        this.pendingSpace = false;
+    }
+
+    /**
+     * Добавляет байт к минифицированным данным.
+     *
+     * @param b Байт.
+     */
+    private void emit(final int b) {
+        if (this.count == this.chunk.length) {
+            this.chunk = Arrays.copyOf(this.chunk, this.count * 2);
+        }
+        this.chunk[this.count++] = (byte) b;
+        this.empty = false;
+    }
+
+    /**
+     * Передает минифицированные данные следующему потоку.
+     *
+     * @throws IOException Исключение записи в поток.
+     */
+    private void drain() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.chunk, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Проверяет, является ли байт пробельным символом HTML.
+     *
+     * @param b Байт.
+     * @return Значение типа boolean - true для пробела,
+     * табуляции и перевода строки.
+     */
+    private static boolean isSpace(final int b) {
+        return (b == ' ') || (b == '\n') || (b == '\r') || (b == '\t') || (b == '\f');
+    }
+
+    /**
+     * Проверяет, может ли байт входить в имя тега.
+     *
+     * @param b Байт.
+     * @return Значение типа boolean - true для латинских букв,
+     * цифр и символов "/", "!", "-".
+     */
+    private static boolean isNameChar(final int b) {
+        return ((b >= 'a') && (b <= 'z')) || ((b >= 'A') && (b <= 'Z'))
+                || ((b >= '0') && (b <= '9')) || (b == '/') || (b == '!') || (b == '-');
+    }
+}
@@ -1,13 +1,21 @@
 package ua.com.alexcoffee.config;
 
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.StaticHeadersWriter;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
 import org.springframework.web.servlet.support.AbstractAnnotationConfigDispatcherServletInitializer;
+import ua.com.alexcoffee.cache.impl.FragmentCacheFilter;
+import ua.com.alexcoffee.compression.CompressionFilter;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import java.util.Collections;
+import java.util.EnumSet;
 
 /**
  * Диспетчер Сервлета, который отвечает за инициализацию Spring MVC и меппинг URL.
@@ -57,7 +65,15 @@ public class AppInitializer extends AbstractAnnotationConfigDispatcherServletIni
     }
 
     /**
-     * Настройка ссесии.
+     * Настройка ссесии. Фильтр кодировки поддерживает асинхронную
+     * обработку запросов, которую используют контроллеры загрузки изображений.
+     * Фильтр {@link FragmentCacheFilter} кеширует списки товаров при их
+     * включении в страницы каталога. Фильтр ResourceUrlEncodingFilter
+     * добавляет версию в ссылки на статические ресурсы, которые строит
+     * тег c:url, а ответы с ресурсами получают заголовок
+     * "Vary: Accept-Encoding", потому что ресурс может быть отдан сжатым.
+     * Фильтр {@link CompressionFilter} минифицирует HTML и сжимает
+     * остальные ответы, в том числе после асинхронной обработки.
      *
      * @param servletContext Реализация интерфейса ServletContext.
      * @throws ServletException Исключении выбрасывают методы класса
@@ -70,7 +86,30 @@ public class AppInitializer extends AbstractAnnotationConfigDispatcherServletIni
                 .addFilter("encodingFilter", new CharacterEncodingFilter());
         encodingFilter.setInitParameter("encoding", "UTF-8");
         encodingFilter.setInitParameter("forceEncoding", "true");
+        encodingFilter.setAsyncSupported(true);
         encodingFilter.addMappingForUrlPatterns(null, true, "/*");
+        final FilterRegistration.Dynamic fragmentCacheFilter = servletContext
+                .addFilter("fragmentCacheFilter", new FragmentCacheFilter());
+        fragmentCacheFilter.addMappingForUrlPatterns(
+                EnumSet.of(DispatcherType.INCLUDE), true, FragmentCacheFilter.FRAGMENTS
+        );
+        final FilterRegistration.Dynamic resourceUrlFilter = servletContext
+                .addFilter("resourceUrlEncodingFilter", new ResourceUrlEncodingFilter());
+        resourceUrlFilter.setAsyncSupported(true);
+        resourceUrlFilter.addMappingForUrlPatterns(null, true, "/*");
+        final FilterRegistration.Dynamic resourceHeadersFilter = servletContext.addFilter(
+                "resourceHeadersFilter",
+                new HeaderWriterFilter(
+                        Collections.singletonList(new StaticHeadersWriter("Vary", "Accept-Encoding"))
+                )
+        );
+        resourceHeadersFilter.addMappingForUrlPatterns(null, true, "/resources/*");
+        final FilterRegistration.Dynamic compressionFilter = servletContext
+                .addFilter("compressionFilter", new CompressionFilter());
+        compressionFilter.setAsyncSupported(true);
+        compressionFilter.addMappingForUrlPatterns(
+                EnumSet.of(DispatcherType.REQUEST, DispatcherType.ASYNC), true, "/*"
+        );
     }
 
     /**
@@ -0,0 +1,843 @@
+package ua.com.alexcoffee.config;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Класс типизированных настроек приложения, которые можно менять
+ * для каждого окружения без пересборки WAR. Значения читаются из
+ * {@link PropertyResolver} (Spring Environment) по ключам с префиксом
+ * {@value PREFIX}, для отсутствующих ключей используются значения
+ * по-умолчанию. Порядок источников задан в {@link RootConfig}:
+ * системные свойства (-Dalexcoffee.db.pool.max=40), переменные
+ * окружения (ALEXCOFFEE_DB_POOL_MAX=40), внешний файл
+ * ${alexcoffee.config}, файл профиля alexcoffee-${spring.profiles.active}.properties
+ * из classpath. Все значения проверяются при создании объекта,
+ * то есть при старте приложения: если хоть одно значение ошибочно,
+ * бросается исключение со списком всех ошибок. Логин и пароль базы
+ * данных не имеют значений по-умолчанию: их задает окружение или
+ * файл профиля alexcoffee-dev.properties, а при их отсутствии
+ * исключение бросается при создании пула соединений, поэтому
+ * настройки без базы данных (например, в тестах) остаются верными.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see RootConfig
+ */
+public final class AppSettings {
+    /**
+     * Префикс ключей настроек.
+     */
+    public static final String PREFIX = "alexcoffee.";
+
+    /**
+     * Типы хранилища корзин.
+     */
+    private static final List<String> CART_STORES = Arrays.asList("memory", "jdbc", "file");
+
+    /**
+     * Ошибки проверки настроек.
+     */
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Источник значений настроек.
+     */
+    private final PropertyResolver resolver;
+
+    /**
+     * Путь к базе данных.
+     */
+    private final String databaseUrl;
+
+    /**
+     * Логин для подключение к базе данных.
+     */
+    private final String databaseUsername;
+
+    /**
+     * Пароль для подключение к базе данных.
+     */
+    private final String databasePassword;
+
+    /**
+     * Минимальное количество свободных соединений в пуле.
+     */
+    private final int poolMinIdle;
+
+    /**
+     * Максимальное количество соединений в пуле.
+     */
+    private final int poolMaxSize;
+
+    /**
+     * Максимальное время ожидания свободного соединения в миллисекундах.
+     */
+    private final long poolConnectionTimeout;
+
+    /**
+     * Время, после которого лишнее свободное соединение закрывается, в миллисекундах.
+     */
+    private final long poolIdleTimeout;
+
+    /**
+     * Максимальное время жизни соединения в миллисекундах.
+     */
+    private final long poolMaxLifetime;
+
+    /**
+     * Время, после которого не возвращенное в пул соединение
+     * считается утечкой, в миллисекундах.
+     */
+    private final long poolLeakDetection;
+
+    /**
+     * Количество подготовленных запросов, кешируемых драйвером для каждого соединения.
+     */
+    private final int statementCacheSize;
+
+    /**
+     * Максимальная длина кешируемого подготовленного запроса.
+     */
+    private final int statementCacheSqlLimit;
+
+    /**
+     * Тип хранилища корзин: "memory", "jdbc" или "file".
+     */
+    private final String cartStore;
+
+    /**
+     * Каталог файлов корзин для хранилища "file".
+     */
+    private final String cartDirectory;
+
+    /**
+     * Время жизни корзины в миллисекундах.
+     */
+    private final long cartTimeToLive;
+
+    /**
+     * Максимальное количество корзин в памяти приложения.
+     */
+    private final int cartMaxSize;
+
+    /**
+     * Максимальное количество записей в каждом хранилище кеша каталога.
+     */
+    private final int catalogCacheSize;
+
+    /**
+     * Время жизни записи кеша каталога в миллисекундах.
+     */
+    private final long catalogCacheTimeToLive;
+
+    /**
+     * Адрес почтового сервера.
+     */
+    private final String mailHost;
+
+    /**
+     * Порт почтового сервера для протокола TLS.
+     */
+    private final int mailTlsPort;
+
+    /**
+     * Порт почтового сервера для протокола SSL.
+     */
+    private final int mailSslPort;
+
+    /**
+     * Время ожидания соединения и ответа почтового сервера в миллисекундах.
+     */
+    private final int mailTimeout;
+
+    /**
+     * Имя отправителя уведомлений.
+     */
+    private final String mailFrom;
+
+    /**
+     * Вместимость очереди уведомлений.
+     */
+    private final int mailQueueCapacity;
+
+    /**
+     * Максимальное количество уведомлений, отправляемых через одно соединение.
+     */
+    private final int mailBatchSize;
+
+    /**
+     * Максимальное количество попыток отправки уведомления.
+     */
+    private final int mailMaxAttempts;
+
+    /**
+     * Начальная задержка перед повторной отправкой в миллисекундах.
+     */
+    private final long mailBackoff;
+
+    /**
+     * Максимальное время ожидания места в очереди в миллисекундах.
+     */
+    private final long mailOfferTimeout;
+
+    /**
+     * Максимальное количество сообщений, передаваемых на отправку за один проход.
+     */
+    private final int outboxBatchSize;
+
+    /**
+     * Максимальное количество попыток отправки сообщения.
+     */
+    private final int outboxMaxAttempts;
+
+    /**
+     * Задержка между проходами ретранслятора в миллисекундах.
+     */
+    private final long outboxDelay;
+
+    /**
+     * Время захвата сообщения для отправки в миллисекундах.
+     */
+    private final long outboxLease;
+
+    /**
+     * Количество товаров, сохраняемых в одной транзакции при импорте каталога.
+     */
+    private final int importBatchSize;
+
+    /**
+     * Путь к папке с изображениями в файловой системе.
+     */
+    private final String photoPath;
+
+    /**
+     * Количество потоков записи файлов-изображений.
+     */
+    private final int photoStoreThreads;
+
+    /**
+     * Максимальный размер очереди файлов-изображений на запись.
+     */
+    private final int photoStoreQueueCapacity;
+
+    /**
+     * Наибольшая сторона уменьшенной копии изображения в пикселях.
+     */
+    private final int thumbnailSize;
+
+    /**
+     * Качество сжатия уменьшенных копий изображений в процентах.
+     */
+    private final int thumbnailQuality;
+
+    /**
+     * Версия статических ресурсов, которая добавляется в их URL.
+     */
+    private final String resourcesVersion;
+
+    /**
+     * Время хранения статических ресурсов в кеше браузера в секундах.
+     */
+    private final int resourcesCachePeriod;
+
+    /**
+     * Минимальный размер ответа в байтах, который сжимается gzip.
+     */
+    private final int compressionMinSize;
+
+    /**
+     * Время выполнения SQL запроса в миллисекундах,
+     * начиная с которого запрос записывается в лог медленных запросов.
+     */
+    private final long sqlSlowThreshold;
+
+    /**
+     * Количество выполнений одного SQL запроса за HTTP запрос,
+     * больше которого запрос считается признаком N+1.
+     */
+    private final int sqlRepeatThreshold;
+
+    /**
+     * Конструктор создает настройки со значениями по-умолчанию,
+     * переопределенными системными свойствами и переменными окружения.
+     */
+    public AppSettings() {
+        this(new StandardEnvironment());
+    }
+
+    /**
+     * Конструктор читает и проверяет настройки.
+     *
+     * @param resolver Источник значений настроек.
+     * @throws IllegalStateException Бросает исключение, если хоть
+     *                               одно значение ошибочно.
+     */
+    public AppSettings(final PropertyResolver resolver) throws IllegalStateException {
+        this.resolver = resolver;
+        this.databaseUrl = getString("db.url",
+                "jdbc:mysql://127.0.0.1:3306/alexcoffee?"
+                        + "autoReconnect=true"
+                        + "&useSSL=false&useUnicode=true"
+                        + "&useJDBCCompliantTimezoneShift=true"
+                        + "&useLegacyDatetimeCode=false"
+                        + "&serverTimezone=GMT"
+        );
+        this.databaseUsername = this.resolver.getProperty(PREFIX + "db.username");
+        this.databasePassword = this.resolver.getProperty(PREFIX + "db.password");
+        this.poolMinIdle = getInt("db.pool.min-idle", 5, 0);
+        this.poolMaxSize = getInt("db.pool.max", 20, 1);
+        this.poolConnectionTimeout = getLong("db.pool.connection-timeout", 1000, 250);
+        this.poolIdleTimeout = getLong("db.pool.idle-timeout", 10 * 60 * 1000L, 10 * 1000L);
+        this.poolMaxLifetime = getLong("db.pool.max-lifetime", 30 * 60 * 1000L, 30 * 1000L);
+        this.poolLeakDetection = getLong("db.pool.leak-detection", 30 * 1000L, 0);
+        this.statementCacheSize = getInt("db.statement-cache.size", 250, 0);
+        this.statementCacheSqlLimit = getInt("db.statement-cache.sql-limit", 2048, 0);
+        this.cartStore = getString("cart.store", "memory");
+        this.cartDirectory = getString(
+                "cart.dir",
+                Paths.get(System.getProperty("java.io.tmpdir"), "alexcoffee-carts").toString()
+        );
+        this.cartTimeToLive = getLong("cart.time-to-live", 30L * 24 * 60 * 60 * 1000, 1);
+        this.cartMaxSize = getInt("cart.max-size", 10000, 1);
+        this.catalogCacheSize = getInt("cache.catalog.max-size", 1000, 1);
+        this.catalogCacheTimeToLive = getLong("cache.catalog.time-to-live", 10 * 60 * 1000L, 1);
+        this.mailHost = getString("mail.host", "smtp.gmail.com");
+        this.mailTlsPort = getInt("mail.tls-port", 587, 1);
+        this.mailSslPort = getInt("mail.ssl-port", 465, 1);
+        this.mailTimeout = getInt("mail.timeout", 10000, 0);
+        this.mailFrom = getString("mail.from", "support@alexcoffee.com.ua");
+        this.mailQueueCapacity = getInt("mail.queue-capacity", 1000, 1);
+        this.mailBatchSize = getInt("mail.batch-size", 50, 1);
+        this.mailMaxAttempts = getInt("mail.max-attempts", 5, 1);
+        this.mailBackoff = getLong("mail.backoff", 2000, 0);
+        this.mailOfferTimeout = getLong("mail.offer-timeout", 100, 0);
+        this.outboxBatchSize = getInt("outbox.batch-size", 50, 1);
+        this.outboxMaxAttempts = getInt("outbox.max-attempts", 3, 1);
+        this.outboxDelay = getLong("outbox.delay", 5000, 1);
+        this.outboxLease = getLong("outbox.lease", 600000, 1000);
+        this.importBatchSize = getInt("import.batch-size", 500, 1);
+        this.photoPath = getString(
+                "photo.path",
+                System.getenv("CATALINA_HOME") + "/webapps/ROOT/resources/img/"
+        );
+        this.photoStoreThreads = getInt("photo.store.threads", 2, 1);
+        this.photoStoreQueueCapacity = getInt("photo.store.queue-capacity", 50, 1);
+        this.thumbnailSize = getInt("photo.thumbnail.size", 200, 16);
+        this.thumbnailQuality = getInt("photo.thumbnail.quality", 80, 1);
+        this.resourcesVersion = getString("resources.version", Long.toHexString(System.currentTimeMillis()));
+        this.resourcesCachePeriod = getInt("resources.cache-period", 365 * 24 * 60 * 60, 0);
+        this.compressionMinSize = getInt("compression.min-size", 1024, 0);
+        this.sqlSlowThreshold = getLong("sql.slow-threshold", 500, 0);
+        this.sqlRepeatThreshold = getInt("sql.repeat-threshold", 10, 1);
+        validate();
+    }
+
+    /**
+     * Проверяет связанные значения и бросает исключение
+     * со списком всех найденных ошибок.
+     *
+     * @throws IllegalStateException Бросает исключение, если хоть
+     *                               одно значение ошибочно.
+     */
+    private void validate() throws IllegalStateException {
+        if (this.poolMinIdle > this.poolMaxSize) {
+            this.errors.add(PREFIX + "db.pool.min-idle must not be greater than " + PREFIX + "db.pool.max");
+        }
+        if (this.mailTlsPort > 65535) {
+            this.errors.add(PREFIX + "mail.tls-port must be a TCP port");
+        }
+        if (this.mailSslPort > 65535) {
+            this.errors.add(PREFIX + "mail.ssl-port must be a TCP port");
+        }
+        if (this.thumbnailQuality > 100) {
+            this.errors.add(PREFIX + "photo.thumbnail.quality must be a percentage");
+        }
+        if (!this.resourcesVersion.matches("[A-Za-z0-9._-]+")) {
+            this.errors.add(PREFIX + "resources.version must be a single URL path segment");
+        }
+        if (!CART_STORES.contains(this.cartStore)) {
+            this.errors.add(PREFIX + "cart.store must be one of " + CART_STORES + ", was \"" + this.cartStore + "\"");
+        }
+        if (!this.errors.isEmpty()) {
+            throw new IllegalStateException("Invalid settings: " + this.errors);
+        }
+    }
+
+    /**
+     * Возвращает строковое значение настройки.
+     *
+     * @param name         Имя настройки без префикса.
+     * @param defaultValue Значение по-умолчанию.
+     * @return Значение типа {@link String} - значение настройки.
+     */
+    private String getString(final String name, final String defaultValue) {
+        final String value = this.resolver.getProperty(PREFIX + name, defaultValue);
+        if (isBlank(value)) {
+            this.errors.add(PREFIX + name + " must not be blank");
+        }
+        return value;
+    }
+
+    /**
+     * Возвращает целое значение настройки.
+     *
+     * @param name         Имя настройки без префикса.
+     * @param defaultValue Значение по-умолчанию.
+     * @param min          Минимальное допустимое значение.
+     * @return Значение типа int - значение настройки.
+     */
+    private int getInt(final String name, final int defaultValue, final int min) {
+        return (int) getLong(name, defaultValue, min, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Возвращает целое значение настройки.
+     *
+     * @param name         Имя настройки без префикса.
+     * @param defaultValue Значение по-умолчанию.
+     * @param min          Минимальное допустимое значение.
+     * @return Значение типа long - значение настройки.
+     */
+    private long getLong(final String name, final long defaultValue, final long min) {
+        return getLong(name, defaultValue, min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Возвращает целое значение настройки из заданного диапазона.
+     *
+     * @param name         Имя настройки без префикса.
+     * @param defaultValue Значение по-умолчанию.
+     * @param min          Минимальное допустимое значение.
+     * @param max          Максимальное допустимое значение.
+     * @return Значение типа long - значение настройки,
+     * при ошибке - значение по-умолчанию.
+     */
+    private long getLong(final String name, final long defaultValue, final long min, final long max) {
+        final String value = this.resolver.getProperty(PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final long result = Long.parseLong(value.trim());
+            if (result >= min && result <= max) {
+                return result;
+            }
+        } catch (NumberFormatException ex) {
+            // ошибка добавляется ниже
+        }
+        this.errors.add(PREFIX + name + " must be an integer from " + min + " to " + max + ", was \"" + value + "\"");
+        return defaultValue;
+    }
+
+    /**
+     * Возвращает путь к базе данных.
+     *
+     * @return Значение типа {@link String} - путь к базе данных.
+     */
+    public String getDatabaseUrl() {
+        return this.databaseUrl;
+    }
+
+    /**
+     * Возвращает логин для подключение к базе данных.
+     *
+     * @return Значение типа {@link String} - логин.
+     * @throws IllegalStateException Бросает исключение, если логин не задан.
+     */
+    public String getDatabaseUsername() throws IllegalStateException {
+        if (isBlank(this.databaseUsername)) {
+            throw new IllegalStateException(PREFIX + "db.username must be set");
+        }
+        return this.databaseUsername;
+    }
+
+    /**
+     * Возвращает пароль для подключение к базе данных.
+     * Пустой пароль допустим, если он задан явно.
+     *
+     * @return Значение типа {@link String} - пароль.
+     * @throws IllegalStateException Бросает исключение, если пароль не задан.
+     */
+    public String getDatabasePassword() throws IllegalStateException {
+        if (this.databasePassword == null) {
+            throw new IllegalStateException(PREFIX + "db.password must be set");
+        }
+        return this.databasePassword;
+    }
+
+    /**
+     * Возвращает минимальное количество свободных соединений в пуле.
+     *
+     * @return Значение типа int - количество соединений.
+     */
+    public int getPoolMinIdle() {
+        return this.poolMinIdle;
+    }
+
+    /**
+     * Возвращает максимальное количество соединений в пуле.
+     *
+     * @return Значение типа int - количество соединений.
+     */
+    public int getPoolMaxSize() {
+        return this.poolMaxSize;
+    }
+
+    /**
+     * Возвращает максимальное время ожидания свободного соединения.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getPoolConnectionTimeout() {
+        return this.poolConnectionTimeout;
+    }
+
+    /**
+     * Возвращает время, после которого лишнее свободное соединение закрывается.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getPoolIdleTimeout() {
+        return this.poolIdleTimeout;
+    }
+
+    /**
+     * Возвращает максимальное время жизни соединения.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getPoolMaxLifetime() {
+        return this.poolMaxLifetime;
+    }
+
+    /**
+     * Возвращает время, после которого не возвращенное
+     * в пул соединение считается утечкой.
+     *
+     * @return Значение типа long - время в миллисекундах, 0 - не проверять.
+     */
+    public long getPoolLeakDetection() {
+        return this.poolLeakDetection;
+    }
+
+    /**
+     * Возвращает количество подготовленных запросов,
+     * кешируемых драйвером для каждого соединения.
+     *
+     * @return Значение типа int - количество запросов.
+     */
+    public int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    /**
+     * Возвращает максимальную длину кешируемого подготовленного запроса.
+     *
+     * @return Значение типа int - длина запроса.
+     */
+    public int getStatementCacheSqlLimit() {
+        return this.statementCacheSqlLimit;
+    }
+
+    /**
+     * Возвращает тип хранилища корзин.
+     *
+     * @return Значение типа {@link String} - "memory", "jdbc" или "file".
+     */
+    public String getCartStore() {
+        return this.cartStore;
+    }
+
+    /**
+     * Возвращает каталог файлов корзин для хранилища "file".
+     *
+     * @return Значение типа {@link String} - путь к каталогу.
+     */
+    public String getCartDirectory() {
+        return this.cartDirectory;
+    }
+
+    /**
+     * Возвращает время жизни корзины.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getCartTimeToLive() {
+        return this.cartTimeToLive;
+    }
+
+    /**
+     * Возвращает максимальное количество корзин в памяти приложения.
+     *
+     * @return Значение типа int - количество корзин.
+     */
+    public int getCartMaxSize() {
+        return this.cartMaxSize;
+    }
+
+    /**
+     * Возвращает максимальное количество записей
+     * в каждом хранилище кеша каталога.
+     *
+     * @return Значение типа int - количество записей.
+     */
+    public int getCatalogCacheSize() {
+        return this.catalogCacheSize;
+    }
+
+    /**
+     * Возвращает время жизни записи кеша каталога.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getCatalogCacheTimeToLive() {
+        return this.catalogCacheTimeToLive;
+    }
+
+    /**
+     * Возвращает адрес почтового сервера.
+     *
+     * @return Значение типа {@link String} - адрес сервера.
+     */
+    public String getMailHost() {
+        return this.mailHost;
+    }
+
+    /**
+     * Возвращает порт почтового сервера для протокола TLS.
+     *
+     * @return Значение типа int - номер порта.
+     */
+    public int getMailTlsPort() {
+        return this.mailTlsPort;
+    }
+
+    /**
+     * Возвращает порт почтового сервера для протокола SSL.
+     *
+     * @return Значение типа int - номер порта.
+     */
+    public int getMailSslPort() {
+        return this.mailSslPort;
+    }
+
+    /**
+     * Возвращает время ожидания соединения и ответа почтового сервера.
+     *
+     * @return Значение типа int - время в миллисекундах.
+     */
+    public int getMailTimeout() {
+        return this.mailTimeout;
+    }
+
+    /**
+     * Возвращает имя отправителя уведомлений.
+     *
+     * @return Значение типа {@link String} - имя отправителя.
+     */
+    public String getMailFrom() {
+        return this.mailFrom;
+    }
+
+    /**
+     * Возвращает вместимость очереди уведомлений.
+     *
+     * @return Значение типа int - количество уведомлений.
+     */
+    public int getMailQueueCapacity() {
+        return this.mailQueueCapacity;
+    }
+
+    /**
+     * Возвращает максимальное количество уведомлений,
+     * отправляемых через одно соединение.
+     *
+     * @return Значение типа int - количество уведомлений.
+     */
+    public int getMailBatchSize() {
+        return this.mailBatchSize;
+    }
+
+    /**
+     * Возвращает максимальное количество попыток отправки уведомления.
+     *
+     * @return Значение типа int - количество попыток.
+     */
+    public int getMailMaxAttempts() {
+        return this.mailMaxAttempts;
+    }
+
+    /**
+     * Возвращает начальную задержку перед повторной отправкой уведомления.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getMailBackoff() {
+        return this.mailBackoff;
+    }
+
+    /**
+     * Возвращает максимальное время ожидания места в очереди уведомлений.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getMailOfferTimeout() {
+        return this.mailOfferTimeout;
+    }
+
+    /**
+     * Возвращает максимальное количество сообщений,
+     * передаваемых на отправку за один проход.
+     *
+     * @return Значение типа int - количество сообщений.
+     */
+    public int getOutboxBatchSize() {
+        return this.outboxBatchSize;
+    }
+
+    /**
+     * Возвращает максимальное количество попыток отправки сообщения.
+     *
+     * @return Значение типа int - количество попыток.
+     */
+    public int getOutboxMaxAttempts() {
+        return this.outboxMaxAttempts;
+    }
+
+    /**
+     * Возвращает задержку между проходами ретранслятора сообщений.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getOutboxDelay() {
+        return this.outboxDelay;
+    }
+
+    /**
+     * Возвращает время, на которое сообщение захватывается для отправки.
+     * Если экземпляр приложения упал, не закончив отправку, сообщение
+     * отправит другой экземпляр после окончания захвата.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getOutboxLease() {
+        return this.outboxLease;
+    }
+
+    /**
+     * Возвращает количество товаров, сохраняемых в одной транзакции
+     * при импорте каталога и читаемых одной страницей при экспорте.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    public int getImportBatchSize() {
+        return this.importBatchSize;
+    }
+
+    /**
+     * Возвращает путь к папке с изображениями в файловой системе.
+     *
+     * @return Значение типа {@link String} - путь к папке.
+     */
+    public String getPhotoPath() {
+        return this.photoPath;
+    }
+
+    /**
+     * Возвращает количество потоков записи файлов-изображений.
+     *
+     * @return Значение типа int - количество потоков.
+     */
+    public int getPhotoStoreThreads() {
+        return this.photoStoreThreads;
+    }
+
+    /**
+     * Возвращает максимальный размер очереди файлов-изображений на запись.
+     * Если очередь заполнена, файл записывает поток запроса.
+     *
+     * @return Значение типа int - количество файлов.
+     */
+    public int getPhotoStoreQueueCapacity() {
+        return this.photoStoreQueueCapacity;
+    }
+
+    /**
+     * Возвращает наибольшую сторону уменьшенной копии изображения
+     * для списков товаров и категорий. Копия двойного размера
+     * для экранов высокой плотности вдвое больше.
+     *
+     * @return Значение типа int - размер в пикселях.
+     */
+    public int getThumbnailSize() {
+        return this.thumbnailSize;
+    }
+
+    /**
+     * Возвращает качество сжатия JPEG уменьшенных копий изображений.
+     *
+     * @return Значение типа int - качество от 1 до 100 процентов.
+     */
+    public int getThumbnailQuality() {
+        return this.thumbnailQuality;
+    }
+
+    /**
+     * Возвращает версию статических ресурсов, которая добавляется в их URL.
+     * Сборка записывает в нее хеш содержимого ресурсов, без сборки
+     * используется время запуска приложения.
+     *
+     * @return Значение типа {@link String} - версия ресурсов.
+     */
+    public String getResourcesVersion() {
+        return this.resourcesVersion;
+    }
+
+    /**
+     * Возвращает время хранения статических ресурсов в кеше браузера.
+     *
+     * @return Значение типа int - время в секундах.
+     */
+    public int getResourcesCachePeriod() {
+        return this.resourcesCachePeriod;
+    }
+
+    /**
+     * Возвращает минимальный размер ответа, который сжимается gzip.
+     * Меньшие ответы сжимать невыгодно - заголовок gzip и время
+     * сжатия съедают выигрыш.
+     *
+     * @return Значение типа int - размер в байтах.
+     */
+    public int getCompressionMinSize() {
+        return this.compressionMinSize;
+    }
+
+    /**
+     * Возвращает время выполнения SQL запроса, начиная с которого
+     * запрос записывается в лог медленных запросов.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getSqlSlowThreshold() {
+        return this.sqlSlowThreshold;
+    }
+
+    /**
+     * Возвращает количество выполнений одного SQL запроса за HTTP запрос,
+     * больше которого запрос записывается в лог как признак N+1.
+     *
+     * @return Значение типа int - количество выполнений.
+     */
+    public int getSqlRepeatThreshold() {
+        return this.sqlRepeatThreshold;
+    }
+}
@@ -1,29 +1,54 @@
 package ua.com.alexcoffee.config;
 
-import org.apache.tomcat.dbcp.dbcp.BasicDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.EnableMBeanExport;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.PropertySources;
+import org.springframework.core.env.Environment;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.multipart.commons.CommonsMultipartResolver;
+import ua.com.alexcoffee.cache.impl.HibernateCacheMetrics;
+import ua.com.alexcoffee.cart.impl.FileCartStore;
+import ua.com.alexcoffee.cart.impl.JdbcCartStore;
+import ua.com.alexcoffee.cart.impl.MemoryCartStore;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+import ua.com.alexcoffee.pool.impl.HikariPoolMetrics;
+import ua.com.alexcoffee.sql.impl.SqlStatisticsImpl;
+import ua.com.alexcoffee.sql.impl.StatisticsDataSource;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
 
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.SharedCacheMode;
 import javax.sql.DataSource;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Класс основных конфигураций для Spring:
- * DataSource,
+ * DataSource (пул соединений HikariCP) и его показатели,
+ * статистика SQL запросов,
  * JpaVendorAdapter,
+ * второй уровень кеша Hibernate и его показатели,
  * JpaTransactionManager,
  * BeanPostProcessor,
- * CommonsMultipartResolver.
+ * CommonsMultipartResolver,
+ * CartStore,
+ * AppSettings.
  * Помечен аннотацией @Configuration -
  * класс является источником определения
  * бинов;
@@ -36,9 +61,27 @@ import javax.sql.DataSource;
  * пакета "ua.com.alexcoffee.repository" и
  * настраивать на взаимодействие с БД в
  * памяти, используя JPA;
+ * аннотацией @EnableScheduling - активирует
+ * выполнение методов по расписанию
+ * через @Scheduled;
+ * аннотацией @EnableMBeanExport - публикует через JMX
+ * бины, помеченные @ManagedResource;
+ * аннотацией @EnableAspectJAutoProxy - применяет аспекты из пакета
+ * "ua.com.alexcoffee.aspect" к сервисам и DAO;
+ * аннотацией @PropertySources - подключает файлы
+ * настроек: alexcoffee-resources.properties с версией
+ * статических ресурсов, который создает сборка,
+ * alexcoffee-${spring.profiles.active}.properties
+ * из classpath и внешний файл ${alexcoffee.config},
+ * который переопределяет значения файла профиля;
+ * системные свойства и переменные окружения
+ * переопределяют оба файла;
  * аннотацией @ComponentScan - указываем фреймворку
  * Spring, что компоненты надо искать внутри
- * пакета "ua.com.alexcoffee.model".
+ * пакетов "ua.com.alexcoffee.model", "ua.com.alexcoffee.service"
+ * и "ua.com.alexcoffee.aspect". Конфигурация загружается только
+ * в корневом контексте, контекст DispatcherServlet получает
+ * сервисы и аспекты из него.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -46,39 +89,48 @@ import javax.sql.DataSource;
 @Configuration
 @EnableTransactionManagement
 @EnableJpaRepositories(basePackages = "ua.com.alexcoffee.repository")
-@ComponentScan(basePackages = "ua.com.alexcoffee.model")
+@EnableScheduling
+@EnableMBeanExport
+@EnableAspectJAutoProxy
+@PropertySources({
+        @PropertySource(
+                value = "classpath:alexcoffee-resources.properties",
+                ignoreResourceNotFound = true
+        ),
+        @PropertySource(
+                value = "classpath:alexcoffee-${spring.profiles.active:default}.properties",
+                ignoreResourceNotFound = true
+        ),
+        @PropertySource(
+                value = "file:${alexcoffee.config:alexcoffee.properties}",
+                ignoreResourceNotFound = true
+        )
+})
+@ComponentScan(
+        basePackages = {
+                "ua.com.alexcoffee.model",
+                "ua.com.alexcoffee.service",
+                "ua.com.alexcoffee.aspect"
+        }
+)
 public class RootConfig {
 
-    /**
-     * Путь к базе данных.
-     */
-    private static final String DATABASE_URL =
-            "jdbc:mysql://127.0.0.1:3306/alexcoffee?"
-                    + "autoReconnect=true"
-                    + "&useSSL=false&useUnicode=true"
-                    + "&useJDBCCompliantTimezoneShift=true"
-                    + "&useLegacyDatetimeCode=false"
-                    + "&serverTimezone=GMT";
-
     /**
      * Драйвер для подключение к базе данных.
      */
     private static final String DATABASE_DRIVER = "com.mysql.cj.jdbc.Driver";
 
     /**
-     * Логин для подключение к базе данных.
-     */
-    private static final String DATABASE_USERNAME = "root";
-
-    /**
-     * Пароль для подключение к базе данных.
+     * Диалект Hibernate SQL для базы данных.
      */
-    private static final String DATABASE_PASSWORD = "admin";
+    private static final String DATABASE_DIALECT = "org.hibernate.dialect.MySQLDialect";
 
     /**
-     * Диалект Hibernate SQL для базы данных.
+     * Фабрика регионов второго уровня кеша Hibernate. Один CacheManager
+     * Ehcache на приложение, даже если фабрик EntityManager несколько.
      */
-    private static final String DATABASE_DIALECT = "org.hibernate.dialect.MySQLDialect";
+    private static final String CACHE_REGION_FACTORY =
+            "org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory";
 
     /**
      * Пакет сканирования для фабрики EntityManager.
@@ -86,51 +138,86 @@ public class RootConfig {
     private static final String PACKAGE_TO_SCAN = "ua.com.alexcoffee.model";
 
     /**
-     * Начальный размер пула соединений.
+     * Имя пула соединений.
      */
-    private static final int INITIAL_SIZE = 5;
+    private static final String POOL_NAME = "alexcoffee";
 
     /**
-     * Максимальное количество активных соединений,
-     * которые могут быть выделены в то же время.
+     * Возвращает настройки приложения, проверенные при старте.
+     *
+     * @param environment Окружение Spring с источниками настроек.
+     * @return Объект класса {@link AppSettings}.
      */
-    private static final int MAX_ACTIVE = 20;
+    @Bean
+    public AppSettings settings(final Environment environment) {
+        return new AppSettings(environment);
+    }
 
     /**
-     * Это свойство определяет, будет ли пул проверки
-     * объектов, прежде чем они заимствованы у бассейна.
+     * Возвращает пул соединений HikariCP с настройками подключения
+     * к базе данных. Исправность соединения проверяется методом
+     * Connection.isValid() драйвера только для соединений, которые давно
+     * не использовались, а не запросом при каждой выдаче. Драйвер кеширует
+     * подготовленные запросы на стороне сервера. Соединение, не возвращенное
+     * в пул дольше alexcoffee.db.pool.leak-detection мс, записывается в лог
+     * как утечка. Путь, логин, пароль и размеры пула задаются
+     * в {@link AppSettings}. Пул обернут в {@link StatisticsDataSource},
+     * которая учитывает каждый SQL запрос в статистике.
+     *
+     * @param poolMetrics   Показатели пула, которые заполняет пул.
+     * @param sqlStatistics Статистика SQL запросов.
+     * @param settings      Настройки приложения.
+     * @return Объект класса DataSource -
+     * настройки для базы данных.
      */
-    private static final boolean TEST_ON_BORROW = true;
+    @Bean
+    public DataSource dataSource(
+            final HikariPoolMetrics poolMetrics,
+            final SqlStatistics sqlStatistics,
+            final AppSettings settings
+    ) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        config.setDriverClassName(DATABASE_DRIVER);
+        config.setJdbcUrl(settings.getDatabaseUrl());
+        config.setUsername(settings.getDatabaseUsername());
+        config.setPassword(settings.getDatabasePassword());
+        config.setMinimumIdle(settings.getPoolMinIdle());
+        config.setMaximumPoolSize(settings.getPoolMaxSize());
+        config.setConnectionTimeout(settings.getPoolConnectionTimeout());
+        config.setIdleTimeout(settings.getPoolIdleTimeout());
+        config.setMaxLifetime(settings.getPoolMaxLifetime());
+        config.setLeakDetectionThreshold(settings.getPoolLeakDetection());
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", settings.getStatementCacheSize());
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", settings.getStatementCacheSqlLimit());
+        config.setRegisterMbeans(true);
+        config.setMetricsTrackerFactory(poolMetrics);
+        return new StatisticsDataSource(new HikariDataSource(config), sqlStatistics);
+    }
 
     /**
-     * Запрос SQL, который будет использоваться
-     * для проверки соединения из этого пула
-     * перед их возвращением к вызывающему.
+     * Возвращает статистику SQL запросов, которую показывает
+     * страница администратора "/admin/sql".
+     *
+     * @param settings Настройки приложения.
+     * @return Реализация интерфейса {@link SqlStatistics}.
      */
-    private static final String VALIDATION_QUERY = "SELECT 1";
+    @Bean
+    public SqlStatistics sqlStatistics(final AppSettings settings) {
+        return new SqlStatisticsImpl(settings.getSqlSlowThreshold(), settings.getSqlRepeatThreshold());
+    }
 
     /**
-     * Возвращает объект класса DataSource
-     * с настройками подключения к базе данных.
-     * Нужен для получения физического
-     * соединения с базой данных.
+     * Возвращает показатели пула соединений, которые
+     * публикуются через JMX.
      *
-     * @return Объект класса DataSource -
-     * настройки для базы данных.
+     * @return Объект класса {@link HikariPoolMetrics}.
      */
     @Bean
-    public DataSource dataSource() {
-        final BasicDataSource dataSource = new BasicDataSource();
-        dataSource.setUrl(DATABASE_URL);
-        dataSource.setDriverClassName(DATABASE_DRIVER);
-        dataSource.setUsername(DATABASE_USERNAME);
-        dataSource.setPassword(DATABASE_PASSWORD);
-        dataSource.setInitialSize(INITIAL_SIZE);
-        dataSource.setMaxActive(MAX_ACTIVE);
-        dataSource.setTestOnBorrow(TEST_ON_BORROW);
-        dataSource.setValidationQuery(VALIDATION_QUERY);
-        dataSource.setMaxWait(1000);
-        return dataSource;
+    public HikariPoolMetrics poolMetrics() {
+        return new HikariPoolMetrics();
     }
 
     /**
@@ -154,6 +241,10 @@ public class RootConfig {
      * Создает фабрику EntityManager,
      * может быть передана в DAO,
      * JPA с помощью инъекции зависимостей.
+     * Сущности, помеченные @Cacheable (статусы, роли,
+     * категории, изображения), и запросы с подсказкой
+     * org.hibernate.cacheable хранятся в кеше Ehcache,
+     * регионы которого настроены в ehcache.xml.
      *
      * @param dataSource       Объект класса DataSource с
      *                         настройками подключения к базе данных.
@@ -171,9 +262,25 @@ public class RootConfig {
         entityManagerFactory.setDataSource(dataSource);
         entityManagerFactory.setJpaVendorAdapter(jpaVendorAdapter);
         entityManagerFactory.setPackagesToScan(PACKAGE_TO_SCAN);
+        entityManagerFactory.setSharedCacheMode(SharedCacheMode.ENABLE_SELECTIVE);
+        entityManagerFactory.setJpaPropertyMap(getCacheProperties());
         return entityManagerFactory;
     }
 
+    /**
+     * Возвращает показатели второго уровня кеша и кеша
+     * запросов Hibernate, которые публикуются через JMX.
+     *
+     * @param entityManagerFactory Реализация интерфейса EntityManagerFactory.
+     * @return Объект класса {@link HibernateCacheMetrics}.
+     */
+    @Bean
+    public HibernateCacheMetrics cacheMetrics(final EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheMetrics(
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+        );
+    }
+
     /**
      * Возвращает менеджера транзакций, который
      * подходит для приложений, использующих единую
@@ -213,4 +320,45 @@ public class RootConfig {
     public CommonsMultipartResolver multipartResolver() {
         return new CommonsMultipartResolver();
     }
+
+    /**
+     * Возвращает внешнее хранилище корзин клиентов. Тип хранилища
+     * задается настройкой alexcoffee.cart.store:
+     * "memory" - в памяти приложения, подходит для одного узла;
+     * "jdbc" - в таблице Carts базы данных;
+     * "file" - в каталоге alexcoffee.cart.dir.
+     * Хранилища "jdbc" и "file" позволяют запускать несколько узлов
+     * приложения без привязки клиента к узлу.
+     *
+     * @param dataSource Объект класса DataSource с
+     *                   настройками подключения к базе данных.
+     * @param settings   Настройки приложения.
+     * @return Реализация интерфейса {@link CartStore}.
+     */
+    @Bean
+    public CartStore cartStore(final DataSource dataSource, final AppSettings settings) {
+        switch (settings.getCartStore()) {
+            case "jdbc":
+                return new JdbcCartStore(dataSource, settings.getCartTimeToLive());
+            case "file":
+                return new FileCartStore(Paths.get(settings.getCartDirectory()), settings.getCartTimeToLive());
+            default:
+                return new MemoryCartStore(settings.getCartMaxSize(), settings.getCartTimeToLive());
+        }
+    }
+
+    /**
+     * Возвращает настройки Hibernate для второго уровня кеша,
+     * кеша запросов и сбора статистики.
+     *
+     * @return Объект типа {@link Map} - настройки Hibernate.
+     */
+    private static Map<String, Object> getCacheProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.use_query_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", CACHE_REGION_FACTORY);
+        properties.put("hibernate.generate_statistics", "true");
+        return properties;
+    }
 }
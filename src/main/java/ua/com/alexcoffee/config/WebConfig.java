@@ -1,24 +1,38 @@
 package ua.com.alexcoffee.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.ViewResolver;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+import org.springframework.web.servlet.resource.GzipResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
+import ua.com.alexcoffee.sql.impl.SqlStatisticsInterceptor;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Класс конфигурации Spring компонентов представления , настройка MVC.
  * Указывает Spring где находятся компоненты представления, и как их отображать.
  * Помечен аннотацией @Configuration - класс является источником определения бинов;
  * аннотацией @EnableWebMvc - разрешает проекту использовать MVC;
+ * аннотацией @EnableAspectJAutoProxy - применяет аспекты корневого контекста
+ * из пакета "ua.com.alexcoffee.aspect" к контроллерам;
  * аннотацией @ComponentScan - указываем реймворку Spring, что компоненты надо
- * искать внутри пакетах "ua.com.alexcoffee.controller" и "ua.com.alexcoffee.config".
+ * искать внутри пакета "ua.com.alexcoffee.controller". Сервисы, DAO и настройки
+ * контроллеры получают из корневого контекста ({@link RootConfig} и
+ * {@link SecurityConfig}), поэтому они не создаются второй раз.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -27,12 +41,8 @@ import org.springframework.web.servlet.view.JstlView;
  */
 @Configuration
 @EnableWebMvc
-@ComponentScan(
-        basePackages = {
-                "ua.com.alexcoffee.controller",
-                "ua.com.alexcoffee.config"
-        }
-)
+@EnableAspectJAutoProxy
+@ComponentScan(basePackages = "ua.com.alexcoffee.controller")
 public class WebConfig extends WebMvcConfigurerAdapter {
 
     /**
@@ -65,6 +75,18 @@ public class WebConfig extends WebMvcConfigurerAdapter {
      */
     private static final String LOGIN_VIEW_NAME = "client/login";
 
+    /**
+     * Настройки приложения.
+     */
+    @Autowired
+    private AppSettings settings;
+
+    /**
+     * Статистика SQL запросов.
+     */
+    @Autowired
+    private SqlStatistics sqlStatistics;
+
     /**
      * Указывает Spring'у где находятся компоненты представления, и как их отображать.
      * Вьюшкибудут лежать в директории /WEB-INF/views/ и иметь разширение *.jsp.
@@ -83,14 +105,41 @@ public class WebConfig extends WebMvcConfigurerAdapter {
     }
 
     /**
-     * Указывает где будут хранится ресурсы.
+     * Указывает где будут хранится ресурсы. В URL ресурсов добавляется
+     * версия - хеш их содержимого, который считает сборка, например
+     * /resources/3f2a9c41d07b6e58/css/style.min.css, поэтому браузер
+     * хранит ресурсы в кеше до следующей сборки, а относительные ссылки
+     * внутри CSS указывают на ту же версию. Если сборка сохранила
+     * сжатую копию файла, она отдается клиентам, которые принимают gzip.
+     * Ссылки в JSP переписывает фильтр ResourceUrlEncodingFilter.
      *
      * @param resource Объект класса ResourceHandlerRegistry с настройками для ресурсов.
      */
     @Override
     public void addResourceHandlers(final ResourceHandlerRegistry resource) {
         resource.addResourceHandler(RESOURCES_URL + "**")
-                .addResourceLocations(RESOURCES_URL);
+                .addResourceLocations(RESOURCES_URL)
+                .setCacheControl(
+                        CacheControl.maxAge(this.settings.getResourcesCachePeriod(), TimeUnit.SECONDS)
+                                .cachePublic()
+                )
+                .resourceChain(true)
+                .addResolver(new GzipResourceResolver())
+                .addResolver(
+                        new VersionResourceResolver()
+                                .addFixedVersionStrategy(this.settings.getResourcesVersion(), "/**")
+                );
+    }
+
+    /**
+     * Подключает перехватчик, который считает SQL запросы каждого
+     * HTTP запроса. Запросы статических ресурсов не перехватываются.
+     *
+     * @param registry Объект класса InterceptorRegistry.
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatisticsInterceptor(this.sqlStatistics));
     }
 
     /**
@@ -1,7 +1,6 @@
 package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +15,8 @@ import ua.com.alexcoffee.service.interfaces.CategoryService;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 import ua.com.alexcoffee.service.interfaces.UserService;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -36,7 +37,6 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  */
 @Controller
 @RequestMapping(value = "/admin/category")
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class AdminCategoriesController {
     /**
      * Объект сервиса для работы с категориями товаров.
@@ -144,6 +144,9 @@ public class AdminCategoriesController {
      * Сохраняет новую категорию по входящим параметрам и перенаправляет по запросу
      * "/admin/category/all".
      * URL запроса "/admin/category/save", метод POST.
+     * Файл изображения записывается в пуле потоков хранилища,
+     * поток запроса освобождается до окончания записи. Уменьшенные
+     * копии нового изображения создаются в фоне.
      *
      * @param title        Название категории.
      * @param url          URL категории.
@@ -151,13 +154,14 @@ public class AdminCategoriesController {
      * @param photoTitle   Название изображения категории.
      * @param photoFile    Файл-изображение для сохранения в файловой системе.
      * @param modelAndView Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link CompletableFuture} - {@link ModelAndView}
+     * после сохранения файла.
      */
     @RequestMapping(
             value = "/save",
             method = RequestMethod.POST
     )
-    public ModelAndView saveCategory(
+    public CompletableFuture<ModelAndView> saveCategory(
             @RequestParam final String title,
             @RequestParam final String url,
             @RequestParam final String description,
@@ -165,18 +169,16 @@ public class AdminCategoriesController {
             @RequestParam(value = "photo") final MultipartFile photoFile,
             final ModelAndView modelAndView
     ) {
-        final Photo photo = new Photo(
-                photoTitle,
-                (photoFile != null)
-                        ? photoFile.getOriginalFilename()
-                        : null,
-                null
+        return this.photoService.saveFile(photoFile).thenApply(
+                photoLinkShort -> {
+                    final Photo photo = new Photo(photoTitle, photoLinkShort, null);
+                    final Category category = new Category(title, url, description, photo);
+                    this.categoryService.add(category);
+                    this.photoService.createThumbnails(photoLinkShort);
+                    modelAndView.setViewName("redirect:/admin/category/all");
+                    return modelAndView;
+                }
         );
-        final Category category = new Category(title, url, description, photo);
-        this.categoryService.add(category);
-        this.photoService.saveFile(photoFile);
-        modelAndView.setViewName("redirect:/admin/category/all");
-        return modelAndView;
     }
 
     /**
@@ -223,6 +225,9 @@ public class AdminCategoriesController {
      * Обновляет категорию по входящим параметрам и перенаправляет
      * по запросу "/admin/category/view/{id}".
      * URL запроса "/admin/category/update", метод POST.
+     * Файл изображения записывается в пуле потоков хранилища,
+     * поток запроса освобождается до окончания записи. Уменьшенные
+     * копии нового изображения создаются в фоне.
      *
      * @param id           Код категории для обновления.
      * @param title        Название категории.
@@ -232,13 +237,14 @@ public class AdminCategoriesController {
      * @param photoTitle   Название изображения.
      * @param photoFile    Файл-изображение для сохранения в файловой системе.
      * @param modelAndView Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link CompletableFuture} - {@link ModelAndView}
+     * после сохранения файла.
      */
     @RequestMapping(
             value = "/update",
             method = RequestMethod.POST
     )
-    public ModelAndView updateCategory(
+    public CompletableFuture<ModelAndView> updateCategory(
             @RequestParam(value = "id") final long id,
             @RequestParam(value = "title") final String title,
             @RequestParam(value = "url") final String url,
@@ -249,18 +255,20 @@ public class AdminCategoriesController {
             final ModelAndView modelAndView
     ) {
         final Photo photo = this.photoService.get(photoId);
-        photo.setTitle(photoTitle);
-        final String photoLinkShort = (photoFile == null)
-                || (isBlank(photoFile.getOriginalFilename())) ?
-                photo.getPhotoLinkShort() :
-                photoFile.getOriginalFilename();
-        photo.setPhotoLinkShort(photoLinkShort);
         final Category category = this.categoryService.get(id);
-        category.initialize(title, url, description, photo);
-        this.categoryService.update(category);
-        this.photoService.saveFile(photoFile);
-        modelAndView.setViewName("redirect:/admin/view/" + id);
-        return modelAndView;
+        return this.photoService.saveFile(photoFile).thenApply(
+                photoName -> {
+                    photo.setTitle(photoTitle);
+                    if (!isBlank(photoName)) {
+                        photo.setPhotoLinkShort(photoName);
+                    }
+                    category.initialize(title, url, description, photo);
+                    this.categoryService.update(category);
+                    this.photoService.createThumbnails(photoName);
+                    modelAndView.setViewName("redirect:/admin/view/" + id);
+                    return modelAndView;
+                }
+        );
     }
 
     /**
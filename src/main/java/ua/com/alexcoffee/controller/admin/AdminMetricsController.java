@@ -0,0 +1,57 @@
+package ua.com.alexcoffee.controller.admin;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import ua.com.alexcoffee.metrics.interfaces.MethodMetrics;
+
+/**
+ * Класс-контроллер показателей методов контроллеров, сервисов и DAO.
+ * К даному контроллеру могут обращатсья пользователи, имеющие роль-админстратор.
+ * Аннотация @Controller служит для сообщения Spring'у о том, что данный класс является bean'ом
+ * и его необходимо подгрузить при старте приложения.
+ * Аннотацией @RequestMapping(value = "/admin/metrics") сообщаем, что данный контроллер будет
+ * обрабатывать запросы, URI которых начинается с "/admin/metrics".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MethodMetrics
+ */
+@Controller
+@RequestMapping(value = "/admin/metrics")
+public class AdminMetricsController {
+    /**
+     * Показатели методов.
+     */
+    private final MethodMetrics methodMetrics;
+
+    /**
+     * Конструктор для инициализации основных переменных контроллера показателей.
+     * Помечен аннотацией @Autowired, которая позволит Spring автоматически
+     * инициализировать объекты.
+     *
+     * @param methodMetrics Показатели методов.
+     */
+    @Autowired
+    public AdminMetricsController(final MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    /**
+     * Возвращает показатели методов в текстовом формате Prometheus.
+     * URL запроса {"/admin/metrics", "/admin/metrics/"}, метод GET.
+     *
+     * @return Значение типа {@link String} - показатели методов.
+     */
+    @ResponseBody
+    @RequestMapping(
+            value = {"", "/"},
+            method = RequestMethod.GET,
+            produces = "text/plain;version=0.0.4;charset=UTF-8"
+    )
+    public String getMetrics() {
+        return this.methodMetrics.toText();
+    }
+}
@@ -1,7 +1,7 @@
 package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,6 +11,7 @@ import org.springframework.web.servlet.ModelAndView;
 import ua.com.alexcoffee.model.Order;
 import ua.com.alexcoffee.model.Status;
 import ua.com.alexcoffee.model.User;
+import ua.com.alexcoffee.projection.OrderRow;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.service.interfaces.OrderService;
 import ua.com.alexcoffee.service.interfaces.RoleService;
@@ -37,7 +38,6 @@ import java.util.Date;
  */
 @Controller
 @RequestMapping(value = "/admin/order")
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class AdminOrdersController {
     /**
      * Объект сервиса для работы с заказами клиентов.
@@ -84,9 +84,17 @@ public class AdminOrdersController {
     }
 
     /**
-     * Возвращает все заказы, сделаные клиентами, на страницу "admin/order/all".
+     * Возвращает одну порцию заказов, сделаных клиентами, на страницу
+     * "admin/order/all", чтобы размер страницы не зависел от количества заказов.
+     * Порция выбирается по коду последнего заказа предыдущей порции
+     * (keyset), поэтому количество заказов не считается, а скорость
+     * не зависит от того, насколько далеко пролистан список. Новые
+     * заказы идут первыми.
      * URL запроса {"/admin/order", "/admin/order/", "/admin/order/all", метод GET.
      *
+     * @param after        Код последнего заказа предыдущей порции,
+     *                     null - первая порция.
+     * @param size         Размер порции, 0 - размер по-умолчанию.
      * @param modelAndView Объект класса {@link ModelAndView}.
      * @return Объект класса {@link ModelAndView}.
      */
@@ -94,9 +102,13 @@ public class AdminOrdersController {
             value = {"", "/", "/all"},
             method = RequestMethod.GET)
     public ModelAndView viewAllOrders(
+            @RequestParam(value = "after", required = false) final Long after,
+            @RequestParam(value = "size", defaultValue = "0") final int size,
             final ModelAndView modelAndView
     ) {
-        modelAndView.addObject("orders", this.orderService.getAll());
+        final Slice<OrderRow> orders = this.orderService.getRowsAfter(after, size);
+        modelAndView.addObject("orders", orders.getContent());
+        modelAndView.addObject("page", orders);
         modelAndView.addObject("status_new", this.statusService.getDefault());
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
         modelAndView.setViewName("admin/order/all");
@@ -1,14 +1,17 @@
 package ua.com.alexcoffee.controller.admin;
 
-import org.springframework.context.annotation.ComponentScan;
+import org.apache.log4j.Logger;
 import ua.com.alexcoffee.model.Category;
 import ua.com.alexcoffee.model.Photo;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.service.interfaces.CategoryService;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.service.interfaces.ProductTransferService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,6 +21,14 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.ModelAndView;
 import ua.com.alexcoffee.service.interfaces.UserService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -38,8 +49,12 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  */
 @Controller
 @RequestMapping(value = "/admin/product")
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class AdminProductsController {
+    /**
+     * Логгер для вывода хода импорта товаров.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AdminProductsController.class);
+
     /**
      * Объект сервиса для работы с товаров.
      */
@@ -60,34 +75,44 @@ public class AdminProductsController {
      */
     private final UserService userService;
 
+    /**
+     * Объект сервиса для импорта и экспорта товаров.
+     */
+    private final ProductTransferService productTransferService;
+
     /**
      * Конструктор для инициализации основных переменных контроллера товаров.
      * Помечен аннотацией @Autowired, которая позволит Spring автоматически
      * инициализировать объекты.
      *
-     * @param productService  Объект сервисадля работы с товаров.
-     * @param categoryService Объект сервиса для работы с категориями товаров.
-     * @param photoService    Объект сервиса для работы с изображенями товаров.
-     * @param userService     Объект сервиса для работы с пользователями.
+     * @param productService         Объект сервисадля работы с товаров.
+     * @param categoryService        Объект сервиса для работы с категориями товаров.
+     * @param photoService           Объект сервиса для работы с изображенями товаров.
+     * @param userService            Объект сервиса для работы с пользователями.
+     * @param productTransferService Объект сервиса для импорта и экспорта товаров.
      */
     @Autowired
     public AdminProductsController(
             final ProductService productService,
             final CategoryService categoryService,
             final PhotoService photoService,
-            final UserService userService
+            final UserService userService,
+            final ProductTransferService productTransferService
     ) {
         this.productService = productService;
         this.categoryService = categoryService;
         this.photoService = photoService;
         this.userService = userService;
+        this.productTransferService = productTransferService;
     }
 
     /**
-     * Возвращает все товары на страницу "admin/product/all".
+     * Возвращает одну страницу товаров на страницу "admin/product/all".
      * URL запроса {"/admin/product", "/admin/product/", "/admin/product/all"},
      * метод GET.
      *
+     * @param page         Номер страницы, начиная с 0.
+     * @param size         Размер страницы, 0 - размер по-умолчанию.
      * @param modelAndView Объект класса {@link ModelAndView}.
      * @return Объект класса {@link ModelAndView}.
      */
@@ -95,8 +120,14 @@ public class AdminProductsController {
             value = {"", "/", "/all"},
             method = RequestMethod.GET
     )
-    public ModelAndView viewAllProducts(final ModelAndView modelAndView) {
-        modelAndView.addObject("products", this.productService.getAll());
+    public ModelAndView viewAllProducts(
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = "0") final int size,
+            final ModelAndView modelAndView
+    ) {
+        final Page<ProductCard> products = this.productService.getCards(page, size);
+        modelAndView.addObject("products", products.getContent());
+        modelAndView.addObject("page", products);
         modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
         modelAndView.setViewName("admin/product/all");
         return modelAndView;
@@ -147,6 +178,9 @@ public class AdminProductsController {
      * Сохраняет новый товар по входящим параметрам и перенаправляет
      * по запросу "/admin/product/all".
      * URL запроса "/admin/product/save", метод POST.
+     * Файлы изображений записываются в пуле потоков хранилища,
+     * поток запроса освобождается до окончания записи. Уменьшенные
+     * копии нового малого изображения создаются в фоне.
      *
      * @param title          Название товара
      * @param url            URL товара.
@@ -160,13 +194,14 @@ public class AdminProductsController {
      *                       в файловой системе.
      * @param price          Цена товара.
      * @param modelAndView   Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link CompletableFuture} - {@link ModelAndView}
+     * после сохранения файлов.
      */
     @RequestMapping(
             value = "/save",
             method = RequestMethod.POST
     )
-    public ModelAndView saveProduct(
+    public CompletableFuture<ModelAndView> saveProduct(
             @RequestParam(value = "title") final String title,
             @RequestParam(value = "url") final String url,
             @RequestParam(value = "parameters") final String parameters,
@@ -179,23 +214,22 @@ public class AdminProductsController {
             final ModelAndView modelAndView
     ) {
         final Category category = this.categoryService.get(categoryId);
-        final Photo photo = new Photo(
-                photoTitle,
-                (smallPhotoFile != null) ?
-                        smallPhotoFile.getOriginalFilename() : null,
-                (bigPhotoFile != null) ?
-                        bigPhotoFile.getOriginalFilename() : null);
-        final Product product = new Product();
-        product.initialize(
-                title, url, parameters,
-                description, category,
-                photo, price
+        return this.photoService.saveFile(smallPhotoFile).thenCombine(
+                this.photoService.saveFile(bigPhotoFile),
+                (photoLinkShort, photoLinkLong) -> {
+                    final Photo photo = new Photo(photoTitle, photoLinkShort, photoLinkLong);
+                    final Product product = new Product();
+                    product.initialize(
+                            title, url, parameters,
+                            description, category,
+                            photo, price
+                    );
+                    this.productService.add(product);
+                    this.photoService.createThumbnails(photoLinkShort);
+                    modelAndView.setViewName("redirect:/admin/product/all");
+                    return modelAndView;
+                }
         );
-        this.productService.add(product);
-        this.photoService.saveFile(smallPhotoFile);
-        this.photoService.saveFile(bigPhotoFile);
-        modelAndView.setViewName("redirect:/admin/product/all");
-        return modelAndView;
     }
 
     /**
@@ -244,6 +278,9 @@ public class AdminProductsController {
      * Обновляет товар по входящим параметрам и перенаправляет
      * по запросу "/admin/product/view/{id}".
      * URL запроса "/admin/product/update", метод POST.
+     * Файлы изображений записываются в пуле потоков хранилища,
+     * поток запроса освобождается до окончания записи. Уменьшенные
+     * копии нового малого изображения создаются в фоне.
      *
      * @param id             Код товара для обновления.
      * @param title          Название товара.
@@ -259,13 +296,14 @@ public class AdminProductsController {
      *                       в файловой системе.
      * @param price          Цена товара.
      * @param modelAndView   Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link CompletableFuture} - {@link ModelAndView}
+     * после сохранения файлов.
      */
     @RequestMapping(
             value = "/update",
             method = RequestMethod.POST
     )
-    public ModelAndView updateProduct(
+    public CompletableFuture<ModelAndView> updateProduct(
             @RequestParam(value = "id") final long id,
             @RequestParam(value = "title") final String title,
             @RequestParam(value = "url") final String url,
@@ -282,25 +320,25 @@ public class AdminProductsController {
         final Product product = this.productService.get(id);
         final Category category = this.categoryService.get(categoryId);
         final Photo photo = this.photoService.get(photoId);
-        final String photoLinkShort = (smallPhotoFile == null) ||
-                (isBlank(smallPhotoFile.getOriginalFilename())) ?
-                photo.getPhotoLinkShort() :
-                smallPhotoFile.getOriginalFilename();
-        final String photoLinkLong = (bigPhotoFile == null) ||
-                (isBlank(bigPhotoFile.getOriginalFilename())) ?
-                photo.getPhotoLinkLong() :
-                bigPhotoFile.getOriginalFilename();
-        photo.initialize(photoTitle, photoLinkShort, photoLinkLong);
-        product.initialize(
-                title, url,
-                parameters, description,
-                category, photo, price
+        return this.photoService.saveFile(smallPhotoFile).thenCombine(
+                this.photoService.saveFile(bigPhotoFile),
+                (smallPhotoName, bigPhotoName) -> {
+                    photo.initialize(
+                            photoTitle,
+                            isBlank(smallPhotoName) ? photo.getPhotoLinkShort() : smallPhotoName,
+                            isBlank(bigPhotoName) ? photo.getPhotoLinkLong() : bigPhotoName
+                    );
+                    product.initialize(
+                            title, url,
+                            parameters, description,
+                            category, photo, price
+                    );
+                    this.productService.update(product);
+                    this.photoService.createThumbnails(smallPhotoName);
+                    modelAndView.setViewName("redirect:/admin/product/view/" + id);
+                    return modelAndView;
+                }
         );
-        this.productService.update(product);
-        this.photoService.saveFile(smallPhotoFile);
-        this.photoService.saveFile(bigPhotoFile);
-        modelAndView.setViewName("redirect:/admin/product/view/" + id);
-        return modelAndView;
     }
 
     /**
@@ -358,4 +396,85 @@ public class AdminProductsController {
         modelAndView.setViewName("redirect:/admin/product/all");
         return modelAndView;
     }
+
+    /**
+     * Возвращает страницу "admin/product/import" для импорта товаров из файла.
+     * URL запроса "/admin/product/import", метод GET.
+     *
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView}.
+     */
+    @RequestMapping(
+            value = "/import",
+            method = RequestMethod.GET
+    )
+    public ModelAndView getImportPage(final ModelAndView modelAndView) {
+        modelAndView.addObject("formats", ProductTransferService.Format.values());
+        modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
+        modelAndView.setViewName("admin/product/import");
+        return modelAndView;
+    }
+
+    /**
+     * Импортирует товары из файла в кодировке UTF-8 и возвращает
+     * отчет импорта на страницу "admin/product/import".
+     * Ход импорта после каждой пачки товаров выводится в лог.
+     * URL запроса "/admin/product/import", метод POST.
+     *
+     * @param file         Файл с товарами.
+     * @param format       Формат файла: csv или json.
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView}.
+     * @throws IOException               Исключение чтения файла.
+     * @throws WrongInformationException Бросает исключение, если файл
+     *                                   не соответствует формату.
+     */
+    @RequestMapping(
+            value = "/import",
+            method = RequestMethod.POST
+    )
+    public ModelAndView importProducts(
+            @RequestParam(value = "file") final MultipartFile file,
+            @RequestParam(value = "format", defaultValue = "csv") final String format,
+            final ModelAndView modelAndView
+    ) throws IOException, WrongInformationException {
+        final ProductTransferService.Report report;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            report = this.productTransferService.importProducts(
+                    reader,
+                    ProductTransferService.Format.of(format),
+                    progress -> LOGGER.info("Import of " + file.getOriginalFilename() + ": " + progress)
+            );
+        }
+        modelAndView.addObject("report", report);
+        return getImportPage(modelAndView);
+    }
+
+    /**
+     * Записывает в ответ файл со всеми товарами.
+     * URL запроса "/admin/product/export", метод GET.
+     *
+     * @param format   Формат файла: csv или json.
+     * @param response Объект ответа.
+     * @throws IOException               Исключение записи в ответ.
+     * @throws WrongInformationException Бросает исключение, если формат неизвестен.
+     */
+    @RequestMapping(
+            value = "/export",
+            method = RequestMethod.GET
+    )
+    public void exportProducts(
+            @RequestParam(value = "format", defaultValue = "csv") final String format,
+            final HttpServletResponse response
+    ) throws IOException, WrongInformationException {
+        final ProductTransferService.Format fileFormat = ProductTransferService.Format.of(format);
+        response.setContentType(fileFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                "Content-Disposition",
+                "attachment; filename=\"products." + fileFormat.getExtension() + "\""
+        );
+        final Writer writer = response.getWriter();
+        this.productTransferService.exportProducts(writer, fileFormat);
+    }
 }
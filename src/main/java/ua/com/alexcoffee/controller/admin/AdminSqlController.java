@@ -0,0 +1,93 @@
+package ua.com.alexcoffee.controller.admin;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.ModelAndView;
+import ua.com.alexcoffee.service.interfaces.UserService;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+/**
+ * Класс-контроллер страницы статистики SQL запросов. К даному контроллеру
+ * и соответствующим страницам могут обращатсья пользователи, имеющие роль-админстратор.
+ * Аннотация @Controller служит для сообщения Spring'у о том, что данный класс является bean'ом
+ * и его необходимо подгрузить при старте приложения.
+ * Аннотацией @RequestMapping(value = "/admin/sql") сообщаем, что данный контроллер будет
+ * обрабатывать запросы, URI которых начинается с "/admin/sql".
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SqlStatistics
+ */
+@Controller
+@RequestMapping(value = "/admin/sql")
+public class AdminSqlController {
+    /**
+     * Статистика SQL запросов.
+     */
+    private final SqlStatistics sqlStatistics;
+
+    /**
+     * Объект сервиса для работы с пользователями.
+     */
+    private final UserService userService;
+
+    /**
+     * Конструктор для инициализации основных переменных контроллера статистики.
+     * Помечен аннотацией @Autowired, которая позволит Spring автоматически
+     * инициализировать объекты.
+     *
+     * @param sqlStatistics Статистика SQL запросов.
+     * @param userService   Объект сервиса для работы с пользователями.
+     */
+    @Autowired
+    public AdminSqlController(
+            final SqlStatistics sqlStatistics,
+            final UserService userService
+    ) {
+        this.sqlStatistics = sqlStatistics;
+        this.userService = userService;
+    }
+
+    /**
+     * Возвращает статистику SQL запросов на страницу "admin/sql/all":
+     * показатели запросов, количество запросов за HTTP запрос,
+     * медленные и повторяющиеся запросы.
+     * URL запроса {"/admin/sql", "/admin/sql/"}, метод GET.
+     *
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView}.
+     */
+    @RequestMapping(
+            value = {"", "/"},
+            method = RequestMethod.GET
+    )
+    public ModelAndView viewStatistics(final ModelAndView modelAndView) {
+        modelAndView.addObject("statistics", this.sqlStatistics);
+        modelAndView.addObject("statements", this.sqlStatistics.getStatements());
+        modelAndView.addObject("slow_queries", this.sqlStatistics.getSlowQueries());
+        modelAndView.addObject("repeated_queries", this.sqlStatistics.getRepeatedQueries());
+        modelAndView.addObject("auth_user", this.userService.getAuthenticatedUser());
+        modelAndView.setViewName("admin/sql/all");
+        return modelAndView;
+    }
+
+    /**
+     * Сбрасывает статистику SQL запросов и перенаправляет
+     * на страницу статистики.
+     * URL запроса "/admin/sql/clear", метод POST.
+     *
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView}.
+     */
+    @RequestMapping(
+            value = "/clear",
+            method = RequestMethod.POST
+    )
+    public ModelAndView clearStatistics(final ModelAndView modelAndView) {
+        this.sqlStatistics.clear();
+        modelAndView.setViewName("redirect:/admin/sql");
+        return modelAndView;
+    }
+}
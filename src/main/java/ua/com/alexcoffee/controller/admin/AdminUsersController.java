@@ -1,7 +1,6 @@
 package ua.com.alexcoffee.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,7 +31,6 @@ import ua.com.alexcoffee.service.interfaces.UserService;
  */
 @Controller
 @RequestMapping(value = "/admin/user")
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class AdminUsersController {
     /**
      * Объект сервиса для работы с пользователями.
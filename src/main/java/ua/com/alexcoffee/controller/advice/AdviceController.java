@@ -2,7 +2,6 @@ package ua.com.alexcoffee.controller.advice;
 
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -32,7 +31,6 @@ import javax.servlet.http.HttpServletRequest;
  * @see WrongInformationException
  */
 @ControllerAdvice
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class AdviceController {
 
     /**
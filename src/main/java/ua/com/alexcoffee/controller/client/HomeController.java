@@ -1,19 +1,28 @@
 package ua.com.alexcoffee.controller.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
+import ua.com.alexcoffee.cache.impl.FragmentCacheFilter;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
 import ua.com.alexcoffee.exception.ForbiddenException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.*;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
 import ua.com.alexcoffee.service.interfaces.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
 
 /**
  * Класс-контроллер домашних страниц. К даному контроллеру и соответствующим страницам
@@ -34,10 +43,9 @@ import java.util.ArrayList;
  * @see CategoryService
  * @see OrderService
  * @see ShoppingCartService
- * @see SenderService
+ * @see CatalogCache
  */
 @Controller
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class HomeController {
     /**
      * Объект сервиса для работы с товарами.
@@ -70,9 +78,10 @@ public class HomeController {
     private final RoleService roleService;
 
     /**
-     * Объект сервиса для работы с товарами.
+     * Кеш каталога, по версии которого страницы каталога
+     * отвечают на условные запросы.
      */
-    private final SenderService senderService;
+    private final CatalogCache catalogCache;
 
     /**
      * Конструктор для инициализации основных переменных контроллера главных страниц сайта.
@@ -85,7 +94,7 @@ public class HomeController {
      * @param orderService        Объект сервиса для работы с заказами.
      * @param statusService       Объект сервиса для работы с статусами заказов.
      * @param roleService         Объект сервиса для работы с ролями пользователей.
-     * @param senderService       Объект сервиса для работы с товарами.
+     * @param catalogCache        Кеш каталога.
      */
     @Autowired
     public HomeController(
@@ -95,7 +104,7 @@ public class HomeController {
             final OrderService orderService,
             final StatusService statusService,
             final RoleService roleService,
-            final SenderService senderService
+            final CatalogCache catalogCache
     ) {
         this.productService = productService;
         this.categoryService = categoryService;
@@ -103,7 +112,7 @@ public class HomeController {
         this.orderService = orderService;
         this.statusService = statusService;
         this.roleService = roleService;
-        this.senderService = senderService;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -130,12 +139,18 @@ public class HomeController {
 
     /**
      * Возвращает страницу "client/category" с товарами, которые пренадлежат
-     * категории с url.
-     * URL запроса "/category/{url}", метод GET.
+     * категории с url и подходят под выбранные значения фасетов,
+     * и фасетами категории с количеством товаров для каждого значения.
+     * Если каталог и корзина не менялись, возвращает ответ 304 без обращения
+     * к сервисам каталога. URL запроса "/category/{url}", метод GET.
+     * Если список товаров уже отрисован в кеше каталога, товары не загружаются.
      *
      * @param url          URL категории, товары которой нужно вернуть на странице.
+     * @param filters      Ключи выбранных значений фасетов, параметры "f".
+     * @param request      Объект запроса.
+     * @param response     Объект ответа.
      * @param modelAndView Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView} или null, если страница не изменилась.
      */
     @RequestMapping(
             value = "/category/{url}",
@@ -143,48 +158,115 @@ public class HomeController {
     )
     public ModelAndView viewProductsInCategory(
             @PathVariable("url") final String url,
+            @RequestParam(value = "f", required = false) final List<String> filters,
+            final HttpServletRequest request,
+            final HttpServletResponse response,
             final ModelAndView modelAndView
     ) {
+        if (isNotModified(request, response)) {
+            return null;
+        }
         modelAndView.addObject(
                 "category",
                 this.categoryService.get(url)
         );
-        modelAndView.addObject("products", this.productService.getByCategoryUrl(url));
+        final String key = "category:" + url + ":" + ((filters != null) ? new TreeSet<>(filters) : "");
+        modelAndView.addObject(FragmentCacheFilter.KEY_ATTRIBUTE, key);
+        final String fragment = getCachedFragment(key, response);
+        if (fragment != null) {
+            modelAndView.addObject(FragmentCacheFilter.CONTENT_ATTRIBUTE, fragment);
+        } else {
+            final FacetedProducts faceted = this.productService.getByCategoryUrl(url, filters);
+            modelAndView.addObject("products", faceted.getProducts());
+            modelAndView.addObject("facets", faceted.getFacets());
+            modelAndView.addObject("total", faceted.getTotal());
+        }
         modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
         modelAndView.setViewName("client/category");
         return modelAndView;
     }
 
     /**
-     * Возвращает страницу "client/products" с всема товарами.
-     * URL запроса "/product/all", метод GET.
+     * Возвращает страницу "client/products" с одной страницей всех товаров.
+     * Если каталог и корзина не менялись, возвращает ответ 304 без обращения
+     * к сервисам каталога. URL запроса "/product/all", метод GET.
+     * Если список товаров уже отрисован в кеше каталога, товары не загружаются.
      *
+     * @param page         Номер страницы, начиная с 0.
+     * @param size         Размер страницы, 0 - размер по-умолчанию.
+     * @param request      Объект запроса.
+     * @param response     Объект ответа.
      * @param modelAndView Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView} или null, если страница не изменилась.
      */
     @RequestMapping(
             value = "/product/all",
             method = RequestMethod.GET
     )
     public ModelAndView viewAllProducts(
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = "0") final int size,
+            final HttpServletRequest request,
+            final HttpServletResponse response,
             final ModelAndView modelAndView
     ) {
-        modelAndView.addObject("products", this.productService.getAll());
+        if (isNotModified(request, response)) {
+            return null;
+        }
+        final String key = "products:" + page + ":" + size;
+        modelAndView.addObject(FragmentCacheFilter.KEY_ATTRIBUTE, key);
+        final String fragment = getCachedFragment(key, response);
+        if (fragment != null) {
+            modelAndView.addObject(FragmentCacheFilter.CONTENT_ATTRIBUTE, fragment);
+        } else {
+            final Page<ProductCard> products = this.productService.getCards(page, size);
+            modelAndView.addObject("products", products.getContent());
+            modelAndView.addObject("page", products);
+        }
         modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
         modelAndView.setViewName("client/products");
         return modelAndView;
     }
 
+    /**
+     * Возвращает страницу "client/search" с товарами, которые подходят
+     * под поисковый запрос. URL запроса "/search", метод GET.
+     *
+     * @param query        Поисковый запрос.
+     * @param size         Максимальное количество товаров, 0 - размер по-умолчанию.
+     * @param modelAndView Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView}.
+     */
+    @RequestMapping(
+            value = "/search",
+            method = RequestMethod.GET
+    )
+    public ModelAndView search(
+            @RequestParam(value = "q", defaultValue = "") final String query,
+            @RequestParam(value = "size", defaultValue = "0") final int size,
+            final ModelAndView modelAndView
+    ) {
+        modelAndView.addObject("products", this.productService.search(query, size));
+        modelAndView.addObject("query", query);
+        modelAndView.addObject("cart_size", this.shoppingCartService.getSize());
+        modelAndView.setViewName("client/search");
+        return modelAndView;
+    }
+
     /**
      * Возвращает страницу "client/product" с 1-м товаром с уникальним URL,
      * который совпадает с входящим параметром url.
      * URL запроса "/product/{url}", метод GET.
      * В запросе в параметре url можно передавать как URL так и артикль товара.
+     * Если каталог и корзина не менялись, возвращает ответ 304 без обращения
+     * к сервисам каталога.
      *
      * @param url          URL или артикль товара, который нужно вернуть
      *                     на страницу.
+     * @param request      Объект запроса.
+     * @param response     Объект ответа.
      * @param modelAndView Объект класса {@link ModelAndView}.
-     * @return Объект класса {@link ModelAndView}.
+     * @return Объект класса {@link ModelAndView} или null, если страница не изменилась.
      */
     @RequestMapping(
             value = "/product/{url}",
@@ -192,8 +274,13 @@ public class HomeController {
     )
     public ModelAndView viewProduct(
             @PathVariable("url") final String url,
+            final HttpServletRequest request,
+            final HttpServletResponse response,
             final ModelAndView modelAndView
     ) {
+        if (isNotModified(request, response)) {
+            return null;
+        }
         Product product;
         try {
             final int article = Integer.parseInt(url);
@@ -345,7 +432,8 @@ public class HomeController {
 
     /**
      * Оформляет и сохраняет заказ клиента, возвращает страницу "client/checkout".
-     * Если корзина пуста, по перенаправляет на главную страницу.
+     * Если корзина пуста, по перенаправляет на главную страницу. Уведомление
+     * менеджерам сохраняется вместе с заказом и отправляется в фоне.
      * URL запроса "/checkout", метод POST.
      *
      * @param name         Имя клиента, сжелавшего заказ.
@@ -371,8 +459,7 @@ public class HomeController {
                             this.shoppingCartService.getSalePositions()
                     )
             );
-            this.orderService.add(order);
-            this.senderService.send(order);
+            this.orderService.checkout(order);
             modelAndView.addObject("order", order);
             modelAndView.addObject("sale_positions", order.getSalePositions());
             modelAndView.addObject("price_of_cart", this.shoppingCartService.getPrice());
@@ -447,4 +534,45 @@ public class HomeController {
         modelAndView.setViewName("redirect:/managers/order/all");
         return modelAndView;
     }
+
+    /**
+     * Возвращает отрисованный список товаров из кеша каталога, чтобы
+     * при попадании не загружать товары для страницы. Фрагмент не берется
+     * из кеша, если контейнер дописывает код сессии в ссылки.
+     *
+     * @param key      Ключ фрагмента.
+     * @param response Объект ответа.
+     * @return Значение типа {@link String} - HTML-фрагмент или null,
+     * если его нет в кеше.
+     */
+    private String getCachedFragment(final String key, final HttpServletResponse response) {
+        if (!FragmentCacheFilter.isShareable(response)) {
+            return null;
+        }
+        return this.catalogCache.getFragment(key, () -> null);
+    }
+
+    /**
+     * Проверяет условный запрос к странице каталога. Страница зависит
+     * только от каталога и количества товаров в корзине, поэтому ETag
+     * строится из версии кеша каталога и размера корзины, а Last-Modified -
+     * из времени последнего сброса кеша. Ответ разрешено хранить только
+     * в браузере и перед показом всегда проверять на сервере.
+     *
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @return Значение типа boolean - true, если страница не изменилась
+     * и клиенту отправлен ответ 304.
+     */
+    private boolean isNotModified(
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) {
+        final long lastModified = this.catalogCache.getLastModified();
+        final String eTag = "W/\"" + Long.toHexString(lastModified) + "-"
+                + this.catalogCache.getVersion() + "-"
+                + this.shoppingCartService.getSize() + "\"";
+        response.setHeader("Cache-Control", "private, no-cache");
+        return new ServletWebRequest(request, response).checkNotModified(eTag, lastModified);
+    }
 }
@@ -1,7 +1,6 @@
 package ua.com.alexcoffee.controller.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -21,7 +20,6 @@ import ua.com.alexcoffee.service.interfaces.ShoppingCartService;
  * @version 1.2
  */
 @Controller
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class TestController {
 
     /**
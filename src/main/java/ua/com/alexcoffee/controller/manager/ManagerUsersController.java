@@ -2,7 +2,6 @@ package ua.com.alexcoffee.controller.manager;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,7 +34,6 @@ import ua.com.alexcoffee.service.interfaces.UserService;
  */
 @Controller
 @RequestMapping(value = "/managers/user")
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class ManagerUsersController {
     /**
      * Объект сервиса для работы с пользователями.
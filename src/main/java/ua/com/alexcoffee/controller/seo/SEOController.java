@@ -1,18 +1,23 @@
 package ua.com.alexcoffee.controller.seo;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
-import ua.com.alexcoffee.model.Category;
-import ua.com.alexcoffee.model.Model;
-import ua.com.alexcoffee.model.Product;
-import ua.com.alexcoffee.service.interfaces.CategoryService;
-import ua.com.alexcoffee.service.interfaces.ProductService;
+import ua.com.alexcoffee.exception.BadRequestException;
+import ua.com.alexcoffee.service.interfaces.SitemapService;
 
-import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Класс-контроллер для настройки поисковой оптимизации (SEO).
@@ -24,34 +29,23 @@ import java.util.List;
  * @version 1.2
  */
 @Controller
-@ComponentScan(basePackages = "ua.com.alexcoffee.service")
 public class SEOController {
 
     /**
-     * Объект сервиса для работы с товарами.
+     * Объект сервиса для построения карты сайта.
      */
-    private final ProductService productService;
-
-    /**
-     * Объект сервиса для работы с категориями товаров.
-     */
-    private final CategoryService categoryService;
+    private final SitemapService sitemapService;
 
     /**
      * Конструктор для инициализации основных переменных SEO контроллера.
      * Помечен аннотацией @Autowired, которая позволит Spring автоматически
      * инициализировать объекты.
      *
-     * @param productService  Объект сервиса для работы с товарами.
-     * @param categoryService Объект сервиса для работы с категориями товаров.
+     * @param sitemapService Объект сервиса для построения карты сайта.
      */
     @Autowired
-    public SEOController(
-            final ProductService productService,
-            final CategoryService categoryService
-    ) {
-        this.productService = productService;
-        this.categoryService = categoryService;
+    public SEOController(final SitemapService sitemapService) {
+        this.sitemapService = sitemapService;
     }
 
     /**
@@ -74,23 +68,87 @@ public class SEOController {
     }
 
     /**
-     * Возвращает файл sitemap.xml для поисковых систем.
-     * Аннотация @ResponseBody указывает на то, что результат работы метода в
-     * контроллере был выведен непосредственно в тело ответа на запрос,
-     * а не послужил адресом перехода и не был помещён как параметр в модель.
+     * Записывает в ответ файл sitemap.xml для поисковых систем - список ссылок
+     * или, если ссылок больше 50 000, индекс частей карты сайта.
      *
-     * @return Значение типа String - информация о ссылках на сайте для поисковых систем.
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @throws IOException Исключение записи в ответ.
      */
-    @ResponseBody
     @RequestMapping(
             value = {"/sitemap.xml", "/sitemap"},
-            produces = "application/xml"
+            method = RequestMethod.GET
     )
-    public ModelAndView getSiteMapXml() {
-        final ModelAndView modelAndView = new ModelAndView();
-        modelAndView.addObject("products", this.productService.getAll());
-        modelAndView.addObject("categories", this.categoryService.getAll());
-        modelAndView.setViewName("seo/sitemap");
-        return modelAndView;
+    public void getSiteMapXml(
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        write(this.sitemapService.get(0), request, response);
+    }
+
+    /**
+     * Записывает в ответ часть карты сайта с номером number.
+     * URL запроса "/sitemap-{number}.xml", метод GET.
+     *
+     * @param number   Номер части карты сайта, начиная с 1.
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @throws IOException         Исключение записи в ответ.
+     * @throws BadRequestException Бросает исключение, если части с таким номером нет.
+     */
+    @RequestMapping(
+            value = "/sitemap-{number}.xml",
+            method = RequestMethod.GET
+    )
+    public void getSiteMapPart(
+            @PathVariable(value = "number") final int number,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException, BadRequestException {
+        if (number < 1) {
+            throw new BadRequestException("Can't find sitemap " + number + "!");
+        }
+        write(this.sitemapService.get(number), request, response);
+    }
+
+    /**
+     * Записывает документ карты сайта в ответ. Если документ не изменился
+     * с прошлого запроса, возвращается статус 304 без тела. Заголовок
+     * If-None-Match проверяется в первую очередь, If-Modified-Since -
+     * только если его нет. Клиенту, который принимает gzip,
+     * отдается сохраненная сжатая копия, остальным - распакованная на лету.
+     *
+     * @param document Документ карты сайта.
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @throws IOException Исключение записи в ответ.
+     */
+    private static void write(
+            final SitemapService.Document document,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        response.setHeader("Vary", "Accept-Encoding");
+        response.setHeader("ETag", document.getETag());
+        response.setDateHeader("Last-Modified", document.getLastModified());
+        final ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        final boolean notModified = (request.getHeader("If-None-Match") != null)
+                ? webRequest.checkNotModified(document.getETag())
+                : webRequest.checkNotModified(document.getLastModified());
+        if (notModified) {
+            return;
+        }
+        response.setContentType("application/xml;charset=UTF-8");
+        final String encoding = request.getHeader("Accept-Encoding");
+        if (encoding != null && encoding.contains("gzip")) {
+            response.setHeader("Content-Encoding", "gzip");
+            response.setContentLength(document.getContent().length);
+            StreamUtils.copy(document.getContent(), response.getOutputStream());
+        } else {
+            try (InputStream content = new GZIPInputStream(
+                    new ByteArrayInputStream(document.getContent()))) {
+                StreamUtils.copy(content, response.getOutputStream());
+            }
+        }
     }
 }
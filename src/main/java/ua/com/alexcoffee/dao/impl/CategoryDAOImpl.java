@@ -7,6 +7,8 @@ import ua.com.alexcoffee.model.Category;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 /**
  * Класс реализует методы доступа объектов класса {@link Category} в базе данных
  * интерфейса {@link CategoryDAO}, наследует родительский абстрактній класс {@link DataDAOImpl},
@@ -66,4 +68,15 @@ public final class CategoryDAOImpl extends DataDAOImpl<Category> implements Cate
     public void remove(final String url) {
         this.repository.deleteByUrl(url);
     }
+
+    /**
+     * Возвращает поток URL всех категорий в порядке возрастания кодов,
+     * который читается из базы данных однонаправленным курсором.
+     *
+     * @return Объект типа Stream - поток URL категорий.
+     */
+    @Override
+    public Stream<String> getUrls() {
+        return this.repository.streamAllUrls();
+    }
 }
@@ -1,5 +1,9 @@
 package ua.com.alexcoffee.dao.impl;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.dao.interfaces.DataDAO;
 import ua.com.alexcoffee.model.Model;
 import ua.com.alexcoffee.repository.MainRepository;
@@ -96,6 +100,35 @@ public abstract class DataDAOImpl<T extends Model> implements DataDAO<T> {
         return this.repository.findAll();
     }
 
+    /**
+     * Получение одной страницы моделей из базы данных.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница моделей
+     * и общее количество моделей.
+     */
+    @Override
+    public Page<T> getAll(final Pageable pageable) {
+        return this.repository.findAll(pageable);
+    }
+
+    /**
+     * Получение порции моделей, код которых больше lastId,
+     * в порядке возрастания кодов. Коды моделей положительные,
+     * поэтому при пустом lastId выборка начинается с нуля.
+     *
+     * @param lastId Код последней модели предыдущей порции.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция моделей.
+     */
+    @Override
+    public Slice<T> getAllAfter(final Long lastId, final int size) {
+        return this.repository.findByIdGreaterThanOrderByIdAsc(
+                (lastId != null) ? lastId : 0L,
+                new PageRequest(0, size)
+        );
+    }
+
     /**
      * Удаление модели из базы данных.
      *
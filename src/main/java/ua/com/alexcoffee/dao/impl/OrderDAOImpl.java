@@ -2,10 +2,13 @@ package ua.com.alexcoffee.dao.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import ua.com.alexcoffee.dao.interfaces.OrderDAO;
 import ua.com.alexcoffee.repository.OrderRepository;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.projection.OrderRow;
 
 /**
  * Класс реализует методы доступа объектов класса {@link Order} в базе данных
@@ -67,4 +70,22 @@ public final class OrderDAOImpl extends DataDAOImpl<Order> implements OrderDAO {
     public void remove(final String number) {
         this.repository.deleteByNumber(number);
     }
+
+    /**
+     * Возвращает порцию строк списка заказов, которые идут в списке после
+     * заказа с кодом lastId, в порядке убывания кодов, без загрузки самих
+     * заказов. При пустом lastId возвращается первая порция - самые новые
+     * заказы, без ограничения по коду.
+     *
+     * @param lastId Код последнего заказа предыдущей порции.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    @Override
+    public Slice<OrderRow> getRowsAfter(final Long lastId, final int size) {
+        final PageRequest pageable = new PageRequest(0, size);
+        return (lastId != null) ?
+                this.repository.findRowsAfter(lastId, pageable) :
+                this.repository.findFirstRows(pageable);
+    }
 }
@@ -0,0 +1,124 @@
+package ua.com.alexcoffee.dao.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import ua.com.alexcoffee.dao.interfaces.OutboxDAO;
+import ua.com.alexcoffee.model.OutboxMessage;
+import ua.com.alexcoffee.repository.OutboxRepository;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Класс реализует методы доступа объектов класса {@link OutboxMessage}
+ * в базе данных интерфейса {@link OutboxDAO}, наследует родительский
+ * абстрактній класс {@link DataDAOImpl}, в котором реализованы основные методы.
+ * Для работы методы используют объект-репозиторий интерфейса {@link OutboxRepository}.
+ * Класс помечена аннотацией @Repository (наследник Spring'овой аннотации @Component).
+ * Это позволяет Spring автоматически зарегестрировать компонент в своём
+ * контексте для последующей инъекции.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see DataDAOImpl
+ * @see OutboxDAO
+ * @see OutboxMessage
+ * @see OutboxRepository
+ */
+@Repository
+@ComponentScan(basePackages = "ua.com.alexcoffee.repository")
+public final class OutboxDAOImpl extends DataDAOImpl<OutboxMessage> implements OutboxDAO {
+    /**
+     * Реализация репозитория {@link OutboxRepository}
+     * для работы сообщений исходящей очереди с базой данных.
+     */
+    private final OutboxRepository repository;
+
+    /**
+     * Конструктор для инициализации основных переменных.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param repository Реализация репозитория {@link OutboxRepository}
+     *                   для работы сообщений исходящей очереди с базой данных.
+     */
+    @Autowired
+    public OutboxDAOImpl(final OutboxRepository repository) {
+        super(repository);
+        this.repository = repository;
+    }
+
+    /**
+     * Возвращает самые старые свободные сообщения, ожидающие отправки.
+     *
+     * @param maxAttempts Максимальное количество попыток отправки,
+     *                    сообщения с большим количеством не возвращаются.
+     * @param size        Максимальное количество сообщений.
+     * @return Объект типа {@link List} - сообщения в порядке добавления.
+     */
+    @Override
+    public List<OutboxMessage> getPending(final int maxAttempts, final int size) {
+        return this.repository.findPending(
+                maxAttempts, new Date(), new PageRequest(0, size)
+        );
+    }
+
+    /**
+     * Захватывает сообщение для отправки на время lease условным
+     * запросом UPDATE и запоминает время окончания захвата в сообщении.
+     * Время округляется до секунды, как в колонке DATETIME, чтобы
+     * следующие запросы нашли захват по точному совпадению.
+     *
+     * @param message Сообщение.
+     * @param lease   Время захвата в миллисекундах.
+     * @return Значение типа boolean - true, если сообщение захвачено.
+     */
+    @Override
+    public boolean lock(final OutboxMessage message, final long lease) {
+        final Date now = new Date();
+        final Date until = new Date((now.getTime() + lease) / 1000 * 1000);
+        if (this.repository.lock(message.getId(), now, until) == 0) {
+            return false;
+        }
+        message.setLockedUntil(until);
+        return true;
+    }
+
+    /**
+     * Удаляет отправленное сообщение условным запросом DELETE
+     * по коду и времени окончания захвата.
+     *
+     * @param message Сообщение.
+     * @return Значение типа boolean - true, если сообщение удалено.
+     */
+    @Override
+    public boolean removeLocked(final OutboxMessage message) {
+        return this.repository.deleteLocked(message.getId(), message.getLockedUntil()) > 0;
+    }
+
+    /**
+     * Снимает захват сообщения условным запросом UPDATE по коду
+     * и времени окончания захвата, при неудачной отправке
+     * увеличивает количество попыток.
+     *
+     * @param message Сообщение.
+     * @param failed  true, если отправка не удалась.
+     * @return Значение типа boolean - true, если захват снят.
+     */
+    @Override
+    public boolean unlock(final OutboxMessage message, final boolean failed) {
+        final int updated = this.repository.unlock(
+                message.getId(), message.getLockedUntil(), failed ? 1 : 0
+        );
+        if (updated == 0) {
+            return false;
+        }
+        if (failed) {
+            message.addAttempt();
+        }
+        message.setLockedUntil(null);
+        return true;
+    }
+}
@@ -68,4 +68,18 @@ public final class PhotoDAOImpl extends DataDAOImpl<Photo> implements PhotoDAO {
     public void remove(final String title) {
         this.repository.deleteByTitle(title);
     }
+
+    /**
+     * Записывает ссылки на уменьшенные копии всем изображениям,
+     * у которых малое изображение совпадает с source.
+     *
+     * @param source  Ссылка на малое изображение.
+     * @param thumb   Ссылка на уменьшенную копию.
+     * @param thumb2x Ссылка на уменьшенную копию двойного размера.
+     * @return Значение типа int - количество обновленных изображений.
+     */
+    @Override
+    public int updateThumbnails(final String source, final String thumb, final String thumb2x) {
+        return this.repository.updateThumbnails(source, thumb, thumb2x);
+    }
 }
@@ -2,12 +2,17 @@ package ua.com.alexcoffee.dao.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import ua.com.alexcoffee.dao.interfaces.ProductDAO;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
 import ua.com.alexcoffee.repository.ProductRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Класс реализует методы доступа объектов класса {@link Product} в базе данных
@@ -115,4 +120,61 @@ public final class ProductDAOImpl extends DataDAOImpl<Product> implements Produc
     public List<Product> getListByCategoryId(final long id) {
         return this.repository.findByCategoryId(id);
     }
+
+    /**
+     * Возвращает список товаров с уникальными кодами из входящей коллекции
+     * одним запросом к базе данных.
+     *
+     * @param ids Коды товаров для возврата.
+     * @return Объект типа List - список товаров.
+     */
+    @Override
+    public List<Product> getList(final Collection<Long> ids) {
+        return this.repository.findAll(ids);
+    }
+
+    /**
+     * Возвращает коды всех товаров из базы данных.
+     *
+     * @return Объект типа List - список кодов товаров.
+     */
+    @Override
+    public List<Long> getAllIds() {
+        return this.repository.findAllIds();
+    }
+
+    /**
+     * Возвращает поток URL всех товаров в порядке возрастания кодов,
+     * который читается из базы данных однонаправленным курсором.
+     *
+     * @return Объект типа Stream - поток URL товаров.
+     */
+    @Override
+    public Stream<String> getUrls() {
+        return this.repository.streamAllUrls();
+    }
+
+    /**
+     * Возвращает коды товаров, которые пренадлежат категории
+     * с уникальным кодом - входным параметром.
+     *
+     * @param id Уникальный код категории.
+     * @return Объект типа List - список кодов товаров.
+     */
+    @Override
+    public List<Long> getIdsByCategoryId(final long id) {
+        return this.repository.findIdsByCategoryId(id);
+    }
+
+    /**
+     * Возвращает страницу карточек товаров без загрузки самих товаров.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница карточек товаров
+     * и общее количество товаров.
+     */
+    @Override
+    public Page<ProductCard> getCards(final Pageable pageable) {
+        return this.repository.findAllCards(pageable);
+    }
 }
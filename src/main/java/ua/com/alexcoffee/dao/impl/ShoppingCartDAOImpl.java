@@ -1,31 +1,98 @@
 package ua.com.alexcoffee.dao.impl;
 
+import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Repository;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.cart.CartItems;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
 import ua.com.alexcoffee.dao.interfaces.ShoppingCartDAO;
+import ua.com.alexcoffee.exception.WrongInformationException;
+import ua.com.alexcoffee.model.Product;
 import ua.com.alexcoffee.model.SalePosition;
 import ua.com.alexcoffee.model.ShoppingCart;
 
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Класс реализует методы интерфейса {@link ShoppingCartDAO} для работы с корзиной.
+ * Корзина хранится во внешнем хранилище {@link CartStore} по коду из cookie
+ * клиента в виде пар "код товара - количество". При первом обращении в запросе
+ * корзина читается из хранилища, товары берутся из кеша каталога; после каждого
+ * изменения корзина записывается обратно. Количество товаров хранится в начале
+ * записи, поэтому счетчик корзины на страницах каталога читается без загрузки
+ * товаров - товары загружаются только для страниц корзины и оформления заказа.
+ * Cookie с кодом корзины выдается клиенту, когда в корзине появляется первый товар.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see ShoppingCartDAO
  * @see ShoppingCart
+ * @see CartStore
  */
 @Repository
-@ComponentScan(basePackages = "ua.com.alexcoffee.model")
+@ComponentScan(basePackages = {"ua.com.alexcoffee.model", "ua.com.alexcoffee.cache"})
 public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
     /**
-     * Объект корзина, в которой
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ShoppingCartDAOImpl.class);
+
+    /**
+     * Имя cookie с кодом корзины.
+     */
+    private static final String COOKIE_NAME = "cart";
+
+    /**
+     * Время жизни cookie с кодом корзины 30 дней, в секундах.
+     */
+    private static final int COOKIE_MAX_AGE = 30 * 24 * 60 * 60;
+
+    /**
+     * Допустимый код корзины - UUID.
+     */
+    private static final Pattern ID_PATTERN = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}"
+    );
+
+    /**
+     * Имя атрибута запроса с количеством товаров из записи корзины.
+     */
+    private static final String SIZE_ATTRIBUTE = ShoppingCartDAOImpl.class.getName() + ".SIZE";
+
+    /**
+     * Объект корзина текущего запроса, в которой
      * хранятся торговые позиции клиента.
      */
     private final ShoppingCart shoppingCart;
 
+    /**
+     * Внешнее хранилище корзин.
+     */
+    private final CartStore cartStore;
+
+    /**
+     * Реализация интерфейса для работы с товарами.
+     */
+    private final ProductDAO productDAO;
+
+    /**
+     * Кеш каталога, через который товары корзины берутся по кодам.
+     */
+    private final CatalogCache catalogCache;
+
     /**
      * Конструктор для инициализации основных переменных.
      * Помечаный аннотацией @Autowired, которая позволит Spring
@@ -33,10 +100,22 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      *
      * @param shoppingCart Объект класса {@link ShoppingCart} для работы с товарной
      *                     корзиной.
+     * @param cartStore    Внешнее хранилище корзин.
+     * @param productDAO   Реализация интерфейса для работы с товарами.
+     * @param catalogCache Кеш каталога товаров.
      */
     @Autowired
-    public ShoppingCartDAOImpl(final ShoppingCart shoppingCart) {
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public ShoppingCartDAOImpl(
+            final ShoppingCart shoppingCart,
+            final CartStore cartStore,
+            final ProductDAO productDAO,
+            final CatalogCache catalogCache
+    ) {
         this.shoppingCart = shoppingCart;
+        this.cartStore = cartStore;
+        this.productDAO = productDAO;
+        this.catalogCache = catalogCache;
     }
 
     /**
@@ -46,7 +125,7 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public List<SalePosition> getSalePositions() {
-        return this.shoppingCart.getSalePositions();
+        return load().getSalePositions();
     }
 
     /**
@@ -57,7 +136,8 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public void addSalePosition(final SalePosition salePosition) {
-        this.shoppingCart.addSalePosition(salePosition);
+        load().addSalePosition(salePosition);
+        save();
     }
 
     /**
@@ -67,7 +147,41 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public void removeSalePosition(final SalePosition salePosition) {
-        this.shoppingCart.removeSalePosition(salePosition);
+        load().removeSalePosition(salePosition);
+        save();
+    }
+
+    /**
+     * Устанавливает количество товаров в позиции с заданным товаром.
+     * Если количество меньше или равно 0, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @param quantity  Новое количество товаров.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    @Override
+    public boolean setQuantity(final long productId, final int quantity) {
+        final boolean result = load().setQuantity(productId, quantity);
+        if (result) {
+            save();
+        }
+        return result;
+    }
+
+    /**
+     * Уменьшает количество товаров в позиции с заданным товаром на 1.
+     * Если товаров в позиции не осталось, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    @Override
+    public boolean decrement(final long productId) {
+        final boolean result = load().decrement(productId);
+        if (result) {
+            save();
+        }
+        return result;
     }
 
     /**
@@ -76,7 +190,8 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public void clearSalePositions() {
-        this.shoppingCart.clearSalePositions();
+        load().clearSalePositions();
+        save();
     }
 
     /**
@@ -86,17 +201,33 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public ShoppingCart get() {
-        return this.shoppingCart;
+        return load();
     }
 
     /**
      * Возвращает размер корзины, то есть количество товаров в корзине.
+     * Если корзина в запросе еще не загружена, количество читается
+     * из начала записи в хранилище без загрузки товаров, один раз за запрос.
+     * Товары, которых уже нет в каталоге, учитываются до следующей
+     * загрузки корзины.
      *
      * @return Значение типа int - количество товаров в корзине.
      */
     @Override
     public int getSize() {
-        return this.shoppingCart.getSize();
+        if (this.shoppingCart.getId() != null) {
+            return this.shoppingCart.getSize();
+        }
+        final ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return readSize();
+        }
+        Integer size = (Integer) attributes.getAttribute(SIZE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (size == null) {
+            size = readSize();
+            attributes.setAttribute(SIZE_ATTRIBUTE, size, RequestAttributes.SCOPE_REQUEST);
+        }
+        return size;
     }
 
     /**
@@ -106,6 +237,147 @@ public final class ShoppingCartDAOImpl implements ShoppingCartDAO {
      */
     @Override
     public double getPrice() {
-        return this.shoppingCart.getPrice();
+        return load().getPrice();
+    }
+
+    /**
+     * Возвращает корзину текущего запроса. При первом обращении в запросе
+     * читает корзину из хранилища по коду из cookie. Товары, которых уже
+     * нет в каталоге, из корзины удаляются.
+     *
+     * @return Объект класса {@link ShoppingCart} - корзина.
+     */
+    private ShoppingCart load() {
+        if (this.shoppingCart.getId() != null) {
+            return this.shoppingCart;
+        }
+        final String id = getCookieId();
+        if (id == null) {
+            this.shoppingCart.setId(UUID.randomUUID().toString());
+            return this.shoppingCart;
+        }
+        this.shoppingCart.setId(id);
+        final Map<Long, Integer> items = read(id);
+        for (Map.Entry<Long, Integer> item : items.entrySet()) {
+            final Long productId = item.getKey();
+            final Product product = this.catalogCache.getProduct(
+                    "id:" + productId,
+                    () -> this.productDAO.get(productId)
+            );
+            if (product != null) {
+                this.shoppingCart.addSalePosition(new SalePosition(product, item.getValue()));
+            }
+        }
+        if (this.shoppingCart.getSalePositions().size() != items.size()) {
+            save();
+        }
+        return this.shoppingCart;
+    }
+
+    /**
+     * Читает запись корзины из хранилища. Поврежденная запись
+     * считается пустой корзиной.
+     *
+     * @param id Код корзины.
+     * @return Объект типа {@link Map} - количество товаров по кодам товаров.
+     */
+    private Map<Long, Integer> read(final String id) {
+        try {
+            return CartItems.decode(this.cartStore.load(id));
+        } catch (WrongInformationException ex) {
+            LOGGER.warn("Can't read shopping cart " + id + ": " + ex.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Читает количество товаров из записи корзины по коду из cookie.
+     * Поврежденная запись считается пустой корзиной.
+     *
+     * @return Значение типа int - количество товаров в корзине.
+     */
+    private int readSize() {
+        final String id = getCookieId();
+        if (id == null) {
+            return 0;
+        }
+        try {
+            return CartItems.size(this.cartStore.load(id));
+        } catch (WrongInformationException ex) {
+            LOGGER.warn("Can't read shopping cart " + id + ": " + ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Записывает корзину текущего запроса в хранилище, пустая корзина
+     * из хранилища удаляется. Если у клиента еще нет cookie с кодом
+     * корзины, cookie добавляется в ответ.
+     */
+    private void save() {
+        final String id = this.shoppingCart.getId();
+        if (this.shoppingCart.getSalePositions().isEmpty()) {
+            this.cartStore.remove(id);
+            return;
+        }
+        this.cartStore.save(id, CartItems.encode(this.shoppingCart.getSalePositions()));
+        if (!id.equals(getCookieId())) {
+            writeCookie(id);
+        }
+    }
+
+    /**
+     * Возвращает код корзины из cookie текущего запроса.
+     *
+     * @return Значение типа {@link String} - код корзины или null,
+     * если cookie нет или код недопустимый.
+     */
+    private static String getCookieId() {
+        final ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        final Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE_NAME.equals(cookie.getName())
+                        && (cookie.getValue() != null)
+                        && ID_PATTERN.matcher(cookie.getValue()).matches()) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Добавляет в ответ текущего запроса cookie с кодом корзины.
+     *
+     * @param id Код корзины.
+     */
+    private static void writeCookie(final String id) {
+        final ServletRequestAttributes attributes = getRequestAttributes();
+        if ((attributes == null) || (attributes.getResponse() == null)) {
+            return;
+        }
+        final HttpServletRequest request = attributes.getRequest();
+        final HttpServletResponse response = attributes.getResponse();
+        final Cookie cookie = new Cookie(COOKIE_NAME, id);
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge(COOKIE_MAX_AGE);
+        cookie.setHttpOnly(true);
+        response.addCookie(cookie);
+    }
+
+    /**
+     * Возвращает атрибуты текущего HTTP запроса.
+     *
+     * @return Объект класса {@link ServletRequestAttributes} или null,
+     * если метод вызван вне HTTP запроса.
+     */
+    private static ServletRequestAttributes getRequestAttributes() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return (attributes instanceof ServletRequestAttributes)
+                ? (ServletRequestAttributes) attributes : null;
     }
 }
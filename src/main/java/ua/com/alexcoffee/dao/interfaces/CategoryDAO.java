@@ -2,6 +2,8 @@ package ua.com.alexcoffee.dao.interfaces;
 
 import ua.com.alexcoffee.model.Category;
 
+import java.util.stream.Stream;
+
 /**
  * Интерфейс описывает набор методов для работы объектов класса
  * {@link Category} с базой данных. Расширяет интерфейс {@link DataDAO}.
@@ -27,4 +29,13 @@ public interface CategoryDAO extends DataDAO<Category> {
      * @param url URL категории для удаления.
      */
     void remove(String url);
+
+    /**
+     * Возвращает поток URL всех категорий в порядке возрастания кодов,
+     * который читается из базы данных однонаправленным курсором.
+     * Поток должен использоваться внутри транзакции и обязательно закрываться.
+     *
+     * @return Объект типа Stream - поток URL категорий.
+     */
+    Stream<String> getUrls();
 }
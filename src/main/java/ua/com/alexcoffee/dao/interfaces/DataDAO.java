@@ -2,6 +2,9 @@ package ua.com.alexcoffee.dao.interfaces;
 
 import ua.com.alexcoffee.dao.impl.DataDAOImpl;
 import ua.com.alexcoffee.model.Model;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
@@ -61,6 +64,26 @@ public interface DataDAO<T extends Model> {
      */
     List<T> getAll();
 
+    /**
+     * Получение одной страницы моделей из базы данных.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница моделей
+     * и общее количество моделей.
+     */
+    Page<T> getAll(Pageable pageable);
+
+    /**
+     * Получение порции моделей, код которых больше lastId,
+     * в порядке возрастания кодов. Если lastId не задан,
+     * возвращается первая порция.
+     *
+     * @param lastId Код последней модели предыдущей порции.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция моделей.
+     */
+    Slice<T> getAllAfter(Long lastId, int size);
+
     /**
      * Удаление модели из базы данных.
      *
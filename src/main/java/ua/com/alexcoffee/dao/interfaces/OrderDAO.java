@@ -1,6 +1,8 @@
 package ua.com.alexcoffee.dao.interfaces;
 
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.projection.OrderRow;
 
 /**
  * Интерфейс описывает набор методов для работы объектов класса
@@ -30,4 +32,15 @@ public interface OrderDAO extends DataDAO<Order> {
      * @param number Номер заказа для удаление.
      */
     void remove(String number);
+
+    /**
+     * Возвращает порцию строк списка заказов, код которых меньше lastId,
+     * в порядке убывания кодов (сначала новые), без загрузки самих заказов.
+     *
+     * @param lastId Код последнего заказа предыдущей порции,
+     *               null - первая порция.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    Slice<OrderRow> getRowsAfter(Long lastId, int size);
 }
@@ -0,0 +1,57 @@
+package ua.com.alexcoffee.dao.interfaces;
+
+import ua.com.alexcoffee.model.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Интерфейс описывает набор методов для работы объектов класса
+ * {@link OutboxMessage} с базой данных. Расширяет интерфейс {@link DataDAO}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see DataDAO
+ * @see ua.com.alexcoffee.dao.impl.OutboxDAOImpl
+ * @see OutboxMessage
+ */
+public interface OutboxDAO extends DataDAO<OutboxMessage> {
+    /**
+     * Возвращает самые старые свободные сообщения, ожидающие отправки.
+     *
+     * @param maxAttempts Максимальное количество попыток отправки,
+     *                    сообщения с большим количеством не возвращаются.
+     * @param size        Максимальное количество сообщений.
+     * @return Объект типа {@link List} - сообщения в порядке добавления.
+     */
+    List<OutboxMessage> getPending(int maxAttempts, int size);
+
+    /**
+     * Захватывает сообщение для отправки на время lease. Сообщение,
+     * захваченное другим экземпляром приложения, не захватывается.
+     *
+     * @param message Сообщение.
+     * @param lease   Время захвата в миллисекундах.
+     * @return Значение типа boolean - true, если сообщение захвачено.
+     */
+    boolean lock(OutboxMessage message, long lease);
+
+    /**
+     * Удаляет отправленное сообщение, если его захват, взятый
+     * методом lock(), еще действует.
+     *
+     * @param message Сообщение.
+     * @return Значение типа boolean - true, если сообщение удалено.
+     */
+    boolean removeLocked(OutboxMessage message);
+
+    /**
+     * Снимает захват сообщения, взятый методом lock(), и при неудачной
+     * отправке увеличивает количество попыток. Сообщение, которое уже
+     * захватил другой экземпляр приложения, не изменяется.
+     *
+     * @param message Сообщение.
+     * @param failed  true, если отправка не удалась.
+     * @return Значение типа boolean - true, если захват снят.
+     */
+    boolean unlock(OutboxMessage message, boolean failed);
+}
@@ -29,4 +29,15 @@ public interface PhotoDAO extends DataDAO<Photo> {
      * @param title Название объекта-изображения для удаления.
      */
     void remove(String title);
+
+    /**
+     * Записывает ссылки на уменьшенные копии всем изображениям,
+     * у которых малое изображение совпадает с source.
+     *
+     * @param source  Ссылка на малое изображение.
+     * @param thumb   Ссылка на уменьшенную копию.
+     * @param thumb2x Ссылка на уменьшенную копию двойного размера.
+     * @return Значение типа int - количество обновленных изображений.
+     */
+    int updateThumbnails(String source, String thumb, String thumb2x);
 }
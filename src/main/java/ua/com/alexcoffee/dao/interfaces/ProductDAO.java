@@ -1,8 +1,13 @@
 package ua.com.alexcoffee.dao.interfaces;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Интерфейс описывает набор методов для работы объектов класса
@@ -62,4 +67,46 @@ public interface ProductDAO extends DataDAO<Product> {
      * @return Объект типа List - список товаров.
      */
     List<Product> getListByCategoryId(long id);
+
+    /**
+     * Возвращает список товаров с уникальными кодами из входящей коллекции.
+     *
+     * @param ids Коды товаров для возврата.
+     * @return Объект типа List - список товаров.
+     */
+    List<Product> getList(Collection<Long> ids);
+
+    /**
+     * Возвращает коды всех товаров из базы данных.
+     *
+     * @return Объект типа List - список кодов товаров.
+     */
+    List<Long> getAllIds();
+
+    /**
+     * Возвращает поток URL всех товаров в порядке возрастания кодов,
+     * который читается из базы данных однонаправленным курсором.
+     * Поток должен использоваться внутри транзакции и обязательно закрываться.
+     *
+     * @return Объект типа Stream - поток URL товаров.
+     */
+    Stream<String> getUrls();
+
+    /**
+     * Возвращает коды товаров, которые пренадлежат категории
+     * с уникальным кодом - входным параметром.
+     *
+     * @param id Код категории.
+     * @return Объект типа List - список кодов товаров.
+     */
+    List<Long> getIdsByCategoryId(long id);
+
+    /**
+     * Возвращает страницу карточек товаров без загрузки самих товаров.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница карточек товаров
+     * и общее количество товаров.
+     */
+    Page<ProductCard> getCards(Pageable pageable);
 }
@@ -35,6 +35,25 @@ public interface ShoppingCartDAO {
      */
     void removeSalePosition(SalePosition salePosition);
 
+    /**
+     * Устанавливает количество товаров в позиции с заданным товаром.
+     * Если количество меньше или равно 0, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @param quantity  Новое количество товаров.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    boolean setQuantity(long productId, int quantity);
+
+    /**
+     * Уменьшает количество товаров в позиции с заданным товаром на 1.
+     * Если товаров в позиции не осталось, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    boolean decrement(long productId);
+
     /**
      * Очищает корзину.
      * Удаляет все торговые позиции в корзине.
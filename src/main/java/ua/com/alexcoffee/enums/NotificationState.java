@@ -0,0 +1,34 @@
+package ua.com.alexcoffee.enums;
+
+/**
+ * Перечесление возможных состояний уведомления на электронную почту.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ */
+public enum NotificationState {
+    /**
+     * Уведомление ожидает отправки в очереди.
+     */
+    QUEUED,
+
+    /**
+     * Уведомление отправляется.
+     */
+    SENDING,
+
+    /**
+     * Отправка не удалась, уведомление ожидает повторной попытки.
+     */
+    RETRYING,
+
+    /**
+     * Уведомление отправлено.
+     */
+    SENT,
+
+    /**
+     * Уведомление не удалось отправить.
+     */
+    FAILED
+}
@@ -0,0 +1,359 @@
+package ua.com.alexcoffee.facet.impl;
+
+import ua.com.alexcoffee.facet.interfaces.FacetIndex;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.Facet;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apache.commons.lang3.StringUtils.normalizeSpace;
+import static org.apache.commons.lang3.StringUtils.stripEnd;
+
+/**
+ * Класс реализует методы интерфейса {@link FacetIndex} в колоночном виде:
+ * товары категории пронумерованы, и для каждого значения каждого фасета
+ * хранится битовое множество {@link BitSet} номеров товаров с этим
+ * значением. Количество товаров для значений без фильтра считается
+ * при построении индекса, с фильтром - пересечением битовых множеств,
+ * которые для тысяч товаров занимают десятки машинных слов.
+ * Фасеты - диапазоны цен и параметры товаров, которые хранятся в поле
+ * parameters в виде строк "Название: значение", разделенных тегом br
+ * или переводом строки. Параметры со слишком длинными значениями
+ * или слишком большим количеством разных значений фасетами не становятся.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see FacetIndex
+ * @see Product
+ */
+public final class BitSetFacetIndex implements FacetIndex {
+    /**
+     * Название фасета цены.
+     */
+    public static final String PRICE_FACET = "Цена";
+
+    /**
+     * Границы диапазонов цен в гривнах.
+     */
+    private static final int[] PRICE_BOUNDS = {100, 200, 300, 500, 1000};
+
+    /**
+     * Максимальная длина значения параметра, которое становится значением фасета.
+     */
+    private static final int MAX_VALUE_LENGTH = 50;
+
+    /**
+     * Максимальное количество разных значений параметра,
+     * при котором параметр становится фасетом.
+     */
+    private static final int MAX_FACET_VALUES = 20;
+
+    /**
+     * Разделитель названия фасета и значения в ключе значения.
+     */
+    private static final char KEY_SEPARATOR = ':';
+
+    /**
+     * Карточки товаров в порядке нумерации.
+     */
+    private final ProductCard[] cards;
+
+    /**
+     * Названия фасетов.
+     */
+    private final String[] names;
+
+    /**
+     * Значения каждого фасета.
+     */
+    private final String[][] titles;
+
+    /**
+     * Номера товаров для каждого значения каждого фасета.
+     */
+    private final BitSet[][] bits;
+
+    /**
+     * Количество товаров для каждого значения каждого фасета без фильтра.
+     */
+    private final int[][] counts;
+
+    /**
+     * Позиции значений (номер фасета и номер значения) по ключу значения.
+     */
+    private final Map<String, int[]> positions = new HashMap<>();
+
+    /**
+     * Конструктор строит индекс по товарам категории.
+     * Порядок товаров в результатах совпадает с порядком в списке.
+     *
+     * @param products Товары категории.
+     */
+    public BitSetFacetIndex(final List<Product> products) {
+        final int size = (products != null) ? products.size() : 0;
+        this.cards = new ProductCard[size];
+        final Map<String, Map<String, BitSet>> facets = new LinkedHashMap<>();
+        final Map<String, BitSet> prices = new TreeMap<>();
+        final List<String> priceTitles = getPriceTitles();
+        for (int i = 0; i < size; i++) {
+            final Product product = products.get(i);
+            this.cards[i] = new ProductCard(product);
+            prices.computeIfAbsent(
+                    String.format("%02d", getPriceBucket(product.getPrice())),
+                    key -> new BitSet(size)
+            ).set(i);
+            for (Map.Entry<String, String> parameter : parseParameters(product.getParameters()).entrySet()) {
+                facets.computeIfAbsent(parameter.getKey(), key -> new TreeMap<>())
+                        .computeIfAbsent(parameter.getValue(), key -> new BitSet(size))
+                        .set(i);
+            }
+        }
+        final Map<String, Map<String, BitSet>> selected = new LinkedHashMap<>();
+        if (!prices.isEmpty()) {
+            final Map<String, BitSet> values = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> entry : prices.entrySet()) {
+                values.put(priceTitles.get(Integer.parseInt(entry.getKey())), entry.getValue());
+            }
+            selected.put(PRICE_FACET, values);
+        }
+        final List<Map.Entry<String, Map<String, BitSet>>> parameters = new ArrayList<>();
+        for (Map.Entry<String, Map<String, BitSet>> entry : facets.entrySet()) {
+            if (entry.getValue().size() <= MAX_FACET_VALUES) {
+                parameters.add(entry);
+            }
+        }
+        parameters.sort((first, second) -> Integer.compare(coverage(second.getValue()), coverage(first.getValue())));
+        for (Map.Entry<String, Map<String, BitSet>> entry : parameters) {
+            selected.put(entry.getKey(), entry.getValue());
+        }
+        this.names = new String[selected.size()];
+        this.titles = new String[selected.size()][];
+        this.bits = new BitSet[selected.size()][];
+        this.counts = new int[selected.size()][];
+        int facet = 0;
+        for (Map.Entry<String, Map<String, BitSet>> entry : selected.entrySet()) {
+            final int values = entry.getValue().size();
+            this.names[facet] = entry.getKey();
+            this.titles[facet] = new String[values];
+            this.bits[facet] = new BitSet[values];
+            this.counts[facet] = new int[values];
+            int value = 0;
+            for (Map.Entry<String, BitSet> item : entry.getValue().entrySet()) {
+                this.titles[facet][value] = item.getKey();
+                this.bits[facet][value] = item.getValue();
+                this.counts[facet][value] = item.getValue().cardinality();
+                this.positions.put(getKey(entry.getKey(), item.getKey()), new int[]{facet, value});
+                value++;
+            }
+            facet++;
+        }
+    }
+
+    /**
+     * Возвращает товары, которые подходят под выбранные значения фасетов,
+     * и количество товаров для каждого значения. Количество для значения
+     * фасета считается с учетом выбранных значений только других фасетов,
+     * чтобы покупатель видел, сколько товаров даст каждое значение.
+     *
+     * @param filters Ключи выбранных значений фасетов, null - без фильтра.
+     * @return Объект класса {@link FacetedProducts} - результат фильтрации.
+     */
+    @Override
+    public FacetedProducts filter(final Collection<String> filters) {
+        final BitSet[] masks = new BitSet[this.names.length];
+        final boolean[][] chosen = new boolean[this.names.length][];
+        for (int facet = 0; facet < this.names.length; facet++) {
+            chosen[facet] = new boolean[this.titles[facet].length];
+        }
+        if (filters != null) {
+            for (String key : filters) {
+                final int[] position = this.positions.get(key);
+                if (position != null) {
+                    chosen[position[0]][position[1]] = true;
+                    if (masks[position[0]] == null) {
+                        masks[position[0]] = new BitSet(this.cards.length);
+                    }
+                    masks[position[0]].or(this.bits[position[0]][position[1]]);
+                }
+            }
+        }
+        final BitSet result = new BitSet(this.cards.length);
+        result.set(0, this.cards.length);
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        final List<Facet> facets = new ArrayList<>(this.names.length);
+        for (int facet = 0; facet < this.names.length; facet++) {
+            final BitSet base = intersectOthers(masks, facet);
+            final List<Facet.Value> values = new ArrayList<>(this.titles[facet].length);
+            for (int value = 0; value < this.titles[facet].length; value++) {
+                values.add(
+                        new Facet.Value(
+                                this.titles[facet][value],
+                                getKey(this.names[facet], this.titles[facet][value]),
+                                (base != null) ? countBoth(base, this.bits[facet][value]) : this.counts[facet][value],
+                                chosen[facet][value]
+                        )
+                );
+            }
+            facets.add(new Facet(this.names[facet], values));
+        }
+        final List<ProductCard> products = new ArrayList<>(result.cardinality());
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            products.add(this.cards[i]);
+        }
+        return new FacetedProducts(products, facets, this.cards.length);
+    }
+
+    /**
+     * Возвращает количество товаров в индексе.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    @Override
+    public int size() {
+        return this.cards.length;
+    }
+
+    /**
+     * Возвращает описание индекса.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - количество товаров и фасетов.
+     */
+    @Override
+    public String toString() {
+        return "products = " + this.cards.length + ", facets = " + this.names.length;
+    }
+
+    /**
+     * Разбирает параметры товара на пары "название - значение".
+     * Строки без двоеточия, с пустым или слишком длинным значением
+     * пропускаются, пробелы нормализуются, точка в конце значения
+     * отбрасывается. Из повторяющихся названий остается первое.
+     *
+     * @param parameters Параметры товара.
+     * @return Объект типа {@link Map} - названия и значения параметров.
+     */
+    static Map<String, String> parseParameters(final String parameters) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        if (parameters == null) {
+            return result;
+        }
+        for (String line : parameters.split("(?i)<br\\s*/?>|\\r?\\n")) {
+            final int separator = line.indexOf(KEY_SEPARATOR);
+            if (separator <= 0) {
+                continue;
+            }
+            final String name = normalizeSpace(line.substring(0, separator));
+            final String value = stripEnd(normalizeSpace(line.substring(separator + 1)), ".");
+            if (!name.isEmpty() && !value.isEmpty() && (value.length() <= MAX_VALUE_LENGTH)) {
+                result.putIfAbsent(name, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает номер диапазона цен для цены.
+     *
+     * @param price Цена товара.
+     * @return Значение типа int - номер диапазона.
+     */
+    static int getPriceBucket(final double price) {
+        for (int i = 0; i < PRICE_BOUNDS.length; i++) {
+            if (price < PRICE_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return PRICE_BOUNDS.length;
+    }
+
+    /**
+     * Возвращает названия диапазонов цен.
+     *
+     * @return Объект типа {@link List} - названия диапазонов в порядке возрастания цен.
+     */
+    private static List<String> getPriceTitles() {
+        final List<String> result = new ArrayList<>(PRICE_BOUNDS.length + 1);
+        result.add("до " + PRICE_BOUNDS[0] + " грн");
+        for (int i = 1; i < PRICE_BOUNDS.length; i++) {
+            result.add(PRICE_BOUNDS[i - 1] + " - " + PRICE_BOUNDS[i] + " грн");
+        }
+        result.add("от " + PRICE_BOUNDS[PRICE_BOUNDS.length - 1] + " грн");
+        return result;
+    }
+
+    /**
+     * Возвращает ключ значения фасета для параметра запроса.
+     *
+     * @param name  Название фасета.
+     * @param value Значение фасета.
+     * @return Значение типа {@link String} - ключ "название фасета:значение".
+     */
+    private static String getKey(final String name, final String value) {
+        return name + KEY_SEPARATOR + value;
+    }
+
+    /**
+     * Возвращает количество товаров, у которых есть параметр,
+     * то есть объединение множеств всех значений параметра.
+     *
+     * @param values Значения параметра.
+     * @return Значение типа int - количество товаров.
+     */
+    private static int coverage(final Map<String, BitSet> values) {
+        final BitSet union = new BitSet();
+        for (BitSet value : values.values()) {
+            union.or(value);
+        }
+        return union.cardinality();
+    }
+
+    /**
+     * Возвращает пересечение выбранных значений всех фасетов, кроме facet.
+     *
+     * @param masks Объединения выбранных значений каждого фасета,
+     *              null - у фасета не выбрано значений.
+     * @param facet Номер фасета, который не учитывается.
+     * @return Объект класса {@link BitSet} или null, если у других
+     * фасетов не выбрано значений.
+     */
+    private static BitSet intersectOthers(final BitSet[] masks, final int facet) {
+        BitSet result = null;
+        for (int i = 0; i < masks.length; i++) {
+            if ((i != facet) && (masks[i] != null)) {
+                if (result == null) {
+                    result = (BitSet) masks[i].clone();
+                } else {
+                    result.and(masks[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает количество общих элементов двух битовых множеств.
+     *
+     * @param first  Первое множество.
+     * @param second Второе множество.
+     * @return Значение типа int - размер пересечения.
+     */
+    private static int countBoth(final BitSet first, final BitSet second) {
+        final BitSet both = (BitSet) first.clone();
+        both.and(second);
+        return both.cardinality();
+    }
+}
@@ -0,0 +1,37 @@
+package ua.com.alexcoffee.facet.interfaces;
+
+import ua.com.alexcoffee.projection.FacetedProducts;
+
+import java.util.Collection;
+
+/**
+ * Интерфейс описывает неизменяемый индекс фасетов товаров одной категории.
+ * Индекс строится один раз по товарам категории и хранится в кеше каталога,
+ * поэтому любое сочетание фильтров обрабатывается в памяти без обращения
+ * к базе данных.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.facet.impl.BitSetFacetIndex
+ * @see FacetedProducts
+ */
+public interface FacetIndex {
+    /**
+     * Возвращает товары, которые подходят под выбранные значения фасетов,
+     * и количество товаров для каждого значения каждого фасета.
+     * Значения одного фасета объединяются по "или", разные фасеты -
+     * по "и". Неизвестные ключи значений игнорируются.
+     *
+     * @param filters Ключи выбранных значений фасетов
+     *                ("название фасета:значение"), null - без фильтра.
+     * @return Объект класса {@link FacetedProducts} - результат фильтрации.
+     */
+    FacetedProducts filter(Collection<String> filters);
+
+    /**
+     * Возвращает количество товаров в индексе.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    int size();
+}
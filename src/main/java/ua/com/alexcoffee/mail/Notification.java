@@ -0,0 +1,210 @@
+package ua.com.alexcoffee.mail;
+
+import ua.com.alexcoffee.enums.NotificationState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Уведомление на электронную почту - тема, текст и список получателей,
+ * которым уведомление отправляется одним сообщением. Уведомление хранит
+ * свое состояние {@link NotificationState}, количество попыток отправки
+ * и последнюю ошибку, состояние меняет диспетчер уведомлений.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see NotificationState
+ * @see ua.com.alexcoffee.mail.interfaces.NotificationDispatcher
+ */
+public final class Notification {
+    /**
+     * Тема сообщения.
+     */
+    private final String subject;
+
+    /**
+     * Текст сообщения.
+     */
+    private final String text;
+
+    /**
+     * Адреса электронной почты получателей.
+     */
+    private final List<String> recipients;
+
+    /**
+     * Момент создания уведомления в наносекундах, для расчета задержки отправки.
+     */
+    private final long createdAt = System.nanoTime();
+
+    /**
+     * Счетчик, который освобождается, когда уведомление отправлено
+     * или окончательно не отправлено.
+     */
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /**
+     * Состояние уведомления.
+     */
+    private volatile NotificationState state = NotificationState.QUEUED;
+
+    /**
+     * Количество попыток отправки.
+     */
+    private volatile int attempts;
+
+    /**
+     * Последняя ошибка отправки.
+     */
+    private volatile Exception lastError;
+
+    /**
+     * Конструктор для инициализации уведомления.
+     *
+     * @param subject    Тема сообщения.
+     * @param text       Текст сообщения.
+     * @param recipients Адреса электронной почты получателей.
+     */
+    public Notification(final String subject, final String text, final List<String> recipients) {
+        this.subject = subject;
+        this.text = text;
+        this.recipients = Collections.unmodifiableList(new ArrayList<>(recipients));
+    }
+
+    /**
+     * Возвращает тему сообщения.
+     *
+     * @return Значение типа {@link String} - тема сообщения.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Возвращает текст сообщения.
+     *
+     * @return Значение типа {@link String} - текст сообщения.
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Возвращает адреса получателей.
+     *
+     * @return Объект типа {@link List} - адреса только для чтения.
+     */
+    public List<String> getRecipients() {
+        return this.recipients;
+    }
+
+    /**
+     * Возвращает состояние уведомления.
+     *
+     * @return Объект перечисления {@link NotificationState} - состояние.
+     */
+    public NotificationState getState() {
+        return this.state;
+    }
+
+    /**
+     * Возвращает количество попыток отправки.
+     *
+     * @return Значение типа int - количество попыток.
+     */
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    /**
+     * Возвращает последнюю ошибку отправки.
+     *
+     * @return Объект класса {@link Exception} - ошибка или null.
+     */
+    public Exception getLastError() {
+        return this.lastError;
+    }
+
+    /**
+     * Возвращает время в миллисекундах, прошедшее с момента создания уведомления.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    public long getAge() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.createdAt);
+    }
+
+    /**
+     * Проверяет, завершена ли обработка уведомления (отправлено или нет).
+     *
+     * @return Значение типа boolean - true, если обработка завершена.
+     */
+    public boolean isDone() {
+        return this.done.getCount() == 0;
+    }
+
+    /**
+     * Ожидает завершения обработки уведомления не дольше timeout.
+     *
+     * @param timeout Максимальное время ожидания.
+     * @param unit    Единица измерения времени ожидания.
+     * @return Значение типа boolean - true, если обработка завершена.
+     * @throws InterruptedException Бросает исключение, если поток прерван.
+     */
+    public boolean await(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return this.done.await(timeout, unit);
+    }
+
+    /**
+     * Отмечает начало очередной попытки отправки.
+     */
+    public void markSending() {
+        this.attempts++;
+        this.state = NotificationState.SENDING;
+    }
+
+    /**
+     * Отмечает неудачную попытку, после которой будет повторная.
+     *
+     * @param error Ошибка отправки.
+     */
+    public void markRetrying(final Exception error) {
+        this.lastError = error;
+        this.state = NotificationState.RETRYING;
+    }
+
+    /**
+     * Отмечает успешную отправку уведомления.
+     */
+    public void markSent() {
+        this.state = NotificationState.SENT;
+        this.done.countDown();
+    }
+
+    /**
+     * Отмечает, что уведомление окончательно не отправлено.
+     *
+     * @param error Последняя ошибка отправки.
+     */
+    public void markFailed(final Exception error) {
+        this.lastError = error;
+        this.state = NotificationState.FAILED;
+        this.done.countDown();
+    }
+
+    /**
+     * Возвращает описание уведомления.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - тема, состояние и количество попыток.
+     */
+    @Override
+    public String toString() {
+        return "Notification \"" + this.subject + "\": " + this.state
+                + ", attempts = " + this.attempts
+                + ", recipients = " + this.recipients.size();
+    }
+}
@@ -0,0 +1,151 @@
+package ua.com.alexcoffee.mail.impl;
+
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.mail.interfaces.MailClient;
+
+import javax.mail.Authenticator;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import javax.mail.internet.MimeUtility;
+import java.io.UnsupportedEncodingException;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Класс реализует методы интерфейса {@link MailClient} с помощью javax.mail.
+ * Сессия и SMTP соединение создаются один раз в конструкторе и используются
+ * для всех сообщений, пока соединение не будет закрыто. Каждое уведомление
+ * отправляется одним сообщением сразу всем получателям. Получатели указываются
+ * в скрытой копии (BCC), а в поле "Кому" - адрес отправителя, поэтому
+ * получатели не видят адреса друг друга.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MailClient
+ */
+public final class JavaMailClient implements MailClient {
+    /**
+     * Стандартная кодировка сообщений.
+     */
+    private static final String CHARSET = "UTF-8";
+
+    /**
+     * Способ кодирования темы сообщения.
+     */
+    private static final String ENCODING = "Q";
+
+    /**
+     * Почтовая сессия.
+     */
+    private final Session session;
+
+    /**
+     * Открытое SMTP соединение.
+     */
+    private final Transport transport;
+
+    /**
+     * Адрес отправителя сообщений.
+     */
+    private final InternetAddress from;
+
+    /**
+     * Конструктор открывает SMTP соединение с заданными настройками.
+     *
+     * @param properties Настройки почтовой сессии.
+     * @param username   Имя пользователя почтового сервера или null,
+     *                   если авторизация не нужна.
+     * @param password   Пароль пользователя почтового сервера.
+     * @param from       Адрес отправителя сообщений.
+     * @throws MessagingException Бросает исключение, если соединение не удалось открыть.
+     */
+    public JavaMailClient(
+            final Properties properties,
+            final String username,
+            final String password,
+            final String from
+    ) throws MessagingException {
+        this.session = Session.getInstance(
+                properties,
+                (username != null) ? new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        return new PasswordAuthentication(username, password);
+                    }
+                } : null
+        );
+        this.from = new InternetAddress(from);
+        this.transport = this.session.getTransport("smtp");
+        this.transport.connect();
+    }
+
+    /**
+     * Отправляет уведомление всем его получателям одним сообщением
+     * через уже открытое соединение. Получатели указываются в скрытой
+     * копии, а письмо доставляется только им, без копии отправителю.
+     *
+     * @param notification Уведомление для отправки.
+     * @throws MessagingException Бросает исключение при ошибке отправки.
+     */
+    @Override
+    public void send(final Notification notification) throws MessagingException {
+        final Message message = new MimeMessage(this.session);
+        final InternetAddress[] recipients = getAddresses(notification.getRecipients());
+        message.setFrom(this.from);
+        message.setRecipient(Message.RecipientType.TO, this.from);
+        message.setRecipients(Message.RecipientType.BCC, recipients);
+        try {
+            message.setSubject(MimeUtility.encodeText(notification.getSubject(), CHARSET, ENCODING));
+        } catch (UnsupportedEncodingException ex) {
+            throw new MessagingException(ex.getMessage(), ex);
+        }
+        message.setContent(notification.getText(), "text/plain;charset=" + CHARSET);
+        message.setSentDate(new Date());
+        message.saveChanges();
+        this.transport.sendMessage(message, recipients);
+    }
+
+    /**
+     * Проверяет, открыто ли SMTP соединение.
+     *
+     * @return Значение типа boolean - true, если соединение открыто.
+     */
+    @Override
+    public boolean isConnected() {
+        return this.transport.isConnected();
+    }
+
+    /**
+     * Закрывает SMTP соединение.
+     */
+    @Override
+    public void close() {
+        try {
+            this.transport.close();
+        } catch (MessagingException ignored) {
+            // соединение уже закрыто сервером
+        }
+    }
+
+    /**
+     * Преобразует список адресов в массив адресов javax.mail.
+     *
+     * @param recipients Адреса электронной почты.
+     * @return Массив объектов класса {@link InternetAddress}.
+     * @throws MessagingException Бросает исключение, если адрес некорректный.
+     */
+    private static InternetAddress[] getAddresses(final List<String> recipients)
+            throws MessagingException {
+        final InternetAddress[] addresses = new InternetAddress[recipients.size()];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = new InternetAddress(recipients.get(i));
+        }
+        return addresses;
+    }
+}
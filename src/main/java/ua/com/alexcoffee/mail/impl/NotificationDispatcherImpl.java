@@ -0,0 +1,421 @@
+package ua.com.alexcoffee.mail.impl;
+
+import org.apache.log4j.Logger;
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.mail.interfaces.MailClient;
+import ua.com.alexcoffee.mail.interfaces.MailClientFactory;
+import ua.com.alexcoffee.mail.interfaces.NotificationDispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Класс реализует методы интерфейса {@link NotificationDispatcher}.
+ * Уведомления складываются в ограниченную очередь, из которой их забирает
+ * один выделенный поток. Поток забирает из очереди сразу пачку уведомлений
+ * и отправляет их через одно SMTP соединение, которое остается открытым,
+ * пока в очереди есть уведомления. При ошибке уведомление возвращается
+ * в очередь с экспоненциально растущей задержкой, после исчерпания
+ * попыток считается неотправленным. Если очередь заполнена, отправитель
+ * ждет ограниченное время, после чего уведомление отклоняется.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see NotificationDispatcher
+ * @see MailClientFactory
+ * @see Notification
+ */
+public final class NotificationDispatcherImpl implements NotificationDispatcher {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(NotificationDispatcherImpl.class);
+
+    /**
+     * Максимальный показатель степени задержки повторной попытки.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    /**
+     * Очередь уведомлений, ожидающих отправки.
+     */
+    private final BlockingQueue<Notification> queue;
+
+    /**
+     * Фабрика соединений с почтовым сервером.
+     */
+    private final MailClientFactory clientFactory;
+
+    /**
+     * Максимальное количество уведомлений, отправляемых за один проход.
+     */
+    private final int batchSize;
+
+    /**
+     * Максимальное количество попыток отправки одного уведомления.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Задержка перед первой повторной попыткой в миллисекундах,
+     * перед каждой следующей задержка удваивается.
+     */
+    private final long backoff;
+
+    /**
+     * Максимальное время ожидания места в очереди в миллисекундах.
+     */
+    private final long offerTimeout;
+
+    /**
+     * Выделенный поток отправки уведомлений.
+     */
+    private final ExecutorService worker;
+
+    /**
+     * Поток, который возвращает уведомления в очередь после задержки.
+     */
+    private final ScheduledExecutorService retries;
+
+    /**
+     * Признак того, что поток отправки запущен.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Количество отправленных уведомлений.
+     */
+    private final AtomicLong sent = new AtomicLong();
+
+    /**
+     * Количество окончательно не отправленных уведомлений.
+     */
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Количество повторных попыток.
+     */
+    private final AtomicLong retried = new AtomicLong();
+
+    /**
+     * Количество уведомлений, не принятых в очередь.
+     */
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Суммарное время от постановки в очередь до отправки в миллисекундах.
+     */
+    private final AtomicLong totalLatency = new AtomicLong();
+
+    /**
+     * Максимальное время от постановки в очередь до отправки в миллисекундах.
+     */
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации диспетчера.
+     * Поток отправки запускается методом start().
+     *
+     * @param clientFactory Фабрика соединений с почтовым сервером.
+     * @param capacity      Максимальный размер очереди.
+     * @param batchSize     Максимальное количество уведомлений за один проход.
+     * @param maxAttempts   Максимальное количество попыток отправки уведомления.
+     * @param backoff       Задержка перед первой повторной попыткой в миллисекундах.
+     * @param offerTimeout  Максимальное время ожидания места в очереди в миллисекундах.
+     * @throws IllegalArgumentException Бросает исключение, если размеры
+     *                                  или количество попыток не положительные.
+     */
+    public NotificationDispatcherImpl(
+            final MailClientFactory clientFactory,
+            final int capacity,
+            final int batchSize,
+            final int maxAttempts,
+            final long backoff,
+            final long offerTimeout
+    ) throws IllegalArgumentException {
+        if (capacity <= 0 || batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Queue capacity, batch size and attempts must be positive!");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.clientFactory = clientFactory;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.offerTimeout = offerTimeout;
+        this.worker = Executors.newSingleThreadExecutor(createThreadFactory("notification-dispatcher"));
+        this.retries = Executors.newSingleThreadScheduledExecutor(createThreadFactory("notification-retry"));
+    }
+
+    /**
+     * Запускает поток отправки уведомлений. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void start() {
+        if (this.started.compareAndSet(false, true)) {
+            this.worker.execute(this::work);
+        }
+    }
+
+    /**
+     * Останавливает поток отправки и поток повторных попыток.
+     */
+    @Override
+    public void shutdown() {
+        this.worker.shutdownNow();
+        this.retries.shutdownNow();
+    }
+
+    /**
+     * Ставит уведомление в очередь на отправку. Если очередь заполнена,
+     * ожидает освобождения места не дольше offerTimeout.
+     *
+     * @param notification Уведомление для отправки.
+     * @return Значение типа boolean - true, если уведомление поставлено в очередь.
+     */
+    @Override
+    public boolean dispatch(final Notification notification) {
+        boolean accepted;
+        try {
+            accepted = this.queue.offer(notification, this.offerTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            this.rejected.incrementAndGet();
+            LOGGER.warn("Notification queue is full, rejected: " + notification);
+        }
+        return accepted;
+    }
+
+    /**
+     * Возвращает количество уведомлений, ожидающих отправки.
+     *
+     * @return Значение типа int - размер очереди.
+     */
+    @Override
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    /**
+     * Возвращает количество отправленных уведомлений.
+     *
+     * @return Значение типа long - количество отправленных уведомлений.
+     */
+    @Override
+    public long getSentCount() {
+        return this.sent.get();
+    }
+
+    /**
+     * Возвращает количество окончательно не отправленных уведомлений.
+     *
+     * @return Значение типа long - количество неотправленных уведомлений.
+     */
+    @Override
+    public long getFailedCount() {
+        return this.failed.get();
+    }
+
+    /**
+     * Возвращает количество повторных попыток отправки.
+     *
+     * @return Значение типа long - количество повторных попыток.
+     */
+    @Override
+    public long getRetryCount() {
+        return this.retried.get();
+    }
+
+    /**
+     * Возвращает количество уведомлений, не принятых из-за заполненной очереди.
+     *
+     * @return Значение типа long - количество отклоненных уведомлений.
+     */
+    @Override
+    public long getRejectedCount() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Возвращает среднее время от постановки уведомления в очередь до его отправки.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    @Override
+    public long getAverageLatency() {
+        final long count = this.sent.get();
+        return (count > 0) ? this.totalLatency.get() / count : 0;
+    }
+
+    /**
+     * Возвращает максимальное время от постановки уведомления в очередь до его отправки.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    @Override
+    public long getMaxLatency() {
+        return this.maxLatency.get();
+    }
+
+    /**
+     * Возвращает описание диспетчера.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - размер очереди и счетчики.
+     */
+    @Override
+    public String toString() {
+        return "queue = " + getQueueSize()
+                + ", sent = " + getSentCount()
+                + ", failed = " + getFailedCount()
+                + ", retries = " + getRetryCount()
+                + ", rejected = " + getRejectedCount()
+                + ", latency avg/max = " + getAverageLatency() + "/" + getMaxLatency() + " ms";
+    }
+
+    /**
+     * Цикл потока отправки: забирает из очереди пачку уведомлений
+     * и отправляет их. Соединение закрывается, когда очередь пустеет.
+     */
+    private void work() {
+        MailClient client = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<Notification> batch = new ArrayList<>(this.batchSize);
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch, this.batchSize - 1);
+                client = send(batch, client);
+                if (client != null && this.queue.isEmpty()) {
+                    client.close();
+                    client = null;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * Отправляет пачку уведомлений через одно соединение. Если соединение
+     * не удалось открыть, все оставшиеся уведомления пачки уходят
+     * на повторную попытку.
+     *
+     * @param batch  Пачка уведомлений.
+     * @param client Открытое соединение или null.
+     * @return Объект интерфейса {@link MailClient} - открытое соединение или null.
+     */
+    private MailClient send(final List<Notification> batch, final MailClient client) {
+        MailClient current = client;
+        for (int i = 0; i < batch.size(); i++) {
+            final Notification notification = batch.get(i);
+            notification.markSending();
+            try {
+                if (current == null || !current.isConnected()) {
+                    if (current != null) {
+                        current.close();
+                    }
+                    current = this.clientFactory.open();
+                }
+            } catch (Exception ex) {
+                LOGGER.error("Can't connect to mail server: " + ex.getMessage(), ex);
+                retry(notification, ex);
+                for (Notification rest : batch.subList(i + 1, batch.size())) {
+                    rest.markSending();
+                    retry(rest, ex);
+                }
+                return null;
+            }
+            try {
+                current.send(notification);
+                onSent(notification);
+                notification.markSent();
+            } catch (Exception ex) {
+                LOGGER.error("Can't send " + notification + ": " + ex.getMessage(), ex);
+                current.close();
+                current = null;
+                retry(notification, ex);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Обновляет счетчики после успешной отправки уведомления.
+     *
+     * @param notification Отправленное уведомление.
+     */
+    private void onSent(final Notification notification) {
+        final long latency = notification.getAge();
+        this.sent.incrementAndGet();
+        this.totalLatency.addAndGet(latency);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Планирует повторную отправку уведомления с задержкой,
+     * которая удваивается с каждой попыткой. Если попытки исчерпаны
+     * или очередь заполнена, уведомление считается неотправленным.
+     *
+     * @param notification Уведомление, которое не удалось отправить.
+     * @param error        Ошибка отправки.
+     */
+    private void retry(final Notification notification, final Exception error) {
+        if (notification.getAttempts() >= this.maxAttempts) {
+            fail(notification, error);
+            return;
+        }
+        notification.markRetrying(error);
+        this.retried.incrementAndGet();
+        final int shift = Math.min(notification.getAttempts() - 1, MAX_BACKOFF_SHIFT);
+        this.retries.schedule(
+                () -> {
+                    if (!this.queue.offer(notification)) {
+                        fail(notification, error);
+                    }
+                },
+                this.backoff << shift,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Отмечает уведомление как окончательно не отправленное.
+     *
+     * @param notification Уведомление, которое не удалось отправить.
+     * @param error        Последняя ошибка отправки.
+     */
+    private void fail(final Notification notification, final Exception error) {
+        this.failed.incrementAndGet();
+        notification.markFailed(error);
+        LOGGER.error("Notification failed after " + notification.getAttempts() + " attempts: " + notification);
+    }
+
+    /**
+     * Создает фабрику потоков-демонов с заданным именем.
+     *
+     * @param name Имя потока.
+     * @return Объект интерфейса {@link ThreadFactory} - фабрика потоков.
+     */
+    private static ThreadFactory createThreadFactory(final String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package ua.com.alexcoffee.mail.interfaces;
+
+import ua.com.alexcoffee.mail.Notification;
+
+import javax.mail.MessagingException;
+
+/**
+ * Интерфейс описывает соединение с почтовым сервером, через которое
+ * последовательно отправляется несколько уведомлений. Соединение
+ * открывается один раз и переиспользуется, пока его не закроют.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MailClientFactory
+ * @see ua.com.alexcoffee.mail.impl.JavaMailClient
+ */
+public interface MailClient extends AutoCloseable {
+    /**
+     * Отправляет уведомление всем его получателям одним сообщением.
+     *
+     * @param notification Уведомление для отправки.
+     * @throws MessagingException Бросает исключение при ошибке отправки.
+     */
+    void send(Notification notification) throws MessagingException;
+
+    /**
+     * Проверяет, открыто ли соединение с почтовым сервером.
+     *
+     * @return Значение типа boolean - true, если соединение открыто.
+     */
+    boolean isConnected();
+
+    /**
+     * Закрывает соединение с почтовым сервером, ошибки закрытия не пробрасываются.
+     */
+    @Override
+    void close();
+}
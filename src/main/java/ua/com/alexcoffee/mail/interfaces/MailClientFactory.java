@@ -0,0 +1,21 @@
+package ua.com.alexcoffee.mail.interfaces;
+
+import javax.mail.MessagingException;
+
+/**
+ * Интерфейс описывает фабрику соединений с почтовым сервером.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MailClient
+ */
+@FunctionalInterface
+public interface MailClientFactory {
+    /**
+     * Открывает новое соединение с почтовым сервером.
+     *
+     * @return Объект интерфейса {@link MailClient} - открытое соединение.
+     * @throws MessagingException Бросает исключение, если соединение не удалось открыть.
+     */
+    MailClient open() throws MessagingException;
+}
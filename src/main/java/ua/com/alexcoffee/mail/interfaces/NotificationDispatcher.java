@@ -0,0 +1,87 @@
+package ua.com.alexcoffee.mail.interfaces;
+
+import ua.com.alexcoffee.mail.Notification;
+
+/**
+ * Интерфейс описывает диспетчер уведомлений на электронную почту -
+ * ограниченную очередь уведомлений, которые отправляются в отдельном
+ * потоке с повторными попытками при ошибках.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Notification
+ * @see ua.com.alexcoffee.mail.impl.NotificationDispatcherImpl
+ */
+public interface NotificationDispatcher {
+    /**
+     * Запускает поток отправки уведомлений.
+     */
+    void start();
+
+    /**
+     * Останавливает поток отправки уведомлений. Уведомления,
+     * оставшиеся в очереди, не отправляются.
+     */
+    void shutdown();
+
+    /**
+     * Ставит уведомление в очередь на отправку. Если очередь заполнена,
+     * ожидает освобождения места ограниченное время.
+     *
+     * @param notification Уведомление для отправки.
+     * @return Значение типа boolean - true, если уведомление поставлено
+     * в очередь, false - если очередь заполнена.
+     */
+    boolean dispatch(Notification notification);
+
+    /**
+     * Возвращает количество уведомлений, ожидающих отправки.
+     *
+     * @return Значение типа int - размер очереди.
+     */
+    int getQueueSize();
+
+    /**
+     * Возвращает количество отправленных уведомлений.
+     *
+     * @return Значение типа long - количество отправленных уведомлений.
+     */
+    long getSentCount();
+
+    /**
+     * Возвращает количество окончательно не отправленных уведомлений.
+     *
+     * @return Значение типа long - количество неотправленных уведомлений.
+     */
+    long getFailedCount();
+
+    /**
+     * Возвращает количество повторных попыток отправки.
+     *
+     * @return Значение типа long - количество повторных попыток.
+     */
+    long getRetryCount();
+
+    /**
+     * Возвращает количество уведомлений, не принятых из-за заполненной очереди.
+     *
+     * @return Значение типа long - количество отклоненных уведомлений.
+     */
+    long getRejectedCount();
+
+    /**
+     * Возвращает среднее время от постановки уведомления
+     * в очередь до его отправки.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    long getAverageLatency();
+
+    /**
+     * Возвращает максимальное время от постановки уведомления
+     * в очередь до его отправки.
+     *
+     * @return Значение типа long - время в миллисекундах.
+     */
+    long getMaxLatency();
+}
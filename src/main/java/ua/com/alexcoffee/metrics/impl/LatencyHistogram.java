@@ -0,0 +1,240 @@
+package ua.com.alexcoffee.metrics.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс накапливает показатели одного метода: количество вызовов,
+ * количество ошибок и гистограмму времени выполнения в микросекундах.
+ * Гистограмма лог-линейная: значения до 16 мкс хранятся точно, дальше
+ * каждая степень двойки делится на 8 интервалов, поэтому погрешность
+ * перцентиля не больше 12,5%. Запись не берет блокировок и не создает
+ * объектов - увеличивает счетчик интервала в {@link AtomicLongArray}
+ * и счетчики {@link LongAdder}, которые не упираются в один CAS при
+ * одновременных вызовах из многих потоков. Значения накапливаются
+ * с момента старта приложения.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MethodMetricsImpl
+ */
+public final class LatencyHistogram {
+    /**
+     * Количество бит номера интервала внутри степени двойки.
+     */
+    private static final int SUB_BITS = 3;
+
+    /**
+     * Количество интервалов внутри степени двойки.
+     */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * Значения меньше этого хранятся точно, каждое в своем интервале.
+     */
+    private static final int LINEAR_COUNT = SUB_COUNT * 2;
+
+    /**
+     * Показатель старшей степени двойки, для которой есть интервалы,
+     * 2^41 мкс - больше 25 суток. Большие значения попадают в последний интервал.
+     */
+    private static final int MAX_EXPONENT = 40;
+
+    /**
+     * Показатель степени двойки, с которой начинаются лог-линейные интервалы.
+     */
+    private static final int MIN_EXPONENT = SUB_BITS + 1;
+
+    /**
+     * Количество интервалов гистограммы.
+     */
+    static final int BUCKET_COUNT = LINEAR_COUNT + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_COUNT;
+
+    /**
+     * Слой приложения: controller, service или dao.
+     */
+    private final String layer;
+
+    /**
+     * Имя метода вида Класс.метод.
+     */
+    private final String name;
+
+    /**
+     * Количество значений в каждом интервале.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Количество вызовов.
+     */
+    private final LongAdder calls = new LongAdder();
+
+    /**
+     * Количество вызовов, завершившихся исключением.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Суммарное время выполнения в микросекундах.
+     */
+    private final LongAdder totalTime = new LongAdder();
+
+    /**
+     * Максимальное время выполнения в микросекундах.
+     */
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации гистограммы метода.
+     *
+     * @param layer Слой приложения.
+     * @param name  Имя метода.
+     */
+    public LatencyHistogram(final String layer, final String name) {
+        this.layer = layer;
+        this.name = name;
+    }
+
+    /**
+     * Учитывает вызов метода.
+     *
+     * @param nanos  Время выполнения в наносекундах.
+     * @param failed Завершился ли вызов исключением.
+     */
+    public void record(final long nanos, final boolean failed) {
+        final long time = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+        this.buckets.incrementAndGet(getIndex(time));
+        this.calls.increment();
+        this.totalTime.add(time);
+        if (failed) {
+            this.errors.increment();
+        }
+        long max = this.maxTime.get();
+        while (time > max && !this.maxTime.compareAndSet(max, time)) {
+            max = this.maxTime.get();
+        }
+    }
+
+    /**
+     * Возвращает перцентили времени выполнения по одному снимку
+     * гистограммы. Перцентиль - верхняя граница интервала, в который
+     * он попал, но не больше максимального времени.
+     *
+     * @param quantiles Доли от 0 до 1, например 0.5, 0.95, 0.99.
+     * @return Массив типа long - перцентили в микросекундах,
+     * нули, если вызовов еще не было.
+     */
+    public long[] getPercentiles(final double... quantiles) {
+        final long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        final long max = this.maxTime.get();
+        final long[] percentiles = new long[quantiles.length];
+        if (total == 0) {
+            return percentiles;
+        }
+        for (int i = 0; i < quantiles.length; i++) {
+            final long rank = Math.max((long) Math.ceil(quantiles[i] * total), 1);
+            long seen = 0;
+            int index = 0;
+            while (index < BUCKET_COUNT - 1 && (seen += counts[index]) < rank) {
+                index++;
+            }
+            percentiles[i] = Math.min(getUpperBound(index), max);
+        }
+        return percentiles;
+    }
+
+    /**
+     * Возвращает слой приложения.
+     *
+     * @return Значение типа {@link String} - controller, service или dao.
+     */
+    public String getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * Возвращает имя метода.
+     *
+     * @return Значение типа {@link String} - имя вида Класс.метод.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает количество вызовов.
+     *
+     * @return Значение типа long - количество вызовов.
+     */
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    /**
+     * Возвращает количество вызовов, завершившихся исключением.
+     *
+     * @return Значение типа long - количество ошибок.
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Возвращает суммарное время выполнения.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    public long getTotalTime() {
+        return this.totalTime.sum();
+    }
+
+    /**
+     * Возвращает максимальное время выполнения.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    public long getMaxTime() {
+        return this.maxTime.get();
+    }
+
+    /**
+     * Возвращает номер интервала для значения.
+     *
+     * @param value Значение в микросекундах.
+     * @return Значение типа int - номер интервала.
+     */
+    static int getIndex(final long value) {
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return LINEAR_COUNT + (exponent - MIN_EXPONENT) * SUB_COUNT + sub;
+    }
+
+    /**
+     * Возвращает наибольшее значение, которое попадает в интервал.
+     *
+     * @param index Номер интервала.
+     * @return Значение типа long - верхняя граница интервала в микросекундах.
+     */
+    static long getUpperBound(final int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        final int exponent = (index - LINEAR_COUNT) / SUB_COUNT + MIN_EXPONENT;
+        final int sub = (index - LINEAR_COUNT) % SUB_COUNT;
+        return ((long) (SUB_COUNT + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,220 @@
+package ua.com.alexcoffee.metrics.impl;
+
+import org.springframework.stereotype.Component;
+import ua.com.alexcoffee.metrics.interfaces.MethodMetrics;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Класс реализует методы интерфейса {@link MethodMetrics}.
+ * Для каждого метода хранится своя {@link LatencyHistogram}. Гистограмма
+ * ищется по классу и методу без создания объектов-ключей, новая
+ * создается только при первом вызове метода.
+ * Помечен аннотацией @Component - класс является компонентом
+ * фреймворка Spring.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MethodMetrics
+ * @see LatencyHistogram
+ */
+@Component
+public final class MethodMetricsImpl implements MethodMetrics {
+    /**
+     * Префикс имен показателей.
+     */
+    private static final String PREFIX = "alexcoffee_method_";
+
+    /**
+     * Доли, для которых выводятся перцентили.
+     */
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    /**
+     * Подписи перцентилей в выводе.
+     */
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.95", "0.99"};
+
+    /**
+     * Слои приложения, которые определяются по пакету класса.
+     */
+    private static final String[] LAYERS = {"controller", "service", "dao"};
+
+    /**
+     * Гистограммы методов по классу объекта и методу.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, LatencyHistogram>> types =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Гистограммы по имени метода, перегруженные методы делят одну гистограмму.
+     */
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Учитывает вызов метода.
+     *
+     * @param type   Класс объекта, у которого вызван метод.
+     * @param method Вызванный метод.
+     * @param nanos  Время выполнения метода в наносекундах.
+     * @param failed Завершился ли вызов исключением.
+     */
+    @Override
+    public void record(
+            final Class<?> type,
+            final Method method,
+            final long nanos,
+            final boolean failed
+    ) {
+        ConcurrentMap<Method, LatencyHistogram> methods = this.types.get(type);
+        if (methods == null) {
+            methods = this.types.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = methods.get(method);
+        if (histogram == null) {
+            histogram = methods.computeIfAbsent(method, key -> create(type, key));
+        }
+        histogram.record(nanos, failed);
+    }
+
+    /**
+     * Возвращает показатели всех вызванных методов в текстовом формате
+     * Prometheus: счетчики вызовов и ошибок, перцентили, сумму
+     * и максимум времени выполнения в секундах.
+     *
+     * @return Значение типа {@link String} - показатели методов.
+     */
+    @Override
+    public String toText() {
+        final Map<String, LatencyHistogram> sorted = new TreeMap<>(this.histograms);
+        final StringBuilder text = new StringBuilder();
+        appendFamily(text, "calls_total", "counter", "Method calls.", sorted,
+                histogram -> Long.toString(histogram.getCalls()));
+        appendFamily(text, "errors_total", "counter", "Method calls that threw an exception.", sorted,
+                histogram -> Long.toString(histogram.getErrors()));
+        appendHeader(text, "duration_seconds", "summary", "Method execution time.");
+        for (LatencyHistogram histogram : sorted.values()) {
+            final long[] percentiles = histogram.getPercentiles(QUANTILES);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                appendSample(text, "duration_seconds", histogram, ",quantile=\"" + QUANTILE_LABELS[i] + "\"",
+                        toSeconds(percentiles[i]));
+            }
+            appendSample(text, "duration_seconds_sum", histogram, "", toSeconds(histogram.getTotalTime()));
+            appendSample(text, "duration_seconds_count", histogram, "", Long.toString(histogram.getCalls()));
+        }
+        appendFamily(text, "duration_max_seconds", "gauge", "Maximum method execution time.", sorted,
+                histogram -> toSeconds(histogram.getMaxTime()));
+        return text.toString();
+    }
+
+    /**
+     * Создает гистограмму метода или возвращает уже созданную
+     * для метода с тем же именем.
+     *
+     * @param type   Класс объекта.
+     * @param method Метод.
+     * @return Объект класса {@link LatencyHistogram}.
+     */
+    private LatencyHistogram create(final Class<?> type, final Method method) {
+        return this.histograms.computeIfAbsent(
+                type.getSimpleName() + "." + method.getName(),
+                name -> new LatencyHistogram(getLayer(type), name)
+        );
+    }
+
+    /**
+     * Определяет слой приложения по пакету класса.
+     *
+     * @param type Класс объекта.
+     * @return Значение типа {@link String} - controller, service, dao или other.
+     */
+    static String getLayer(final Class<?> type) {
+        final String name = type.getName();
+        for (String layer : LAYERS) {
+            if (name.contains("." + layer + ".")) {
+                return layer;
+            }
+        }
+        return "other";
+    }
+
+    /**
+     * Дописывает семейство показателей, у каждого метода одно значение.
+     *
+     * @param text        Вывод.
+     * @param family      Имя семейства без префикса.
+     * @param type        Тип показателя.
+     * @param help        Описание показателя.
+     * @param histograms  Гистограммы методов.
+     * @param valueGetter Значение показателя гистограммы.
+     */
+    private static void appendFamily(
+            final StringBuilder text,
+            final String family,
+            final String type,
+            final String help,
+            final Map<String, LatencyHistogram> histograms,
+            final Function<LatencyHistogram, String> valueGetter
+    ) {
+        appendHeader(text, family, type, help);
+        for (LatencyHistogram histogram : histograms.values()) {
+            appendSample(text, family, histogram, "", valueGetter.apply(histogram));
+        }
+    }
+
+    /**
+     * Дописывает описание и тип семейства показателей.
+     *
+     * @param text   Вывод.
+     * @param family Имя семейства без префикса.
+     * @param type   Тип показателя.
+     * @param help   Описание показателя.
+     */
+    private static void appendHeader(
+            final StringBuilder text,
+            final String family,
+            final String type,
+            final String help
+    ) {
+        text.append("# HELP ").append(PREFIX).append(family).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(PREFIX).append(family).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Дописывает значение показателя метода.
+     *
+     * @param text      Вывод.
+     * @param name      Имя показателя без префикса.
+     * @param histogram Гистограмма метода.
+     * @param labels    Дополнительные метки, начиная с запятой.
+     * @param value     Значение показателя.
+     */
+    private static void appendSample(
+            final StringBuilder text,
+            final String name,
+            final LatencyHistogram histogram,
+            final String labels,
+            final String value
+    ) {
+        text.append(PREFIX).append(name)
+                .append("{layer=\"").append(histogram.getLayer())
+                .append("\",method=\"").append(histogram.getName()).append('"')
+                .append(labels).append("} ").append(value).append('\n');
+    }
+
+    /**
+     * Переводит микросекунды в секунды.
+     *
+     * @param micros Время в микросекундах.
+     * @return Значение типа {@link String} - время в секундах.
+     */
+    private static String toSeconds(final long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+}
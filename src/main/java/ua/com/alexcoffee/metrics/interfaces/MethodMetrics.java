@@ -0,0 +1,36 @@
+package ua.com.alexcoffee.metrics.interfaces;
+
+import java.lang.reflect.Method;
+
+/**
+ * Интерфейс описывает показатели методов контроллеров, сервисов
+ * и DAO: количество вызовов, количество вызовов, завершившихся
+ * исключением, и распределение времени выполнения (p50/p95/p99).
+ * По этим показателям видно, на что уходит время оформления
+ * заказа и отображения каталога.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.metrics.impl.MethodMetricsImpl
+ * @see ua.com.alexcoffee.aspect.MetricsAspect
+ */
+public interface MethodMetrics {
+    /**
+     * Учитывает вызов метода. Показатели ведутся по классу
+     * объекта и имени метода, перегруженные методы учитываются вместе.
+     *
+     * @param type   Класс объекта, у которого вызван метод.
+     * @param method Вызванный метод.
+     * @param nanos  Время выполнения метода в наносекундах.
+     * @param failed Завершился ли вызов исключением.
+     */
+    void record(Class<?> type, Method method, long nanos, boolean failed);
+
+    /**
+     * Возвращает показатели всех вызванных методов в текстовом формате
+     * Prometheus (text exposition format 0.0.4).
+     *
+     * @return Значение типа {@link String} - показатели методов.
+     */
+    String toText();
+}
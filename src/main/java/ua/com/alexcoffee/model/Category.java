@@ -1,5 +1,8 @@
 package ua.com.alexcoffee.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +17,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  * обрабатываться hibernate.
  * Аннотация @Table(name = "categories") указывает на таблицу "categories",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache - категории хранятся во втором уровне
+ * кеша Hibernate, так как меняются редко.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -22,6 +27,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public final class Category extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
@@ -117,18 +124,31 @@ public final class Category extends Model {
     }
 
     /**
-     * Генерирует строку для конечного сравнения категорий в методе equals() родительского
-     * класса. Переопределенный метод родительского класса {@link Model}.
+     * Сравнивает категорию с категорией по URL, который уникален.
+     * Категории без URL сравниваются по коду.
+     * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} - название + URL категории.
+     * @param other Категория для сравнения.
+     * @return Значение типа boolean - результат сравнения.
      */
     @Override
-    public String toEquals() {
-        if (isBlank(this.title) || isBlank(this.url)) {
-            return super.toString();
-        } else {
-            return getTitle() + getUrl();
+    protected boolean equalsByKey(final Model other) {
+        final String otherUrl = ((Category) other).getUrl();
+        if (isBlank(this.url)) {
+            return isBlank(otherUrl) && super.equalsByKey(other);
         }
+        return this.url.equals(otherUrl);
+    }
+
+    /**
+     * Возвращает хеш код URL категории.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код категории.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return isBlank(this.url) ? super.hashCodeByKey() : this.url.hashCode();
     }
 
     /**
@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.model;
 
+import org.hibernate.Hibernate;
+
 import javax.persistence.*;
 import java.io.Serializable;
 import java.text.DateFormat;
@@ -17,6 +19,7 @@ import java.util.*;
  * @version 1.2
  * @see Category
  * @see Order
+ * @see OutboxMessage
  * @see Photo
  * @see Product
  * @see Role
@@ -64,6 +67,11 @@ public abstract class Model implements Serializable {
 
     /**
      * Сравнивает текущий объект с объектом переданым как параметр.
+     * Объекты разных классов не равны, объекты одного класса сравниваются
+     * методом equalsByKey() - по натуральному ключу или по коду.
+     * Класс определяется методом Hibernate.getClass(), поэтому ленивый
+     * прокси Hibernate равен загруженному объекту той же сущности.
+     * Сравнение не создает новых объектов.
      * Переопределенный метод родительского класса {@link Object}.
      *
      * @param obj объект для сравнения с текущим объектом.
@@ -71,41 +79,57 @@ public abstract class Model implements Serializable {
      * с переданным объектом.
      */
     @Override
-    public boolean equals(Object obj) {
-        if (obj == null) {
-            return false;
-        }
+    public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
-        if (!(obj instanceof Model)) {
+        if ((obj == null) || (Hibernate.getClass(this) != Hibernate.getClass(obj))) {
             return false;
         }
-        final Model other = (Model) obj;
-        return (this.toEquals().equals(other.toEquals()));
+        return equalsByKey((Model) obj);
     }
 
     /**
-     * Возвращает хеш код объекта.
+     * Возвращает хеш код объекта, согласованный с методом equals().
      * Переопределенный метод родительского класса {@link Object}.
      *
-     * @return Значение типа int - уникальный номер объекта.
+     * @return Значение типа int - хеш код объекта.
      */
     @Override
     public int hashCode() {
-        return this.id != null ? this.id.hashCode() : toString().hashCode();
+        return hashCodeByKey();
     }
 
     /**
-     * Генерирует строку для конечного сравнения объектов в методе equals().
+     * Сравнивает текущий объект с объектом того же класса.
+     * По-умолчанию объекты равны, если у них одинаковый код,
+     * новые объекты без кода равны только сами себе.
      * Что бы в дочернем классе не переопределять весь метод equals(),
-     * можно переопределить тьлько этот метод.
+     * можно переопределить только этот метод и метод hashCodeByKey().
+     * Поля объекта other читаются через геттеры: other может быть
+     * прокси Hibernate, поля которого не инициализированы.
+     *
+     * @param other Объект того же класса, что и текущий.
+     * @return Значение типа boolean - результат сравнения.
+     */
+    protected boolean equalsByKey(final Model other) {
+        return (this.id != null) && this.id.equals(other.getId());
+    }
+
+    /**
+     * Возвращает хеш код объекта для метода hashCode().
+     * Дочерние классы возвращают хеш код натурального ключа, а этот метод
+     * используется для объектов без ключа. Хеш код зависит только от класса
+     * объекта: код присваивается при сохранении объекта в базе данных,
+     * и хеш код по коду изменился бы у объекта, уже лежащего в HashSet или
+     * в ключах HashMap. Объекты без натурального ключа (например,
+     * {@link OutboxMessage}) не хранятся в хеш-коллекциях, сервисы
+     * индексируют их по коду, поэтому общий хеш код не замедляет поиск.
      *
-     * @return Значение типа {@link String} -
-     * результат работы метода toString().
+     * @return Значение типа int - хеш код объекта.
      */
-    public String toEquals() {
-        return toString();
+    protected int hashCodeByKey() {
+        return Hibernate.getClass(this).hashCode();
     }
 
     /**
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
@@ -13,6 +14,10 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  * который обработал заказ. Аннотация @Entity говорит о том что объекты
  * этого класса будет обрабатываться hibernate. Аннотация @Table(name = "orders")
  * указывает на таблицу "orders", в которой будут храниться объекты.
+ * Торговые позиции загружаются при первом доступе к ним. Именованные графы
+ * сущности задают, что загружается одним запросом: "Order.list" - статус,
+ * клиент и менеджер для списка заказов, "Order.detail" - дополнительно
+ * торговые позиции с товарами для страницы заказа.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -22,12 +27,54 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "orders")
+@NamedEntityGraphs({
+        @NamedEntityGraph(
+                name = Order.LIST_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("status"),
+                        @NamedAttributeNode("client"),
+                        @NamedAttributeNode("manager")
+                }
+        ),
+        @NamedEntityGraph(
+                name = Order.DETAIL_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("status"),
+                        @NamedAttributeNode("client"),
+                        @NamedAttributeNode("manager"),
+                        @NamedAttributeNode(value = "salePositions", subgraph = "salePositions")
+                },
+                subgraphs = {
+                        @NamedSubgraph(
+                                name = "salePositions",
+                                attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product")
+                        ),
+                        @NamedSubgraph(
+                                name = "product",
+                                attributeNodes = {
+                                        @NamedAttributeNode("category"),
+                                        @NamedAttributeNode("photo")
+                                }
+                        )
+                }
+        )
+})
 public final class Order extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Граф сущности для списка заказов.
+     */
+    public static final String LIST_GRAPH = "Order.list";
+
+    /**
+     * Граф сущности для страницы заказа.
+     */
+    public static final String DETAIL_GRAPH = "Order.detail";
+
     /**
      * Номер заказа. Значение поля сохраняется
      * в колонке "number". Не может быть null.
@@ -118,11 +165,11 @@ public final class Order extends Model {
     /**
      * Список торговых позиция текущего заказу. К текущему заказу можно добраться через
      * поле "order" в объекте класса {@link SalePosition}. Выборка продаж при первом
-     * доступе к текущему объекту. Сущности связаны полностью каскадным
-     * обновлением записей в базе данных.
+     * доступе к ним или вместе с заказом по графу {@value DETAIL_GRAPH}.
+     * Сущности связаны полностью каскадным обновлением записей в базе данных.
      */
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             mappedBy = "order",
             cascade = CascadeType.ALL
     )
@@ -227,14 +274,31 @@ public final class Order extends Model {
     }
 
     /**
-     * Генерирует строку для конечного сравнения заказа в методе equals()
-     * родительского класса. Переопределенный метод родительского класса {@link Model}.
+     * Сравнивает заказ с заказом по номеру, который уникален.
+     * Заказы без номера сравниваются по коду.
+     * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} - номер заказа.
+     * @param other Заказ для сравнения.
+     * @return Значение типа boolean - результат сравнения.
+     */
+    @Override
+    protected boolean equalsByKey(final Model other) {
+        final String otherNumber = ((Order) other).getNumber();
+        if (isBlank(this.number)) {
+            return isBlank(otherNumber) && super.equalsByKey(other);
+        }
+        return this.number.equals(otherNumber);
+    }
+
+    /**
+     * Возвращает хеш код номера заказа.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код заказа.
      */
     @Override
-    public String toEquals() {
-        return getNumber();
+    protected int hashCodeByKey() {
+        return isBlank(this.number) ? super.hashCodeByKey() : this.number.hashCode();
     }
 
     /**
@@ -0,0 +1,221 @@
+package ua.com.alexcoffee.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.util.Date;
+
+/**
+ * Класс описывает сущность "Сообщение исходящей очереди" (outbox), наследует
+ * класс {@link Model}. Сообщение сохраняется в той же транзакции, что и заказ,
+ * о котором оно уведомляет, поэтому уведомление не теряется при падении после
+ * коммита и не отправляется, если транзакция откатилась. Отправкой сообщений
+ * занимается {@link ua.com.alexcoffee.service.interfaces.OutboxService}.
+ * Аннотация @Table(name = "outbox") указывает на таблицу "outbox",
+ * в которой будут храниться объекты.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ * @see ua.com.alexcoffee.service.interfaces.OutboxService
+ */
+@Entity
+@Table(name = "outbox")
+public final class OutboxMessage extends Model {
+    /**
+     * Номер версии класса необходимый для десериализации и сериализации.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Начало темы уведомления о новом заказе.
+     */
+    private static final String NEW_ORDER_SUBJECT = "AlexCoffee || New Order ";
+
+    /**
+     * Тема сообщения.
+     * Значение поля сохраняется в колонке "subject". Не может быть null.
+     */
+    @Column(
+            name = "subject",
+            nullable = false
+    )
+    private String subject;
+
+    /**
+     * Текст сообщения.
+     * Значение поля сохраняется в колонке "text". Не может быть null.
+     */
+    @Column(
+            name = "text",
+            nullable = false,
+            columnDefinition = "TEXT"
+    )
+    private String text;
+
+    /**
+     * Дата создания сообщения.
+     * Значение поля сохраняется в колонке "created". Не может быть null.
+     */
+    @Column(
+            name = "created",
+            nullable = false
+    )
+    private Date created;
+
+    /**
+     * Количество неудачных попыток отправки сообщения.
+     * Значение поля сохраняется в колонке "attempts".
+     */
+    @Column(
+            name = "attempts",
+            nullable = false
+    )
+    private int attempts;
+
+    /**
+     * Время, до которого сообщение захвачено одним из экземпляров
+     * приложения для отправки, null - сообщение свободно.
+     * Значение поля сохраняется в колонке "locked_until".
+     */
+    @Column(name = "locked_until")
+    private Date lockedUntil;
+
+    /**
+     * Конструктр без параметров.
+     */
+    public OutboxMessage() {
+        this("", "");
+    }
+
+    /**
+     * Конструктор для инициализации основных переменных сообщения.
+     *
+     * @param subject Тема сообщения.
+     * @param text    Текст сообщения.
+     */
+    public OutboxMessage(final String subject, final String text) {
+        super();
+        this.subject = subject;
+        this.text = text;
+        this.created = new Date();
+    }
+
+    /**
+     * Конструктор для инициализации уведомления менеджеров о новом заказе.
+     *
+     * @param order Новый заказ.
+     */
+    public OutboxMessage(final Order order) {
+        this(NEW_ORDER_SUBJECT + order.getNumber(), order.toString());
+    }
+
+    /**
+     * Возвращает описание сообщения.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - тема и количество попыток.
+     */
+    @Override
+    public String toString() {
+        return "Outbox message \"" + this.subject + "\", attempts = " + this.attempts;
+    }
+
+    /**
+     * Отмечает очередную неудачную попытку отправки сообщения.
+     */
+    public void addAttempt() {
+        this.attempts++;
+    }
+
+    /**
+     * Возвращает тему сообщения.
+     *
+     * @return Значение типа {@link String} - тема сообщения.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Устанавливает тему сообщения.
+     *
+     * @param subject Тема сообщения.
+     */
+    public void setSubject(final String subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * Возвращает текст сообщения.
+     *
+     * @return Значение типа {@link String} - текст сообщения.
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Устанавливает текст сообщения.
+     *
+     * @param text Текст сообщения.
+     */
+    public void setText(final String text) {
+        this.text = text;
+    }
+
+    /**
+     * Возвращает дату создания сообщения.
+     *
+     * @return Объект класса {@link Date} - дата создания.
+     */
+    public Date getCreated() {
+        return this.created;
+    }
+
+    /**
+     * Устанавливает дату создания сообщения.
+     *
+     * @param created Дата создания.
+     */
+    public void setCreated(final Date created) {
+        this.created = created;
+    }
+
+    /**
+     * Возвращает количество неудачных попыток отправки.
+     *
+     * @return Значение типа int - количество попыток.
+     */
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    /**
+     * Устанавливает количество неудачных попыток отправки.
+     *
+     * @param attempts Количество попыток.
+     */
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Возвращает время, до которого сообщение захвачено для отправки.
+     *
+     * @return Объект класса {@link Date} - время окончания захвата,
+     * null - сообщение свободно.
+     */
+    public Date getLockedUntil() {
+        return this.lockedUntil;
+    }
+
+    /**
+     * Устанавливает время, до которого сообщение захвачено для отправки.
+     *
+     * @param lockedUntil Время окончания захвата, null - сообщение свободно.
+     */
+    public void setLockedUntil(final Date lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -1,15 +1,23 @@
 package ua.com.alexcoffee.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * Класс описывает сущность "Изображение", наследует класс {@link Model}.
- * Объект изображение имеет две ссылки на файли-изображение в файлвой системе.
+ * Объект изображение имеет две ссылки на файли-изображение в файлвой системе
+ * и две ссылки на уменьшенные копии малого изображения для списков,
+ * которые создаются в фоне после загрузки файла.
  * Аннотация @Entity говорит о том что объекты этого класса будет обрабатываться hibernate.
  * Аннотация @Table(name = "photos") указывает на таблицу "photos",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache - изображения хранятся во втором уровне
+ * кеша Hibernate вместе с категориями, которые загружают их сразу.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -18,6 +26,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "photos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public final class Photo extends Model {
     /**
      * Номер версии класса необходимый
@@ -25,12 +35,6 @@ public final class Photo extends Model {
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * Путь к папке с изображениями в файловой системе.
-     */
-    public static final String PATH = System.getenv("CATALINA_HOME") +
-            "/webapps/ROOT/resources/img/";
-
     /**
      * Название изображения.
      * Значение поля сохраняется в колонке "title".
@@ -53,6 +57,23 @@ public final class Photo extends Model {
     @Column(name = "photo_link_long")
     private String photoLinkLong;
 
+    /**
+     * Строка-ссылка на уменьшенную копию малого изображения.
+     * Значение поля сохраняется в колонке "photo_link_thumb".
+     * Null - копия еще не создана.
+     */
+    @Column(name = "photo_link_thumb")
+    private String photoLinkThumb;
+
+    /**
+     * Строка-ссылка на уменьшенную копию малого изображения
+     * двойного размера для экранов высокой плотности.
+     * Значение поля сохраняется в колонке "photo_link_thumb_2x".
+     * Null - копия еще не создана.
+     */
+    @Column(name = "photo_link_thumb_2x")
+    private String photoLinkThumb2x;
+
     /**
      * Товар, к которому относится данное изображение.
      * К даному объекту можно добраться
@@ -129,6 +150,34 @@ public final class Photo extends Model {
                 + "\nphoto long link: " + this.photoLinkLong;
     }
 
+    /**
+     * Сравнивает изображение с изображением по названию, которое уникально.
+     * Изображения без названия сравниваются по коду.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @param other Изображение для сравнения.
+     * @return Значение типа boolean - результат сравнения.
+     */
+    @Override
+    protected boolean equalsByKey(final Model other) {
+        final String otherTitle = ((Photo) other).getTitle();
+        if (isBlank(this.title)) {
+            return isBlank(otherTitle) && super.equalsByKey(other);
+        }
+        return this.title.equals(otherTitle);
+    }
+
+    /**
+     * Возвращает хеш код названия изображения.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код изображения.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return isBlank(this.title) ? super.hashCodeByKey() : this.title.hashCode();
+    }
+
     /**
      * Инициализация полей изображения.
      *
@@ -175,11 +224,18 @@ public final class Photo extends Model {
 
     /**
      * Устанавливает строку-ссылка на малое изображения.
+     * Если изображение изменилось, уменьшенные копии
+     * старого изображения сбрасываются.
      *
      * @param photoLinkShort Строка-ссылка на малое изображения.
      */
     public void setPhotoLinkShort(final String photoLinkShort) {
-        this.photoLinkShort = isNotBlank(photoLinkShort) ? photoLinkShort : "";
+        final String link = isNotBlank(photoLinkShort) ? photoLinkShort : "";
+        if (!link.equals(this.photoLinkShort)) {
+            this.photoLinkThumb = null;
+            this.photoLinkThumb2x = null;
+        }
+        this.photoLinkShort = link;
     }
 
     /**
@@ -200,6 +256,46 @@ public final class Photo extends Model {
         this.photoLinkLong = isNotBlank(photoLinkLong) ? photoLinkLong : "";
     }
 
+    /**
+     * Возвращает строку-ссылку на уменьшенную копию малого изображения.
+     *
+     * @return Значение типа {@link String} - строка-ссылка на копию
+     * или null, если копия еще не создана.
+     */
+    public String getPhotoLinkThumb() {
+        return this.photoLinkThumb;
+    }
+
+    /**
+     * Устанавливает строку-ссылку на уменьшенную копию малого изображения.
+     *
+     * @param photoLinkThumb Строка-ссылка на копию.
+     */
+    public void setPhotoLinkThumb(final String photoLinkThumb) {
+        this.photoLinkThumb = isNotBlank(photoLinkThumb) ? photoLinkThumb : null;
+    }
+
+    /**
+     * Возвращает строку-ссылку на уменьшенную копию
+     * малого изображения двойного размера.
+     *
+     * @return Значение типа {@link String} - строка-ссылка на копию
+     * или null, если копия еще не создана.
+     */
+    public String getPhotoLinkThumb2x() {
+        return this.photoLinkThumb2x;
+    }
+
+    /**
+     * Устанавливает строку-ссылку на уменьшенную копию
+     * малого изображения двойного размера.
+     *
+     * @param photoLinkThumb2x Строка-ссылка на копию.
+     */
+    public void setPhotoLinkThumb2x(final String photoLinkThumb2x) {
+        this.photoLinkThumb2x = isNotBlank(photoLinkThumb2x) ? photoLinkThumb2x : null;
+    }
+
     /**
      * Возвращает товар, к которому относится данное изображение.
      *
@@ -12,6 +12,9 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  * обрабатываться hibernate.
  * Аннотация @Table(name = "products") указывает на таблицу "products",
  * в которой будут храниться объекты.
+ * Именованные графы сущности задают, что загружается одним запросом:
+ * "Product.card" - изображение для карточки товара в списке,
+ * "Product.detail" - категория и изображение для страницы товара.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -21,12 +24,35 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "products")
+@NamedEntityGraphs({
+        @NamedEntityGraph(
+                name = Product.CARD_GRAPH,
+                attributeNodes = @NamedAttributeNode("photo")
+        ),
+        @NamedEntityGraph(
+                name = Product.DETAIL_GRAPH,
+                attributeNodes = {
+                        @NamedAttributeNode("category"),
+                        @NamedAttributeNode("photo")
+                }
+        )
+})
 public final class Product extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Граф сущности для карточки товара в списке.
+     */
+    public static final String CARD_GRAPH = "Product.card";
+
+    /**
+     * Граф сущности для страницы товара.
+     */
+    public static final String DETAIL_GRAPH = "Product.detail";
+
     /**
      * Набор вожможных для использованния символов по-умолчанию.
      */
@@ -201,15 +227,31 @@ public final class Product extends Model {
     }
 
     /**
-     * Генерирует строку для конечного сравнения товаров в методе equals()
-     * родительского класса. Переопределенный метод родительского
-     * класса {@link Model}.
+     * Сравнивает товар с товаром по артикулу, который уникален.
+     * Товары без артикула сравниваются по коду.
+     * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} - название + URL + цена товара.
+     * @param other Товар для сравнения.
+     * @return Значение типа boolean - результат сравнения.
      */
     @Override
-    public String toEquals() {
-        return getArticle() + getTitle() + getUrl() + getPrice();
+    protected boolean equalsByKey(final Model other) {
+        final int otherArticle = ((Product) other).getArticle();
+        if (this.article == 0) {
+            return (otherArticle == 0) && super.equalsByKey(other);
+        }
+        return this.article == otherArticle;
+    }
+
+    /**
+     * Возвращает хеш код артикула товара.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код товара.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return (this.article == 0) ? super.hashCodeByKey() : this.article;
     }
 
     /**
@@ -349,6 +391,42 @@ public final class Product extends Model {
         return this.photo;
     }
 
+    /**
+     * Возвращает ссылку на малое изображение товара.
+     *
+     * @return Значение типа {@link String} - ссылка на изображение,
+     * null - у товара нет изображения.
+     */
+    public String getPhotoLinkShort() {
+        return (this.photo != null) ? this.photo.getPhotoLinkShort() : null;
+    }
+
+    /**
+     * Возвращает ссылку на уменьшенную копию малого изображения товара
+     * для списка товаров.
+     *
+     * @return Значение типа {@link String} - ссылка на копию, на малое
+     * изображение, если копии нет, или null - у товара нет изображения.
+     */
+    public String getPhotoLinkThumb() {
+        if (this.photo == null) {
+            return null;
+        }
+        final String thumb = this.photo.getPhotoLinkThumb();
+        return (thumb != null) ? thumb : this.photo.getPhotoLinkShort();
+    }
+
+    /**
+     * Возвращает ссылку на уменьшенную копию малого изображения
+     * товара двойного размера.
+     *
+     * @return Значение типа {@link String} - ссылка на копию
+     * или null, если копии нет.
+     */
+    public String getPhotoLinkThumb2x() {
+        return (this.photo != null) ? this.photo.getPhotoLinkThumb2x() : null;
+    }
+
     /**
      * Устанавливает изображение товара.
      *
@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ua.com.alexcoffee.enums.RoleEnum;
 
 import javax.persistence.*;
@@ -13,6 +15,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  * Аннотация @Entity говорит о том что объекты этого класса будет
  * обрабатываться hibernate. Аннотация @Table(name = "roles") указывает
  * на таблицу "roles", в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache - роли хранятся во втором уровне кеша
+ * Hibernate, так как почти не меняются.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -21,6 +25,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public final class Role extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
@@ -99,14 +105,30 @@ public final class Role extends Model {
     }
 
     /**
-     * Генерирует строку для конечного сравнения роли
-     * в методе equals() родительского класса.
+     * Сравнивает роль с другим по названию, которое уникально.
      * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} - название роли.
+     * @param other Объект для сравнения.
+     * @return Значение типа boolean - результат сравнения.
      */
-    public String toEquals() {
-        return this.title.name();
+    @Override
+    protected boolean equalsByKey(final Model other) {
+        final RoleEnum otherTitle = ((Role) other).getTitle();
+        if (this.title == null) {
+            return (otherTitle == null) && super.equalsByKey(other);
+        }
+        return this.title == otherTitle;
+    }
+
+    /**
+     * Возвращает хеш код названия.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return (this.title == null) ? super.hashCodeByKey() : this.title.hashCode();
     }
 
     /**
@@ -1,6 +1,7 @@
 package ua.com.alexcoffee.model;
 
 import javax.persistence.*;
+import java.util.Objects;
 
 /**
  * Класс описывает сущность "Торговая позиция", наследует класс {@link Model}.
@@ -109,20 +110,29 @@ public final class SalePosition extends Model {
     }
 
     /**
-     * Генерирует строку для конечного сравнения
-     * торговых позиций в методе equals() родительского класса.
+     * Сравнивает торговую позицию с позицией по товару и коду:
+     * позиции равны, если у них равные товары и одинаковые коды
+     * (или обе позиции еще не сохранены).
      * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} - результат работы метода
-     * сравнения входящего товара toEquals.
+     * @param other Торговая позиция для сравнения.
+     * @return Значение типа boolean - результат сравнения.
      */
     @Override
-    public String toEquals() {
-        String line = this.product.toEquals();
-        if (getId() != null) {
-            line += getId();
-        }
-        return line;
+    protected boolean equalsByKey(final Model other) {
+        return Objects.equals(this.product, ((SalePosition) other).getProduct())
+                && Objects.equals(getId(), other.getId());
+    }
+
+    /**
+     * Возвращает хеш код товара торговой позиции.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код торговой позиции.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return (this.product == null) ? super.hashCodeByKey() : this.product.hashCode();
     }
 
     /**
@@ -5,18 +5,29 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 
+import ua.com.alexcoffee.exception.WrongInformationException;
+
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Класс описывает корзину товаров.
+ * Торговые позиции хранятся по кодам товаров в порядке добавления,
+ * количество товаров и стоимость корзины пересчитываются при каждом
+ * изменении, поэтому все операции с корзиной выполняются за постоянное
+ * время независимо от ее размера. Количество товаров в позициях
+ * корзины нужно менять только методами корзины.
+ * Корзина хранится во внешнем хранилище {@link ua.com.alexcoffee.cart.interfaces.CartStore}
+ * по своему коду и собирается заново для каждого запроса клиента.
  * Реализует интерфейс Serializable, может быть сериализован.
  * Помечен аннотациями @Component указывает, что клас является
  * компонентом фреймворка Spring;
- * и @Scope - область видимости бина "session"
- * (один экземпляр бина для каждой сессии).
+ * и @Scope - область видимости бина "request"
+ * (один экземпляр бина для каждого запроса).
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -24,7 +35,7 @@ import java.util.List;
  */
 @Component
 @Scope(
-        value = WebApplicationContext.SCOPE_SESSION,
+        value = WebApplicationContext.SCOPE_REQUEST,
         proxyMode = ScopedProxyMode.TARGET_CLASS
 )
 public class ShoppingCart implements Serializable {
@@ -35,10 +46,26 @@ public class ShoppingCart implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Список торговых позиций,
-     * которые сделал клиент, но пока не оформил заказ.
+     * Код корзины во внешнем хранилище,
+     * null - корзина еще не прочитана из хранилища.
+     */
+    private String id;
+
+    /**
+     * Торговые позиции, которые сделал клиент, но пока не оформил заказ,
+     * по кодам товаров в порядке добавления.
+     */
+    private final Map<Long, SalePosition> salePositions = new LinkedHashMap<>();
+
+    /**
+     * Количество товаров в корзине.
+     */
+    private int size;
+
+    /**
+     * Стоимость корзины в копейках.
      */
-    private List<SalePosition> salePositions = new ArrayList<>();
+    private long price;
 
     /**
      * Конструктр без параметров.
@@ -55,7 +82,7 @@ public class ShoppingCart implements Serializable {
             final List<SalePosition> salePositions
     ) {
         this();
-        this.salePositions = salePositions;
+        addSalePositions(salePositions);
     }
 
     /**
@@ -68,9 +95,9 @@ public class ShoppingCart implements Serializable {
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("Shopping Cart: ");
-        if (this.salePositions != null && !this.salePositions.isEmpty()) {
+        if (!this.salePositions.isEmpty()) {
             int count = 1;
-            for (SalePosition salePosition : this.salePositions) {
+            for (SalePosition salePosition : this.salePositions.values()) {
                 sb.append("\n")
                         .append(count++)
                         .append(") ").append(salePosition.getProduct().getTitle())
@@ -90,24 +117,30 @@ public class ShoppingCart implements Serializable {
     }
 
     /**
-     * Добавляет торговую позицию в список корзины.
+     * Добавляет торговую позицию в корзину. Если позиция с таким товаром
+     * уже есть, увеличивает количество товаров в ней на 1.
      *
      * @param salePosition Торговая позиция, которая будет добавлена в корзину.
+     * @throws WrongInformationException Бросает исключение, если у товара
+     *                                   позиции нет кода.
      */
-    public void addSalePosition(final SalePosition salePosition) {
-        if (salePosition != null) {
-            if (!this.salePositions.contains(salePosition)) {
-                this.salePositions.add(salePosition);
-            } else {
-                this.salePositions.get(
-                        this.salePositions.indexOf(salePosition)
-                ).numberIncrement();
-            }
+    public void addSalePosition(final SalePosition salePosition) throws WrongInformationException {
+        if (salePosition == null) {
+            return;
+        }
+        final Long key = getKey(salePosition);
+        final SalePosition existing = this.salePositions.get(key);
+        if (existing == null) {
+            this.salePositions.put(key, salePosition);
+            onChange(salePosition, salePosition.getNumber());
+        } else {
+            existing.numberIncrement();
+            onChange(existing, 1);
         }
     }
 
     /**
-     * Добавляет список торговых позиций в список корзины.
+     * Добавляет список торговых позиций в корзину.
      *
      * @param salePositions Список торговых позиций,
      *                      которые будут добавлены в корзину.
@@ -115,7 +148,54 @@ public class ShoppingCart implements Serializable {
     public void addSalePositions(
             final List<SalePosition> salePositions
     ) {
-        salePositions.forEach(this::addSalePosition);
+        if (salePositions != null) {
+            salePositions.forEach(this::addSalePosition);
+        }
+    }
+
+    /**
+     * Устанавливает количество товаров в позиции с заданным товаром.
+     * Если количество меньше или равно 0, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @param quantity  Новое количество товаров.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    public boolean setQuantity(final long productId, final int quantity) {
+        final SalePosition salePosition = this.salePositions.get(productId);
+        if (salePosition == null) {
+            return false;
+        }
+        if (quantity <= 0) {
+            remove(productId);
+        } else {
+            final int delta = quantity - salePosition.getNumber();
+            salePosition.setNumber(quantity);
+            onChange(salePosition, delta);
+        }
+        return true;
+    }
+
+    /**
+     * Уменьшает количество товаров в позиции с заданным товаром на 1.
+     * Если товаров в позиции не осталось, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @return Значение типа boolean - true, если позиция с товаром есть в корзине.
+     */
+    public boolean decrement(final long productId) {
+        final SalePosition salePosition = this.salePositions.get(productId);
+        return (salePosition != null) && setQuantity(productId, salePosition.getNumber() - 1);
+    }
+
+    /**
+     * Возвращает позицию с заданным товаром.
+     *
+     * @param productId Код товара.
+     * @return Объект класса {@link SalePosition} - торговая позиция или null.
+     */
+    public SalePosition getSalePosition(final long productId) {
+        return this.salePositions.get(productId);
     }
 
     /**
@@ -124,7 +204,10 @@ public class ShoppingCart implements Serializable {
      * @param salePosition Торговая позиция для удаления из корзины.
      */
     public void removeSalePosition(final SalePosition salePosition) {
-        this.salePositions.remove(salePosition);
+        if ((salePosition != null) && (salePosition.getProduct() != null)
+                && (salePosition.getProduct().getId() != null)) {
+            remove(salePosition.getProduct().getId());
+        }
     }
 
     /**
@@ -135,7 +218,7 @@ public class ShoppingCart implements Serializable {
     public void removeSalePositions(
             final List<SalePosition> salePositions
     ) {
-        this.salePositions.removeAll(salePositions);
+        salePositions.forEach(this::removeSalePosition);
     }
 
     /**
@@ -144,29 +227,49 @@ public class ShoppingCart implements Serializable {
      */
     public void clearSalePositions() {
         this.salePositions.clear();
+        this.size = 0;
+        this.price = 0;
     }
 
     /**
-     * Возвращает список всех торговых позиций в корзине.
-     * Метод конвертирует список торговых позиций
-     * в корзине в список только для чтений и возвращает его.
+     * Возвращает список всех торговых позиций в корзине
+     * в порядке добавления, только для чтения.
      *
      * @return Объект типа {@link List} - список торговых позиций только
      * для чтения или пустой список.
      */
     public List<SalePosition> getSalePositions() {
-        return (this.salePositions == null) || (this.salePositions.isEmpty())
-                ? Collections.EMPTY_LIST
-                : Collections.unmodifiableList(this.salePositions);
+        return this.salePositions.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(this.salePositions.values()));
     }
 
     /**
-     * Устанавливает список торговых позиций.
+     * Заменяет торговые позиции корзины на заданные.
      *
      * @param salePositions Список торговых позиций .
      */
     public void setSalePositions(final List<SalePosition> salePositions) {
-        this.salePositions = salePositions;
+        clearSalePositions();
+        addSalePositions(salePositions);
+    }
+
+    /**
+     * Возвращает код корзины во внешнем хранилище.
+     *
+     * @return Значение типа {@link String} - код корзины или null.
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Устанавливает код корзины во внешнем хранилище.
+     *
+     * @param id Код корзины.
+     */
+    public void setId(final String id) {
+        this.id = id;
     }
 
     /**
@@ -175,11 +278,7 @@ public class ShoppingCart implements Serializable {
      * @return Значение типа double - цена корзины.
      */
     public double getPrice() {
-        double sum = 0;
-        for (SalePosition salePosition : this.salePositions) {
-            sum += salePosition.getPrice();
-        }
-        return sum;
+        return this.price / 100.0;
     }
 
     /**
@@ -188,10 +287,43 @@ public class ShoppingCart implements Serializable {
      * @return Значение типа int - количество товаров в корзине.
      */
     public int getSize() {
-        int size = 0;
-        for (SalePosition salePosition : this.salePositions) {
-            size += salePosition.getNumber();
+        return this.size;
+    }
+
+    /**
+     * Удаляет позицию с заданным товаром и вычитает ее из итогов корзины.
+     *
+     * @param productId Код товара.
+     */
+    private void remove(final long productId) {
+        final SalePosition salePosition = this.salePositions.remove(productId);
+        if (salePosition != null) {
+            onChange(salePosition, -salePosition.getNumber());
+        }
+    }
+
+    /**
+     * Пересчитывает количество товаров и стоимость корзины.
+     *
+     * @param salePosition Измененная торговая позиция.
+     * @param delta        Изменение количества товаров в позиции.
+     */
+    private void onChange(final SalePosition salePosition, final int delta) {
+        this.size += delta;
+        this.price += delta * Math.round(salePosition.getProduct().getPrice() * 100);
+    }
+
+    /**
+     * Возвращает ключ торговой позиции - код ее товара.
+     *
+     * @param salePosition Торговая позиция.
+     * @return Значение типа {@link Long} - код товара.
+     * @throws WrongInformationException Бросает исключение, если у товара нет кода.
+     */
+    private static Long getKey(final SalePosition salePosition) throws WrongInformationException {
+        if ((salePosition.getProduct() == null) || (salePosition.getProduct().getId() == null)) {
+            throw new WrongInformationException("Can't add product without id to shopping cart!");
         }
-        return size;
+        return salePosition.getProduct().getId();
     }
 }
@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ua.com.alexcoffee.enums.StatusEnum;
 
 import javax.persistence.*;
@@ -13,6 +15,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  * Аннотация @Entity говорит о том что объекты этого класса будет обрабатываться hibernate.
  * Аннотация @Table(name = "statuses") указывает на таблицу "statuses",
  * в которой будут храниться объекты.
+ * Аннотации @Cacheable и @Cache - статусы хранятся во втором уровне кеша
+ * Hibernate, так как почти не меняются.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -21,6 +25,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 @Entity
 @Table(name = "statuses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public final class Status extends Model {
     /**
      * Номер версии класса необходимый для десериализации и сериализации.
@@ -97,6 +103,33 @@ public final class Status extends Model {
                 + "\nDescription: " + this.description;
     }
 
+    /**
+     * Сравнивает статус с другим по названию, которое уникально.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @param other Объект для сравнения.
+     * @return Значение типа boolean - результат сравнения.
+     */
+    @Override
+    protected boolean equalsByKey(final Model other) {
+        final StatusEnum otherTitle = ((Status) other).getTitle();
+        if (this.title == null) {
+            return (otherTitle == null) && super.equalsByKey(other);
+        }
+        return this.title == otherTitle;
+    }
+
+    /**
+     * Возвращает хеш код названия.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        return (this.title == null) ? super.hashCodeByKey() : this.title.hashCode();
+    }
+
     /**
      * Добавляет заказы в список текущего статуса.
      *
@@ -198,16 +198,32 @@ public final class User extends Model implements UserDetails {
     }
 
     /**
-     * Генерирует строку для конечного сравнения пользователей
-     * в методе equals() родительского класса.
+     * Сравнивает пользователя с пользователем по имени,
+     * электронной почте и номеру телефона.
      * Переопределенный метод родительского класса {@link Model}.
      *
-     * @return Значение типа {@link String} -
-     * имя пользователя + электронная почта + номер телефона.
+     * @param other Пользователь для сравнения.
+     * @return Значение типа boolean - результат сравнения.
      */
     @Override
-    public String toEquals() {
-        return getName() + getEmail() + getPhone();
+    protected boolean equalsByKey(final Model other) {
+        final User user = (User) other;
+        return Objects.equals(this.name, user.getName())
+                && Objects.equals(this.email, user.getEmail())
+                && Objects.equals(this.phone, user.getPhone());
+    }
+
+    /**
+     * Возвращает хеш код имени, электронной почты и номера телефона.
+     * Переопределенный метод родительского класса {@link Model}.
+     *
+     * @return Значение типа int - хеш код пользователя.
+     */
+    @Override
+    protected int hashCodeByKey() {
+        int result = Objects.hashCode(this.name);
+        result = 31 * result + Objects.hashCode(this.email);
+        return 31 * result + Objects.hashCode(this.phone);
     }
 
     /**
@@ -0,0 +1,484 @@
+package ua.com.alexcoffee.photo.impl;
+
+import org.apache.log4j.Logger;
+import org.springframework.web.multipart.MultipartFile;
+import ua.com.alexcoffee.photo.interfaces.PhotoStore;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Класс реализует методы интерфейса {@link PhotoStore} в каталоге
+ * файловой системы. Файл копируется из загрузки через каналы NIO
+ * буфером фиксированного размера, одновременно считается его хеш SHA-256.
+ * Файл пишется во временный файл и атомарно переименовывается в имя
+ * по хешу, поэтому веб-сервер никогда не отдает файл наполовину,
+ * а повторная загрузка того же изображения не создает копию.
+ * Уменьшенные копии изображений сжимаются в JPEG и называются
+ * по имени исходного файла и размеру копии.
+ * Запись выполняется в пуле с ограниченной очередью; если очередь
+ * заполнена, файл записывает вызывающий поток.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see PhotoStore
+ */
+public final class FilePhotoStore implements PhotoStore {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(FilePhotoStore.class);
+
+    /**
+     * Размер буфера копирования 64 КБ.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Алгоритм хеша содержимого файла.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Расширение файлов уменьшенных копий.
+     */
+    private static final String THUMBNAIL_EXTENSION = ".jpg";
+
+    /**
+     * Максимальное количество пикселей исходного изображения 25 млн.
+     * Больше изображения не уменьшаются, чтобы не занять всю память.
+     */
+    private static final long MAX_PIXELS = 25_000_000L;
+
+    /**
+     * Допустимое расширение файла.
+     */
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,5}");
+
+    /**
+     * Допустимое имя файла: без каталогов и переходов на уровень выше.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]{0,127}");
+
+    /**
+     * Шестнадцатеричные цифры имени файла.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Каталог с файлами изображений.
+     */
+    private final Path directory;
+
+    /**
+     * Пул потоков записи файлов.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Качество сжатия JPEG уменьшенных копий от 0 до 1.
+     */
+    private final float quality;
+
+    /**
+     * Конструктор для инициализации основных переменных хранилища.
+     * Каталог создается при записи первого файла.
+     *
+     * @param directory Каталог с файлами изображений.
+     * @param threads   Количество потоков записи.
+     * @param capacity  Максимальный размер очереди файлов на запись.
+     * @param quality   Качество сжатия JPEG уменьшенных копий от 0 до 1.
+     * @throws IllegalArgumentException Бросает исключение, если количество
+     *                                  потоков или размер очереди не положительные.
+     */
+    public FilePhotoStore(final Path directory, final int threads, final int capacity, final float quality)
+            throws IllegalArgumentException {
+        if (threads <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Threads and queue capacity must be positive!");
+        }
+        this.directory = directory;
+        this.quality = quality;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                createThreadFactory("photo-store"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * Сохраняет файл в хранилище в пуле потоков записи.
+     *
+     * @param file Файл для сохранения.
+     * @return Объект класса {@link CompletableFuture} - имя сохраненного
+     * файла или null, если файл пустой. Завершается с исключением
+     * {@link UncheckedIOException}, если файл нельзя записать.
+     */
+    @Override
+    public CompletableFuture<String> save(final MultipartFile file) {
+        if ((file == null) || file.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> write(file), this.executor);
+    }
+
+    /**
+     * Создает уменьшенную копию изображения в пуле потоков записи.
+     *
+     * @param name Имя исходного файла в хранилище.
+     * @param size Наибольшая сторона копии в пикселях.
+     * @return Объект класса {@link CompletableFuture} - имя файла копии,
+     * имя исходного файла, если копия не меньше него, или null,
+     * если файл не является изображением. Завершается с исключением
+     * {@link UncheckedIOException}, если файл нельзя прочитать или записать.
+     */
+    @Override
+    public CompletableFuture<String> resize(final String name, final int size) {
+        if ((name == null) || !NAME_PATTERN.matcher(name).matches() || (size <= 0)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> writeThumbnail(name, size), this.executor);
+    }
+
+    /**
+     * Удаляет файл по имени. Недопустимые имена игнорируются.
+     *
+     * @param name Имя файла для удаления.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя удалить.
+     */
+    @Override
+    public void delete(final String name) throws UncheckedIOException {
+        if ((name == null) || !NAME_PATTERN.matcher(name).matches()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(this.directory.resolve(name));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Останавливает пул потоков записи. Уже принятые файлы дописываются.
+     */
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Копирует файл во временный файл каталога, считая хеш содержимого,
+     * и переименовывает его в имя по хешу. Если такой файл уже есть,
+     * временный файл удаляется.
+     *
+     * @param file Файл для сохранения.
+     * @return Значение типа {@link String} - имя сохраненного файла.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя записать.
+     */
+    private String write(final MultipartFile file) throws UncheckedIOException {
+        try {
+            Files.createDirectories(this.directory);
+            final Path temp = Files.createTempFile(this.directory, "upload", ".tmp");
+            try {
+                final String name = toHex(copy(file, temp)) + getExtension(file.getOriginalFilename());
+                final Path target = this.directory.resolve(name);
+                if (Files.exists(target)) {
+                    LOGGER.debug("Photo " + name + " already stored");
+                } else {
+                    move(temp, target);
+                }
+                return name;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Can't store photo " + file.getOriginalFilename() + ": " + ex.getMessage(), ex);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Уменьшает изображение, сжимает во временный файл и атомарно
+     * переименовывает его в имя копии. Если копия уже есть, изображение
+     * не читается.
+     *
+     * @param name Имя исходного файла в хранилище.
+     * @param size Наибольшая сторона копии в пикселях.
+     * @return Значение типа {@link String} - имя файла копии, имя исходного
+     * файла или null, если файл не является изображением.
+     * @throws UncheckedIOException Бросает исключение, если файл нельзя
+     *                              прочитать или записать.
+     */
+    private String writeThumbnail(final String name, final int size) throws UncheckedIOException {
+        final int index = name.lastIndexOf('.');
+        final String thumbnail = ((index > 0) ? name.substring(0, index) : name) + "-" + size + THUMBNAIL_EXTENSION;
+        final Path target = this.directory.resolve(thumbnail);
+        try {
+            if (Files.exists(target)) {
+                return thumbnail;
+            }
+            final Path source = this.directory.resolve(name);
+            final BufferedImage image = read(source);
+            if (image == null) {
+                LOGGER.warn("Photo " + name + " is not an image");
+                return null;
+            }
+            final BufferedImage scaled = scale(image, size);
+            final Path temp = Files.createTempFile(this.directory, "thumbnail", ".tmp");
+            try {
+                writeJpeg(scaled, temp);
+                if ((scaled.getWidth() == image.getWidth()) && (Files.size(temp) >= Files.size(source))) {
+                    return name;
+                }
+                move(temp, target);
+                return thumbnail;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Can't resize photo " + name + ": " + ex.getMessage(), ex);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Сжимает изображение в файл JPEG с качеством хранилища.
+     *
+     * @param image Изображение.
+     * @param file  Файл для записи.
+     * @throws IOException Исключение записи файла.
+     */
+    private void writeJpeg(final BufferedImage image, final Path file) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(this.quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Читает изображение из файла. Размер изображения проверяется
+     * до чтения пикселей.
+     *
+     * @param file Файл изображения.
+     * @return Объект класса {@link BufferedImage} - изображение
+     * или null, если формат файла не поддерживается.
+     * @throws IOException Исключение чтения файла или слишком большое изображение.
+     */
+    private static BufferedImage read(final Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                final long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("Photo has too many pixels: " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Уменьшает изображение так, чтобы наибольшая сторона была не больше
+     * size пикселей, и переводит его в RGB на белом фоне. Изображение
+     * уменьшается вдвое за шаг, поэтому билинейная интерполяция
+     * не теряет мелкие детали.
+     *
+     * @param image Исходное изображение.
+     * @param size  Наибольшая сторона в пикселях.
+     * @return Объект класса {@link BufferedImage} - уменьшенное изображение.
+     */
+    static BufferedImage scale(final BufferedImage image, final int size) {
+        final double ratio = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        final int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        final int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        BufferedImage result = image;
+        int stepWidth = image.getWidth();
+        int stepHeight = image.getHeight();
+        do {
+            stepWidth = Math.max(stepWidth / 2, width);
+            stepHeight = Math.max(stepHeight / 2, height);
+            result = draw(result, stepWidth, stepHeight);
+        } while ((stepWidth != width) || (stepHeight != height));
+        return result;
+    }
+
+    /**
+     * Рисует изображение в новом изображении RGB заданного размера на белом фоне.
+     *
+     * @param image  Исходное изображение.
+     * @param width  Ширина в пикселях.
+     * @param height Высота в пикселях.
+     * @return Объект класса {@link BufferedImage} - новое изображение.
+     */
+    private static BufferedImage draw(final BufferedImage image, final int width, final int height) {
+        final BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * Копирует содержимое файла в target через каналы NIO
+     * и возвращает хеш содержимого.
+     *
+     * @param file   Файл для копирования.
+     * @param target Файл для записи.
+     * @return Массив байт - хеш SHA-256 содержимого.
+     * @throws IOException Исключение чтения или записи файла.
+     */
+    private static byte[] copy(final MultipartFile file, final Path target) throws IOException {
+        final MessageDigest digest = createDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.array(), 0, buffer.limit());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            out.force(true);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Атомарно переименовывает временный файл. Если одинаковый файл
+     * параллельно записал другой поток, временный файл не нужен.
+     *
+     * @param temp   Временный файл.
+     * @param target Файл с именем по хешу.
+     * @throws IOException Исключение переименования файла.
+     */
+    private static void move(final Path temp, final Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+            LOGGER.debug("Photo " + target.getFileName() + " stored concurrently");
+        }
+    }
+
+    /**
+     * Возвращает расширение файла с точкой в нижнем регистре или пустую
+     * строку, если расширения нет или оно содержит недопустимые символы.
+     *
+     * @param filename Исходное имя файла.
+     * @return Значение типа {@link String} - расширение файла.
+     */
+    static String getExtension(final String filename) {
+        if (filename == null) {
+            return "";
+        }
+        final int index = filename.lastIndexOf('.');
+        if (index < 0) {
+            return "";
+        }
+        final String extension = filename.substring(index + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION_PATTERN.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    /**
+     * Возвращает байты в виде шестнадцатеричной строки.
+     *
+     * @param bytes Массив байт.
+     * @return Значение типа {@link String} - шестнадцатеричная строка.
+     */
+    static String toHex(final byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Создает объект для подсчета хеша SHA-256.
+     *
+     * @return Объект класса {@link MessageDigest}.
+     * @throws IllegalStateException Бросает исключение, если алгоритм
+     *                               не поддерживается платформой.
+     */
+    private static MessageDigest createDigest() throws IllegalStateException {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Создает фабрику потоков-демонов с заданным именем.
+     *
+     * @param name Имя потока.
+     * @return Объект интерфейса {@link ThreadFactory} - фабрика потоков.
+     */
+    private static ThreadFactory createThreadFactory(final String name) {
+        final AtomicInteger number = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package ua.com.alexcoffee.photo.interfaces;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Интерфейс описывает хранилище файлов-изображений. Файл называется
+ * по хешу своего содержимого, поэтому одно и то же изображение,
+ * загруженное несколько раз, хранится в одном файле. Запись выполняется
+ * в отдельном пуле потоков, чтобы загрузка изображений не занимала
+ * потоки сервлет контейнера.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.photo.impl.FilePhotoStore
+ */
+public interface PhotoStore {
+    /**
+     * Сохраняет файл в хранилище.
+     *
+     * @param file Файл для сохранения.
+     * @return Объект класса {@link CompletableFuture} - имя сохраненного
+     * файла или null, если файл пустой.
+     */
+    CompletableFuture<String> save(MultipartFile file);
+
+    /**
+     * Создает уменьшенную копию изображения, у которой наибольшая
+     * сторона не больше size пикселей. Копия называется по имени
+     * исходного файла и размеру, поэтому создается только один раз.
+     *
+     * @param name Имя исходного файла в хранилище.
+     * @param size Наибольшая сторона копии в пикселях.
+     * @return Объект класса {@link CompletableFuture} - имя файла копии,
+     * имя исходного файла, если копия не меньше него, или null,
+     * если файл не является изображением.
+     */
+    CompletableFuture<String> resize(String name, int size);
+
+    /**
+     * Удаляет файл по имени. Одно имя могут использовать несколько
+     * изображений, поэтому удалять файл можно только когда на него
+     * не осталось ссылок.
+     *
+     * @param name Имя файла для удаления.
+     */
+    void delete(String name);
+
+    /**
+     * Останавливает пул потоков записи файлов.
+     */
+    void shutdown();
+}
@@ -0,0 +1,201 @@
+package ua.com.alexcoffee.pool.impl;
+
+import com.zaxxer.hikari.metrics.MetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import ua.com.alexcoffee.pool.interfaces.PoolMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Класс реализует методы интерфейса {@link PoolMetrics} для пула HikariCP.
+ * Передается в настройки пула как {@link MetricsTrackerFactory}: пул сообщает
+ * о каждой выдаче соединения и превышении времени ожидания, а состояние пула
+ * читается из его {@link PoolStats}, который обновляет значения не чаще
+ * раза в секунду. Помечен аннотацией @ManagedResource - показатели
+ * публикуются через JMX.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see PoolMetrics
+ */
+@ManagedResource(
+        objectName = "ua.com.alexcoffee:type=PoolMetrics",
+        description = "Database connection pool metrics"
+)
+public final class HikariPoolMetrics implements PoolMetrics, MetricsTrackerFactory {
+    /**
+     * Состояние пула, null - пул еще не создан.
+     */
+    private volatile PoolStats poolStats;
+
+    /**
+     * Количество выдач соединения.
+     */
+    private final AtomicLong borrowed = new AtomicLong();
+
+    /**
+     * Количество запросов с превышением времени ожидания.
+     */
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Суммарное время получения соединения в микросекундах.
+     */
+    private final AtomicLong totalBorrowTime = new AtomicLong();
+
+    /**
+     * Максимальное время получения соединения в микросекундах.
+     */
+    private final AtomicLong maxBorrowTime = new AtomicLong();
+
+    /**
+     * Вызывается пулом при создании, возвращает объект, через
+     * который пул сообщает о выдаче соединений.
+     *
+     * @param poolName  Имя пула.
+     * @param poolStats Состояние пула.
+     * @return Объект класса {@link MetricsTracker}.
+     */
+    @Override
+    public MetricsTracker create(final String poolName, final PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new MetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+                onBorrow(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                HikariPoolMetrics.this.timeouts.incrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Учитывает выдачу соединения.
+     *
+     * @param nanos Время получения соединения в наносекундах.
+     */
+    void onBorrow(final long nanos) {
+        final long time = TimeUnit.NANOSECONDS.toMicros(nanos);
+        this.borrowed.incrementAndGet();
+        this.totalBorrowTime.addAndGet(time);
+        this.maxBorrowTime.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * Возвращает количество соединений, выданных из пула.
+     *
+     * @return Значение типа int - количество занятых соединений.
+     */
+    @Override
+    @ManagedAttribute(description = "Connections in use")
+    public int getActiveConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats != null) ? stats.getActiveConnections() : 0;
+    }
+
+    /**
+     * Возвращает количество свободных соединений в пуле.
+     *
+     * @return Значение типа int - количество свободных соединений.
+     */
+    @Override
+    @ManagedAttribute(description = "Idle connections")
+    public int getIdleConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats != null) ? stats.getIdleConnections() : 0;
+    }
+
+    /**
+     * Возвращает общее количество соединений пула.
+     *
+     * @return Значение типа int - количество соединений.
+     */
+    @Override
+    @ManagedAttribute(description = "Total connections")
+    public int getTotalConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats != null) ? stats.getTotalConnections() : 0;
+    }
+
+    /**
+     * Возвращает количество потоков, ожидающих соединение.
+     *
+     * @return Значение типа int - количество ожидающих потоков.
+     */
+    @Override
+    @ManagedAttribute(description = "Threads waiting for a connection")
+    public int getPendingThreads() {
+        final PoolStats stats = this.poolStats;
+        return (stats != null) ? stats.getPendingThreads() : 0;
+    }
+
+    /**
+     * Возвращает количество выдач соединения из пула.
+     *
+     * @return Значение типа long - количество выдач соединения.
+     */
+    @Override
+    @ManagedAttribute(description = "Connections borrowed")
+    public long getBorrowCount() {
+        return this.borrowed.get();
+    }
+
+    /**
+     * Возвращает количество запросов соединения,
+     * не дождавшихся свободного соединения.
+     *
+     * @return Значение типа long - количество запросов с превышением времени ожидания.
+     */
+    @Override
+    @ManagedAttribute(description = "Connection requests timed out")
+    public long getTimeoutCount() {
+        return this.timeouts.get();
+    }
+
+    /**
+     * Возвращает среднее время получения соединения из пула.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    @Override
+    @ManagedAttribute(description = "Average borrow time, microseconds")
+    public long getAverageBorrowTime() {
+        final long count = this.borrowed.get();
+        return (count > 0) ? this.totalBorrowTime.get() / count : 0;
+    }
+
+    /**
+     * Возвращает максимальное время получения соединения из пула.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    @Override
+    @ManagedAttribute(description = "Maximum borrow time, microseconds")
+    public long getMaxBorrowTime() {
+        return this.maxBorrowTime.get();
+    }
+
+    /**
+     * Возвращает описание показателей пула.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - состояние пула и счетчики.
+     */
+    @Override
+    public String toString() {
+        return "active = " + getActiveConnections()
+                + ", idle = " + getIdleConnections()
+                + ", total = " + getTotalConnections()
+                + ", waiting = " + getPendingThreads()
+                + ", borrowed = " + getBorrowCount()
+                + ", timeouts = " + getTimeoutCount()
+                + ", borrow avg/max = " + getAverageBorrowTime() + "/" + getMaxBorrowTime() + " us";
+    }
+}
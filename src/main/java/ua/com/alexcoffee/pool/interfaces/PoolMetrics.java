@@ -0,0 +1,69 @@
+package ua.com.alexcoffee.pool.interfaces;
+
+/**
+ * Интерфейс описывает показатели пула соединений с базой данных:
+ * текущее состояние пула и время получения соединения из пула.
+ * По этим показателям подбирается размер пула под пиковую нагрузку.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.pool.impl.HikariPoolMetrics
+ */
+public interface PoolMetrics {
+    /**
+     * Возвращает количество соединений, выданных из пула.
+     *
+     * @return Значение типа int - количество занятых соединений.
+     */
+    int getActiveConnections();
+
+    /**
+     * Возвращает количество свободных соединений в пуле.
+     *
+     * @return Значение типа int - количество свободных соединений.
+     */
+    int getIdleConnections();
+
+    /**
+     * Возвращает общее количество соединений пула.
+     *
+     * @return Значение типа int - количество соединений.
+     */
+    int getTotalConnections();
+
+    /**
+     * Возвращает количество потоков, ожидающих соединение.
+     *
+     * @return Значение типа int - количество ожидающих потоков.
+     */
+    int getPendingThreads();
+
+    /**
+     * Возвращает количество выдач соединения из пула.
+     *
+     * @return Значение типа long - количество выдач соединения.
+     */
+    long getBorrowCount();
+
+    /**
+     * Возвращает количество запросов соединения,
+     * не дождавшихся свободного соединения.
+     *
+     * @return Значение типа long - количество запросов с превышением времени ожидания.
+     */
+    long getTimeoutCount();
+
+    /**
+     * Возвращает среднее время получения соединения из пула.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    long getAverageBorrowTime();
+
+    /**
+     * Возвращает максимальное время получения соединения из пула.
+     *
+     * @return Значение типа long - время в микросекундах.
+     */
+    long getMaxBorrowTime();
+}
@@ -0,0 +1,158 @@
+package ua.com.alexcoffee.projection;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс описывает фасет фильтра товаров категории - характеристику товаров
+ * (цена или параметр из описания параметров товара) и ее значения
+ * с количеством товаров, которые останутся после выбора значения.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see FacetedProducts
+ */
+public final class Facet {
+    /**
+     * Название фасета.
+     */
+    private final String name;
+
+    /**
+     * Значения фасета.
+     */
+    private final List<Value> values;
+
+    /**
+     * Конструктор для инициализации фасета.
+     *
+     * @param name   Название фасета.
+     * @param values Значения фасета.
+     */
+    public Facet(final String name, final List<Value> values) {
+        this.name = name;
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Возвращает название фасета.
+     *
+     * @return Значение типа {@link String} - название фасета.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Возвращает значения фасета.
+     *
+     * @return Объект типа {@link List} - список значений только для чтения.
+     */
+    public List<Value> getValues() {
+        return this.values;
+    }
+
+    /**
+     * Возвращает описание фасета.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - название и значения фасета.
+     */
+    @Override
+    public String toString() {
+        return this.name + " = " + this.values;
+    }
+
+    /**
+     * Класс описывает значение фасета.
+     */
+    public static final class Value {
+        /**
+         * Значение.
+         */
+        private final String title;
+
+        /**
+         * Ключ значения для параметра запроса, "название фасета:значение".
+         */
+        private final String key;
+
+        /**
+         * Количество товаров с этим значением с учетом
+         * выбранных значений других фасетов.
+         */
+        private final int count;
+
+        /**
+         * Признак того, что значение выбрано.
+         */
+        private final boolean selected;
+
+        /**
+         * Конструктор для инициализации значения фасета.
+         *
+         * @param title    Значение.
+         * @param key      Ключ значения для параметра запроса.
+         * @param count    Количество товаров с этим значением.
+         * @param selected Признак того, что значение выбрано.
+         */
+        public Value(
+                final String title,
+                final String key,
+                final int count,
+                final boolean selected
+        ) {
+            this.title = title;
+            this.key = key;
+            this.count = count;
+            this.selected = selected;
+        }
+
+        /**
+         * Возвращает значение.
+         *
+         * @return Значение типа {@link String} - значение.
+         */
+        public String getTitle() {
+            return this.title;
+        }
+
+        /**
+         * Возвращает ключ значения для параметра запроса.
+         *
+         * @return Значение типа {@link String} - ключ значения.
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * Возвращает количество товаров с этим значением.
+         *
+         * @return Значение типа int - количество товаров.
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Возвращает true, если значение выбрано.
+         *
+         * @return Значение типа boolean.
+         */
+        public boolean isSelected() {
+            return this.selected;
+        }
+
+        /**
+         * Возвращает описание значения фасета.
+         * Переопределенный метод родительского класса {@link Object}.
+         *
+         * @return Значение типа {@link String} - значение и количество товаров.
+         */
+        @Override
+        public String toString() {
+            return this.title + " (" + this.count + ")";
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ua.com.alexcoffee.projection;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс описывает результат фильтрации товаров категории по фасетам:
+ * карточки подходящих товаров и фасеты с количеством товаров
+ * для каждого значения.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Facet
+ * @see ProductCard
+ */
+public final class FacetedProducts {
+    /**
+     * Карточки товаров, которые подходят под выбранные значения фасетов.
+     */
+    private final List<ProductCard> products;
+
+    /**
+     * Фасеты категории.
+     */
+    private final List<Facet> facets;
+
+    /**
+     * Общее количество товаров категории.
+     */
+    private final int total;
+
+    /**
+     * Конструктор для инициализации результата фильтрации.
+     *
+     * @param products Карточки подходящих товаров.
+     * @param facets   Фасеты категории.
+     * @param total    Общее количество товаров категории.
+     */
+    public FacetedProducts(
+            final List<ProductCard> products,
+            final List<Facet> facets,
+            final int total
+    ) {
+        this.products = Collections.unmodifiableList(products);
+        this.facets = Collections.unmodifiableList(facets);
+        this.total = total;
+    }
+
+    /**
+     * Возвращает карточки товаров, которые подходят под выбранные значения фасетов.
+     *
+     * @return Объект типа {@link List} - список карточек только для чтения.
+     */
+    public List<ProductCard> getProducts() {
+        return this.products;
+    }
+
+    /**
+     * Возвращает фасеты категории.
+     *
+     * @return Объект типа {@link List} - список фасетов только для чтения.
+     */
+    public List<Facet> getFacets() {
+        return this.facets;
+    }
+
+    /**
+     * Возвращает общее количество товаров категории без учета фильтра.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    public int getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Возвращает описание результата фильтрации.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - количество товаров и фасетов.
+     */
+    @Override
+    public String toString() {
+        return "products = " + this.products.size() + "/" + this.total
+                + ", facets = " + this.facets.size();
+    }
+}
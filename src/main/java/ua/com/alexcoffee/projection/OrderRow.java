@@ -0,0 +1,153 @@
+package ua.com.alexcoffee.projection;
+
+import ua.com.alexcoffee.enums.StatusEnum;
+import ua.com.alexcoffee.model.Order;
+
+/**
+ * Класс описывает строку списка заказов - только поля, которые выводятся
+ * в списке: код, номер, дата, статус и код менеджера. Создается запросом
+ * JPQL с выражением конструктора, поэтому из базы данных читаются только
+ * эти колонки, а клиент, менеджер и торговые позиции не загружаются.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Order
+ */
+public final class OrderRow {
+    /**
+     * Код заказа.
+     */
+    private final Long id;
+
+    /**
+     * Номер заказа.
+     */
+    private final String number;
+
+    /**
+     * Дата оформления заказа.
+     */
+    private final String date;
+
+    /**
+     * Статус заказа.
+     */
+    private final StatusEnum status;
+
+    /**
+     * Описание статуса заказа.
+     */
+    private final String statusDescription;
+
+    /**
+     * Код менеджера, который обработал заказ.
+     */
+    private final Long managerId;
+
+    /**
+     * Конструктор для инициализации строки списка заказов.
+     *
+     * @param id                Код заказа.
+     * @param number            Номер заказа.
+     * @param date              Дата оформления заказа.
+     * @param status            Статус заказа, null - нет статуса.
+     * @param statusDescription Описание статуса заказа.
+     * @param managerId         Код менеджера, null - заказ не обработан.
+     */
+    public OrderRow(
+            final Long id,
+            final String number,
+            final String date,
+            final StatusEnum status,
+            final String statusDescription,
+            final Long managerId
+    ) {
+        this.id = id;
+        this.number = number;
+        this.date = date;
+        this.status = status;
+        this.statusDescription = statusDescription;
+        this.managerId = managerId;
+    }
+
+    /**
+     * Конструктор создает строку списка заказов по заказу.
+     *
+     * @param order Заказ.
+     */
+    public OrderRow(final Order order) {
+        this(
+                order.getId(),
+                order.getNumber(),
+                order.getDate(),
+                (order.getStatus() != null) ? order.getStatus().getTitle() : null,
+                (order.getStatus() != null) ? order.getStatus().getDescription() : null,
+                (order.getManager() != null) ? order.getManager().getId() : null
+        );
+    }
+
+    /**
+     * Возвращает код заказа.
+     *
+     * @return Значение типа {@link Long} - код заказа.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает номер заказа.
+     *
+     * @return Значение типа {@link String} - номер заказа.
+     */
+    public String getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Возвращает дату оформления заказа.
+     *
+     * @return Значение типа {@link String} - дата заказа.
+     */
+    public String getDate() {
+        return this.date;
+    }
+
+    /**
+     * Возвращает статус заказа.
+     *
+     * @return Значение типа {@link StatusEnum} - статус заказа.
+     */
+    public StatusEnum getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Возвращает описание статуса заказа.
+     *
+     * @return Значение типа {@link String} - описание статуса.
+     */
+    public String getStatusDescription() {
+        return this.statusDescription;
+    }
+
+    /**
+     * Возвращает код менеджера, который обработал заказ.
+     *
+     * @return Значение типа {@link Long} - код менеджера.
+     */
+    public Long getManagerId() {
+        return this.managerId;
+    }
+
+    /**
+     * Возвращает описание строки списка заказов.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - номер и статус заказа.
+     */
+    @Override
+    public String toString() {
+        return "number = " + this.number + ", status = " + this.status;
+    }
+}
@@ -0,0 +1,214 @@
+package ua.com.alexcoffee.projection;
+
+import ua.com.alexcoffee.model.Product;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Класс описывает карточку товара для списков товаров - только поля,
+ * которые выводятся в списке: код, название, URL, цена, малое изображение
+ * с уменьшенными копиями и категория. Создается запросом JPQL с выражением конструктора,
+ * поэтому из базы данных читаются только эти колонки, а сущности
+ * {@link Product} не создаются и не попадают в контекст персистентности.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see Product
+ */
+public final class ProductCard {
+    /**
+     * Код товара.
+     */
+    private final Long id;
+
+    /**
+     * Название товара.
+     */
+    private final String title;
+
+    /**
+     * URL товара.
+     */
+    private final String url;
+
+    /**
+     * Цена товара.
+     */
+    private final double price;
+
+    /**
+     * Ссылка на малое изображение товара.
+     */
+    private final String photoLinkShort;
+
+    /**
+     * Ссылка на уменьшенную копию малого изображения товара
+     * или на малое изображение, если копии нет.
+     */
+    private final String photoLinkThumb;
+
+    /**
+     * Ссылка на уменьшенную копию малого изображения товара двойного размера.
+     */
+    private final String photoLinkThumb2x;
+
+    /**
+     * Код категории товара.
+     */
+    private final Long categoryId;
+
+    /**
+     * Название категории товара.
+     */
+    private final String categoryTitle;
+
+    /**
+     * Конструктор для инициализации карточки товара.
+     *
+     * @param id             Код товара.
+     * @param title          Название товара.
+     * @param url            URL товара.
+     * @param price          Цена товара.
+     * @param photoLinkShort   Ссылка на малое изображение, null - нет изображения.
+     * @param photoLinkThumb   Ссылка на уменьшенную копию, null - нет копии.
+     * @param photoLinkThumb2x Ссылка на копию двойного размера, null - нет копии.
+     * @param categoryId       Код категории, null - нет категории.
+     * @param categoryTitle    Название категории, null - нет категории.
+     */
+    public ProductCard(
+            final Long id,
+            final String title,
+            final String url,
+            final double price,
+            final String photoLinkShort,
+            final String photoLinkThumb,
+            final String photoLinkThumb2x,
+            final Long categoryId,
+            final String categoryTitle
+    ) {
+        this.id = id;
+        this.title = title;
+        this.url = url;
+        this.price = price;
+        this.photoLinkShort = photoLinkShort;
+        this.photoLinkThumb = isNotBlank(photoLinkThumb) ? photoLinkThumb : photoLinkShort;
+        this.photoLinkThumb2x = isNotBlank(photoLinkThumb2x) ? photoLinkThumb2x : null;
+        this.categoryId = categoryId;
+        this.categoryTitle = categoryTitle;
+    }
+
+    /**
+     * Конструктор создает карточку по товару.
+     *
+     * @param product Товар.
+     */
+    public ProductCard(final Product product) {
+        this(
+                product.getId(),
+                product.getTitle(),
+                product.getUrl(),
+                product.getPrice(),
+                product.getPhotoLinkShort(),
+                product.getPhotoLinkThumb(),
+                product.getPhotoLinkThumb2x(),
+                (product.getCategory() != null) ? product.getCategory().getId() : null,
+                (product.getCategory() != null) ? product.getCategory().getTitle() : null
+        );
+    }
+
+    /**
+     * Возвращает код товара.
+     *
+     * @return Значение типа {@link Long} - код товара.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Возвращает название товара.
+     *
+     * @return Значение типа {@link String} - название товара.
+     */
+    public String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Возвращает URL товара.
+     *
+     * @return Значение типа {@link String} - URL товара.
+     */
+    public String getUrl() {
+        return this.url;
+    }
+
+    /**
+     * Возвращает цену товара.
+     *
+     * @return Значение типа double - цена товара.
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+    /**
+     * Возвращает ссылку на малое изображение товара.
+     *
+     * @return Значение типа {@link String} - ссылка на изображение.
+     */
+    public String getPhotoLinkShort() {
+        return this.photoLinkShort;
+    }
+
+    /**
+     * Возвращает ссылку на уменьшенную копию малого изображения товара
+     * для списка товаров.
+     *
+     * @return Значение типа {@link String} - ссылка на копию или на малое
+     * изображение, если копии нет.
+     */
+    public String getPhotoLinkThumb() {
+        return this.photoLinkThumb;
+    }
+
+    /**
+     * Возвращает ссылку на уменьшенную копию малого изображения
+     * двойного размера для экранов высокой плотности.
+     *
+     * @return Значение типа {@link String} - ссылка на копию
+     * или null, если копии нет.
+     */
+    public String getPhotoLinkThumb2x() {
+        return this.photoLinkThumb2x;
+    }
+
+    /**
+     * Возвращает код категории товара.
+     *
+     * @return Значение типа {@link Long} - код категории.
+     */
+    public Long getCategoryId() {
+        return this.categoryId;
+    }
+
+    /**
+     * Возвращает название категории товара.
+     *
+     * @return Значение типа {@link String} - название категории.
+     */
+    public String getCategoryTitle() {
+        return this.categoryTitle;
+    }
+
+    /**
+     * Возвращает описание карточки товара.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - код, название и цена товара.
+     */
+    @Override
+    public String toString() {
+        return "id = " + this.id + ", title = " + this.title + ", price = " + this.price;
+    }
+}
@@ -1,7 +1,12 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ua.com.alexcoffee.model.Category;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для объектов класса {@link Category}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
@@ -14,10 +19,12 @@ import ua.com.alexcoffee.model.Category;
 public interface CategoryRepository extends MainRepository<Category, Long> {
     /**
      * Возвращает категорию из базы данных, у которой совпадает параметр url.
+     * Результат запроса хранится в кеше запросов Hibernate.
      *
      * @param url URL категории для возврата.
      * @return Объект класса {@link Category} - категория с уникальным url полем.
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Category findByUrl(String url);
 
     /**
@@ -26,4 +33,15 @@ public interface CategoryRepository extends MainRepository<Category, Long> {
      * @param url URL категории для удаления.
      */
     void deleteByUrl(String url);
+
+    /**
+     * Возвращает URL всех категорий в порядке возрастания кодов в виде
+     * потока, который читается из базы данных однонаправленным курсором.
+     * Поток должен использоваться внутри транзакции и обязательно закрываться.
+     *
+     * @return Объект типа {@link Stream} - поток URL категорий.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+    @Query("SELECT c.url FROM Category c ORDER BY c.id")
+    Stream<String> streamAllUrls();
 }
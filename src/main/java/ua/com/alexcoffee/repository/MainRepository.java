@@ -1,7 +1,10 @@
 package ua.com.alexcoffee.repository;
 
 import ua.com.alexcoffee.model.Model;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
 
 /**
  * Репозиторий для объектов классов наследников класса {@link Model}.
@@ -12,6 +15,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Spring Data должен предоставить реализацию методов для работы с этой
  * сущностью (обязательно). Второй Generic E должен быть оберточным типом
  * того типа которым есть id нашей сущности (обязательно).
+ * Аннотация @NoRepositoryBean сообщает Spring Data, что для самого
+ * интерфейса реализацию создавать не нужно - только для наследников.
  *
  * @param <T> Тип (класс) сущности.
  * @param <E> Тип id сущности.
@@ -27,5 +32,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @see UserRepository
  * @see Model
  */
+@NoRepositoryBean
 public interface MainRepository<T extends Model, E extends Number> extends JpaRepository<T, E> {
+    /**
+     * Возвращает порцию моделей, код которых больше входящего параметра id,
+     * в порядке возрастания кодов (keyset-пагинация). В отличии от выборки
+     * по номеру страницы база данных не пропускает предыдущие строки, а сразу
+     * переходит к нужному месту по первичному ключу, поэтому скорость выборки
+     * не зависит от того, насколько далеко пролистан список. Запрос количества
+     * строк не выполняется.
+     *
+     * @param id       Код последней модели предыдущей порции.
+     * @param pageable Размер порции.
+     * @return Объект типа {@link Slice} - порция моделей.
+     */
+    Slice<T> findByIdGreaterThanOrderByIdAsc(E id, Pageable pageable);
 }
@@ -1,10 +1,22 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.projection.OrderRow;
+
+import java.util.List;
 
 /**
  * Репозиторий для объектов класса {@link Order}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ * Списки заказов загружаются одним запросом по графу {@link Order#LIST_GRAPH},
+ * заказ для страницы заказа - по графу {@link Order#DETAIL_GRAPH}.
+ * Для страниц списков заказов читаются только колонки строки {@link OrderRow}.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -12,6 +24,73 @@ import ua.com.alexcoffee.model.Order;
  * @see Order
  */
 public interface OrderRepository extends MainRepository<Order, Long> {
+    /**
+     * Возвращает заказ из базы данных по уникальному коду вместе со
+     * статусом, клиентом, менеджером и торговыми позициями.
+     *
+     * @param id Код заказа.
+     * @return Объект класса {@link Order} - заказ с уникальным кодом.
+     */
+    @Override
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Order findOne(Long id);
+
+    /**
+     * Возвращает все заказы из базы данных вместе со статусом,
+     * клиентом и менеджером, без торговых позиций.
+     *
+     * @return Объект типа {@link List} - список заказов.
+     */
+    @Override
+    @EntityGraph(Order.LIST_GRAPH)
+    List<Order> findAll();
+
+    /**
+     * Возвращает страницу заказов из базы данных вместе со статусом,
+     * клиентом и менеджером, без торговых позиций.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница заказов.
+     */
+    @Override
+    @EntityGraph(Order.LIST_GRAPH)
+    Page<Order> findAll(Pageable pageable);
+
+    /**
+     * Возвращает первую порцию строк списка заказов в порядке убывания
+     * кодов, то есть сначала новые заказы: из базы данных читаются только
+     * номер, дата, статус и код менеджера, клиент и менеджер не загружаются.
+     * Запрос количества заказов не выполняется.
+     *
+     * @param pageable Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    @Query(
+            "SELECT NEW ua.com.alexcoffee.projection.OrderRow("
+                    + "o.id, o.number, o.date, s.title, s.description, m.id) "
+                    + "FROM Order o LEFT JOIN o.status s LEFT JOIN o.manager m "
+                    + "ORDER BY o.id DESC"
+    )
+    Slice<OrderRow> findFirstRows(Pageable pageable);
+
+    /**
+     * Возвращает следующую порцию строк списка заказов, код которых меньше
+     * входящего параметра id, в порядке убывания кодов (keyset-пагинация).
+     * Колонки те же, что и в методе findFirstRows, запрос количества заказов
+     * не выполняется.
+     *
+     * @param id       Код последнего заказа предыдущей порции.
+     * @param pageable Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    @Query(
+            "SELECT NEW ua.com.alexcoffee.projection.OrderRow("
+                    + "o.id, o.number, o.date, s.title, s.description, m.id) "
+                    + "FROM Order o LEFT JOIN o.status s LEFT JOIN o.manager m "
+                    + "WHERE o.id < :id ORDER BY o.id DESC"
+    )
+    Slice<OrderRow> findRowsAfter(@Param("id") Long id, Pageable pageable);
+
     /**
      * Возвращает заказ из базы даных, у которого совпадает
      * уникальный номером с значением входящего параметра.
@@ -20,6 +99,7 @@ public interface OrderRepository extends MainRepository<Order, Long> {
      * @return Объект класса {@link Order} - заказ с уникальным номером
      * для возвращения.
      */
+    @EntityGraph(Order.DETAIL_GRAPH)
     Order findByNumber(String number);
 
     /**
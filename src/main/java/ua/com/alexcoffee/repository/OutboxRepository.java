@@ -0,0 +1,101 @@
+package ua.com.alexcoffee.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import ua.com.alexcoffee.model.OutboxMessage;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Репозиторий для объектов класса {@link OutboxMessage}, предоставляющий
+ * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see MainRepository
+ * @see OutboxMessage
+ */
+public interface OutboxRepository extends MainRepository<OutboxMessage, Long> {
+    /**
+     * Возвращает из базы данных самые старые свободные сообщения, у которых
+     * количество неудачных попыток отправки меньше заданного. Свободно
+     * сообщение, которое никем не захвачено или захват которого истек.
+     *
+     * @param attempts Максимальное количество попыток.
+     * @param now      Текущее время.
+     * @param pageable Размер выборки.
+     * @return Объект типа {@link List} - сообщения в порядке добавления.
+     */
+    @Query(
+            "SELECT m FROM OutboxMessage m WHERE m.attempts < :attempts "
+                    + "AND (m.lockedUntil IS NULL OR m.lockedUntil < :now) ORDER BY m.id"
+    )
+    List<OutboxMessage> findPending(
+            @Param("attempts") int attempts,
+            @Param("now") Date now,
+            Pageable pageable
+    );
+
+    /**
+     * Захватывает свободное сообщение до времени until. Захват выполняется
+     * одним условным запросом UPDATE, поэтому из нескольких экземпляров
+     * приложения сообщение захватит только один.
+     *
+     * @param id    Код сообщения.
+     * @param now   Текущее время.
+     * @param until Время окончания захвата.
+     * @return Значение типа int - 1, если сообщение захвачено, иначе 0.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            "UPDATE OutboxMessage m SET m.lockedUntil = :until "
+                    + "WHERE m.id = :id AND (m.lockedUntil IS NULL OR m.lockedUntil < :now)"
+    )
+    int lock(
+            @Param("id") Long id,
+            @Param("now") Date now,
+            @Param("until") Date until
+    );
+
+    /**
+     * Удаляет отправленное сообщение, если оно все еще захвачено
+     * до времени until, то есть его не захватил другой ретранслятор.
+     *
+     * @param id    Код сообщения.
+     * @param until Время окончания захвата.
+     * @return Значение типа int - 1, если сообщение удалено, иначе 0.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxMessage m WHERE m.id = :id AND m.lockedUntil = :until")
+    int deleteLocked(
+            @Param("id") Long id,
+            @Param("until") Date until
+    );
+
+    /**
+     * Снимает захват сообщения, если оно все еще захвачено до времени
+     * until, и увеличивает количество неудачных попыток на attempts.
+     *
+     * @param id       Код сообщения.
+     * @param until    Время окончания захвата.
+     * @param attempts Количество новых неудачных попыток: 0 или 1.
+     * @return Значение типа int - 1, если захват снят, иначе 0.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            "UPDATE OutboxMessage m SET m.lockedUntil = NULL, m.attempts = m.attempts + :attempts "
+                    + "WHERE m.id = :id AND m.lockedUntil = :until"
+    )
+    int unlock(
+            @Param("id") Long id,
+            @Param("until") Date until,
+            @Param("attempts") int attempts
+    );
+}
@@ -1,5 +1,9 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.model.Photo;
 
 /**
@@ -28,4 +32,27 @@ public interface PhotoRepository extends MainRepository<Photo, Long> {
      * @param title Название объекта-изображения для удаление.
      */
     void deleteByTitle(String title);
+
+    /**
+     * Записывает ссылки на уменьшенные копии всем изображениям, у которых
+     * малое изображение совпадает с source. Одним запросом обновляются
+     * и изображения, которые ссылаются на тот же файл. Hibernate сбрасывает
+     * изображения из второго уровня кеша после такого запроса.
+     *
+     * @param source  Ссылка на малое изображение.
+     * @param thumb   Ссылка на уменьшенную копию.
+     * @param thumb2x Ссылка на уменьшенную копию двойного размера.
+     * @return Значение типа int - количество обновленных изображений.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            "UPDATE Photo ph SET ph.photoLinkThumb = :thumb, ph.photoLinkThumb2x = :thumb2x "
+                    + "WHERE ph.photoLinkShort = :source"
+    )
+    int updateThumbnails(
+            @Param("source") String source,
+            @Param("thumb") String thumb,
+            @Param("thumb2x") String thumb2x
+    );
 }
@@ -1,12 +1,25 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для объектов класса {@link Product}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
+ * Списки товаров загружаются одним запросом по графу {@link Product#CARD_GRAPH},
+ * товар для страницы товара - по графу {@link Product#DETAIL_GRAPH}.
+ * Для страниц списков товаров читаются только колонки карточки {@link ProductCard}.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -14,12 +27,72 @@ import java.util.List;
  * @see Product
  */
 public interface ProductRepository extends MainRepository<Product, Long> {
+    /**
+     * Возвращает товар из базы данных по уникальному коду
+     * вместе с категорией и изображением.
+     *
+     * @param id Код товара.
+     * @return Объект класса {@link Product} - товар с уникальным кодом.
+     */
+    @Override
+    @EntityGraph(Product.DETAIL_GRAPH)
+    Product findOne(Long id);
+
+    /**
+     * Возвращает товары из базы данных по кодам вместе с изображениями.
+     *
+     * @param ids Коды товаров.
+     * @return Объект типа {@link List} - список товаров.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    List<Product> findAll(Iterable<Long> ids);
+
+    /**
+     * Возвращает страницу товаров из базы данных вместе с изображениями.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница товаров.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    Page<Product> findAll(Pageable pageable);
+
+    /**
+     * Возвращает порцию товаров, код которых больше входящего параметра id,
+     * в порядке возрастания кодов, вместе с изображениями.
+     *
+     * @param id       Код последнего товара предыдущей порции.
+     * @param pageable Размер порции.
+     * @return Объект типа {@link Slice} - порция товаров.
+     */
+    @Override
+    @EntityGraph(Product.CARD_GRAPH)
+    Slice<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Возвращает страницу карточек товаров: из базы данных читаются
+     * только колонки, которые выводятся в списке товаров.
+     *
+     * @param pageable Номер и размер страницы.
+     * @return Объект типа {@link Page} - страница карточек товаров.
+     */
+    @Query(
+            value = "SELECT NEW ua.com.alexcoffee.projection.ProductCard("
+                    + "p.id, p.title, p.url, p.price, ph.photoLinkShort, ph.photoLinkThumb, ph.photoLinkThumb2x, "
+                    + "c.id, c.title) "
+                    + "FROM Product p LEFT JOIN p.photo ph LEFT JOIN p.category c",
+            countQuery = "SELECT COUNT(p) FROM Product p"
+    )
+    Page<ProductCard> findAllCards(Pageable pageable);
+
     /**
      * Возвращает товар из базы данных, у которого совпадает параметр url.
      *
      * @param url URL товара для возврата.
      * @return Объект класса {@link Product} - товар с уникальным url полем.
      */
+    @EntityGraph(Product.DETAIL_GRAPH)
     Product findByUrl(String url);
 
     /**
@@ -29,6 +102,7 @@ public interface ProductRepository extends MainRepository<Product, Long> {
      * @param article Артикль товара для возврата.
      * @return Объект класса {@link Product} - товара с уникальным артиклем.
      */
+    @EntityGraph(Product.DETAIL_GRAPH)
     Product findByArticle(int article);
 
     /**
@@ -52,5 +126,37 @@ public interface ProductRepository extends MainRepository<Product, Long> {
      * @param id Код категории.
      * @return Объект типа {@link List} - список товаров.
      */
+    @EntityGraph(Product.CARD_GRAPH)
     List<Product> findByCategoryId(long id);
+
+    /**
+     * Возвращает коды всех товаров из базы данных без загрузки самих товаров.
+     *
+     * @return Объект типа {@link List} - список кодов товаров.
+     */
+    @Query("SELECT p.id FROM Product p")
+    List<Long> findAllIds();
+
+    /**
+     * Возвращает коды товаров, которые пренадлежат категории
+     * с уникальным кодом - входным параметром, без загрузки самих товаров.
+     *
+     * @param id Код категории.
+     * @return Объект типа {@link List} - список кодов товаров.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.category.id = :id")
+    List<Long> findIdsByCategoryId(@Param("id") long id);
+
+    /**
+     * Возвращает URL всех товаров в порядке возрастания кодов в виде
+     * потока, который читается из базы данных однонаправленным курсором
+     * построчно (для MySQL - размер выборки Integer.MIN_VALUE), сами товары
+     * не загружаются. Поток должен использоваться внутри транзакции
+     * и обязательно закрываться.
+     *
+     * @return Объект типа {@link Stream} - поток URL товаров.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+    @Query("SELECT p.url FROM Product p ORDER BY p.id")
+    Stream<String> streamAllUrls();
 }
@@ -1,8 +1,11 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.QueryHints;
 import ua.com.alexcoffee.enums.RoleEnum;
 import ua.com.alexcoffee.model.Role;
 
+import javax.persistence.QueryHint;
+
 /**
  * Репозиторий для объектов класса {@link Role}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
@@ -16,10 +19,12 @@ public interface RoleRepository extends MainRepository<Role, Long> {
     /**
      * Возвращает роль из базы даных по названию, которое может принимать
      * одно из значений перечисления {@link RoleEnum}.
+     * Результат запроса хранится в кеше запросов Hibernate.
      *
      * @param title Название роли.
      * @return Объект класса {@link Role} - роль с уникальным названием.
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Role findByTitle(RoleEnum title);
 
     /**
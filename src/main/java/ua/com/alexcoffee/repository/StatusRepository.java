@@ -1,8 +1,11 @@
 package ua.com.alexcoffee.repository;
 
+import org.springframework.data.jpa.repository.QueryHints;
 import ua.com.alexcoffee.model.Status;
 import ua.com.alexcoffee.enums.StatusEnum;
 
+import javax.persistence.QueryHint;
+
 /**
  * Репозиторий для объектов класса {@link Status}, предоставляющий
  * набор методов JPA для работы с БД. Наследует интерфейс {@link MainRepository}.
@@ -16,10 +19,12 @@ public interface StatusRepository extends MainRepository<Status, Long> {
     /**
      * Возвращает статус из базы даных по названию, которое может принимать
      * одно из значений перечисления {@link StatusEnum}.
+     * Результат запроса хранится в кеше запросов Hibernate.
      *
      * @param title Название статуса.
      * @return Объект класса {@link Status} - статус с уникальным названием.
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Status findByTitle(StatusEnum title);
 
     /**
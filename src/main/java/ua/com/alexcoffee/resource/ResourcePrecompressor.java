@@ -0,0 +1,199 @@
+package ua.com.alexcoffee.resource;
+
+import org.apache.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Утилита сборки статических ресурсов, запускается Maven на фазе
+ * prepare-package. Для текстовых ресурсов (CSS, JS, шрифтов без
+ * собственного сжатия) сохраняет сжатые gzip копии с расширением ".gz",
+ * которые отдает клиентам GzipResourceResolver, и записывает в файл
+ * настроек версию ресурсов - хеш содержимого всех файлов.
+ * Версия добавляется в URL ресурсов, поэтому меняется только
+ * когда меняется хоть один файл.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.config.WebConfig
+ */
+public final class ResourcePrecompressor {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ResourcePrecompressor.class);
+
+    /**
+     * Ключ версии ресурсов в файле настроек.
+     */
+    public static final String VERSION_KEY = "alexcoffee.resources.version";
+
+    /**
+     * Расширения файлов, которые имеет смысл сжимать.
+     */
+    private static final List<String> COMPRESSIBLE = Arrays.asList(
+            "css", "js", "map", "svg", "eot", "ttf", "ico", "json", "xml", "txt", "html"
+    );
+
+    /**
+     * Минимальный размер файла для сжатия в байтах.
+     */
+    private static final int MIN_SIZE = 1024;
+
+    /**
+     * Количество символов хеша в версии.
+     */
+    private static final int VERSION_LENGTH = 16;
+
+    /**
+     * Конструктор закрыт, класс содержит только статические методы.
+     */
+    private ResourcePrecompressor() {
+    }
+
+    /**
+     * Точка входа утилиты.
+     *
+     * @param args Каталог ресурсов, каталог для сжатых копий
+     *             и файл настроек для версии.
+     * @throws IOException Исключение чтения или записи файлов.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: ResourcePrecompressor <resources> <output> <properties>"
+            );
+        }
+        final String version = precompress(Paths.get(args[0]), Paths.get(args[1]));
+        writeVersion(Paths.get(args[2]), version);
+        LOGGER.info("Resources version: " + version);
+    }
+
+    /**
+     * Сохраняет сжатые копии ресурсов из каталога source в каталог
+     * target с той же структурой и считает версию ресурсов. Копия
+     * сохраняется, только если она хотя бы на 10% меньше оригинала.
+     *
+     * @param source Каталог ресурсов.
+     * @param target Каталог для сжатых копий.
+     * @return Значение типа {@link String} - версия ресурсов.
+     * @throws IOException Исключение чтения или записи файлов.
+     */
+    public static String precompress(final Path source, final Path target) throws IOException {
+        final MessageDigest digest = newDigest();
+        final List<Path> files;
+        try (Stream<Path> stream = Files.walk(source)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(file -> !file.toString().endsWith(".gz"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            final String name = source.relativize(file).toString().replace('\\', '/');
+            final byte[] content = Files.readAllBytes(file);
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content);
+            if (isCompressible(name) && content.length >= MIN_SIZE) {
+                final byte[] compressed = gzip(content);
+                if (compressed.length < content.length * 0.9) {
+                    final Path gzipped = target.resolve(name + ".gz");
+                    Files.createDirectories(gzipped.getParent());
+                    Files.write(gzipped, compressed);
+                }
+            }
+        }
+        return toHex(digest.digest()).substring(0, VERSION_LENGTH);
+    }
+
+    /**
+     * Записывает версию ресурсов в файл настроек.
+     *
+     * @param properties Файл настроек.
+     * @param version    Версия ресурсов.
+     * @throws IOException Исключение записи файла.
+     */
+    public static void writeVersion(final Path properties, final String version) throws IOException {
+        if (properties.getParent() != null) {
+            Files.createDirectories(properties.getParent());
+        }
+        Files.write(
+                properties,
+                ("# Generated by the build, do not edit.\n" + VERSION_KEY + "=" + version + "\n")
+                        .getBytes(StandardCharsets.ISO_8859_1)
+        );
+    }
+
+    /**
+     * Проверяет по расширению, имеет ли смысл сжимать файл.
+     *
+     * @param name Имя файла.
+     * @return Значение типа boolean - true, если файл текстовый.
+     */
+    static boolean isCompressible(final String name) {
+        final int dot = name.lastIndexOf('.');
+        return dot != -1 && COMPRESSIBLE.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Сжимает данные gzip с максимальной степенью сжатия -
+     * сжатие выполняется один раз при сборке.
+     *
+     * @param content Данные для сжатия.
+     * @return Массив типа byte - сжатые данные.
+     * @throws IOException Исключение сжатия.
+     */
+    static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                this.def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Создает объект для подсчета хеша SHA-256.
+     *
+     * @return Объект класса {@link MessageDigest}.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Переводит массив байт в строку шестнадцатеричных цифр.
+     *
+     * @param bytes Массив байт.
+     * @return Значение типа {@link String} - шестнадцатеричная строка.
+     */
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16))
+                    .append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
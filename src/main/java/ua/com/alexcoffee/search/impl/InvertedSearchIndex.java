@@ -0,0 +1,530 @@
+package ua.com.alexcoffee.search.impl;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Класс реализует методы интерфейса {@link SearchIndex} в виде обратного
+ * индекса: для каждого слова хранятся коды товаров, в которых оно
+ * встречается, и вес слова в товаре. Слова хранятся в отсортированном
+ * словаре, поэтому слова с заданным началом выбираются одним диапазоном.
+ * Вес слова зависит от поля товара: название важнее параметров,
+ * параметры важнее описания; полное совпадение слова весит больше
+ * совпадения по началу. Тексты разбиваются на слова без учета регистра,
+ * буква "ё" приравнивается к "е", апострофы внутри украинских слов
+ * отбрасываются. Индекс защищен блокировкой чтения-записи: поиски
+ * выполняются параллельно, изменения - по одному.
+ * Класс помечен аннотацией @Component - Spring автоматически зарегестрирует
+ * компонент в своём контексте для последующей инъекции.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SearchIndex
+ */
+@Component
+public final class InvertedSearchIndex implements SearchIndex {
+    /**
+     * Вес слова из названия товара.
+     */
+    private static final int TITLE_WEIGHT = 8;
+
+    /**
+     * Вес слова из параметров товара.
+     */
+    private static final int PARAMETERS_WEIGHT = 3;
+
+    /**
+     * Вес слова из описания товара.
+     */
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * Множитель веса при полном совпадении слова запроса со словом товара.
+     */
+    private static final int EXACT_MATCH_FACTOR = 2;
+
+    /**
+     * Минимальная длина слова, кроме чисел.
+     */
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    /**
+     * Слова и коды товаров с весом слова в товаре.
+     */
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+    /**
+     * Слова каждого товара, нужны для удаления товара из индекса.
+     */
+    private final Map<Long, Set<String>> terms = new HashMap<>();
+
+    /**
+     * Карточки товаров, которые возвращаются в результатах поиска.
+     */
+    private final Map<Long, ProductCard> cards = new HashMap<>();
+
+    /**
+     * Блокировка чтения-записи индекса.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Монитор построения индекса, чтобы индекс строил только один поток.
+     */
+    private final Object rebuildMonitor = new Object();
+
+    /**
+     * Счетчик изменений индекса, по нему построение индекса определяет,
+     * что товары изменились, пока загружались из базы данных.
+     */
+    private long generation;
+
+    /**
+     * Признак того, что индекс построен и соответствует базе данных.
+     */
+    private volatile boolean built;
+
+    /**
+     * Возвращает карточки товаров, которые содержат все слова запроса,
+     * в порядке убывания релевантности, при равной релевантности -
+     * в порядке возрастания кодов.
+     *
+     * @param query Поисковый запрос.
+     * @param limit Максимальное количество результатов.
+     * @return Объект типа {@link List} - список карточек товаров.
+     */
+    @Override
+    public List<ProductCard> search(final String query, final int limit) {
+        final List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || (limit <= 0)) {
+            return new ArrayList<>();
+        }
+        this.lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                final Map<Long, Integer> matches = match(token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            final List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(
+                    (first, second) -> (first.getValue().equals(second.getValue()))
+                            ? first.getKey().compareTo(second.getKey())
+                            : second.getValue().compareTo(first.getValue())
+            );
+            final List<ProductCard> result = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (Map.Entry<Long, Integer> entry : ranked) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(this.cards.get(entry.getKey()));
+            }
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Возвращает true, если индекс построен и соответствует базе данных.
+     *
+     * @return Значение типа boolean.
+     */
+    @Override
+    public boolean isBuilt() {
+        return this.built;
+    }
+
+    /**
+     * Строит индекс заново по товарам из загрузчика loader, если индекс
+     * еще не построен. Если товары изменились во время загрузки,
+     * индекс остается непостроенным и будет построен при следующем поиске.
+     *
+     * @param loader Загрузчик всех товаров из базы данных.
+     */
+    @Override
+    public void rebuild(final Supplier<List<Product>> loader) {
+        synchronized (this.rebuildMonitor) {
+            if (this.built) {
+                return;
+            }
+            final long start;
+            this.lock.readLock().lock();
+            try {
+                start = this.generation;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+            final List<Document> documents = new ArrayList<>();
+            final List<Product> products = loader.get();
+            if (products != null) {
+                for (Product product : products) {
+                    final Document document = Document.of(product);
+                    if (document != null) {
+                        documents.add(document);
+                    }
+                }
+            }
+            this.lock.writeLock().lock();
+            try {
+                clearAll();
+                for (Document document : documents) {
+                    index(document);
+                }
+                this.built = (this.generation == start);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Добавляет товар в индекс или обновляет его. Слова товара
+     * выделяются сразу, а индекс меняется после коммита транзакции.
+     *
+     * @param product Товар для индексации.
+     */
+    @Override
+    public void put(final Product product) {
+        final Document document = Document.of(product);
+        if (document != null) {
+            afterCommit(() -> change(() -> index(document)));
+        }
+    }
+
+    /**
+     * Удаляет товар из индекса после коммита транзакции.
+     *
+     * @param id Код товара.
+     */
+    @Override
+    public void remove(final Long id) {
+        if (id != null) {
+            afterCommit(() -> change(() -> unindex(id)));
+        }
+    }
+
+    /**
+     * Удаляет все товары из индекса после коммита транзакции.
+     */
+    @Override
+    public void clear() {
+        afterCommit(() -> change(this::clearAll));
+    }
+
+    /**
+     * Помечает индекс как устаревший и освобождает его память.
+     * Внутри транзакции индекс помечается еще раз после коммита,
+     * чтобы параллельный поиск не построил индекс из данных,
+     * прочитанных до коммита.
+     */
+    @Override
+    public void invalidate() {
+        markStale();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(this::markStale);
+        }
+    }
+
+    /**
+     * Возвращает количество товаров в индексе.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    @Override
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.cards.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Возвращает описание индекса.
+     * Переопределенный метод родительского класса {@link Object}.
+     *
+     * @return Значение типа {@link String} - количество товаров и слов.
+     */
+    @Override
+    public String toString() {
+        this.lock.readLock().lock();
+        try {
+            return "products = " + this.cards.size()
+                    + ", terms = " + this.postings.size()
+                    + ", built = " + this.built;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Разбивает текст на различные слова в нижнем регистре в порядке
+     * их появления. Словом считается последовательность букв и цифр,
+     * апострофы внутри слова пропускаются, буква "ё" заменяется на "е".
+     * Слова короче двух символов, кроме чисел, отбрасываются.
+     *
+     * @param text Текст для разбиения.
+     * @return Объект типа {@link List} - список слов.
+     */
+    static List<String> tokenize(final String text) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        if (text != null) {
+            final StringBuilder token = new StringBuilder();
+            for (int i = 0; i < text.length(); i++) {
+                final char symbol = text.charAt(i);
+                if (Character.isLetterOrDigit(symbol)) {
+                    token.append(normalize(symbol));
+                } else if (!isApostrophe(symbol)) {
+                    addToken(tokens, token);
+                }
+            }
+            addToken(tokens, token);
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Возвращает товары, в которых есть слова, начинающиеся со слова
+     * запроса, с наибольшим весом такого слова в каждом товаре.
+     *
+     * @param token Слово запроса.
+     * @return Объект типа {@link Map} - коды товаров и вес совпадения.
+     */
+    private Map<Long, Integer> match(final String token) {
+        final Map<Long, Integer> matches = new HashMap<>();
+        final Map<String, Map<Long, Integer>> range = this.postings.subMap(
+                token, true, token + Character.MAX_VALUE, false
+        );
+        for (Map.Entry<String, Map<Long, Integer>> entry : range.entrySet()) {
+            final int factor = (entry.getKey().length() == token.length()) ? EXACT_MATCH_FACTOR : 1;
+            for (Map.Entry<Long, Integer> posting : entry.getValue().entrySet()) {
+                matches.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Добавляет документ товара в индекс, заменяя прежние слова товара.
+     * Вызывается под блокировкой записи.
+     *
+     * @param document Документ товара.
+     */
+    private void index(final Document document) {
+        unindex(document.card.getId());
+        for (Map.Entry<String, Integer> entry : document.weights.entrySet()) {
+            this.postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                    .put(document.card.getId(), entry.getValue());
+        }
+        this.terms.put(document.card.getId(), document.weights.keySet());
+        this.cards.put(document.card.getId(), document.card);
+    }
+
+    /**
+     * Удаляет товар из индекса. Вызывается под блокировкой записи.
+     *
+     * @param id Код товара.
+     */
+    private void unindex(final Long id) {
+        final Set<String> words = this.terms.remove(id);
+        if (words != null) {
+            for (String word : words) {
+                final Map<Long, Integer> ids = this.postings.get(word);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        this.postings.remove(word);
+                    }
+                }
+            }
+        }
+        this.cards.remove(id);
+    }
+
+    /**
+     * Очищает все структуры индекса. Вызывается под блокировкой записи.
+     */
+    private void clearAll() {
+        this.postings.clear();
+        this.terms.clear();
+        this.cards.clear();
+    }
+
+    /**
+     * Применяет изменение к построенному индексу под блокировкой записи
+     * и увеличивает счетчик изменений. Непостроенный индекс не меняется -
+     * изменение попадет в него при построении.
+     *
+     * @param action Изменение индекса.
+     */
+    private void change(final Runnable action) {
+        this.lock.writeLock().lock();
+        try {
+            this.generation++;
+            if (this.built) {
+                action.run();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Помечает индекс как непостроенный и очищает его.
+     */
+    private void markStale() {
+        this.lock.writeLock().lock();
+        try {
+            this.generation++;
+            this.built = false;
+            clearAll();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Выполняет действие после коммита текущей транзакции,
+     * а вне транзакции - сразу.
+     *
+     * @param action Действие.
+     */
+    private static void afterCommit(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronizationAdapter() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    }
+            );
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Добавляет накопленное слово в множество слов и очищает буфер.
+     *
+     * @param tokens Множество слов.
+     * @param token  Буфер слова.
+     */
+    private static void addToken(final Set<String> tokens, final StringBuilder token) {
+        if ((token.length() >= MIN_TOKEN_LENGTH)
+                || ((token.length() > 0) && Character.isDigit(token.charAt(0)))) {
+            tokens.add(token.toString());
+        }
+        token.setLength(0);
+    }
+
+    /**
+     * Приводит символ к нижнему регистру, "ё" заменяется на "е".
+     *
+     * @param symbol Символ.
+     * @return Значение типа char - нормализованный символ.
+     */
+    private static char normalize(final char symbol) {
+        final char lower = Character.toLowerCase(symbol);
+        return (lower == 'ё') ? 'е' : lower;
+    }
+
+    /**
+     * Проверяет, является ли символ апострофом.
+     *
+     * @param symbol Символ.
+     * @return Значение типа boolean - true, если символ - апостроф.
+     */
+    private static boolean isApostrophe(final char symbol) {
+        return (symbol == '\'') || (symbol == '’') || (symbol == 'ʼ') || (symbol == '`');
+    }
+
+    /**
+     * Класс описывает товар, подготовленный к индексации:
+     * карточку товара и веса его слов.
+     */
+    private static final class Document {
+        /**
+         * Карточка товара.
+         */
+        private final ProductCard card;
+
+        /**
+         * Слова товара и их вес.
+         */
+        private final Map<String, Integer> weights;
+
+        /**
+         * Конструктор для инициализации документа.
+         *
+         * @param card    Карточка товара.
+         * @param weights Слова товара и их вес.
+         */
+        private Document(final ProductCard card, final Map<String, Integer> weights) {
+            this.card = card;
+            this.weights = weights;
+        }
+
+        /**
+         * Создает документ по товару. Слово, которое встречается
+         * в нескольких полях, получает вес самого важного поля.
+         *
+         * @param product Товар.
+         * @return Объект класса {@link Document} или null,
+         * если товар или его код равны null.
+         */
+        private static Document of(final Product product) {
+            if ((product == null) || (product.getId() == null)) {
+                return null;
+            }
+            final Map<String, Integer> weights = new HashMap<>();
+            addWeights(weights, product.getTitle(), TITLE_WEIGHT);
+            addWeights(weights, product.getParameters(), PARAMETERS_WEIGHT);
+            addWeights(weights, product.getDescription(), DESCRIPTION_WEIGHT);
+            return new Document(new ProductCard(product), weights);
+        }
+
+        /**
+         * Добавляет слова текста с весом weight.
+         *
+         * @param weights Слова и их вес.
+         * @param text    Текст.
+         * @param weight  Вес слов текста.
+         */
+        private static void addWeights(
+                final Map<String, Integer> weights,
+                final String text,
+                final int weight
+        ) {
+            for (String token : tokenize(text)) {
+                weights.merge(token, weight, Math::max);
+            }
+        }
+    }
+}
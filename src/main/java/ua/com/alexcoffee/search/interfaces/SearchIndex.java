@@ -0,0 +1,83 @@
+package ua.com.alexcoffee.search.interfaces;
+
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс описывает поисковый индекс товаров в памяти приложения.
+ * Индекс строится по названию, параметрам и описанию товаров один раз
+ * из базы данных и дальше обновляется по одному товару при каждом
+ * изменении, поэтому поиск не обращается к базе данных.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.search.impl.InvertedSearchIndex
+ * @see Product
+ * @see ProductCard
+ */
+public interface SearchIndex {
+    /**
+     * Возвращает карточки товаров, которые содержат все слова запроса
+     * (слово запроса совпадает с началом слова товара), в порядке
+     * убывания релевантности.
+     *
+     * @param query Поисковый запрос.
+     * @param limit Максимальное количество результатов.
+     * @return Объект типа {@link List} - список карточек товаров.
+     */
+    List<ProductCard> search(String query, int limit);
+
+    /**
+     * Возвращает true, если индекс построен и соответствует базе данных.
+     *
+     * @return Значение типа boolean.
+     */
+    boolean isBuilt();
+
+    /**
+     * Строит индекс заново по товарам из загрузчика loader,
+     * если индекс еще не построен.
+     *
+     * @param loader Загрузчик всех товаров из базы данных.
+     */
+    void rebuild(Supplier<List<Product>> loader);
+
+    /**
+     * Добавляет товар в индекс или обновляет его. Если метод вызван
+     * внутри транзакции, индекс изменится после ее успешного завершения.
+     *
+     * @param product Товар для индексации.
+     */
+    void put(Product product);
+
+    /**
+     * Удаляет товар из индекса. Если метод вызван внутри транзакции,
+     * индекс изменится после ее успешного завершения.
+     *
+     * @param id Код товара.
+     */
+    void remove(Long id);
+
+    /**
+     * Удаляет все товары из индекса, индекс остается построенным.
+     * Если метод вызван внутри транзакции, индекс изменится после
+     * ее успешного завершения.
+     */
+    void clear();
+
+    /**
+     * Помечает индекс как устаревший, при следующем поиске он будет
+     * построен заново. Используется после изменений сразу многих товаров.
+     */
+    void invalidate();
+
+    /**
+     * Возвращает количество товаров в индексе.
+     *
+     * @return Значение типа int - количество товаров.
+     */
+    int size();
+}
@@ -4,12 +4,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
 import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
 import ua.com.alexcoffee.model.Category;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.service.interfaces.CategoryService;
 
+import java.util.List;
+
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -22,6 +25,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * Методы класса помечены аннотацией @Transactional - перед исполнением метода помеченного
  * данной аннотацией начинается транзакция, после выполнения метода транзакция коммитится,
  * при выбрасывании RuntimeException откатывается.
+ * Чтение категорий по URL и списка всех категорий идет через кеш каталога
+ * {@link CatalogCache}, который сбрасывается при любом изменении категорий.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -29,28 +34,53 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @see CategoryService
  * @see Category
  * @see CategoryDAO
+ * @see CatalogCache
  */
 @Service
-@ComponentScan(basePackages = "ua.com.alexcoffee.dao")
+@ComponentScan(basePackages = {"ua.com.alexcoffee.dao", "ua.com.alexcoffee.cache"})
 public final class CategoryServiceImpl extends MainServiceImpl<Category> implements CategoryService {
     /**
      * Реализация интерфейса {@link CategoryDAO} для работы категорий с базой данных.
      */
     private final CategoryDAO dao;
 
+    /**
+     * Реализация интерфейса {@link CatalogCache}
+     * для кеширования товаров и категорий.
+     */
+    private final CatalogCache catalogCache;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
      * автоматически инициализировать объект.
      *
-     * @param dao Реализация интерфейса {@link CategoryDAO}
-     *            для работы категорий с базой данных.
+     * @param dao          Реализация интерфейса {@link CategoryDAO}
+     *                     для работы категорий с базой данных.
+     * @param catalogCache Реализация интерфейса {@link CatalogCache}
+     *                     для кеширования товаров и категорий.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public CategoryServiceImpl(final CategoryDAO dao) {
+    public CategoryServiceImpl(
+            final CategoryDAO dao,
+            final CatalogCache catalogCache
+    ) {
         super(dao);
         this.dao = dao;
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * Возвращает список всех категорий из кеша каталога,
+     * при промахе - из базы данных. Режим только для чтения.
+     *
+     * @return Объект типа {@link List} - список всех категорий только для чтения.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> getAll() {
+        return this.catalogCache.getCategories("all", super::getAll);
     }
 
     /**
@@ -70,7 +100,10 @@ public final class CategoryServiceImpl extends MainServiceImpl<Category> impleme
         if (isBlank(url)) {
             throw new WrongInformationException("No category URL!");
         }
-        final Category category = this.dao.get(url);
+        final Category category = this.catalogCache.getCategory(
+                url,
+                () -> this.dao.get(url)
+        );
         if (category == null) {
             throw new BadRequestException("Can't find category by url " + url + "!");
         }
@@ -91,5 +124,15 @@ public final class CategoryServiceImpl extends MainServiceImpl<Category> impleme
             throw new WrongInformationException("No category URL!");
         }
         this.dao.remove(url);
+        onChange();
+    }
+
+    /**
+     * Сбрасывает кеш каталога после изменения категорий.
+     * Переопределенный метод родительского класса {@link MainServiceImpl}.
+     */
+    @Override
+    protected void onChange() {
+        this.catalogCache.invalidate();
     }
 }
@@ -1,5 +1,10 @@
 package ua.com.alexcoffee.service.impl;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.dao.interfaces.DataDAO;
 import ua.com.alexcoffee.exception.BadRequestException;
@@ -8,6 +13,7 @@ import ua.com.alexcoffee.model.Model;
 import ua.com.alexcoffee.service.interfaces.MainService;
 
 import java.util.List;
+import java.util.function.BiFunction;
 
 /**
  * Класс сервисного слоя, который реализует основные методы доступа к
@@ -37,6 +43,16 @@ import java.util.List;
  */
 public abstract class MainServiceImpl<T extends Model>
         implements MainService<T> {
+    /**
+     * Размер страницы по-умолчанию.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 12;
+
+    /**
+     * Максимальный размер страницы.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * Реализация интерфейса {@link DataDAO}
      * для работы моделей с базой данных.
@@ -64,6 +80,7 @@ public abstract class MainServiceImpl<T extends Model>
     public void add(final T model) {
         if (model != null) {
             this.dao.add(model);
+            onChange();
         }
     }
 
@@ -77,6 +94,7 @@ public abstract class MainServiceImpl<T extends Model>
     public void add(final List<T> models) {
         if (models != null && !models.isEmpty()) {
             this.dao.add(models);
+            onChange();
         }
     }
 
@@ -90,6 +108,7 @@ public abstract class MainServiceImpl<T extends Model>
     public void update(final T model) {
         if (model != null) {
             this.dao.update(model);
+            onChange();
         }
     }
 
@@ -129,6 +148,35 @@ public abstract class MainServiceImpl<T extends Model>
         return this.dao.getAll();
     }
 
+    /**
+     * Получение одной страницы моделей из базы данных
+     * в порядке возрастания кодов. Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Page} - страница моделей.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> getAll(final int page, final int size) {
+        return this.dao.getAll(getPageable(page, size));
+    }
+
+    /**
+     * Получение порции моделей, код которых больше lastId,
+     * в порядке возрастания кодов. Режим только для чтения.
+     *
+     * @param lastId Код последней модели предыдущей порции,
+     *               null - первая порция.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция моделей.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<T> getAllAfter(final Long lastId, final int size) {
+        return getSliceAfter(lastId, size, this.dao::getAllAfter);
+    }
+
     /**
      * Удаление модели из базы данных.
      *
@@ -139,6 +187,7 @@ public abstract class MainServiceImpl<T extends Model>
     public void remove(final T model) {
         if (model != null) {
             this.dao.remove(model);
+            onChange();
         }
     }
 
@@ -156,6 +205,7 @@ public abstract class MainServiceImpl<T extends Model>
             throw new WrongInformationException("No model id!");
         }
         this.dao.remove(id);
+        onChange();
     }
 
     /**
@@ -168,6 +218,7 @@ public abstract class MainServiceImpl<T extends Model>
     public void remove(final List<T> models) {
         if (models != null && !models.isEmpty()) {
             this.dao.remove(models);
+            onChange();
         }
     }
 
@@ -178,5 +229,65 @@ public abstract class MainServiceImpl<T extends Model>
     @Transactional
     public void removeAll() {
         this.dao.removeAll();
+        onChange();
+    }
+
+    /**
+     * Вызывается после каждого изменения моделей в базе данных
+     * (добавление, обновление, удаление). По-умолчанию ничего не делает,
+     * наследники переопределяют метод, например, для сброса кеша.
+     */
+    protected void onChange() {
+    }
+
+    /**
+     * Возвращает параметры выборки страницы моделей в порядке
+     * возрастания кодов, номер и размер страницы приводятся
+     * к допустимым значениям.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Pageable} - параметры выборки страницы.
+     */
+    protected static Pageable getPageable(final int page, final int size) {
+        return new PageRequest(
+                Math.max(page, 0),
+                getPageSize(size),
+                Sort.Direction.ASC,
+                "id"
+        );
+    }
+
+    /**
+     * Приводит размер страницы к допустимому значению:
+     * неположительный размер заменяется размером по-умолчанию,
+     * слишком большой - максимальным.
+     *
+     * @param size Запрошенный размер страницы.
+     * @return Значение типа int - допустимый размер страницы.
+     */
+    protected static int getPageSize(final int size) {
+        return (size > 0) ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Возвращает порцию, которая идет после строки с кодом lastId
+     * (keyset-пагинация). Размер порции приводится к допустимому значению
+     * так же, как размер страницы, порядок строк задает запрос. Через этот
+     * метод порции получают и модели, и проекции моделей наследников.
+     *
+     * @param lastId Код последней строки предыдущей порции,
+     *               null - первая порция.
+     * @param size   Запрошенный размер порции.
+     * @param query  Запрос порции по коду и допустимому размеру.
+     * @param <R>    Тип строк порции.
+     * @return Объект типа {@link Slice} - порция строк.
+     */
+    protected static <R> Slice<R> getSliceAfter(
+            final Long lastId,
+            final int size,
+            final BiFunction<Long, Integer, Slice<R>> query
+    ) {
+        return query.apply(lastId, getPageSize(size));
     }
 }
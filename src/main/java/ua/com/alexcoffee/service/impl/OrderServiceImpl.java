@@ -2,12 +2,16 @@ package ua.com.alexcoffee.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.dao.interfaces.OrderDAO;
+import ua.com.alexcoffee.dao.interfaces.OutboxDAO;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.OutboxMessage;
+import ua.com.alexcoffee.projection.OrderRow;
 import ua.com.alexcoffee.service.interfaces.OrderService;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -29,6 +33,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @see OrderService
  * @see Order
  * @see OrderDAO
+ * @see OutboxDAO
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.dao")
@@ -41,19 +46,28 @@ public final class OrderServiceImpl
      */
     private final OrderDAO dao;
 
+    /**
+     * Реализация интерфейса {@link OutboxDAO}
+     * для работы исходящей очереди уведомлений с базой данных.
+     */
+    private final OutboxDAO outboxDAO;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
      * автоматически инициализировать объект.
      *
-     * @param dao Реализация интерфейса {@link OrderDAO}
-     *            для работы категорий с базой данных.
+     * @param dao       Реализация интерфейса {@link OrderDAO}
+     *                  для работы категорий с базой данных.
+     * @param outboxDAO Реализация интерфейса {@link OutboxDAO}
+     *                  для работы исходящей очереди уведомлений с базой данных.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public OrderServiceImpl(final OrderDAO dao) {
+    public OrderServiceImpl(final OrderDAO dao, final OutboxDAO outboxDAO) {
         super(dao);
         this.dao = dao;
+        this.outboxDAO = outboxDAO;
     }
 
     /**
@@ -82,6 +96,41 @@ public final class OrderServiceImpl
         return order;
     }
 
+    /**
+     * Возвращает порцию строк списка заказов, код которых меньше lastId,
+     * в порядке убывания кодов (сначала новые). Порция выбирается так же,
+     * как в методе getAllAfter, но из базы данных читаются только выводимые
+     * в списке колонки. Количество заказов не считается. Режим только для чтения.
+     *
+     * @param lastId Код последнего заказа предыдущей порции,
+     *               null - первая порция.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderRow> getRowsAfter(final Long lastId, final int size) {
+        return getSliceAfter(lastId, size, this.dao::getRowsAfter);
+    }
+
+    /**
+     * Оформляет новый заказ: сохраняет заказ и уведомление менеджерам
+     * о нем в исходящую очередь в одной транзакции. Если транзакция
+     * откатится, не сохранится ни заказ, ни уведомление.
+     *
+     * @param order Новый заказ.
+     * @throws WrongInformationException Бросает исключение, если заказ равен null.
+     */
+    @Override
+    @Transactional
+    public void checkout(final Order order) throws WrongInformationException {
+        if (order == null) {
+            throw new WrongInformationException("No order!");
+        }
+        this.dao.add(order);
+        this.outboxDAO.add(new OutboxMessage(order));
+    }
+
     /**
      * Удаляет заказ из базы даных, у которого совпадает
      * уникальный номером с значением входящего параметра.
@@ -0,0 +1,253 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.dao.interfaces.OutboxDAO;
+import ua.com.alexcoffee.enums.NotificationState;
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.model.OutboxMessage;
+import ua.com.alexcoffee.service.interfaces.OutboxService;
+import ua.com.alexcoffee.service.interfaces.SenderService;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Класс сервисного слоя реализует методы интерфейса {@link OutboxService}.
+ * Метод relay() периодически вызывается Spring с паузой
+ * {@link AppSettings#getOutboxDelay()} между проходами: он забирает из базы данных
+ * пачку самых старых сообщений и передает их в {@link SenderService}, не
+ * дожидаясь отправки. Сообщение удаляется из базы только после того, как
+ * письмо отправлено, поэтому при падении приложения оно будет отправлено
+ * повторно (доставка "хотя бы один раз"). Перед отправкой сообщение
+ * захватывается в базе данных условным запросом UPDATE на время
+ * alexcoffee.outbox.lease, поэтому его отправляет только один ретранслятор,
+ * даже если запущено несколько экземпляров приложения. Захват снимается после неудачной
+ * попытки, а если приложение упало - истекает сам. Сообщение, которое не
+ * удалось отправить alexcoffee.outbox.max-attempts раз, остается в базе
+ * для разбора. Размер пачки, количество попыток, время захвата и пауза
+ * между проходами задаются в {@link AppSettings}.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see OutboxService
+ * @see OutboxMessage
+ * @see OutboxDAO
+ * @see SenderService
+ */
+@Service
+@ComponentScan(basePackages = {
+        "ua.com.alexcoffee.dao",
+        "ua.com.alexcoffee.service"
+})
+public final class OutboxServiceImpl implements OutboxService, SchedulingConfigurer {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(OutboxServiceImpl.class);
+
+    /**
+     * Реализация интерфейса {@link OutboxDAO}
+     * для работы исходящей очереди с базой данных.
+     */
+    private final OutboxDAO dao;
+
+    /**
+     * Объект сервиса для работы с электронной почтой.
+     */
+    private final SenderService senderService;
+
+    /**
+     * Максимальное количество сообщений, передаваемых на отправку за один проход.
+     */
+    private final int batchSize;
+
+    /**
+     * Максимальное количество неудачных попыток отправки сообщения.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Время захвата сообщения для отправки в миллисекундах.
+     */
+    private final long lease;
+
+    /**
+     * Пауза между проходами ретранслятора в миллисекундах.
+     */
+    private final long delay;
+
+    /**
+     * Сообщения в процессе отправки по их кодам.
+     */
+    private final Map<Long, Entry> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Конструктор для инициализации основных переменных сервиса.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param dao           Реализация интерфейса {@link OutboxDAO}
+     *                      для работы исходящей очереди с базой данных.
+     * @param senderService Объект сервиса для работы с электронной почтой.
+     * @param settings      Настройки исходящей очереди.
+     */
+    @Autowired
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public OutboxServiceImpl(
+            final OutboxDAO dao,
+            final SenderService senderService,
+            final AppSettings settings
+    ) {
+        this.dao = dao;
+        this.senderService = senderService;
+        this.batchSize = settings.getOutboxBatchSize();
+        this.maxAttempts = settings.getOutboxMaxAttempts();
+        this.lease = settings.getOutboxLease();
+        this.delay = settings.getOutboxDelay();
+    }
+
+    /**
+     * Конструктор для инициализации сервиса с настройками по-умолчанию.
+     *
+     * @param dao           Реализация интерфейса {@link OutboxDAO}
+     *                      для работы исходящей очереди с базой данных.
+     * @param senderService Объект сервиса для работы с электронной почтой.
+     */
+    OutboxServiceImpl(final OutboxDAO dao, final SenderService senderService) {
+        this(dao, senderService, new AppSettings());
+    }
+
+    /**
+     * Выполняет один проход по исходящей очереди: удаляет отправленные
+     * сообщения, учитывает неудачные и передает на отправку следующую пачку.
+     * Сообщение, которое захватил другой ретранслятор, пропускается.
+     * Если очередь отправки писем заполнена, захват сообщения снимается,
+     * а проход прекращается до следующего раза.
+     *
+     * @return Значение типа int - количество сообщений, переданных на отправку.
+     */
+    @Override
+    public synchronized int relay() {
+        collect();
+        int count = 0;
+        for (OutboxMessage message : this.dao.getPending(this.maxAttempts, this.batchSize)) {
+            if (this.inFlight.containsKey(message.getId()) || !this.dao.lock(message, this.lease)) {
+                continue;
+            }
+            final Notification notification = this.senderService.send(
+                    message.getSubject(), message.getText()
+            );
+            if (notification == null) {
+                release(message);
+                break;
+            }
+            this.inFlight.put(message.getId(), new Entry(message, notification));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Регистрирует метод relay() в планировщике Spring
+     * с паузой между проходами из настроек.
+     * Реализованый метод интерфейса {@link SchedulingConfigurer}.
+     *
+     * @param registrar Реестр задач планировщика.
+     */
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::relay, this.delay);
+    }
+
+    /**
+     * Возвращает количество сообщений, переданных на отправку,
+     * результат которых еще не известен.
+     *
+     * @return Значение типа int - количество сообщений в процессе отправки.
+     */
+    @Override
+    public int getInFlightCount() {
+        return this.inFlight.size();
+    }
+
+    /**
+     * Обрабатывает сообщения, отправка которых завершилась:
+     * отправленные удаляет из базы, для неотправленных
+     * увеличивает количество неудачных попыток и снимает захват.
+     * Сообщение изменяется условным запросом по времени своего захвата,
+     * поэтому сообщение, захват которого истек и которое захватил
+     * другой ретранслятор, не изменяется.
+     */
+    private void collect() {
+        final Iterator<Entry> iterator = this.inFlight.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (!entry.notification.isDone()) {
+                continue;
+            }
+            try {
+                final boolean locked;
+                if (entry.notification.getState() == NotificationState.SENT) {
+                    locked = this.dao.removeLocked(entry.message);
+                } else {
+                    locked = this.dao.unlock(entry.message, true);
+                    LOGGER.warn(entry.message + " was not sent: " + entry.notification.getLastError());
+                }
+                if (!locked) {
+                    LOGGER.warn("Lease of " + entry.message + " expired before its result was saved");
+                }
+                iterator.remove();
+            } catch (Exception ex) {
+                LOGGER.error("Can't update " + entry.message + ": " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Снимает захват сообщения, которое не было передано на отправку,
+     * чтобы его мог отправить следующий проход.
+     *
+     * @param message Сообщение исходящей очереди.
+     */
+    private void release(final OutboxMessage message) {
+        try {
+            this.dao.unlock(message, false);
+        } catch (Exception ex) {
+            LOGGER.error("Can't release " + message + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Сообщение исходящей очереди и уведомление, которым оно отправляется.
+     */
+    private static final class Entry {
+        /**
+         * Сообщение исходящей очереди.
+         */
+        private final OutboxMessage message;
+
+        /**
+         * Уведомление, которым отправляется сообщение.
+         */
+        private final Notification notification;
+
+        /**
+         * Конструктор для инициализации записи.
+         *
+         * @param message      Сообщение исходящей очереди.
+         * @param notification Уведомление, которым отправляется сообщение.
+         */
+        Entry(final OutboxMessage message, final Notification notification) {
+            this.message = message;
+            this.notification = notification;
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package ua.com.alexcoffee.service.impl;
 
+import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.config.AppSettings;
 import ua.com.alexcoffee.dao.interfaces.PhotoDAO;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Photo;
+import ua.com.alexcoffee.photo.impl.FilePhotoStore;
+import ua.com.alexcoffee.photo.interfaces.PhotoStore;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
+import javax.annotation.PreDestroy;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -28,6 +33,12 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * Методы класса помечены аннотацией @Transactional - перед исполнением метода помеченного
  * данной аннотацией начинается транзакция, после выполнения метода транзакция коммитится,
  * при выбрасывании RuntimeException откатывается.
+ * Изображения отображаются в карточках товаров и категорий, поэтому
+ * любое их изменение сбрасывает кеш каталога {@link CatalogCache}
+ * и помечает устаревшим поисковый индекс {@link SearchIndex},
+ * карточки которого хранят ссылки на изображения.
+ * Файлы изображений хранятся в {@link PhotoStore}, уменьшенные копии
+ * для списков создаются в пуле потоков хранилища после сохранения изображения.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -35,12 +46,19 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @see PhotoService
  * @see Photo
  * @see PhotoDAO
+ * @see CatalogCache
+ * @see SearchIndex
+ * @see PhotoStore
  */
 @Service
-@ComponentScan(basePackages = "ua.com.alexcoffee.dao")
+@ComponentScan(basePackages = {"ua.com.alexcoffee.dao", "ua.com.alexcoffee.cache", "ua.com.alexcoffee.search"})
 public final class PhotoServiceImpl
         extends MainServiceImpl<Photo>
         implements PhotoService {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(PhotoServiceImpl.class);
 
     /**
      * Реализация интерфейса {@link PhotoDAO}
@@ -48,19 +66,97 @@ public final class PhotoServiceImpl
      */
     private final PhotoDAO dao;
 
+    /**
+     * Реализация интерфейса {@link CatalogCache}
+     * для кеширования товаров и категорий.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * Реализация интерфейса {@link SearchIndex}
+     * для поиска товаров.
+     */
+    private final SearchIndex searchIndex;
+
+    /**
+     * Реализация интерфейса {@link PhotoStore}
+     * для хранения файлов-изображений.
+     */
+    private final PhotoStore store;
+
+    /**
+     * Наибольшая сторона уменьшенной копии изображения в пикселях.
+     */
+    private final int thumbnailSize;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
      * автоматически инициализировать объект.
      *
-     * @param dao Реализация интерфейса {@link PhotoDAO}
-     *            для работы изображений с базой данных.
+     * @param dao          Реализация интерфейса {@link PhotoDAO}
+     *                     для работы изображений с базой данных.
+     * @param catalogCache Реализация интерфейса {@link CatalogCache}
+     *                     для кеширования товаров и категорий.
+     * @param searchIndex  Реализация интерфейса {@link SearchIndex}
+     *                     для поиска товаров.
+     * @param settings     Настройки приложения с путем к папке изображений,
+     *                     размерами пула записи файлов и уменьшенных копий.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public PhotoServiceImpl(final PhotoDAO dao) {
+    public PhotoServiceImpl(
+            final PhotoDAO dao,
+            final CatalogCache catalogCache,
+            final SearchIndex searchIndex,
+            final AppSettings settings
+    ) {
+        this(
+                dao, catalogCache, searchIndex,
+                new FilePhotoStore(
+                        Paths.get(settings.getPhotoPath()),
+                        settings.getPhotoStoreThreads(),
+                        settings.getPhotoStoreQueueCapacity(),
+                        settings.getThumbnailQuality() / 100f
+                ),
+                settings.getThumbnailSize()
+        );
+    }
+
+    /**
+     * Конструктор для инициализации сервиса с заданным хранилищем файлов.
+     *
+     * @param dao           Реализация интерфейса {@link PhotoDAO}
+     *                      для работы изображений с базой данных.
+     * @param catalogCache  Реализация интерфейса {@link CatalogCache}
+     *                      для кеширования товаров и категорий.
+     * @param searchIndex   Реализация интерфейса {@link SearchIndex}
+     *                      для поиска товаров.
+     * @param store         Реализация интерфейса {@link PhotoStore}
+     *                      для хранения файлов-изображений.
+     * @param thumbnailSize Наибольшая сторона уменьшенной копии в пикселях.
+     */
+    PhotoServiceImpl(
+            final PhotoDAO dao,
+            final CatalogCache catalogCache,
+            final SearchIndex searchIndex,
+            final PhotoStore store,
+            final int thumbnailSize
+    ) {
         super(dao);
         this.dao = dao;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+        this.store = store;
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    /**
+     * Останавливает пул потоков записи файлов.
+     */
+    @PreDestroy
+    public void shutdown() {
+        this.store.shutdown();
     }
 
     /**
@@ -103,24 +199,56 @@ public final class PhotoServiceImpl
             throw new WrongInformationException("No photo title!");
         }
         dao.remove(title);
+        onChange();
     }
 
     /**
-     * Сохраняет файл в файловой системе.
+     * Сохраняет файл в файловой системе. Файл записывается в пуле
+     * потоков хранилища, поэтому метод не занимает поток запроса
+     * и не открывает транзакцию.
      *
      * @param photo Файл для сохранения.
+     * @return Объект класса {@link CompletableFuture} - имя сохраненного
+     * файла или null, если файл пустой.
      */
     @Override
-    @Transactional
-    public void saveFile(final MultipartFile photo) {
-        if (photo != null && !photo.isEmpty()) {
-            final String filePath = Photo.PATH + photo.getOriginalFilename();
-            try (OutputStream stream = new FileOutputStream(filePath)) {
-                stream.write(photo.getBytes());
-            } catch (IOException ex) {
-                ex.printStackTrace();
-            }
+    public CompletableFuture<String> saveFile(final MultipartFile photo) {
+        return this.store.save(photo);
+    }
+
+    /**
+     * Создает в пуле потоков хранилища уменьшенные копии малого изображения
+     * обычного и двойного размера, записывает ссылки на них в базу данных
+     * и сбрасывает кеш каталога и поисковый индекс. Ошибки записываются в лог, изображения
+     * без копий показываются в исходном размере.
+     *
+     * @param photoLinkShort Ссылка на малое изображение.
+     * @return Объект класса {@link CompletableFuture} - true,
+     * если ссылки на копии записаны.
+     */
+    @Override
+    public CompletableFuture<Boolean> createThumbnails(final String photoLinkShort) {
+        if (isBlank(photoLinkShort)) {
+            return CompletableFuture.completedFuture(false);
         }
+        return this.store.resize(photoLinkShort, this.thumbnailSize).thenCombine(
+                this.store.resize(photoLinkShort, 2 * this.thumbnailSize),
+                (thumb, thumb2x) -> {
+                    if (thumb == null) {
+                        return false;
+                    }
+                    final boolean updated = this.dao.updateThumbnails(photoLinkShort, thumb, thumb2x) > 0;
+                    if (updated) {
+                        onChange();
+                    }
+                    return updated;
+                }
+        ).exceptionally(
+                ex -> {
+                    LOGGER.error("Can't create thumbnails of photo " + photoLinkShort + ": " + ex.getMessage(), ex);
+                    return false;
+                }
+        );
     }
 
     /**
@@ -129,13 +257,21 @@ public final class PhotoServiceImpl
      * @param url URL файла для удаления.
      */
     @Override
-    @Transactional
     public void deleteFile(final String url) {
-        if (isBlank(url)) {
-            final File file = new File(Photo.PATH + url);
-            if (file.exists() && file.isFile()) {
-                file.delete();
-            }
+        if (!isBlank(url)) {
+            this.store.delete(url);
         }
     }
+
+    /**
+     * Сбрасывает кеш каталога и помечает устаревшим поисковый индекс
+     * после изменения изображений: индекс будет построен заново
+     * с новыми ссылками на изображения при следующем поиске.
+     * Переопределенный метод родительского класса {@link MainServiceImpl}.
+     */
+    @Override
+    protected void onChange() {
+        this.catalogCache.invalidate();
+        this.searchIndex.invalidate();
+    }
 }
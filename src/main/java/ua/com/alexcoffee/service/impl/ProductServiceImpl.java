@@ -2,19 +2,31 @@ package ua.com.alexcoffee.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
 import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
 import ua.com.alexcoffee.dao.interfaces.ProductDAO;
 import ua.com.alexcoffee.exception.BadRequestException;
+import ua.com.alexcoffee.facet.impl.BitSetFacetIndex;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Category;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
 import ua.com.alexcoffee.service.interfaces.ProductService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -28,6 +40,11 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * Методы класса помечены аннотацией @Transactional - перед исполнением метода помеченного
  * данной аннотацией начинается транзакция, после выполнения метода транзакция коммитится,
  * при выбрасывании RuntimeException откатывается.
+ * Чтение товаров по URL, артиклю, категории и списка всех товаров идет
+ * через кеш каталога {@link CatalogCache}, который сбрасывается при
+ * любом изменении товаров. Поиск товаров идет по индексу {@link SearchIndex},
+ * который обновляется по одному товару при добавлении, обновлении и удалении
+ * товара и строится заново после изменений сразу многих товаров.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
@@ -37,9 +54,11 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @see Product
  * @see Category
  * @see CategoryDAO
+ * @see CatalogCache
+ * @see SearchIndex
  */
 @Service
-@ComponentScan(basePackages = "ua.com.alexcoffee.dao")
+@ComponentScan(basePackages = {"ua.com.alexcoffee.dao", "ua.com.alexcoffee.cache", "ua.com.alexcoffee.search"})
 public final class ProductServiceImpl
         extends MainServiceImpl<Product>
         implements ProductService {
@@ -55,25 +74,224 @@ public final class ProductServiceImpl
      */
     private final CategoryDAO categoryDAO;
 
+    /**
+     * Реализация интерфейса {@link CatalogCache}
+     * для кеширования товаров и категорий.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * Реализация интерфейса {@link SearchIndex}
+     * для поиска товаров.
+     */
+    private final SearchIndex searchIndex;
+
     /**
      * Конструктор для инициализации основных переменных сервиса.
      * Помечаный аннотацией @Autowired, которая позволит Spring
      * автоматически инициализировать объект.
      *
-     * @param productDAO  Реализация интерфейса {@link ProductDAO}
-     *                    для работы с товаров базой данных.
-     * @param categoryDAO Реализация интерфейса {@link CategoryDAO}
-     *                    для работы с категорий базой данных.
+     * @param productDAO   Реализация интерфейса {@link ProductDAO}
+     *                     для работы с товаров базой данных.
+     * @param categoryDAO  Реализация интерфейса {@link CategoryDAO}
+     *                     для работы с категорий базой данных.
+     * @param catalogCache Реализация интерфейса {@link CatalogCache}
+     *                     для кеширования товаров и категорий.
+     * @param searchIndex  Реализация интерфейса {@link SearchIndex}
+     *                     для поиска товаров.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
     public ProductServiceImpl(
             final ProductDAO productDAO,
-            final CategoryDAO categoryDAO
+            final CategoryDAO categoryDAO,
+            final CatalogCache catalogCache,
+            final SearchIndex searchIndex
     ) {
         super(productDAO);
         this.productDAO = productDAO;
         this.categoryDAO = categoryDAO;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Добавляет товар в базу данных и в поисковый индекс.
+     *
+     * @param product Товар для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final Product product) {
+        super.add(product);
+        if (product != null) {
+            this.searchIndex.put(product);
+        }
+    }
+
+    /**
+     * Добавляет товары в базу данных и в поисковый индекс.
+     *
+     * @param products Товары для добавления.
+     */
+    @Override
+    @Transactional
+    public void add(final List<Product> products) {
+        super.add(products);
+        if (products != null) {
+            products.forEach(this.searchIndex::put);
+        }
+    }
+
+    /**
+     * Обновляет товар в базе данных и в поисковом индексе.
+     *
+     * @param product Обновленный товар.
+     */
+    @Override
+    @Transactional
+    public void update(final Product product) {
+        super.update(product);
+        if (product != null) {
+            this.searchIndex.put(product);
+        }
+    }
+
+    /**
+     * Удаляет товар из базы данных и из поискового индекса.
+     *
+     * @param product Товар для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final Product product) {
+        super.remove(product);
+        if (product != null) {
+            this.searchIndex.remove(product.getId());
+        }
+    }
+
+    /**
+     * Удаляет товар с уникальным кодом из базы данных и из поискового индекса.
+     *
+     * @param id Код товара для удаления.
+     * @throws WrongInformationException Бросает исключение,
+     *                                   если пустой входной параметр id.
+     */
+    @Override
+    @Transactional
+    public void remove(final Long id) throws WrongInformationException {
+        super.remove(id);
+        this.searchIndex.remove(id);
+    }
+
+    /**
+     * Удаляет товары из базы данных и из поискового индекса.
+     *
+     * @param products Товары для удаления.
+     */
+    @Override
+    @Transactional
+    public void remove(final List<Product> products) {
+        super.remove(products);
+        if (products != null) {
+            products.forEach(product -> this.searchIndex.remove(product.getId()));
+        }
+    }
+
+    /**
+     * Удаляет все товары из базы данных и из поискового индекса.
+     */
+    @Override
+    @Transactional
+    public void removeAll() {
+        super.removeAll();
+        this.searchIndex.clear();
+    }
+
+    /**
+     * Возвращает карточки товаров, которые подходят под поисковый запрос,
+     * в порядке убывания релевантности. Поиск идет по индексу в памяти,
+     * база данных читается только при первом построении индекса
+     * и после изменений сразу многих товаров, поэтому метод не открывает
+     * транзакцию.
+     *
+     * @param query Поисковый запрос.
+     * @param size  Максимальное количество результатов.
+     * @return Объект типа {@link List} - список карточек товаров
+     * или пустой список.
+     */
+    @Override
+    public List<ProductCard> search(final String query, final int size) {
+        if (isBlank(query)) {
+            return new ArrayList<>();
+        }
+        if (!this.searchIndex.isBuilt()) {
+            this.searchIndex.rebuild(this.productDAO::getAll);
+        }
+        return this.searchIndex.search(query, getPageSize(size));
+    }
+
+    /**
+     * Возвращает список всех товаров из кеша каталога,
+     * при промахе - из базы данных. Режим только для чтения.
+     *
+     * @return Объект типа {@link List} - список всех товаров только для чтения.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> getAll() {
+        return this.catalogCache.getProducts("all", super::getAll);
+    }
+
+    /**
+     * Возвращает страницу товаров из кеша каталога, при промахе - из базы
+     * данных. Общее количество товаров берется из закешированного списка
+     * кодов товаров, поэтому запрос количества строк выполняется
+     * только при промахе. Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Page} - страница товаров.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Product> getAll(final int page, final int size) {
+        final Pageable pageable = getPageable(page, size);
+        final List<Product> products = this.catalogCache.getProducts(
+                "page:" + pageable.getPageNumber() + ":" + pageable.getPageSize(),
+                () -> super.getAll(page, size).getContent()
+        );
+        final List<Long> ids = this.catalogCache.getProductIds(
+                "all",
+                this.productDAO::getAllIds
+        );
+        return new PageImpl<>(products, pageable, ids.size());
+    }
+
+    /**
+     * Возвращает страницу карточек товаров из кеша каталога, при промахе -
+     * из базы данных, где читаются только выводимые в списке колонки.
+     * Общее количество товаров берется из закешированного списка кодов
+     * товаров, как и в методе getAll(page, size). Режим только для чтения.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Page} - страница карточек товаров.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductCard> getCards(final int page, final int size) {
+        final Pageable pageable = getPageable(page, size);
+        final List<ProductCard> cards = this.catalogCache.getProductCards(
+                "page:" + pageable.getPageNumber() + ":" + pageable.getPageSize(),
+                () -> this.productDAO.getCards(pageable).getContent()
+        );
+        final List<Long> ids = this.catalogCache.getProductIds(
+                "all",
+                this.productDAO::getAllIds
+        );
+        return new PageImpl<>(cards, pageable, ids.size());
     }
 
     /**
@@ -92,7 +310,10 @@ public final class ProductServiceImpl
         if (isBlank(url)) {
             throw new WrongInformationException("No product URL!");
         }
-        final Product product = this.productDAO.getByUrl(url);
+        final Product product = this.catalogCache.getProduct(
+                "url:" + url,
+                () -> this.productDAO.getByUrl(url)
+        );
         if (product == null) {
             throw new BadRequestException("Can't find product by url " + url + "!");
         }
@@ -112,7 +333,10 @@ public final class ProductServiceImpl
     @Transactional(readOnly = true)
     public Product getByArticle(final int article)
             throws BadRequestException {
-        final Product product = this.productDAO.getByArticle(article);
+        final Product product = this.catalogCache.getProduct(
+                "article:" + article,
+                () -> this.productDAO.getByArticle(article)
+        );
         if (product == null) {
             throw new BadRequestException("Can't find product by article " + article + "!");
         }
@@ -138,11 +362,43 @@ public final class ProductServiceImpl
         if (isBlank(url)) {
             throw new WrongInformationException("No category URL!");
         }
-        final Category category = this.categoryDAO.get(url);
+        final Category category = this.catalogCache.getCategory(
+                url,
+                () -> this.categoryDAO.get(url)
+        );
         if (category == null) {
             throw new BadRequestException("Can't find category by url " + url + "!");
         }
-        return this.productDAO.getListByCategoryId(category.getId());
+        return this.catalogCache.getProducts(
+                "category:" + url,
+                () -> this.productDAO.getListByCategoryId(category.getId())
+        );
+    }
+
+    /**
+     * Возвращает товары категории с уникальным URL, которые подходят
+     * под выбранные значения фасетов. Индекс фасетов строится по товарам
+     * категории один раз и хранится в кеше каталога до его сброса,
+     * поэтому фильтрация не обращается к базе данных.
+     * Режим только для чтения.
+     *
+     * @param url     URL категории.
+     * @param filters Ключи выбранных значений фасетов, null - без фильтра.
+     * @return Объект класса {@link FacetedProducts} - результат фильтрации.
+     * @throws WrongInformationException Бросает исключение,
+     *                                   если пустой входной параметр url.
+     * @throws BadRequestException       Бросает исключение,
+     *                                   если не найдена категория с входящим параметром url.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedProducts getByCategoryUrl(final String url, final Collection<String> filters)
+            throws WrongInformationException, BadRequestException {
+        final List<Product> products = getByCategoryUrl(url);
+        return this.catalogCache.getFacetIndex(
+                "category:" + url,
+                () -> new BitSetFacetIndex(products)
+        ).filter(filters);
     }
 
     /**
@@ -184,6 +440,8 @@ public final class ProductServiceImpl
     /**
      * Возвращает список рандомных товаров, которые относятся к категории
      * с уникальным кодом id - входным параметром.
+     * Коды товаров категории берутся из кеша каталога, из них выбирается
+     * size случайных кодов и только эти товары загружаются из базы данных.
      * Режим только для чтения.
      *
      * @param size               Количество товаров в списке.
@@ -203,16 +461,18 @@ public final class ProductServiceImpl
         if (categoryId == null || differentProductId == null) {
             throw new WrongInformationException("No category or product id!");
         }
-        final List<Product> products = this.productDAO.getListByCategoryId(categoryId);
-        if (products.isEmpty()) {
-            return new ArrayList<>();
-        }
-        products.remove(this.productDAO.get(differentProductId));
-        return getShuffleSubList(products, 0, size);
+        final List<Long> ids = this.catalogCache.getProductIds(
+                "category:" + categoryId,
+                () -> this.productDAO.getIdsByCategoryId(categoryId)
+        );
+        return getRandomProducts(ids, size, differentProductId);
     }
 
     /**
      * Возвращает список рандомных товаров.
+     * Коды всех товаров берутся из кеша каталога, из них выбирается
+     * size случайных кодов и только эти товары загружаются из базы данных,
+     * поэтому стоимость не зависит от размера каталога.
      * Режим только для чтения.
      *
      * @param size Количество товаров в списке.
@@ -221,11 +481,11 @@ public final class ProductServiceImpl
     @Override
     @Transactional(readOnly = true)
     public List<Product> getRandom(final int size) {
-        final List<Product> products = this.productDAO.getAll();
-        if (products.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return getShuffleSubList(products, 0, size);
+        final List<Long> ids = this.catalogCache.getProductIds(
+                "all",
+                this.productDAO::getAllIds
+        );
+        return getRandomProducts(ids, size, null);
     }
 
     /**
@@ -242,6 +502,8 @@ public final class ProductServiceImpl
             throw new WrongInformationException("No product URL!");
         }
         this.productDAO.removeByUrl(url);
+        onChange();
+        this.searchIndex.invalidate();
     }
 
     /**
@@ -253,6 +515,8 @@ public final class ProductServiceImpl
     @Transactional
     public void removeByArticle(final int article) {
         this.productDAO.removeByArticle(article);
+        onChange();
+        this.searchIndex.invalidate();
     }
 
     /**
@@ -277,6 +541,8 @@ public final class ProductServiceImpl
             throw new BadRequestException("Can't find category by url " + url + "!");
         }
         this.productDAO.removeByCategoryId(category.getId());
+        onChange();
+        this.searchIndex.invalidate();
     }
 
     /**
@@ -300,6 +566,81 @@ public final class ProductServiceImpl
             throw new BadRequestException("Can't find category by id " + id + "!");
         }
         this.productDAO.removeByCategoryId(id);
+        onChange();
+        this.searchIndex.invalidate();
+    }
+
+    /**
+     * Сбрасывает кеш каталога после изменения товаров.
+     * Переопределенный метод родительского класса {@link MainServiceImpl}.
+     */
+    @Override
+    protected void onChange() {
+        this.catalogCache.invalidate();
+    }
+
+    /**
+     * Выбирает size случайных кодов из списка ids, кроме кода excludedId,
+     * и загружает соответствующие товары одним запросом.
+     *
+     * @param ids        Список кодов товаров для выборки.
+     * @param size       Количество товаров в списке.
+     * @param excludedId Код товара, который не будет включен в список, или null.
+     * @return Объект типа {@link List} - список перемешаных товаров
+     * или пустой лист.
+     */
+    private List<Product> getRandomProducts(
+            final List<Long> ids,
+            final int size,
+            final Long excludedId
+    ) {
+        final List<Long> randomIds = getRandomIds(ids, size, excludedId);
+        if (randomIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return getShuffleSubList(
+                new ArrayList<>(this.productDAO.getList(randomIds)),
+                0, size
+        );
+    }
+
+    /**
+     * Возвращает size случайных различных кодов из списка ids, кроме кода
+     * excludedId. Используется алгоритм Флойда, поэтому количество операций
+     * пропорционально size, а не размеру списка.
+     *
+     * @param ids        Список кодов для выборки.
+     * @param size       Количество кодов для возврата.
+     * @param excludedId Код, который не будет включен в выборку, или null.
+     * @return Объект типа {@link List} - список случайных кодов.
+     */
+    static List<Long> getRandomIds(
+            final List<Long> ids,
+            final int size,
+            final Long excludedId
+    ) {
+        if ((ids == null) || ids.isEmpty() || (size <= 0)) {
+            return new ArrayList<>();
+        }
+        final int count = Math.min(
+                (excludedId != null) ? size + 1 : size,
+                ids.size()
+        );
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Set<Integer> indexes = new HashSet<>();
+        for (int i = ids.size() - count; i < ids.size(); i++) {
+            final int index = random.nextInt(i + 1);
+            indexes.add(indexes.contains(index) ? i : index);
+        }
+        final List<Long> result = new ArrayList<>(count);
+        for (Integer index : indexes) {
+            final Long id = ids.get(index);
+            if (!id.equals(excludedId)) {
+                result.add(id);
+            }
+        }
+        Collections.shuffle(result, random);
+        return (result.size() > size) ? result.subList(0, size) : result;
     }
 
     /**
@@ -0,0 +1,733 @@
+package ua.com.alexcoffee.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.exception.DuplicateException;
+import ua.com.alexcoffee.exception.WrongInformationException;
+import ua.com.alexcoffee.model.Category;
+import ua.com.alexcoffee.model.Photo;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
+import ua.com.alexcoffee.service.interfaces.ProductTransferService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+
+/**
+ * Класс сервисного слоя для массового импорта и экспорта товаров.
+ * Реализует методы интерфейса {@link ProductTransferService}.
+ * При импорте категории и URL существующих товаров читаются из базы данных
+ * один раз, строки файла проверяются и собираются в пачки, каждая пачка
+ * сохраняется одним вызовом {@link ProductDAO#add(java.util.Collection)}
+ * в отдельной транзакции, поэтому контекст персистентности не растет
+ * вместе с файлом, а ошибка в базе данных откатывает только одну пачку.
+ * Кеш каталога и поисковый индекс сбрасываются один раз после импорта.
+ * Класс помечан аннотацией @Service - аннотация обьявляющая, что этот класс
+ * представляет собой сервис – компонент сервис-слоя.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ProductTransferService
+ * @see ProductDAO
+ * @see CategoryDAO
+ */
+@Service
+@ComponentScan(basePackages = {"ua.com.alexcoffee.dao", "ua.com.alexcoffee.cache", "ua.com.alexcoffee.search"})
+public final class ProductTransferServiceImpl implements ProductTransferService {
+    /**
+     * Колонки файла в порядке записи при экспорте.
+     */
+    static final String[] COLUMNS = {
+            "article", "title", "url", "category", "price",
+            "parameters", "description", "photo_title", "small_photo", "big_photo"
+    };
+
+    /**
+     * Разделитель колонок CSV.
+     */
+    private static final char SEPARATOR = ',';
+
+    /**
+     * Фабрика для создания объектов чтения и записи JSON.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * Реализация интерфейса {@link ProductDAO} для работы с товаров с базой данных.
+     */
+    private final ProductDAO productDAO;
+
+    /**
+     * Реализация интерфейса {@link CategoryDAO} для работы с категориями с базой данных.
+     */
+    private final CategoryDAO categoryDAO;
+
+    /**
+     * Кеш каталога, который сбрасывается после импорта.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * Поисковый индекс товаров, который сбрасывается после импорта.
+     */
+    private final SearchIndex searchIndex;
+
+    /**
+     * Шаблон транзакции только для чтения.
+     */
+    private final TransactionTemplate readTemplate;
+
+    /**
+     * Шаблон транзакции для сохранения пачки товаров.
+     */
+    private final TransactionTemplate writeTemplate;
+
+    /**
+     * Количество товаров в одной пачке.
+     */
+    private final int batchSize;
+
+    /**
+     * Конструктор для инициализации основных переменных сервиса.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param productDAO         Реализация интерфейса {@link ProductDAO}
+     *                           для работы товаров с базой данных.
+     * @param categoryDAO        Реализация интерфейса {@link CategoryDAO}
+     *                           для работы категорий с базой данных.
+     * @param catalogCache       Кеш каталога товаров и категорий.
+     * @param searchIndex        Поисковый индекс товаров.
+     * @param transactionManager Менеджер транзакций.
+     * @param settings           Настройки приложения.
+     */
+    @Autowired
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public ProductTransferServiceImpl(
+            final ProductDAO productDAO,
+            final CategoryDAO categoryDAO,
+            final CatalogCache catalogCache,
+            final SearchIndex searchIndex,
+            final PlatformTransactionManager transactionManager,
+            final AppSettings settings
+    ) {
+        this.productDAO = productDAO;
+        this.categoryDAO = categoryDAO;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = settings.getImportBatchSize();
+    }
+
+    /**
+     * Импортирует товары из файла в базу данных. Строки с ошибками
+     * пропускаются и попадают в отчет, остальные сохраняются пачками,
+     * каждая в своей транзакции. После каждой пачки вызывается progress
+     * с промежуточным отчетом.
+     *
+     * @param reader   Поток для чтения файла.
+     * @param format   Формат файла.
+     * @param progress Получатель промежуточных отчетов.
+     * @return Объект класса {@link Report} - итоговый отчет импорта.
+     * @throws IOException               Исключение чтения файла.
+     * @throws WrongInformationException Бросает исключение, если файл
+     *                                   не соответствует формату.
+     */
+    @Override
+    public Report importProducts(
+            final Reader reader,
+            final Format format,
+            final Consumer<Report> progress
+    ) throws IOException, WrongInformationException {
+        final Map<String, Category> categories = this.readTemplate.execute(status -> getCategories());
+        final Set<String> urls = this.readTemplate.execute(status -> getUrls());
+        final RowReader rows = (format == Format.JSON) ? new JsonRowReader(reader) : new CsvRowReader(reader);
+        final List<Product> batch = new ArrayList<>(this.batchSize);
+        final List<String> errors = new ArrayList<>();
+        int read = 0;
+        int imported = 0;
+        int skipped = 0;
+        try {
+            Map<String, String> row;
+            while ((row = rows.next()) != null) {
+                read++;
+                try {
+                    final Product product = createProduct(row, categories);
+                    if (!urls.add(product.getUrl())) {
+                        throw new DuplicateException("Product with URL \"" + product.getUrl() + "\" already exists!");
+                    }
+                    batch.add(product);
+                } catch (WrongInformationException | DuplicateException ex) {
+                    skipped++;
+                    if (errors.size() < Report.MAX_ERRORS) {
+                        errors.add("Row " + read + ": " + ex.getMessage());
+                    }
+                }
+                if (batch.size() >= this.batchSize) {
+                    imported += save(batch);
+                    progress.accept(new Report(read, imported, skipped, errors));
+                }
+            }
+            imported += save(batch);
+        } finally {
+            if (imported > 0) {
+                this.catalogCache.invalidate();
+                this.searchIndex.invalidate();
+            }
+        }
+        final Report report = new Report(read, imported, skipped, errors);
+        progress.accept(report);
+        return report;
+    }
+
+    /**
+     * Экспортирует все товары в порядке возрастания кодов. Товары читаются
+     * из базы данных порциями по размеру пачки импорта, каждая порция
+     * в своей транзакции, и сразу записываются в поток writer. Следующая
+     * порция выбирается по коду последнего товара предыдущей (keyset),
+     * поэтому база данных не пропускает уже выгруженные строки и не
+     * считает количество товаров.
+     *
+     * @param writer Поток для записи файла.
+     * @param format Формат файла.
+     * @throws IOException Исключение записи файла.
+     */
+    @Override
+    public void exportProducts(final Writer writer, final Format format) throws IOException {
+        final RowWriter rows = (format == Format.JSON) ? new JsonRowWriter(writer) : new CsvRowWriter(writer);
+        Long lastId = null;
+        Slice<Product> slice;
+        do {
+            final Long after = lastId;
+            slice = this.readTemplate.execute(status -> this.productDAO.getAllAfter(after, this.batchSize));
+            for (Product product : slice) {
+                rows.write(product);
+                lastId = product.getId();
+            }
+        } while (slice.hasNext());
+        rows.finish();
+        writer.flush();
+    }
+
+    /**
+     * Возвращает все категории по их URL.
+     *
+     * @return Объект типа {@link Map} - категории по URL.
+     */
+    private Map<String, Category> getCategories() {
+        final Map<String, Category> categories = new HashMap<>();
+        for (Category category : this.categoryDAO.getAll()) {
+            categories.put(category.getUrl(), category);
+        }
+        return categories;
+    }
+
+    /**
+     * Возвращает URL всех товаров, прочитанные курсором без загрузки товаров.
+     *
+     * @return Объект типа {@link Set} - URL товаров.
+     */
+    private Set<String> getUrls() {
+        try (Stream<String> urls = this.productDAO.getUrls()) {
+            return urls.collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    /**
+     * Сохраняет пачку товаров в отдельной транзакции и очищает пачку.
+     *
+     * @param batch Пачка товаров.
+     * @return Значение типа int - количество сохраненных товаров.
+     */
+    private int save(final List<Product> batch) {
+        final int size = batch.size();
+        if (size > 0) {
+            this.writeTemplate.execute(status -> {
+                this.productDAO.add(batch);
+                return null;
+            });
+            batch.clear();
+        }
+        return size;
+    }
+
+    /**
+     * Создает товар по строке файла.
+     *
+     * @param row        Значения колонок строки.
+     * @param categories Категории по URL.
+     * @return Объект класса {@link Product} - новый товар.
+     * @throws WrongInformationException Бросает исключение, если нет обязательного
+     *                                   значения или значение ошибочно.
+     */
+    static Product createProduct(final Map<String, String> row, final Map<String, Category> categories)
+            throws WrongInformationException {
+        final String title = getRequired(row, "title");
+        final String url = getRequired(row, "url");
+        final String categoryUrl = getRequired(row, "category");
+        final Category category = categories.get(categoryUrl);
+        if (category == null) {
+            throw new WrongInformationException("Can't find category by url " + categoryUrl + "!");
+        }
+        final double price = parseNumber(row, "price");
+        if (price < 0) {
+            throw new WrongInformationException("Price must not be negative!");
+        }
+        final Product product = new Product();
+        product.initialize(
+                title, url,
+                trimToEmpty(row.get("parameters")),
+                trimToEmpty(row.get("description")),
+                category,
+                new Photo(
+                        trimToEmpty(row.get("photo_title")),
+                        trimToEmpty(row.get("small_photo")),
+                        trimToEmpty(row.get("big_photo"))
+                ),
+                price
+        );
+        if (!isBlank(row.get("article"))) {
+            final double article = parseNumber(row, "article");
+            if (article <= 0 || article > Integer.MAX_VALUE || article != Math.rint(article)) {
+                throw new WrongInformationException("Article must be a positive integer!");
+            }
+            product.setArticle((int) article);
+        }
+        return product;
+    }
+
+    /**
+     * Возвращает значение обязательной колонки без пробелов по краям.
+     *
+     * @param row    Значения колонок строки.
+     * @param column Название колонки.
+     * @return Значение типа {@link String} - значение колонки.
+     * @throws WrongInformationException Бросает исключение, если значение пустое.
+     */
+    private static String getRequired(final Map<String, String> row, final String column)
+            throws WrongInformationException {
+        final String value = trimToEmpty(row.get(column));
+        if (value.isEmpty()) {
+            throw new WrongInformationException("No " + column + "!");
+        }
+        return value;
+    }
+
+    /**
+     * Возвращает число из колонки, в качестве десятичного
+     * разделителя допускаются точка и запятая.
+     *
+     * @param row    Значения колонок строки.
+     * @param column Название колонки.
+     * @return Значение типа double - число.
+     * @throws WrongInformationException Бросает исключение, если значение не число.
+     */
+    private static double parseNumber(final Map<String, String> row, final String column)
+            throws WrongInformationException {
+        final String value = getRequired(row, column);
+        try {
+            final double number = Double.parseDouble(value.replace(',', '.'));
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException ex) {
+            throw new WrongInformationException("Wrong " + column + " \"" + value + "\"!");
+        }
+    }
+
+    /**
+     * Возвращает значения колонок товара в порядке {@link #COLUMNS}.
+     *
+     * @param product Товар.
+     * @return Массив значений колонок.
+     */
+    private static String[] getValues(final Product product) {
+        final Category category = product.getCategory();
+        final Photo photo = product.getPhoto();
+        return new String[]{
+                String.valueOf(product.getArticle()),
+                product.getTitle(),
+                product.getUrl(),
+                (category != null) ? category.getUrl() : "",
+                String.valueOf(product.getPrice()),
+                product.getParameters(),
+                product.getDescription(),
+                (photo != null) ? photo.getTitle() : "",
+                (photo != null) ? photo.getPhotoLinkShort() : "",
+                (photo != null) ? photo.getPhotoLinkLong() : ""
+        };
+    }
+
+    /**
+     * Объект для чтения строк файла импорта.
+     */
+    private interface RowReader {
+        /**
+         * Возвращает следующую строку файла.
+         *
+         * @return Объект типа {@link Map} - значения колонок по названиям
+         * или null, если строки закончились.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если файл
+         *                                   не соответствует формату.
+         */
+        Map<String, String> next() throws IOException, WrongInformationException;
+    }
+
+    /**
+     * Объект для записи товаров в файл экспорта.
+     */
+    private interface RowWriter {
+        /**
+         * Записывает товар.
+         *
+         * @param product Товар.
+         * @throws IOException Исключение записи файла.
+         */
+        void write(Product product) throws IOException;
+
+        /**
+         * Завершает файл.
+         *
+         * @throws IOException Исключение записи файла.
+         */
+        void finish() throws IOException;
+    }
+
+    /**
+     * Чтение CSV по RFC 4180: значения в двойных кавычках могут содержать
+     * запятые, переводы строк и удвоенные кавычки. Первая строка - названия
+     * колонок, пустые строки пропускаются.
+     */
+    static final class CsvRowReader implements RowReader {
+        /**
+         * Поток для чтения файла.
+         */
+        private final Reader reader;
+
+        /**
+         * Названия колонок в нижнем регистре.
+         */
+        private final List<String> columns;
+
+        /**
+         * Конструктор читает строку с названиями колонок.
+         *
+         * @param reader Поток для чтения файла.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если файл пустой.
+         */
+        CsvRowReader(final Reader reader) throws IOException, WrongInformationException {
+            this.reader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+            this.reader.mark(1);
+            if (this.reader.read() != '\uFEFF') {
+                this.reader.reset();
+            }
+            final List<String> header = readRecord();
+            if (header == null) {
+                throw new WrongInformationException("CSV file is empty!");
+            }
+            this.columns = new ArrayList<>(header.size());
+            for (String column : header) {
+                this.columns.add(trimToEmpty(column).toLowerCase());
+            }
+        }
+
+        /**
+         * Возвращает следующую непустую строку файла.
+         *
+         * @return Объект типа {@link Map} - значения колонок по названиям
+         * или null, если строки закончились.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если
+         *                                   не закрыты кавычки.
+         */
+        @Override
+        public Map<String, String> next() throws IOException, WrongInformationException {
+            List<String> record;
+            do {
+                record = readRecord();
+            } while ((record != null) && (record.size() == 1) && record.get(0).isEmpty());
+            if (record == null) {
+                return null;
+            }
+            final Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < Math.min(record.size(), this.columns.size()); i++) {
+                row.put(this.columns.get(i), record.get(i));
+            }
+            return row;
+        }
+
+        /**
+         * Читает одну запись CSV.
+         *
+         * @return Объект типа {@link List} - значения записи
+         * или null, если файл закончился.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если
+         *                                   не закрыты кавычки.
+         */
+        private List<String> readRecord() throws IOException, WrongInformationException {
+            int symbol = this.reader.read();
+            if (symbol == -1) {
+                return null;
+            }
+            final List<String> values = new ArrayList<>();
+            final StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            while (true) {
+                if (quoted) {
+                    if (symbol == -1) {
+                        throw new WrongInformationException("Unclosed quote in CSV file!");
+                    }
+                    if (symbol == '"') {
+                        symbol = this.reader.read();
+                        if (symbol != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    value.append((char) symbol);
+                } else if ((symbol == '\n') || (symbol == -1)) {
+                    break;
+                } else if (symbol == SEPARATOR) {
+                    values.add(value.toString());
+                    value.setLength(0);
+                    wasQuoted = false;
+                } else if ((symbol == '"') && (value.length() == 0) && !wasQuoted) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (symbol != '\r') {
+                    value.append((char) symbol);
+                }
+                symbol = this.reader.read();
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+
+    /**
+     * Запись CSV по RFC 4180: значения с запятыми, кавычками
+     * и переводами строк заключаются в двойные кавычки.
+     */
+    static final class CsvRowWriter implements RowWriter {
+        /**
+         * Поток для записи файла.
+         */
+        private final Writer writer;
+
+        /**
+         * Конструктор записывает строку с названиями колонок.
+         *
+         * @param writer Поток для записи файла.
+         * @throws IOException Исключение записи файла.
+         */
+        CsvRowWriter(final Writer writer) throws IOException {
+            this.writer = writer;
+            writeRecord(COLUMNS);
+        }
+
+        /**
+         * Записывает товар одной записью CSV.
+         *
+         * @param product Товар.
+         * @throws IOException Исключение записи файла.
+         */
+        @Override
+        public void write(final Product product) throws IOException {
+            writeRecord(getValues(product));
+        }
+
+        /**
+         * Завершает файл, для CSV ничего дописывать не нужно.
+         */
+        @Override
+        public void finish() {
+        }
+
+        /**
+         * Записывает одну запись CSV.
+         *
+         * @param values Значения записи.
+         * @throws IOException Исключение записи файла.
+         */
+        private void writeRecord(final String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    this.writer.write(SEPARATOR);
+                }
+                final String value = (values[i] != null) ? values[i] : "";
+                if (value.indexOf(SEPARATOR) >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    this.writer.write('"');
+                    this.writer.write(value.replace("\"", "\"\""));
+                    this.writer.write('"');
+                } else {
+                    this.writer.write(value);
+                }
+            }
+            this.writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Чтение массива объектов JSON: поля со скалярными значениями
+     * становятся колонками, вложенные объекты и массивы пропускаются.
+     */
+    static final class JsonRowReader implements RowReader {
+        /**
+         * Объект для чтения JSON.
+         */
+        private final JsonParser parser;
+
+        /**
+         * Конструктор проверяет, что файл начинается с массива.
+         *
+         * @param reader Поток для чтения файла.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если файл
+         *                                   не является массивом JSON.
+         */
+        JsonRowReader(final Reader reader) throws IOException, WrongInformationException {
+            this.parser = JSON_FACTORY.createParser(reader);
+            if (nextToken() != JsonToken.START_ARRAY) {
+                throw new WrongInformationException("JSON file must contain an array of products!");
+            }
+        }
+
+        /**
+         * Возвращает следующий объект массива.
+         *
+         * @return Объект типа {@link Map} - значения полей по названиям
+         * или null, если массив закончился.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если
+         *                                   JSON ошибочный.
+         */
+        @Override
+        public Map<String, String> next() throws IOException, WrongInformationException {
+            JsonToken token = nextToken();
+            if ((token == null) || (token == JsonToken.END_ARRAY)) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new WrongInformationException("Product must be a JSON object!");
+            }
+            final Map<String, String> row = new HashMap<>();
+            while ((token = nextToken()) == JsonToken.FIELD_NAME) {
+                final String column = trimToEmpty(this.parser.getCurrentName()).toLowerCase();
+                token = nextToken();
+                if ((token != null) && token.isScalarValue()) {
+                    row.put(column, (token == JsonToken.VALUE_NULL) ? null : this.parser.getText());
+                } else {
+                    this.parser.skipChildren();
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Возвращает следующий элемент JSON.
+         *
+         * @return Объект {@link JsonToken} - элемент JSON или null в конце файла.
+         * @throws IOException               Исключение чтения файла.
+         * @throws WrongInformationException Бросает исключение, если
+         *                                   JSON ошибочный.
+         */
+        private JsonToken nextToken() throws IOException, WrongInformationException {
+            try {
+                return this.parser.nextToken();
+            } catch (JsonProcessingException ex) {
+                throw new WrongInformationException("Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Запись товаров массивом объектов JSON.
+     */
+    static final class JsonRowWriter implements RowWriter {
+        /**
+         * Объект для записи JSON.
+         */
+        private final JsonGenerator generator;
+
+        /**
+         * Конструктор открывает массив.
+         *
+         * @param writer Поток для записи файла.
+         * @throws IOException Исключение записи файла.
+         */
+        JsonRowWriter(final Writer writer) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.writeStartArray();
+        }
+
+        /**
+         * Записывает товар объектом JSON, артикль и цена записываются числами.
+         *
+         * @param product Товар.
+         * @throws IOException Исключение записи файла.
+         */
+        @Override
+        public void write(final Product product) throws IOException {
+            final String[] values = getValues(product);
+            this.generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if ("article".equals(COLUMNS[i])) {
+                    this.generator.writeNumberField(COLUMNS[i], product.getArticle());
+                } else if ("price".equals(COLUMNS[i])) {
+                    this.generator.writeNumberField(COLUMNS[i], product.getPrice());
+                } else {
+                    this.generator.writeStringField(COLUMNS[i], values[i]);
+                }
+            }
+            this.generator.writeEndObject();
+        }
+
+        /**
+         * Закрывает массив и сбрасывает буфер в поток.
+         *
+         * @throws IOException Исключение записи файла.
+         */
+        @Override
+        public void finish() throws IOException {
+            this.generator.writeEndArray();
+            this.generator.close();
+        }
+    }
+}
@@ -4,51 +4,62 @@ import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Service;
+import ua.com.alexcoffee.cache.impl.LruCacheStore;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.cache.interfaces.CacheStore;
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.mail.impl.JavaMailClient;
+import ua.com.alexcoffee.mail.impl.NotificationDispatcherImpl;
+import ua.com.alexcoffee.mail.interfaces.MailClient;
+import ua.com.alexcoffee.mail.interfaces.MailClientFactory;
+import ua.com.alexcoffee.mail.interfaces.NotificationDispatcher;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.OutboxMessage;
 import ua.com.alexcoffee.model.User;
 import ua.com.alexcoffee.service.interfaces.SenderService;
 import ua.com.alexcoffee.service.interfaces.UserService;
 
-import javax.mail.*;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
-import javax.mail.internet.MimeUtility;
-import java.io.UnsupportedEncodingException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 import java.util.Properties;
 
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
 /**
  * Класс сервисного слоя реализует методы интерфейса {@link SenderService}
- * для работы с электронной почтой. Также реализует интерфейс {@link Runnable},
- * то есть можно отправлять сообщения в отдельном потоке.
+ * для работы с электронной почтой. Уведомления о заказах не отправляются
+ * в потоке запроса, а ставятся в ограниченную очередь диспетчера
+ * {@link NotificationDispatcher}, который отправляет их в одном выделенном
+ * потоке через переиспользуемое SMTP соединение. Уведомление о заказе
+ * отправляется одним письмом сразу всем менеджерам, список адресов
+ * менеджеров кешируется на короткое время. Почтовый сервер, размер
+ * очереди и параметры повторной отправки задаются в {@link AppSettings}.
+ * Поток отправки запускается после создания бина и останавливается
+ * при закрытии контекста Spring.
  *
  * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
  * @version 1.2
  * @see SenderService
+ * @see NotificationDispatcher
  * @see User
  * @see Order
  */
 @Service
 @ComponentScan(basePackages = "ua.com.alexcoffee.service")
-public final class SenderServiceImpl
-        implements SenderService, Runnable {
-
+public final class SenderServiceImpl implements SenderService {
     /**
      * Объект для логирования информации.
      */
     private static final Logger LOGGER = Logger.getLogger(SenderServiceImpl.class);
 
     /**
-     * Стандартная кодировка сообщений.
+     * Время жизни закешированного списка адресов менеджеров - 1 минута.
      */
-    private static final String CHARSET = "UTF-8";
-
-    /**
-     * Стандартная кодировка сообщений.
-     */
-    private static final String ENCODING = "Q";
+    private static final long RECIPIENTS_TIME_TO_LIVE = 60 * 1000L;
 
     /**
      * Объект сервиса для работы с пользователями.
@@ -56,20 +67,19 @@ public final class SenderServiceImpl
     private final UserService userService;
 
     /**
-     * Администратор сайта, от имени которого будут отправлятся
-     * сообщения менеджерам.
+     * Настройки почтового сервера и очереди уведомлений.
      */
-    private User admin;
+    private final AppSettings settings;
 
     /**
-     * Список менеджеров, которым будет приходить сообщение о заказе.
+     * Диспетчер уведомлений.
      */
-    private List<User> managers;
+    private final NotificationDispatcher dispatcher;
 
     /**
-     * Заказ, информация о котором будет приходить на почту менеджерам.
+     * Кеш списка адресов менеджеров.
      */
-    private Order order;
+    private final CacheStore<String, List<String>> recipients;
 
     /**
      * Конструктор для инициализации основных переменных сервиса.
@@ -77,72 +87,114 @@ public final class SenderServiceImpl
      * автоматически инициализировать объект.
      *
      * @param userService Реализация интерфейса для работы з пользователями.
+     * @param settings    Настройки почтового сервера и очереди уведомлений.
      */
     @Autowired
     @SuppressWarnings("SpringJavaAutowiringInspection")
-    public SenderServiceImpl(final UserService userService) {
+    public SenderServiceImpl(final UserService userService, final AppSettings settings) {
+        this(userService, settings, null);
+    }
+
+    /**
+     * Конструктор для инициализации сервиса с заданной фабрикой
+     * соединений с почтовым сервером и настройками по-умолчанию.
+     *
+     * @param userService   Реализация интерфейса для работы з пользователями.
+     * @param clientFactory Фабрика соединений с почтовым сервером,
+     *                      null - соединение с почтой главного администратора.
+     */
+    SenderServiceImpl(final UserService userService, final MailClientFactory clientFactory) {
+        this(userService, new AppSettings(), clientFactory);
+    }
+
+    /**
+     * Конструктор для инициализации сервиса с заданной фабрикой
+     * соединений с почтовым сервером. Поток отправки уведомлений
+     * не запускается, его запускает метод start.
+     *
+     * @param userService   Реализация интерфейса для работы з пользователями.
+     * @param settings      Настройки почтового сервера и очереди уведомлений.
+     * @param clientFactory Фабрика соединений с почтовым сервером,
+     *                      null - соединение с почтой главного администратора.
+     */
+    SenderServiceImpl(
+            final UserService userService,
+            final AppSettings settings,
+            final MailClientFactory clientFactory
+    ) {
         this.userService = userService;
+        this.settings = settings;
+        this.recipients = new LruCacheStore<>(1, RECIPIENTS_TIME_TO_LIVE);
+        this.dispatcher = new NotificationDispatcherImpl(
+                (clientFactory != null) ? clientFactory : this::openMailClient,
+                settings.getMailQueueCapacity(),
+                settings.getMailBatchSize(),
+                settings.getMailMaxAttempts(),
+                settings.getMailBackoff(),
+                settings.getMailOfferTimeout()
+        );
     }
 
     /**
-     * Отсылает информацию о заказе менеджерам на электронную почту.
-     * Запускает отдельный поток.
+     * Ставит уведомление о заказе менеджерам в очередь на отправку.
+     * Текст уведомления формируется в текущем потоке.
      *
      * @param order Заказ для отправке менеджерам.
+     * @return Значение типа boolean - true, если уведомление принято в очередь.
      */
     @Override
-    public void send(final Order order) {
-        this.order = order;
-        new Thread(this).start();
+    public boolean send(final Order order) {
+        if (order == null) {
+            return false;
+        }
+        final OutboxMessage message = new OutboxMessage(order);
+        return send(message.getSubject(), message.getText()) != null;
     }
 
     /**
-     * Запускает текущий поток.
-     * Переопределенный метод класса {@link Thread}.
+     * Ставит уведомление с заданными темой и текстом менеджерам
+     * в очередь на отправку.
+     *
+     * @param subject Тема сообщения.
+     * @param text    Текст сообщения.
+     * @return Объект класса {@link Notification} - уведомление, принятое
+     * в очередь, или null, если нет менеджеров или очередь заполнена.
      */
     @Override
-    public void run() {
-        if (this.order != null) {
-            this.admin = this.userService.getMainAdministrator();
-            this.managers = this.userService.getManagers();
-            Collections.shuffle(this.managers);
-            if (this.admin != null && !this.managers.isEmpty()) {
-                choosePropertiesAndSend();
-            }
+    public Notification send(final String subject, final String text) {
+        final List<String> emails = getRecipients();
+        if (emails.isEmpty()) {
+            LOGGER.warn("No managers to notify: " + subject);
+            return null;
         }
+        final Notification notification = new Notification(subject, text, emails);
+        return this.dispatcher.dispatch(notification) ? notification : null;
     }
 
     /**
-     * Выбирает подходящие настройки и отправляет сообщение.
+     * Возвращает диспетчер уведомлений.
+     *
+     * @return Объект интерфейса {@link NotificationDispatcher} - диспетчер уведомлений.
      */
-    private void choosePropertiesAndSend() {
-        Properties properties;
-        final String subject = "AlexCoffee || New Order " + this.order.getNumber();
-        final String text = this.order.toString();
-        for (User manager : this.managers) {
-            try {
-                try {
-                    properties = getTLSProperties();
-                    sendMessage(
-                            properties,
-                            manager.getEmail(),
-                            subject, text
-                    );
-                } catch (MessagingException ex) {
-                    ex.printStackTrace();
-                    LOGGER.error(ex.getMessage(), ex);
-                    properties = getSSLProperties();
-                    sendMessage(
-                            properties,
-                            manager.getEmail(),
-                            subject, text
-                    );
-                }
-            } catch (Exception ex) {
-                ex.printStackTrace();
-                LOGGER.error(ex.getMessage(), ex);
-            }
-        }
+    @Override
+    public NotificationDispatcher getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * Запускает поток отправки уведомлений после создания бина.
+     */
+    @PostConstruct
+    public void start() {
+        this.dispatcher.start();
+    }
+
+    /**
+     * Останавливает поток отправки уведомлений при закрытии контекста.
+     */
+    @PreDestroy
+    public void shutdown() {
+        this.dispatcher.shutdown();
     }
 
     /**
@@ -156,8 +208,10 @@ public final class SenderServiceImpl
         final Properties properties = new Properties();
         properties.put("mail.smtp.auth", "true");
         properties.put("mail.smtp.starttls.enable", "true");
-        properties.put("mail.smtp.host", "smtp.gmail.com");
-        properties.put("mail.smtp.port", "587");
+        properties.put("mail.smtp.host", this.settings.getMailHost());
+        properties.put("mail.smtp.port", Integer.toString(this.settings.getMailTlsPort()));
+        properties.put("mail.smtp.connectiontimeout", Integer.toString(this.settings.getMailTimeout()));
+        properties.put("mail.smtp.timeout", Integer.toString(this.settings.getMailTimeout()));
         return properties;
     }
 
@@ -170,23 +224,27 @@ public final class SenderServiceImpl
     @Override
     public Properties getSSLProperties() {
         final Properties properties = new Properties();
-        properties.put("mail.smtp.host", "smtp.gmail.com");
-        properties.put("mail.smtp.socketFactory.port", "465");
+        final String port = Integer.toString(this.settings.getMailSslPort());
+        properties.put("mail.smtp.host", this.settings.getMailHost());
+        properties.put("mail.smtp.socketFactory.port", port);
         properties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
         properties.put("mail.smtp.auth", "true");
-        properties.put("mail.smtp.port", "465");
+        properties.put("mail.smtp.port", port);
+        properties.put("mail.smtp.connectiontimeout", Integer.toString(this.settings.getMailTimeout()));
+        properties.put("mail.smtp.timeout", Integer.toString(this.settings.getMailTimeout()));
         return properties;
     }
 
     /**
-     * Отправляет сообщение по заданым параметрам.
+     * Отправляет одно сообщение по заданым параметрам
+     * через отдельное соединение, минуя очередь.
      *
      * @param properties Настройки протокола для сессии.
      * @param toEmail    Адрес электронной почты, на который будет отправлено сообщение.
      * @param subject    Тема сообщения.
      * @param text       Текст сообщения.
-     * @throws MessagingException           Исключение класса InternetAddress.
-     * @throws UnsupportedEncodingException Исключение кодировки метдом MimeUtility.encodeText().
+     * @throws MessagingException Бросает исключение при ошибке отправки
+     *                            или если нет главного администратора.
      */
     @Override
     public void sendMessage(
@@ -194,78 +252,59 @@ public final class SenderServiceImpl
             final String toEmail,
             final String subject,
             final String text
-    ) throws MessagingException, UnsupportedEncodingException {
-        final Session session = Session.getDefaultInstance(
-                properties,
-                new Authenticator() {
-                    @Override
-                    protected PasswordAuthentication getPasswordAuthentication() {
-                        return new PasswordAuthentication(
-                                admin.getEmail(), admin.getPassword()
-                        );
-                    }
-                }
-        );
-        final Message message = new MimeMessage(session);
-        message.setFrom(new InternetAddress("support@alexcoffee.com.ua"));
-        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toEmail));
-        message.setSubject(MimeUtility.encodeText(subject, CHARSET, ENCODING));
-        message.setContent(text, "text/plain;charset=" + CHARSET);
-        message.setSentDate(new Date());
-        Transport.send(message);
-    }
-
-    /**
-     * Возвращает заказ для отправки менеджерам.
-     *
-     * @return Объект класса {@link Order} - заказ для обработки.
-     */
-    public Order getOrder() {
-        return this.order;
-    }
-
-    /**
-     * Устанавливает заказ для отправки менеджерам.
-     *
-     * @param order Заказ для обработки.
-     */
-    public void setOrder(final Order order) {
-        this.order = order;
-    }
-
-    /**
-     * Возвращает администратора, от имени которого отсылаются сообщения.
-     *
-     * @return Объект класса {@link User} - администратор сайта.
-     */
-    public User getAdmin() {
-        return this.admin;
+    ) throws MessagingException {
+        try (MailClient client = openMailClient(properties)) {
+            client.send(new Notification(subject, text, Collections.singletonList(toEmail)));
+        }
     }
 
     /**
-     * Устанавливает администратора, от имени которого отсылаются сообщения.
+     * Возвращает адреса электронной почты менеджеров из кеша,
+     * при промахе - из базы данных.
      *
-     * @param admin Администратор сайта.
+     * @return Объект типа {@link List} - адреса менеджеров.
      */
-    public void setAdmin(final User admin) {
-        this.admin = admin;
+    private List<String> getRecipients() {
+        return this.recipients.get("managers", () -> {
+            final List<String> emails = new ArrayList<>();
+            for (User manager : this.userService.getManagers()) {
+                if (isNotBlank(manager.getEmail())) {
+                    emails.add(manager.getEmail());
+                }
+            }
+            return emails;
+        });
     }
 
     /**
-     * Возвращает список менеджеров, которым будет отправлятся сообщения.
+     * Открывает соединение с почтовым сервером по протоколу TLS,
+     * при ошибке - по протоколу SSL.
      *
-     * @return Объект класса {@link List} - список менеджеров.
+     * @return Объект интерфейса {@link MailClient} - открытое соединение.
+     * @throws MessagingException Бросает исключение, если соединение не удалось открыть.
      */
-    public List<User> getManagers() {
-        return this.managers;
+    private MailClient openMailClient() throws MessagingException {
+        try {
+            return openMailClient(getTLSProperties());
+        } catch (MessagingException ex) {
+            LOGGER.error(ex.getMessage(), ex);
+            return openMailClient(getSSLProperties());
+        }
     }
 
     /**
-     * Устанавливает список менеджеров, которым будет отправлятся сообщения.
+     * Открывает соединение с почтовым сервером от имени главного администратора.
      *
-     * @param managers список менеджеров.
+     * @param properties Настройки протокола для сессии.
+     * @return Объект интерфейса {@link MailClient} - открытое соединение.
+     * @throws MessagingException Бросает исключение, если соединение не удалось
+     *                            открыть или нет главного администратора.
      */
-    public void setManagers(final List<User> managers) {
-        this.managers = managers;
+    private MailClient openMailClient(final Properties properties) throws MessagingException {
+        final User admin = this.userService.getMainAdministrator();
+        if (admin == null) {
+            throw new MessagingException("Can't find main administrator to send mail from!");
+        }
+        return new JavaMailClient(properties, admin.getEmail(), admin.getPassword(), this.settings.getMailFrom());
     }
 }
@@ -106,6 +106,37 @@ public final class ShoppingCartServiceImpl
         }
     }
 
+    /**
+     * Устанавливает количество товаров в позиции с заданным товаром.
+     * Если количество меньше или равно 0, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @param quantity  Новое количество товаров.
+     * @throws BadRequestException Бросает исключение, если товара нет в корзине.
+     */
+    @Override
+    @Transactional
+    public void setQuantity(final long productId, final int quantity) throws BadRequestException {
+        if (!this.shoppingCartDAO.setQuantity(productId, quantity)) {
+            throw new BadRequestException("Can't find product with id " + productId + " in shopping cart!");
+        }
+    }
+
+    /**
+     * Уменьшает количество товаров в позиции с заданным товаром на 1.
+     * Если товаров в позиции не осталось, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @throws BadRequestException Бросает исключение, если товара нет в корзине.
+     */
+    @Override
+    @Transactional
+    public void decrement(final long productId) throws BadRequestException {
+        if (!this.shoppingCartDAO.decrement(productId)) {
+            throw new BadRequestException("Can't find product with id " + productId + " in shopping cart!");
+        }
+    }
+
     /**
      * Очищает корзину.
      * Удаляет все торговые позиции в корзине.
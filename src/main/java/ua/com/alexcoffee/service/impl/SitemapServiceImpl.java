@@ -0,0 +1,478 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.exception.BadRequestException;
+import ua.com.alexcoffee.service.interfaces.SitemapService;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Класс сервисного слоя для построения карты сайта.
+ * Реализует методы интерфейса {@link SitemapService}.
+ * URL категорий и товаров читаются из базы данных однонаправленным курсором
+ * без загрузки самих моделей и сразу записываются в XML, сжатый gzip, поэтому
+ * память расходуется только на сжатый результат. Построенная карта хранится
+ * до тех пор, пока не изменится версия каталога в {@link CatalogCache}.
+ * Класс помечан аннотацией @Service - аннотация обьявляющая, что этот класс
+ * представляет собой сервис – компонент сервис-слоя.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SitemapService
+ * @see ProductDAO
+ * @see CategoryDAO
+ * @see CatalogCache
+ */
+@Service
+@ComponentScan(basePackages = {"ua.com.alexcoffee.dao", "ua.com.alexcoffee.cache"})
+public final class SitemapServiceImpl implements SitemapService {
+    /**
+     * Адрес сайта, к которому добавляются относительные ссылки.
+     */
+    private static final String SITE_URL = "http://alexcoffee.com.ua";
+
+    /**
+     * Пространство имен XML протокола Sitemaps.
+     */
+    private static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    /**
+     * Максимальное количество ссылок в одном файле по протоколу Sitemaps.
+     */
+    private static final int MAX_URLS = 50000;
+
+    /**
+     * Частота изменения страниц для поисковых систем.
+     */
+    private static final String CHANGE_FREQUENCY = "weekly";
+
+    /**
+     * Фабрика для создания объектов записи XML.
+     */
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Реализация интерфейса {@link ProductDAO} для работы с товаров с базой данных.
+     */
+    private final ProductDAO productDAO;
+
+    /**
+     * Реализация интерфейса {@link CategoryDAO} для работы с категориями с базой данных.
+     */
+    private final CategoryDAO categoryDAO;
+
+    /**
+     * Кеш каталога, по версии которого определяется актуальность карты.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * Шаблон транзакции только для чтения, в которой читаются курсоры.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Максимальное количество ссылок в одной части карты.
+     */
+    private final int maxUrls;
+
+    /**
+     * Последняя построенная карта сайта.
+     */
+    private volatile Sitemap sitemap;
+
+    /**
+     * Конструктор для инициализации основных переменных сервиса.
+     * Помечаный аннотацией @Autowired, которая позволит Spring
+     * автоматически инициализировать объект.
+     *
+     * @param productDAO         Реализация интерфейса {@link ProductDAO}
+     *                           для работы товаров с базой данных.
+     * @param categoryDAO        Реализация интерфейса {@link CategoryDAO}
+     *                           для работы категорий с базой данных.
+     * @param catalogCache       Кеш каталога товаров и категорий.
+     * @param transactionManager Менеджер транзакций.
+     */
+    @Autowired
+    @SuppressWarnings("SpringJavaAutowiringInspection")
+    public SitemapServiceImpl(
+            final ProductDAO productDAO,
+            final CategoryDAO categoryDAO,
+            final CatalogCache catalogCache,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this(productDAO, categoryDAO, catalogCache, transactionManager, MAX_URLS);
+    }
+
+    /**
+     * Конструктор для инициализации сервиса с заданным
+     * максимальным количеством ссылок в одной части карты.
+     *
+     * @param productDAO         Реализация интерфейса {@link ProductDAO}
+     *                           для работы товаров с базой данных.
+     * @param categoryDAO        Реализация интерфейса {@link CategoryDAO}
+     *                           для работы категорий с базой данных.
+     * @param catalogCache       Кеш каталога товаров и категорий.
+     * @param transactionManager Менеджер транзакций.
+     * @param maxUrls            Максимальное количество ссылок в одной части.
+     */
+    SitemapServiceImpl(
+            final ProductDAO productDAO,
+            final CategoryDAO categoryDAO,
+            final CatalogCache catalogCache,
+            final PlatformTransactionManager transactionManager,
+            final int maxUrls
+    ) {
+        this.productDAO = productDAO;
+        this.categoryDAO = categoryDAO;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxUrls = maxUrls;
+    }
+
+    /**
+     * Возвращает документ карты сайта с номером number: 0 - главный
+     * документ (список ссылок или индекс частей), 1 и далее - части карты.
+     * Если каталог изменился с момента построения карты, карта строится заново.
+     *
+     * @param number Номер документа.
+     * @return Объект класса {@link Document} - документ карты сайта.
+     * @throws BadRequestException Бросает исключение, если документ
+     *                             с таким номером отсутствует.
+     */
+    @Override
+    public Document get(final int number) throws BadRequestException {
+        final List<Document> documents = getSitemap().documents;
+        if (number < 0 || number >= documents.size()) {
+            throw new BadRequestException("Can't find sitemap " + number + "!");
+        }
+        return documents.get(number);
+    }
+
+    /**
+     * Возвращает актуальную карту сайта, при изменении версии каталога
+     * строит ее заново. Одновременно карту строит только один поток.
+     *
+     * @return Объект класса {@link Sitemap} - карта сайта.
+     */
+    private Sitemap getSitemap() {
+        final long version = this.catalogCache.getVersion();
+        Sitemap sitemap = this.sitemap;
+        if (sitemap == null || sitemap.version != version) {
+            synchronized (this) {
+                sitemap = this.sitemap;
+                if (sitemap == null || sitemap.version != version) {
+                    sitemap = new Sitemap(version, this.transactionTemplate.execute(status -> build()));
+                    this.sitemap = sitemap;
+                }
+            }
+        }
+        return sitemap;
+    }
+
+    /**
+     * Строит документы карты сайта: главный документ и все части.
+     *
+     * @return Объект типа {@link List} - документы карты сайта.
+     */
+    private List<Document> build() {
+        final long lastModified = System.currentTimeMillis() / 1000 * 1000;
+        final List<Document> parts;
+        try (UrlSetWriter writer = new UrlSetWriter(lastModified)) {
+            writer.write("/", "1.0");
+            writer.write("/index", "1.0");
+            writer.write("/home", "1.0");
+            try (Stream<String> urls = this.categoryDAO.getUrls()) {
+                writeAll(writer, urls.iterator(), "/category/all", "/category/", "0.6");
+            }
+            try (Stream<String> urls = this.productDAO.getUrls()) {
+                writeAll(writer, urls.iterator(), "/product/all", "/product/", "0.5");
+            }
+            parts = writer.finish();
+        } catch (XMLStreamException | IOException ex) {
+            throw new IllegalStateException("Can't build sitemap!", ex);
+        }
+        final List<Document> documents = new ArrayList<>(parts.size() + 1);
+        documents.add((parts.size() == 1) ? parts.get(0) : createIndex(parts.size(), lastModified));
+        documents.addAll(parts);
+        return Collections.unmodifiableList(documents);
+    }
+
+    /**
+     * Записывает ссылку на список моделей и ссылки на все модели,
+     * если список не пустой.
+     *
+     * @param writer   Объект для записи ссылок.
+     * @param urls     URL моделей.
+     * @param listUrl  Ссылка на список моделей.
+     * @param prefix   Префикс ссылки на модель.
+     * @param priority Приоритет ссылок на модели.
+     * @throws XMLStreamException Исключение записи XML.
+     * @throws IOException        Исключение записи в поток.
+     */
+    private static void writeAll(
+            final UrlSetWriter writer,
+            final Iterator<String> urls,
+            final String listUrl,
+            final String prefix,
+            final String priority
+    ) throws XMLStreamException, IOException {
+        if (urls.hasNext()) {
+            writer.write(listUrl, "0.8");
+            while (urls.hasNext()) {
+                writer.write(prefix + urls.next(), priority);
+            }
+        }
+    }
+
+    /**
+     * Создает индекс карты сайта со ссылками на все части карты.
+     *
+     * @param size         Количество частей карты.
+     * @param lastModified Время построения карты.
+     * @return Объект класса {@link Document} - индекс карты сайта.
+     * @throws IllegalStateException Бросает исключение при ошибке записи XML.
+     */
+    private static Document createIndex(final int size, final long lastModified)
+            throws IllegalStateException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            final XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(gzip, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("sitemapindex");
+            xml.writeDefaultNamespace(NAMESPACE);
+            for (int i = 1; i <= size; i++) {
+                xml.writeStartElement("sitemap");
+                writeElement(xml, "loc", SITE_URL + "/sitemap-" + i + ".xml");
+                writeElement(xml, "lastmod", formatDate(lastModified));
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException | IOException ex) {
+            throw new IllegalStateException("Can't build sitemap index!", ex);
+        }
+        return createDocument(bytes.toByteArray(), lastModified);
+    }
+
+    /**
+     * Создает документ карты сайта, ETag вычисляется по содержимому.
+     *
+     * @param content      Содержимое документа, сжатое gzip.
+     * @param lastModified Время построения документа.
+     * @return Объект класса {@link Document} - документ карты сайта.
+     */
+    private static Document createDocument(final byte[] content, final long lastModified) {
+        return new Document(
+                content,
+                "\"" + DigestUtils.md5DigestAsHex(content) + "\"",
+                lastModified
+        );
+    }
+
+    /**
+     * Записывает XML элемент с текстом.
+     *
+     * @param xml   Объект для записи XML.
+     * @param name  Имя элемента.
+     * @param value Текст элемента.
+     * @throws XMLStreamException Исключение записи XML.
+     */
+    private static void writeElement(
+            final XMLStreamWriter xml,
+            final String name,
+            final String value
+    ) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    /**
+     * Форматирует дату в формате W3C (ГГГГ-ММ-ДД), принятом в протоколе Sitemaps.
+     *
+     * @param time Время в миллисекундах.
+     * @return Значение типа {@link String} - дата.
+     */
+    private static String formatDate(final long time) {
+        return Instant.ofEpochMilli(time).atZone(ZoneOffset.UTC).toLocalDate().toString();
+    }
+
+    /**
+     * Построенная карта сайта и версия каталога, из которого она построена.
+     */
+    private static final class Sitemap {
+        /**
+         * Версия каталога.
+         */
+        private final long version;
+
+        /**
+         * Документы карты сайта.
+         */
+        private final List<Document> documents;
+
+        /**
+         * Конструктор для инициализации карты сайта.
+         *
+         * @param version   Версия каталога.
+         * @param documents Документы карты сайта.
+         */
+        Sitemap(final long version, final List<Document> documents) {
+            this.version = version;
+            this.documents = documents;
+        }
+    }
+
+    /**
+     * Объект для последовательной записи ссылок в части карты сайта.
+     * Когда в части набирается максимальное количество ссылок,
+     * она закрывается и начинается следующая.
+     */
+    private final class UrlSetWriter implements AutoCloseable {
+        /**
+         * Готовые части карты сайта.
+         */
+        private final List<Document> parts = new ArrayList<>();
+
+        /**
+         * Время построения карты сайта.
+         */
+        private final long lastModified;
+
+        /**
+         * Буфер текущей части.
+         */
+        private ByteArrayOutputStream bytes;
+
+        /**
+         * Поток сжатия текущей части.
+         */
+        private GZIPOutputStream gzip;
+
+        /**
+         * Объект записи XML текущей части.
+         */
+        private XMLStreamWriter xml;
+
+        /**
+         * Количество ссылок в текущей части.
+         */
+        private int count;
+
+        /**
+         * Конструктор для инициализации объекта записи.
+         *
+         * @param lastModified Время построения карты сайта.
+         */
+        UrlSetWriter(final long lastModified) {
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Записывает ссылку на страницу сайта.
+         *
+         * @param url      Относительная ссылка на страницу.
+         * @param priority Приоритет страницы.
+         * @throws XMLStreamException Исключение записи XML.
+         * @throws IOException        Исключение записи в поток.
+         */
+        void write(final String url, final String priority)
+                throws XMLStreamException, IOException {
+            if (this.xml == null) {
+                start();
+            }
+            this.xml.writeStartElement("url");
+            writeElement(this.xml, "loc", SITE_URL + url);
+            writeElement(this.xml, "changefreq", CHANGE_FREQUENCY);
+            writeElement(this.xml, "priority", priority);
+            this.xml.writeEndElement();
+            if (++this.count >= SitemapServiceImpl.this.maxUrls) {
+                end();
+            }
+        }
+
+        /**
+         * Завершает запись и возвращает все части карты сайта.
+         *
+         * @return Объект типа {@link List} - части карты сайта.
+         * @throws XMLStreamException Исключение записи XML.
+         * @throws IOException        Исключение записи в поток.
+         */
+        List<Document> finish() throws XMLStreamException, IOException {
+            if (this.xml != null || this.parts.isEmpty()) {
+                if (this.xml == null) {
+                    start();
+                }
+                end();
+            }
+            return this.parts;
+        }
+
+        /**
+         * Закрывает незавершенную часть при ошибке записи.
+         *
+         * @throws IOException Исключение закрытия потока.
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.gzip != null) {
+                this.gzip.close();
+                this.gzip = null;
+                this.xml = null;
+            }
+        }
+
+        /**
+         * Начинает новую часть карты сайта.
+         *
+         * @throws XMLStreamException Исключение записи XML.
+         * @throws IOException        Исключение создания потока.
+         */
+        private void start() throws XMLStreamException, IOException {
+            this.bytes = new ByteArrayOutputStream();
+            this.gzip = new GZIPOutputStream(this.bytes);
+            this.xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(this.gzip, "UTF-8");
+            this.xml.writeStartDocument("UTF-8", "1.0");
+            this.xml.writeStartElement("urlset");
+            this.xml.writeDefaultNamespace(NAMESPACE);
+            this.count = 0;
+        }
+
+        /**
+         * Завершает текущую часть карты сайта и добавляет ее в список готовых.
+         *
+         * @throws XMLStreamException Исключение записи XML.
+         * @throws IOException        Исключение записи в поток.
+         */
+        private void end() throws XMLStreamException, IOException {
+            this.xml.writeEndElement();
+            this.xml.writeEndDocument();
+            this.xml.close();
+            close();
+            this.parts.add(createDocument(this.bytes.toByteArray(), this.lastModified));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.model.Model;
 import ua.com.alexcoffee.service.impl.MainServiceImpl;
 
@@ -61,6 +63,29 @@ public interface MainService<T extends Model> {
      */
     List<T> getAll();
 
+    /**
+     * Получение одной страницы моделей в порядке возрастания кодов.
+     * Отрицательный номер страницы заменяется первой страницей, размер
+     * страницы ограничен сверху, при неположительном размере
+     * используется размер по-умолчанию.
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Page} - страница моделей.
+     */
+    Page<T> getAll(int page, int size);
+
+    /**
+     * Получение порции моделей, код которых больше lastId, в порядке
+     * возрастания кодов. Размер порции ограничен так же, как и размер страницы.
+     *
+     * @param lastId Код последней модели предыдущей порции,
+     *               null - первая порция.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция моделей.
+     */
+    Slice<T> getAllAfter(Long lastId, int size);
+
     /**
      * Удаление модели.
      *
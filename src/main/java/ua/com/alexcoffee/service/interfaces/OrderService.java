@@ -1,6 +1,8 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.projection.OrderRow;
 
 /**
  * Интерфейс сервисного слоя, описывает набор методов для работы
@@ -11,6 +13,7 @@ import ua.com.alexcoffee.model.Order;
  * @version 1.2
  * @see Order
  * @see MainService
+ * @see OutboxService
  * @see ua.com.alexcoffee.service.impl.OrderServiceImpl
  */
 public interface OrderService extends MainService<Order> {
@@ -23,6 +26,27 @@ public interface OrderService extends MainService<Order> {
      */
     Order get(String number);
 
+    /**
+     * Возвращает порцию строк списка заказов, код которых меньше lastId,
+     * в порядке убывания кодов (сначала новые). Размер порции приводится
+     * к допустимому значению так же, как в методе getAllAfter(lastId, size).
+     *
+     * @param lastId Код последнего заказа предыдущей порции,
+     *               null - первая порция.
+     * @param size   Размер порции.
+     * @return Объект типа {@link Slice} - порция строк списка заказов.
+     */
+    Slice<OrderRow> getRowsAfter(Long lastId, int size);
+
+    /**
+     * Оформляет новый заказ: сохраняет заказ и уведомление менеджерам
+     * о нем в исходящую очередь (outbox) в одной транзакции.
+     * Письмо отправляется позже, вне запроса.
+     *
+     * @param order Новый заказ.
+     */
+    void checkout(Order order);
+
     /**
      * Удаляет заказ, у которого совпадает уникальный номером
      * с значением входящего параметра.
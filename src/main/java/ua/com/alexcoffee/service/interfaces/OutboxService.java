@@ -0,0 +1,30 @@
+package ua.com.alexcoffee.service.interfaces;
+
+/**
+ * Интерфейс сервисного слоя для отправки уведомлений из исходящей очереди
+ * (outbox). Сообщения попадают в очередь в одной транзакции с заказом
+ * и передаются в {@link SenderService} фоновым процессом пачками.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SenderService
+ * @see ua.com.alexcoffee.model.OutboxMessage
+ * @see ua.com.alexcoffee.service.impl.OutboxServiceImpl
+ */
+public interface OutboxService {
+    /**
+     * Выполняет один проход по исходящей очереди: удаляет отправленные
+     * сообщения, учитывает неудачные и передает на отправку следующую пачку.
+     *
+     * @return Значение типа int - количество сообщений, переданных на отправку.
+     */
+    int relay();
+
+    /**
+     * Возвращает количество сообщений, переданных на отправку,
+     * результат которых еще не известен.
+     *
+     * @return Значение типа int - количество сообщений в процессе отправки.
+     */
+    int getInFlightCount();
+}
@@ -3,6 +3,8 @@ package ua.com.alexcoffee.service.interfaces;
 import ua.com.alexcoffee.model.Photo;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Интерфейс сервисного слоя, описывает набор методов для работы
  * с объектами класса {@link Photo}.
@@ -33,11 +35,24 @@ public interface PhotoService extends MainService<Photo> {
     void remove(String title);
 
     /**
-     * Сохраняет файл в файловой системе.
+     * Сохраняет файл в файловой системе. Файл записывается
+     * асинхронно и называется по хешу своего содержимого.
      *
      * @param photo Файл для сохранения.
+     * @return Объект класса {@link CompletableFuture} - имя сохраненного
+     * файла или null, если файл пустой.
+     */
+    CompletableFuture<String> saveFile(MultipartFile photo);
+
+    /**
+     * Создает в фоне уменьшенные копии малого изображения для списков
+     * и записывает ссылки на них всем изображениям с этим малым изображением.
+     *
+     * @param photoLinkShort Ссылка на малое изображение.
+     * @return Объект класса {@link CompletableFuture} - true,
+     * если ссылки на копии записаны.
      */
-    void saveFile(MultipartFile photo);
+    CompletableFuture<Boolean> createThumbnails(String photoLinkShort);
 
     /**
      * Удаляет файл по url.
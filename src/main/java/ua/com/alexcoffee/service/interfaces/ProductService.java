@@ -1,7 +1,11 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import org.springframework.data.domain.Page;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -42,6 +46,17 @@ public interface ProductService extends MainService<Product> {
      */
     List<Product> getByCategoryUrl(String url);
 
+    /**
+     * Возвращает товары категории с уникальным URL, которые подходят
+     * под выбранные значения фасетов, и фасеты категории с количеством
+     * товаров для каждого значения.
+     *
+     * @param url     Уникальный URL категории.
+     * @param filters Ключи выбранных значений фасетов, null - без фильтра.
+     * @return Объект класса {@link FacetedProducts} - результат фильтрации.
+     */
+    FacetedProducts getByCategoryUrl(String url, Collection<String> filters);
+
     /**
      * Возвращает список товаров, которые относятся к категории
      * с уникальным кодом id - входным параметром.
@@ -116,4 +131,28 @@ public interface ProductService extends MainService<Product> {
      * @param id Код категории, товары котрой будут удалены.
      */
     void removeByCategoryId(Long id);
+
+    /**
+     * Возвращает одну страницу карточек товаров в порядке возрастания
+     * кодов. Номер и размер страницы приводятся к допустимым значениям
+     * так же, как в методе getAll(page, size).
+     *
+     * @param page Номер страницы, начиная с 0.
+     * @param size Размер страницы.
+     * @return Объект типа {@link Page} - страница карточек товаров.
+     */
+    Page<ProductCard> getCards(int page, int size);
+
+    /**
+     * Возвращает карточки товаров, которые подходят под поисковый запрос:
+     * каждое слово запроса совпадает с началом слова в названии,
+     * параметрах или описании товара. Товары упорядочены по убыванию
+     * релевантности.
+     *
+     * @param query Поисковый запрос.
+     * @param size  Максимальное количество результатов, размер ограничен
+     *              так же, как и размер страницы.
+     * @return Объект типа {@link List} - список карточек товаров.
+     */
+    List<ProductCard> search(String query, int size);
 }
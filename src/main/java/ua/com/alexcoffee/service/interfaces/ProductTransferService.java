@@ -0,0 +1,211 @@
+package ua.com.alexcoffee.service.interfaces;
+
+import ua.com.alexcoffee.exception.WrongInformationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Интерфейс сервисного слоя для массового импорта и экспорта товаров
+ * в форматах CSV и JSON. Файл читается и пишется потоком, поэтому
+ * каталог из десятков тысяч товаров не загружается в память целиком.
+ * Колонки CSV (первая строка файла) и поля объектов JSON: article, title,
+ * url, category (URL категории), price, parameters, description,
+ * photo_title, small_photo, big_photo. Обязательны title, url, category
+ * и price, остальные можно не указывать.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.service.impl.ProductTransferServiceImpl
+ */
+public interface ProductTransferService {
+    /**
+     * Импортирует товары из файла в базу данных. Строки с ошибками
+     * пропускаются и попадают в отчет, остальные сохраняются пачками,
+     * каждая в своей транзакции. После каждой пачки вызывается progress
+     * с промежуточным отчетом.
+     *
+     * @param reader   Поток для чтения файла.
+     * @param format   Формат файла.
+     * @param progress Получатель промежуточных отчетов.
+     * @return Объект класса {@link Report} - итоговый отчет импорта.
+     * @throws IOException               Исключение чтения файла.
+     * @throws WrongInformationException Бросает исключение, если файл
+     *                                   не соответствует формату.
+     */
+    Report importProducts(Reader reader, Format format, Consumer<Report> progress)
+            throws IOException, WrongInformationException;
+
+    /**
+     * Экспортирует все товары в порядке возрастания кодов. Товары читаются
+     * из базы данных страницами и сразу записываются в поток writer.
+     *
+     * @param writer Поток для записи файла.
+     * @param format Формат файла.
+     * @throws IOException Исключение записи файла.
+     */
+    void exportProducts(Writer writer, Format format) throws IOException;
+
+    /**
+     * Форматы файлов импорта и экспорта.
+     */
+    enum Format {
+        /**
+         * Текст с разделителем запятая, первая строка - названия колонок.
+         */
+        CSV("text/csv"),
+
+        /**
+         * Массив объектов JSON.
+         */
+        JSON("application/json");
+
+        /**
+         * MIME тип файла.
+         */
+        private final String contentType;
+
+        /**
+         * Конструктор для инициализации формата.
+         *
+         * @param contentType MIME тип файла.
+         */
+        Format(final String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Возвращает формат по названию без учета регистра.
+         *
+         * @param name Название формата.
+         * @return Объект {@link Format} - формат файла.
+         * @throws WrongInformationException Бросает исключение, если формат неизвестен.
+         */
+        public static Format of(final String name) throws WrongInformationException {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new WrongInformationException("Unknown file format \"" + name + "\"!");
+        }
+
+        /**
+         * Возвращает MIME тип файла.
+         *
+         * @return Значение типа {@link String} - MIME тип.
+         */
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        /**
+         * Возвращает расширение файла.
+         *
+         * @return Значение типа {@link String} - расширение без точки.
+         */
+        public String getExtension() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * Отчет импорта: количество прочитанных, сохраненных
+     * и пропущенных строк и сообщения об ошибках.
+     */
+    final class Report {
+        /**
+         * Максимальное количество сообщений об ошибках в отчете.
+         */
+        public static final int MAX_ERRORS = 100;
+
+        /**
+         * Количество прочитанных строк.
+         */
+        private final int read;
+
+        /**
+         * Количество сохраненных товаров.
+         */
+        private final int imported;
+
+        /**
+         * Количество пропущенных строк.
+         */
+        private final int skipped;
+
+        /**
+         * Сообщения об ошибках, не больше {@value MAX_ERRORS}.
+         */
+        private final List<String> errors;
+
+        /**
+         * Конструктор для инициализации отчета.
+         *
+         * @param read     Количество прочитанных строк.
+         * @param imported Количество сохраненных товаров.
+         * @param skipped  Количество пропущенных строк.
+         * @param errors   Сообщения об ошибках.
+         */
+        public Report(final int read, final int imported, final int skipped, final List<String> errors) {
+            this.read = read;
+            this.imported = imported;
+            this.skipped = skipped;
+            this.errors = Collections.unmodifiableList(
+                    new ArrayList<>(errors.subList(0, Math.min(errors.size(), MAX_ERRORS)))
+            );
+        }
+
+        /**
+         * Возвращает количество прочитанных строк.
+         *
+         * @return Значение типа int - количество строк.
+         */
+        public int getRead() {
+            return this.read;
+        }
+
+        /**
+         * Возвращает количество сохраненных товаров.
+         *
+         * @return Значение типа int - количество товаров.
+         */
+        public int getImported() {
+            return this.imported;
+        }
+
+        /**
+         * Возвращает количество пропущенных строк.
+         *
+         * @return Значение типа int - количество строк.
+         */
+        public int getSkipped() {
+            return this.skipped;
+        }
+
+        /**
+         * Возвращает сообщения об ошибках.
+         *
+         * @return Объект типа {@link List} - сообщения только для чтения.
+         */
+        public List<String> getErrors() {
+            return this.errors;
+        }
+
+        /**
+         * Возвращает описание отчета.
+         * Переопределенный метод родительского класса {@link Object}.
+         *
+         * @return Значение типа {@link String} - количество строк.
+         */
+        @Override
+        public String toString() {
+            return "read = " + this.read + ", imported = " + this.imported + ", skipped = " + this.skipped;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ua.com.alexcoffee.service.interfaces;
 
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.mail.interfaces.NotificationDispatcher;
 import ua.com.alexcoffee.model.Order;
 
 import javax.mail.MessagingException;
@@ -17,11 +19,33 @@ import java.util.Properties;
  */
 public interface SenderService {
     /**
-     * Отсылает информацию о заказе менеджерам на электронную почту.
+     * Ставит уведомление о заказе менеджерам в очередь на отправку.
+     * Само письмо отправляется асинхронно.
      *
      * @param order Заказ для отправке менеджерам.
+     * @return Значение типа boolean - true, если уведомление
+     * принято в очередь на отправку.
      */
-    void send(Order order);
+    boolean send(Order order);
+
+    /**
+     * Ставит уведомление с заданными темой и текстом менеджерам
+     * в очередь на отправку. Само письмо отправляется асинхронно.
+     *
+     * @param subject Тема сообщения.
+     * @param text    Текст сообщения.
+     * @return Объект класса {@link Notification} - уведомление, принятое
+     * в очередь, или null, если уведомление не принято.
+     */
+    Notification send(String subject, String text);
+
+    /**
+     * Возвращает диспетчер уведомлений, через который отправляются
+     * письма, например, для просмотра размера очереди и задержки отправки.
+     *
+     * @return Объект интерфейса {@link NotificationDispatcher} - диспетчер уведомлений.
+     */
+    NotificationDispatcher getDispatcher();
 
     /**
      * Возвращает настройки протокола TLS (Transport Layer Security) для отправки сообщения.
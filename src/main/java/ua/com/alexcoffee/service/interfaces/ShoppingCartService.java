@@ -47,6 +47,23 @@ public interface ShoppingCartService {
      */
     void remove(SalePosition salePosition);
 
+    /**
+     * Устанавливает количество товаров в позиции с заданным товаром.
+     * Если количество меньше или равно 0, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     * @param quantity  Новое количество товаров.
+     */
+    void setQuantity(long productId, int quantity);
+
+    /**
+     * Уменьшает количество товаров в позиции с заданным товаром на 1.
+     * Если товаров в позиции не осталось, позиция удаляется из корзины.
+     *
+     * @param productId Код товара.
+     */
+    void decrement(long productId);
+
     /**
      * Очищает корзину.
      * Удаляет все торговые позиции в корзине.
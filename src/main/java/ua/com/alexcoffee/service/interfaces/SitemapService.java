@@ -0,0 +1,89 @@
+package ua.com.alexcoffee.service.interfaces;
+
+import ua.com.alexcoffee.exception.BadRequestException;
+
+/**
+ * Интерфейс сервисного слоя для построения карты сайта (sitemap.xml)
+ * для поисковых систем. Карта сайта строится из каталога товаров
+ * и категорий и хранится в сжатом виде до следующего изменения каталога.
+ * Если ссылок больше, чем допускает протокол Sitemaps (50 000 в одном файле),
+ * карта делится на части, а главный документ становится индексом частей.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.service.impl.SitemapServiceImpl
+ */
+public interface SitemapService {
+    /**
+     * Возвращает документ карты сайта с номером number: 0 - главный
+     * документ (список ссылок или индекс частей), 1 и далее - части карты.
+     *
+     * @param number Номер документа.
+     * @return Объект класса {@link Document} - документ карты сайта.
+     * @throws BadRequestException Бросает исключение, если документ
+     *                             с таким номером отсутствует.
+     */
+    Document get(int number) throws BadRequestException;
+
+    /**
+     * Документ карты сайта - XML, сжатый gzip,
+     * его ETag и время последнего изменения.
+     */
+    final class Document {
+        /**
+         * Содержимое документа, сжатое gzip.
+         */
+        private final byte[] content;
+
+        /**
+         * Значение заголовка ETag документа.
+         */
+        private final String eTag;
+
+        /**
+         * Время последнего изменения документа в миллисекундах.
+         */
+        private final long lastModified;
+
+        /**
+         * Конструктор для инициализации документа.
+         *
+         * @param content      Содержимое документа, сжатое gzip.
+         * @param eTag         Значение заголовка ETag документа.
+         * @param lastModified Время последнего изменения документа.
+         */
+        public Document(final byte[] content, final String eTag, final long lastModified) {
+            this.content = content;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Возвращает содержимое документа, сжатое gzip.
+         * Массив не копируется и не должен изменяться.
+         *
+         * @return Массив байт - содержимое документа.
+         */
+        public byte[] getContent() {
+            return this.content;
+        }
+
+        /**
+         * Возвращает значение заголовка ETag документа.
+         *
+         * @return Значение типа {@link String} - ETag документа.
+         */
+        public String getETag() {
+            return this.eTag;
+        }
+
+        /**
+         * Возвращает время последнего изменения документа.
+         *
+         * @return Значение типа long - время в миллисекундах.
+         */
+        public long getLastModified() {
+            return this.lastModified;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ua.com.alexcoffee.sql;
+
+import java.util.Date;
+
+/**
+ * Класс описывает запись лога SQL запросов: медленный запрос
+ * (значение - время выполнения в миллисекундах) или запрос, выполненный
+ * слишком много раз за один HTTP запрос (значение - количество выполнений).
+ * Объект неизменяемый.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.sql.interfaces.SqlStatistics
+ */
+public final class QueryEvent {
+    /**
+     * SQL запрос.
+     */
+    private final String sql;
+
+    /**
+     * Время выполнения в миллисекундах или количество выполнений.
+     */
+    private final long value;
+
+    /**
+     * HTTP запрос, в котором выполнялся SQL запрос, или null.
+     */
+    private final String request;
+
+    /**
+     * Время записи в миллисекундах.
+     */
+    private final long time;
+
+    /**
+     * Конструктор для инициализации записи лога.
+     *
+     * @param sql     SQL запрос.
+     * @param value   Время выполнения в миллисекундах или количество выполнений.
+     * @param request HTTP запрос или null.
+     */
+    public QueryEvent(final String sql, final long value, final String request) {
+        this.sql = sql;
+        this.value = value;
+        this.request = request;
+        this.time = System.currentTimeMillis();
+    }
+
+    /**
+     * Возвращает SQL запрос.
+     *
+     * @return Значение типа {@link String} - SQL запрос.
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Возвращает время выполнения или количество выполнений.
+     *
+     * @return Значение типа long - миллисекунды или количество.
+     */
+    public long getValue() {
+        return this.value;
+    }
+
+    /**
+     * Возвращает HTTP запрос, в котором выполнялся SQL запрос.
+     *
+     * @return Значение типа {@link String} - метод и URI запроса или null.
+     */
+    public String getRequest() {
+        return this.request;
+    }
+
+    /**
+     * Возвращает время записи.
+     *
+     * @return Объект класса {@link Date} - время записи.
+     */
+    public Date getDate() {
+        return new Date(this.time);
+    }
+}
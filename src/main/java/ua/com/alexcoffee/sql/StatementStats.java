@@ -0,0 +1,125 @@
+package ua.com.alexcoffee.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс накапливает показатели одного SQL запроса, приведенного к общему
+ * виду (значения заменены на "?"): количество выполнений, количество
+ * ошибок, суммарное и максимальное время выполнения. Счетчики не берут
+ * блокировок, поэтому запрос можно учитывать из многих потоков сразу.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.sql.interfaces.SqlStatistics
+ */
+public final class StatementStats {
+    /**
+     * SQL запрос, приведенный к общему виду.
+     */
+    private final String sql;
+
+    /**
+     * Количество выполнений.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Количество выполнений, завершившихся ошибкой.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Суммарное время выполнения в микросекундах.
+     */
+    private final LongAdder totalTime = new LongAdder();
+
+    /**
+     * Максимальное время выполнения в микросекундах.
+     */
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации показателей запроса.
+     *
+     * @param sql SQL запрос, приведенный к общему виду.
+     */
+    public StatementStats(final String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Учитывает выполнение запроса.
+     *
+     * @param nanos  Время выполнения в наносекундах.
+     * @param failed Завершилось ли выполнение ошибкой.
+     */
+    public void record(final long nanos, final boolean failed) {
+        final long time = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+        this.count.increment();
+        this.totalTime.add(time);
+        if (failed) {
+            this.errors.increment();
+        }
+        long max = this.maxTime.get();
+        while (time > max && !this.maxTime.compareAndSet(max, time)) {
+            max = this.maxTime.get();
+        }
+    }
+
+    /**
+     * Возвращает SQL запрос.
+     *
+     * @return Значение типа {@link String} - SQL запрос, приведенный к общему виду.
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Возвращает количество выполнений.
+     *
+     * @return Значение типа long - количество выполнений.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Возвращает количество выполнений, завершившихся ошибкой.
+     *
+     * @return Значение типа long - количество ошибок.
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Возвращает суммарное время выполнения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getTotalTime() {
+        return this.totalTime.sum() / 1000.0;
+    }
+
+    /**
+     * Возвращает среднее время выполнения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getAverageTime() {
+        final long count = getCount();
+        return (count > 0) ? getTotalTime() / count : 0;
+    }
+
+    /**
+     * Возвращает максимальное время выполнения.
+     *
+     * @return Значение типа double - время в миллисекундах.
+     */
+    public double getMaxTime() {
+        return this.maxTime.get() / 1000.0;
+    }
+}
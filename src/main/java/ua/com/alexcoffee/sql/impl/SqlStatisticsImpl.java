@@ -0,0 +1,404 @@
+package ua.com.alexcoffee.sql.impl;
+
+import org.apache.log4j.Logger;
+import ua.com.alexcoffee.sql.QueryEvent;
+import ua.com.alexcoffee.sql.StatementStats;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Класс реализует методы интерфейса {@link SqlStatistics}.
+ * SQL запросы группируются по общему виду: строки и числа заменяются
+ * на "?", списки IN - на один "?", пробелы схлопываются. Общий вид
+ * запроса запоминается, поэтому регулярные выражения применяются
+ * к каждому тексту запроса один раз. Количество разных запросов
+ * ограничено, остальные учитываются вместе под {@value OTHER}.
+ * Счетчики запросов HTTP запроса хранятся в {@link ThreadLocal}.
+ * Медленные и повторяющиеся запросы пишутся в лог приложения
+ * и хранятся в памяти - последние {@value MAX_EVENTS} записей.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SqlStatistics
+ * @see StatisticsDataSource
+ */
+public final class SqlStatisticsImpl implements SqlStatistics {
+    /**
+     * Объект для логирования информации.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SqlStatisticsImpl.class);
+
+    /**
+     * Общий вид запросов сверх ограничения.
+     */
+    static final String OTHER = "(other)";
+
+    /**
+     * Максимальное количество разных запросов в статистике.
+     */
+    private static final int MAX_STATEMENTS = 1000;
+
+    /**
+     * Максимальное количество запомненных текстов запросов.
+     */
+    private static final int MAX_NORMALIZED = 5000;
+
+    /**
+     * Количество хранимых записей каждого лога.
+     */
+    private static final int MAX_EVENTS = 100;
+
+    /**
+     * Строковые значения.
+     */
+    private static final Pattern STRINGS = Pattern.compile("'(?:[^']|'')*'");
+
+    /**
+     * Числовые значения.
+     */
+    private static final Pattern NUMBERS = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    /**
+     * Списки значений IN.
+     */
+    private static final Pattern IN_LISTS = Pattern.compile(
+            "(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)"
+    );
+
+    /**
+     * Пробельные символы.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Время выполнения медленного запроса в миллисекундах.
+     */
+    private final long slowThreshold;
+
+    /**
+     * Количество выполнений запроса за HTTP запрос, больше
+     * которого запрос записывается в лог.
+     */
+    private final int repeatThreshold;
+
+    /**
+     * Общий вид запроса по его тексту.
+     */
+    private final ConcurrentMap<String, String> normalized = new ConcurrentHashMap<>();
+
+    /**
+     * Показатели запросов по общему виду.
+     */
+    private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Счетчики запросов HTTP запроса текущего потока.
+     */
+    private final ThreadLocal<RequestCounter> requests = new ThreadLocal<>();
+
+    /**
+     * Лог медленных запросов, новые первыми.
+     */
+    private final Deque<QueryEvent> slowQueries = new ArrayDeque<>();
+
+    /**
+     * Лог повторяющихся запросов, новые первыми.
+     */
+    private final Deque<QueryEvent> repeatedQueries = new ArrayDeque<>();
+
+    /**
+     * Количество HTTP запросов.
+     */
+    private final LongAdder requestCount = new LongAdder();
+
+    /**
+     * Количество SQL запросов, выполненных в HTTP запросах.
+     */
+    private final LongAdder requestStatements = new LongAdder();
+
+    /**
+     * Наибольшее количество SQL запросов за HTTP запрос.
+     */
+    private final AtomicLong maxRequestStatements = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации статистики.
+     *
+     * @param slowThreshold   Время выполнения медленного запроса в миллисекундах.
+     * @param repeatThreshold Количество выполнений запроса за HTTP запрос,
+     *                        больше которого запрос записывается в лог.
+     */
+    public SqlStatisticsImpl(final long slowThreshold, final int repeatThreshold) {
+        this.slowThreshold = slowThreshold;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * Учитывает выполнение SQL запроса. Если запрос выполнялся дольше
+     * заданного времени, он записывается в лог медленных запросов.
+     *
+     * @param sql    SQL запрос.
+     * @param nanos  Время выполнения в наносекундах.
+     * @param failed Завершилось ли выполнение ошибкой.
+     */
+    @Override
+    public void record(final String sql, final long nanos, final boolean failed) {
+        final String key = getKey(sql);
+        StatementStats stats = this.statements.get(key);
+        if (stats == null) {
+            stats = this.statements.computeIfAbsent(
+                    (this.statements.size() < MAX_STATEMENTS) ? key : OTHER,
+                    StatementStats::new
+            );
+        }
+        stats.record(nanos, failed);
+        final RequestCounter counter = this.requests.get();
+        if (counter != null) {
+            counter.add(stats.getSql());
+        }
+        final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (millis >= this.slowThreshold) {
+            final String request = (counter != null) ? counter.request : null;
+            LOGGER.warn("SLOW SQL " + millis + " ms" + ((request != null) ? " IN " + request : "") + " -> " + key);
+            add(this.slowQueries, new QueryEvent(key, millis, request));
+        }
+    }
+
+    /**
+     * Начинает подсчет SQL запросов HTTP запроса в текущем потоке.
+     * Вложенный вызов (например, обработка ошибки того же запроса)
+     * продолжает подсчет.
+     *
+     * @param request Метод и URI HTTP запроса.
+     */
+    @Override
+    public void beginRequest(final String request) {
+        final RequestCounter counter = this.requests.get();
+        if (counter != null) {
+            counter.depth++;
+        } else {
+            this.requests.set(new RequestCounter(request));
+        }
+    }
+
+    /**
+     * Заканчивает подсчет SQL запросов HTTP запроса в текущем потоке.
+     * Запросы, выполненные больше заданного количества раз, записываются
+     * в лог повторяющихся запросов.
+     */
+    @Override
+    public void endRequest() {
+        final RequestCounter counter = this.requests.get();
+        if (counter == null || --counter.depth > 0) {
+            return;
+        }
+        this.requests.remove();
+        this.requestCount.increment();
+        this.requestStatements.add(counter.statements);
+        this.maxRequestStatements.accumulateAndGet(counter.statements, Math::max);
+        for (Map.Entry<String, int[]> entry : counter.counts.entrySet()) {
+            final int count = entry.getValue()[0];
+            if (count > this.repeatThreshold) {
+                LOGGER.warn("SQL EXECUTED " + count + " TIMES IN " + counter.request + " -> " + entry.getKey());
+                add(this.repeatedQueries, new QueryEvent(entry.getKey(), count, counter.request));
+            }
+        }
+    }
+
+    /**
+     * Возвращает показатели SQL запросов, отсортированные
+     * по убыванию суммарного времени выполнения.
+     *
+     * @return Объект типа {@link List} - показатели запросов.
+     */
+    @Override
+    public List<StatementStats> getStatements() {
+        final List<StatementStats> list = new ArrayList<>(this.statements.values());
+        list.sort(Comparator.comparingDouble(StatementStats::getTotalTime).reversed());
+        return list;
+    }
+
+    /**
+     * Возвращает последние медленные запросы, новые первыми.
+     *
+     * @return Объект типа {@link List} - медленные запросы.
+     */
+    @Override
+    public List<QueryEvent> getSlowQueries() {
+        return copy(this.slowQueries);
+    }
+
+    /**
+     * Возвращает последние запросы, выполненные слишком много раз
+     * за один HTTP запрос, новые первыми.
+     *
+     * @return Объект типа {@link List} - повторяющиеся запросы.
+     */
+    @Override
+    public List<QueryEvent> getRepeatedQueries() {
+        return copy(this.repeatedQueries);
+    }
+
+    /**
+     * Возвращает количество учтенных HTTP запросов.
+     *
+     * @return Значение типа long - количество HTTP запросов.
+     */
+    @Override
+    public long getRequestCount() {
+        return this.requestCount.sum();
+    }
+
+    /**
+     * Возвращает среднее количество SQL запросов за HTTP запрос.
+     *
+     * @return Значение типа double - среднее количество SQL запросов.
+     */
+    @Override
+    public double getAverageRequestStatements() {
+        final long count = getRequestCount();
+        return (count > 0) ? (double) this.requestStatements.sum() / count : 0;
+    }
+
+    /**
+     * Возвращает наибольшее количество SQL запросов за HTTP запрос.
+     *
+     * @return Значение типа long - наибольшее количество SQL запросов.
+     */
+    @Override
+    public long getMaxRequestStatements() {
+        return this.maxRequestStatements.get();
+    }
+
+    /**
+     * Сбрасывает всю накопленную статистику.
+     */
+    @Override
+    public void clear() {
+        this.statements.clear();
+        this.requestCount.reset();
+        this.requestStatements.reset();
+        this.maxRequestStatements.set(0);
+        synchronized (this.slowQueries) {
+            this.slowQueries.clear();
+        }
+        synchronized (this.repeatedQueries) {
+            this.repeatedQueries.clear();
+        }
+    }
+
+    /**
+     * Приводит SQL запрос к общему виду: строки и числа заменяются
+     * на "?", списки IN - на один "?", пробелы схлопываются.
+     *
+     * @param sql SQL запрос.
+     * @return Значение типа {@link String} - запрос в общем виде.
+     */
+    static String normalize(final String sql) {
+        String result = STRINGS.matcher(sql).replaceAll("?");
+        result = NUMBERS.matcher(result).replaceAll("?");
+        result = SPACES.matcher(result).replaceAll(" ").trim();
+        return IN_LISTS.matcher(result).replaceAll("in (?)");
+    }
+
+    /**
+     * Возвращает общий вид запроса, запомненный или вычисленный.
+     *
+     * @param sql SQL запрос.
+     * @return Значение типа {@link String} - запрос в общем виде.
+     */
+    private String getKey(final String sql) {
+        String key = this.normalized.get(sql);
+        if (key == null) {
+            key = normalize(sql);
+            if (this.normalized.size() < MAX_NORMALIZED) {
+                this.normalized.put(sql, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Добавляет запись в начало лога, удаляя самые старые записи.
+     *
+     * @param events Лог.
+     * @param event  Запись.
+     */
+    private static void add(final Deque<QueryEvent> events, final QueryEvent event) {
+        synchronized (events) {
+            events.addFirst(event);
+            while (events.size() > MAX_EVENTS) {
+                events.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Возвращает копию лога.
+     *
+     * @param events Лог.
+     * @return Объект типа {@link List} - записи лога.
+     */
+    private static List<QueryEvent> copy(final Deque<QueryEvent> events) {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    /**
+     * Счетчики SQL запросов одного HTTP запроса.
+     */
+    private static final class RequestCounter {
+        /**
+         * Метод и URI HTTP запроса.
+         */
+        private final String request;
+
+        /**
+         * Количество выполнений каждого запроса по общему виду.
+         */
+        private final Map<String, int[]> counts = new HashMap<>();
+
+        /**
+         * Количество всех выполненных запросов.
+         */
+        private int statements;
+
+        /**
+         * Глубина вложенности подсчета.
+         */
+        private int depth = 1;
+
+        /**
+         * Конструктор для инициализации счетчиков.
+         *
+         * @param request Метод и URI HTTP запроса.
+         */
+        RequestCounter(final String request) {
+            this.request = request;
+        }
+
+        /**
+         * Учитывает выполнение запроса.
+         *
+         * @param sql Запрос в общем виде.
+         */
+        void add(final String sql) {
+            this.statements++;
+            this.counts.computeIfAbsent(sql, key -> new int[1])[0]++;
+        }
+    }
+}
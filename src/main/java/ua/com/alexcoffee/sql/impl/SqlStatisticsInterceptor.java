@@ -0,0 +1,87 @@
+package ua.com.alexcoffee.sql.impl;
+
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Перехватчик запросов Spring MVC, который считает SQL запросы,
+ * выполненные за время обработки HTTP запроса, включая отрисовку
+ * страницы. Подсчет начинается перед вызовом контроллера и заканчивается
+ * после отрисовки или при переходе к асинхронной обработке.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SqlStatistics
+ * @see ua.com.alexcoffee.config.WebConfig
+ */
+public final class SqlStatisticsInterceptor extends HandlerInterceptorAdapter {
+    /**
+     * Статистика SQL запросов.
+     */
+    private final SqlStatistics statistics;
+
+    /**
+     * Конструктор для инициализации перехватчика.
+     *
+     * @param statistics Статистика SQL запросов.
+     */
+    public SqlStatisticsInterceptor(final SqlStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Начинает подсчет SQL запросов.
+     *
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @param handler  Обработчик запроса.
+     * @return Значение типа boolean - true, запрос обрабатывается дальше.
+     */
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        this.statistics.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        return true;
+    }
+
+    /**
+     * Заканчивает подсчет SQL запросов после отрисовки страницы.
+     *
+     * @param request   Объект запроса.
+     * @param response  Объект ответа.
+     * @param handler   Обработчик запроса.
+     * @param exception Исключение обработки или null.
+     */
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception exception
+    ) {
+        this.statistics.endRequest();
+    }
+
+    /**
+     * Заканчивает подсчет SQL запросов в потоке, который
+     * передал запрос на асинхронную обработку.
+     *
+     * @param request  Объект запроса.
+     * @param response Объект ответа.
+     * @param handler  Обработчик запроса.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        this.statistics.endRequest();
+    }
+}
@@ -0,0 +1,256 @@
+package ua.com.alexcoffee.sql.impl;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Класс-обертка пула соединений, которая замеряет время выполнения
+ * каждого SQL запроса и передает его в {@link SqlStatistics}.
+ * Соединения и запросы пула оборачиваются динамическими прокси:
+ * методы execute* выполняются с замером времени, остальные методы
+ * передаются пулу без изменений. При закрытии обертки закрывается пул.
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see SqlStatistics
+ * @see ua.com.alexcoffee.config.RootConfig
+ */
+public final class StatisticsDataSource extends DelegatingDataSource implements Closeable {
+    /**
+     * Текст пакетного запроса, добавленного через Statement.addBatch(String).
+     */
+    static final String BATCH = "(batch)";
+
+    /**
+     * Статистика SQL запросов.
+     */
+    private final SqlStatistics statistics;
+
+    /**
+     * Конструктор для инициализации обертки.
+     *
+     * @param dataSource Пул соединений.
+     * @param statistics Статистика SQL запросов.
+     */
+    public StatisticsDataSource(final DataSource dataSource, final SqlStatistics statistics) {
+        super(dataSource);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Возвращает соединение пула, запросы которого учитываются в статистике.
+     *
+     * @return Объект типа {@link Connection}.
+     * @throws SQLException Исключение получения соединения.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    /**
+     * Возвращает соединение пула, запросы которого учитываются в статистике.
+     *
+     * @param username Имя пользователя базы данных.
+     * @param password Пароль пользователя базы данных.
+     * @return Объект типа {@link Connection}.
+     * @throws SQLException Исключение получения соединения.
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * Закрывает пул соединений.
+     *
+     * @throws IOException Исключение закрытия пула.
+     */
+    @Override
+    public void close() throws IOException {
+        final DataSource dataSource = getTargetDataSource();
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+
+    /**
+     * Оборачивает соединение.
+     *
+     * @param connection Соединение пула.
+     * @return Объект типа {@link Connection} - прокси соединения.
+     */
+    private Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatisticsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection)
+        );
+    }
+
+    /**
+     * Вызывает метод объекта пула, разворачивая исключение метода.
+     *
+     * @param target Объект пула.
+     * @param method Метод.
+     * @param args   Аргументы метода.
+     * @return Результат метода.
+     * @throws Throwable Исключение, брошенное методом.
+     */
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Обработчик вызовов прокси соединения: запросы,
+     * которые создает соединение, тоже оборачиваются.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        /**
+         * Соединение пула.
+         */
+        private final Connection connection;
+
+        /**
+         * Конструктор для инициализации обработчика.
+         *
+         * @param connection Соединение пула.
+         */
+        ConnectionHandler(final Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Statistics proxy of " + this.connection;
+                default:
+                    break;
+            }
+            final Object result = StatisticsDataSource.invoke(this.connection, method, args);
+            if (result instanceof Statement) {
+                final String sql = (args != null && args.length > 0 && args[0] instanceof String)
+                        ? (String) args[0] : null;
+                return Proxy.newProxyInstance(
+                        StatisticsDataSource.class.getClassLoader(),
+                        new Class<?>[]{getStatementType(result)},
+                        new StatementHandler((Statement) result, (Connection) proxy, sql)
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Возвращает интерфейс запроса для прокси.
+         *
+         * @param statement Запрос пула.
+         * @return Интерфейс {@link CallableStatement}, {@link PreparedStatement}
+         * или {@link Statement}.
+         */
+        private Class<?> getStatementType(final Object statement) {
+            if (statement instanceof CallableStatement) {
+                return CallableStatement.class;
+            }
+            if (statement instanceof PreparedStatement) {
+                return PreparedStatement.class;
+            }
+            return Statement.class;
+        }
+    }
+
+    /**
+     * Обработчик вызовов прокси запроса: методы execute*
+     * выполняются с замером времени.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        /**
+         * Запрос пула.
+         */
+        private final Statement statement;
+
+        /**
+         * Прокси соединения, которое создало запрос.
+         */
+        private final Connection connection;
+
+        /**
+         * Текст подготовленного запроса или null для простого запроса.
+         */
+        private final String sql;
+
+        /**
+         * Конструктор для инициализации обработчика.
+         *
+         * @param statement  Запрос пула.
+         * @param connection Прокси соединения.
+         * @param sql        Текст подготовленного запроса или null.
+         */
+        StatementHandler(final Statement statement, final Connection connection, final String sql) {
+            this.statement = statement;
+            this.connection = connection;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return this.connection;
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return StatisticsDataSource.invoke(this.statement, method, args);
+            }
+            final long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                final Object result = StatisticsDataSource.invoke(this.statement, method, args);
+                failed = false;
+                return result;
+            } finally {
+                StatisticsDataSource.this.statistics.record(getSql(args), System.nanoTime() - start, failed);
+            }
+        }
+
+        /**
+         * Возвращает текст выполняемого запроса.
+         *
+         * @param args Аргументы метода execute*.
+         * @return Значение типа {@link String} - текст запроса.
+         */
+        private String getSql(final Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                return (String) args[0];
+            }
+            return (this.sql != null) ? this.sql : BATCH;
+        }
+    }
+}
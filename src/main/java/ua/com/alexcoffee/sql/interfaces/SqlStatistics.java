@@ -0,0 +1,91 @@
+package ua.com.alexcoffee.sql.interfaces;
+
+import ua.com.alexcoffee.sql.QueryEvent;
+import ua.com.alexcoffee.sql.StatementStats;
+
+import java.util.List;
+
+/**
+ * Интерфейс описывает статистику SQL запросов к базе данных:
+ * показатели по каждому запросу, приведенному к общему виду,
+ * количество запросов за один HTTP запрос, лог медленных запросов
+ * и запросов, которые выполняются много раз за один HTTP запрос
+ * (признак N+1 - ленивая загрузка связей в цикле).
+ *
+ * @author Yurii Salimov (yuriy.alex.salimov@gmail.com)
+ * @version 1.2
+ * @see ua.com.alexcoffee.sql.impl.SqlStatisticsImpl
+ * @see ua.com.alexcoffee.sql.impl.StatisticsDataSource
+ */
+public interface SqlStatistics {
+    /**
+     * Учитывает выполнение SQL запроса.
+     *
+     * @param sql    SQL запрос.
+     * @param nanos  Время выполнения в наносекундах.
+     * @param failed Завершилось ли выполнение ошибкой.
+     */
+    void record(String sql, long nanos, boolean failed);
+
+    /**
+     * Начинает подсчет SQL запросов HTTP запроса в текущем потоке.
+     *
+     * @param request Метод и URI HTTP запроса.
+     */
+    void beginRequest(String request);
+
+    /**
+     * Заканчивает подсчет SQL запросов HTTP запроса в текущем потоке
+     * и записывает в лог запросы, выполненные слишком много раз.
+     */
+    void endRequest();
+
+    /**
+     * Возвращает показатели SQL запросов, отсортированные
+     * по убыванию суммарного времени выполнения.
+     *
+     * @return Объект типа {@link List} - показатели запросов.
+     */
+    List<StatementStats> getStatements();
+
+    /**
+     * Возвращает последние медленные запросы, новые первыми.
+     *
+     * @return Объект типа {@link List} - медленные запросы.
+     */
+    List<QueryEvent> getSlowQueries();
+
+    /**
+     * Возвращает последние запросы, выполненные слишком много раз
+     * за один HTTP запрос, новые первыми.
+     *
+     * @return Объект типа {@link List} - повторяющиеся запросы.
+     */
+    List<QueryEvent> getRepeatedQueries();
+
+    /**
+     * Возвращает количество учтенных HTTP запросов.
+     *
+     * @return Значение типа long - количество HTTP запросов.
+     */
+    long getRequestCount();
+
+    /**
+     * Возвращает среднее количество SQL запросов за HTTP запрос.
+     *
+     * @return Значение типа double - среднее количество SQL запросов.
+     */
+    double getAverageRequestStatements();
+
+    /**
+     * Возвращает наибольшее количество SQL запросов за HTTP запрос.
+     *
+     * @return Значение типа long - наибольшее количество SQL запросов.
+     */
+    long getMaxRequestStatements();
+
+    /**
+     * Сбрасывает всю накопленную статистику.
+     */
+    void clear();
+}
@@ -53,10 +53,10 @@
                                     <td>${order.number}</td>
                                     <td>
                                         <c:choose>
-                                            <c:when test="${order.status eq status_new}">
-                                                <span class="color-green">${order.status.description}</span>
+                                            <c:when test="${order.status eq status_new.title}">
+                                                <span class="color-green">${order.statusDescription}</span>
                                             </c:when>
-                                            <c:otherwise>${order.status.description}</c:otherwise>
+                                            <c:otherwise>${order.statusDescription}</c:otherwise>
                                         </c:choose>
                                     </td>
                                     <td class="hidden-xs">${order.date}</td>
@@ -77,6 +77,9 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/template/keyset_pagination.jsp">
+                            <jsp:param name="url" value="/admin/order/all"/>
+                        </jsp:include>
                     </div>
                 </c:if>
             </div>
@@ -50,6 +50,9 @@
                                     <a href="<c:url value="/admin/product/add"/>" title="Добавить новый товар">
                                         <button class="btn btn-success" type="submit">Добавить</button>
                                     </a>
+                                    <a href="<c:url value="/admin/product/import"/>" title="Импорт и экспорт товаров">
+                                        <button class="btn btn-info" type="submit">Импорт</button>
+                                    </a>
                                     <a href="<c:url value="/admin/product/delete_all"/>" title="Удалить все товары">
                                         <button class="btn btn-danger" type="submit">Удалить ВСЕ</button>
                                     </a>
@@ -62,9 +65,9 @@
                                            title="Перейти к товару ${product.title}">${product.title}</a>
                                     </td>
                                     <td class="hidden-xs">
-                                        <a href="<c:url value="/admin/category/view/${product.category.id}"/>"
-                                           title="Смотреть категорию ${product.category.title}">
-                                                ${product.category.title}</a>
+                                        <a href="<c:url value="/admin/category/view/${product.categoryId}"/>"
+                                           title="Смотреть категорию ${product.categoryTitle}">
+                                                ${product.categoryTitle}</a>
                                     </td>
                                     <td>
                                         <a href="<c:url value="/admin/product/view/${product.id}"/>"
@@ -83,6 +86,9 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/template/pagination.jsp">
+                            <jsp:param name="url" value="/admin/product/all"/>
+                        </jsp:include>
                     </div>
                 </c:if>
             </div>
@@ -0,0 +1,112 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" trimDirectiveWhitespaces="true" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+<%@ taglib prefix="compress" uri="http://htmlcompressor.googlecode.com/taglib/compressor" %>
+
+<compress:html removeIntertagSpaces="true">
+    <!DOCTYPE HTML>
+    <html lang="ru">
+    <head>
+        <meta charset="utf-8">
+        <meta name="viewport" content="width=device-width, initial-scale=1">
+        <meta name="author" content="Yurii Salimov https://www.linkedin.com/in/yurii-salimov">
+        <meta name="robots" content="noindex,nofollow">
+        <meta name="title" content="Импорт товаров || Alex Coffee">
+        <title>Импорт товаров || Alex Coffee</title>
+        <link rel="shortcut icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link rel="icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link href="<c:url value="/resources/css/bootstrap.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/animate.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/style.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="https://maxcdn.bootstrapcdn.com/font-awesome/4.4.0/css/font-awesome.min.css" rel="stylesheet"
+              type="text/css">
+    </head>
+    <body>
+    <jsp:include page="/WEB-INF/views/admin/template/admin_navbar.jsp"/>
+    <div class="container-fluid">
+        <section id="product-import">
+            <div class="row admin-page">
+                <div class="col-xs-12 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
+                    <div class="row section-name text-shadow">
+                        <b>
+                            <span class="color-green">Импорт и экспорт </span>
+                            <span class="color-brown">товаров</span>
+                        </b>
+                    </div>
+                </div>
+                <div class="col-xs-12 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1 full-cart">
+                    <c:if test="${report ne null}">
+                        <table class="table">
+                            <tr>
+                                <th>Прочитано строк:</th>
+                                <td>${report.read}</td>
+                            </tr>
+                            <tr>
+                                <th>Добавлено товаров:</th>
+                                <td class="color-green">${report.imported}</td>
+                            </tr>
+                            <tr>
+                                <th>Пропущено строк:</th>
+                                <td class="color-red">${report.skipped}</td>
+                            </tr>
+                            <c:if test="${fn:length(report.errors) gt 0}">
+                                <tr>
+                                    <th>Ошибки:</th>
+                                    <td>
+                                        <c:forEach items="${report.errors}" var="error">
+                                            <c:out value="${error}"/><br>
+                                        </c:forEach>
+                                    </td>
+                                </tr>
+                            </c:if>
+                        </table>
+                    </c:if>
+                    <form action="<c:url value="/admin/product/import"/>" enctype="multipart/form-data" method="post">
+                        <table class="table">
+                            <tr>
+                                <th>Файл:</th>
+                                <td>
+                                    <input type="file" name="file" accept=".csv,.json" required>
+                                    <br>Кодировка UTF-8, колонки: article, title, url, category (URL категории),
+                                    price, parameters, description, photo_title, small_photo, big_photo.
+                                    Обязательны title, url, category и price.
+                                </td>
+                            </tr>
+                            <tr>
+                                <th>Формат:</th>
+                                <td>
+                                    <select class="input-order" name="format" title="Формат файла">
+                                        <c:forEach items="${formats}" var="format">
+                                            <option value="${format.extension}">${format}</option>
+                                        </c:forEach>
+                                    </select>
+                                </td>
+                            </tr>
+                            <tr>
+                                <th></th>
+                                <td>
+                                    <button class="btn btn-success" type="submit"
+                                            title="Добавить товары из файла">Импортировать</button>
+                                    <c:forEach items="${formats}" var="format">
+                                        <a href="<c:url value="/admin/product/export?format=${format.extension}"/>"
+                                           title="Скачать все товары в формате ${format}">
+                                            <button class="btn btn-info" type="button">Экспорт ${format}</button>
+                                        </a>
+                                    </c:forEach>
+                                </td>
+                            </tr>
+                        </table>
+                    </form>
+                </div>
+            </div>
+        </section>
+    </div>
+    <script src="<c:url value="/resources/js/jquery-1.11.1.min.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/jquery.appear.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/bootstrap.min.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/jquery.maskedinput.min.js"/>" type="text/javascript"></script>
+    </body>
+    </html>
+</compress:html>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
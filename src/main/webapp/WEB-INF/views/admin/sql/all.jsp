@@ -0,0 +1,141 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" trimDirectiveWhitespaces="true" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+<%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+<%@ taglib prefix="compress" uri="http://htmlcompressor.googlecode.com/taglib/compressor" %>
+
+<compress:html removeIntertagSpaces="true">
+    <!DOCTYPE HTML>
+    <html lang="ru">
+    <head>
+        <meta charset="utf-8">
+        <meta name="viewport" content="width=device-width, initial-scale=1">
+        <meta name="author" content="Yurii Salimov https://www.linkedin.com/in/yurii-salimov">
+        <meta name="robots" content="noindex,nofollow">
+        <meta name="title" content="SQL запросы || Alex Coffee">
+        <title>SQL запросы || Alex Coffee</title>
+        <link rel="shortcut icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link rel="icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link href="<c:url value="/resources/css/bootstrap.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/animate.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/style.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="https://maxcdn.bootstrapcdn.com/font-awesome/4.4.0/css/font-awesome.min.css" rel="stylesheet"
+              type="text/css">
+    </head>
+    <body>
+    <jsp:include page="/WEB-INF/views/admin/template/admin_navbar.jsp"/>
+    <div class="container-fluid">
+        <section id="sql">
+            <div class="row admin-page">
+                <div class="col-xs-12 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
+                    <div class="row section-name text-shadow">
+                        <b>
+                            <span class="color-green">SQL </span>
+                            <span class="color-brown">запросы</span>
+                            <c:if test="${fn:length(statements) eq 0}"><span class="color-red"> - список пуст!</span></c:if>
+                        </b>
+                    </div>
+                </div>
+                <div class="col-xs-12 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1 full-cart">
+                    <table class="table">
+                        <tr>
+                            <th>HTTP запросов:</th>
+                            <td>${statistics.requestCount}</td>
+                        </tr>
+                        <tr>
+                            <th>SQL запросов за HTTP запрос, в среднем:</th>
+                            <td><fmt:formatNumber type="number" maxFractionDigits="1"
+                                                  value="${statistics.averageRequestStatements}"/></td>
+                        </tr>
+                        <tr>
+                            <th>SQL запросов за HTTP запрос, максимум:</th>
+                            <td>${statistics.maxRequestStatements}</td>
+                        </tr>
+                        <tr>
+                            <th></th>
+                            <td>
+                                <form action="<c:url value="/admin/sql/clear"/>" method="post">
+                                    <button class="btn btn-danger" type="submit"
+                                            title="Сбросить статистику SQL запросов">Сбросить</button>
+                                </form>
+                            </td>
+                        </tr>
+                    </table>
+                    <c:if test="${fn:length(statements) gt 0}">
+                        <table class="table">
+                            <tr>
+                                <th>Запрос</th>
+                                <th>Выполнений</th>
+                                <th>Ошибок</th>
+                                <th>Всего, мс</th>
+                                <th class="hidden-xs">Среднее, мс</th>
+                                <th class="hidden-xs">Максимум, мс</th>
+                            </tr>
+                            <c:forEach items="${statements}" var="statement">
+                                <tr>
+                                    <td><c:out value="${statement.sql}"/></td>
+                                    <td>${statement.count}</td>
+                                    <td <c:if test="${statement.errors gt 0}">class="color-red"</c:if>>${statement.errors}</td>
+                                    <td><fmt:formatNumber type="number" maxFractionDigits="1" value="${statement.totalTime}"/></td>
+                                    <td class="hidden-xs"><fmt:formatNumber type="number" maxFractionDigits="2"
+                                                                            value="${statement.averageTime}"/></td>
+                                    <td class="hidden-xs"><fmt:formatNumber type="number" maxFractionDigits="1"
+                                                                            value="${statement.maxTime}"/></td>
+                                </tr>
+                            </c:forEach>
+                        </table>
+                    </c:if>
+                    <c:if test="${fn:length(repeated_queries) gt 0}">
+                        <div class="row section-name text-shadow">
+                            <b><span class="color-red">Повторяющиеся запросы (N+1)</span></b>
+                        </div>
+                        <table class="table">
+                            <tr>
+                                <th>Запрос</th>
+                                <th>Выполнений</th>
+                                <th>HTTP запрос</th>
+                                <th class="hidden-xs">Дата</th>
+                            </tr>
+                            <c:forEach items="${repeated_queries}" var="query">
+                                <tr>
+                                    <td><c:out value="${query.sql}"/></td>
+                                    <td>${query.value}</td>
+                                    <td><c:out value="${query.request}"/></td>
+                                    <td class="hidden-xs">${query.date}</td>
+                                </tr>
+                            </c:forEach>
+                        </table>
+                    </c:if>
+                    <c:if test="${fn:length(slow_queries) gt 0}">
+                        <div class="row section-name text-shadow">
+                            <b><span class="color-red">Медленные запросы</span></b>
+                        </div>
+                        <table class="table">
+                            <tr>
+                                <th>Запрос</th>
+                                <th>Время, мс</th>
+                                <th>HTTP запрос</th>
+                                <th class="hidden-xs">Дата</th>
+                            </tr>
+                            <c:forEach items="${slow_queries}" var="query">
+                                <tr>
+                                    <td><c:out value="${query.sql}"/></td>
+                                    <td>${query.value}</td>
+                                    <td><c:out value="${query.request}"/></td>
+                                    <td class="hidden-xs">${query.date}</td>
+                                </tr>
+                            </c:forEach>
+                        </table>
+                    </c:if>
+                </div>
+            </div>
+        </section>
+    </div>
+    <script src="<c:url value="/resources/js/jquery-1.11.1.min.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/jquery.appear.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/bootstrap.min.js"/>" type="text/javascript"></script>
+    </body>
+    </html>
+</compress:html>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
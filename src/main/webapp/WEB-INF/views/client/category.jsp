@@ -27,27 +27,7 @@
     <jsp:include page="/WEB-INF/views/client/template/navbar.jsp"/>
     <div class="container-fluid">
         <section id="products_${category.url}">
-            <div class="row products">
-                <div class="col-xs-12 col-sm-12 col-md-12 col-lg-12 col-xl-12">
-                    <h3 class="intro-text label-categories">
-                        <img id="label-category" width="150px" height="150px" alt="${category.title}"
-                             src="<c:url value="/resources/img/${category.photo.photoLinkShort}"/>">
-                        <div class="text-shadow">
-                            <span class="home-block-name color-green">${category.title}</span>
-                            <c:if test="${fn:length(products) eq 0}">
-                                <span class="home-block-name color-red"> - список пуст!</span>
-                            </c:if>
-                        </div>
-                    </h3>
-                </div>
-                <jsp:include page="/WEB-INF/views/client/template/products_list.jsp"/>
-                <div class="col-xs-10 col-xs-offset-1 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
-                    <h4 class="text-all-products text-shadow">
-                        <a href="<c:url value="/product/all"/>"
-                           title="Перейти ко всем товарам">Весь ассортимент кофе</a>
-                    </h4>
-                </div>
-            </div>
+            <jsp:include page="/WEB-INF/views/client/template/category_products.jsp"/>
         </section>
     </div>
     <c:if test="${category.description ne ''}">
@@ -71,7 +71,10 @@
                                 <div class="category">
                                     <a href="<c:url value="/category/${category.url}"/>"
                                        title="Перейти к категории ${category.title}">
-                                        <img src="<c:url value="/resources/img/${category.photo.photoLinkShort}"/>"
+                                        <c:set var="thumb" value="${empty category.photo.photoLinkThumb ?
+                                                category.photo.photoLinkShort : category.photo.photoLinkThumb}"/>
+                                        <img src="<c:url value="/resources/img/${thumb}"/>"
+                                             <c:if test="${not empty category.photo.photoLinkThumb2x}">srcset="<c:url value="/resources/img/${thumb}"/> 1x, <c:url value="/resources/img/${category.photo.photoLinkThumb2x}"/> 2x"</c:if>
                                              class="img-thumbnail blink" width="150px" height="150px"
                                              alt="${category.title}">
                                         <div class="text-shadow">${category.title}</div>
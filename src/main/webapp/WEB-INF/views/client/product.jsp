@@ -73,9 +73,12 @@
                                 <div class="product">
                                     <a href="<c:url value="/product/${featured_product.url}"/>"
                                        title="Перейти к ${featured_product.title}">
+                                        <c:set var="thumb" value="${empty featured_product.photo.photoLinkThumb ?
+                                                featured_product.photo.photoLinkShort : featured_product.photo.photoLinkThumb}"/>
                                         <img class=" img-thumbnail blink" width="185px" height="185px"
                                              alt="${featured_product.title}"
-                                             src="<c:url value="/resources/img/${featured_product.photo.photoLinkShort}"/>">
+                                             src="<c:url value="/resources/img/${thumb}"/>"
+                                             <c:if test="${not empty featured_product.photo.photoLinkThumb2x}">srcset="<c:url value="/resources/img/${thumb}"/> 1x, <c:url value="/resources/img/${featured_product.photo.photoLinkThumb2x}"/> 2x"</c:if>>
                                         <div class="text-shadow">${featured_product.title}</div>
                                         <p class="price-top">
                                             <fmt:formatNumber type="number" value="${featured_product.price}"/> грн
@@ -24,7 +24,7 @@
     </head>
     <body>
     <jsp:include page="/WEB-INF/views/client/template/navbar.jsp"/>
-    <jsp:include page="/WEB-INF/views/client/template/some_products.jsp"/>
+    <jsp:include page="/WEB-INF/views/client/template/all_products.jsp"/>
     <jsp:include page="/WEB-INF/views/client/template/footer.jsp"/>
     <script src="<c:url value="/resources/js/jquery-1.11.1.min.js"/>" type="text/javascript"></script>
     <script src="<c:url value="/resources/js/jquery.appear.js"/>" type="text/javascript"></script>
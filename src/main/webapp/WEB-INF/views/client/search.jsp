@@ -0,0 +1,54 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" trimDirectiveWhitespaces="true" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+<%@ taglib prefix="compress" uri="http://htmlcompressor.googlecode.com/taglib/compressor" %>
+
+<compress:html removeIntertagSpaces="true">
+    <!DOCTYPE HTML>
+    <html lang="ru">
+    <head>
+        <meta charset="utf-8">
+        <meta name="viewport" content="width=device-width, initial-scale=1">
+        <meta name="author" content="Yurii Salimov https://www.linkedin.com/in/yurii-salimov">
+        <meta name="description" content="Поиск товаров интернет магазина кофе Alex Coffee"/>
+        <meta name="robots" content="noindex,follow">
+        <meta name="title" content="Поиск: ${fn:escapeXml(query)} || Alex Coffee">
+        <title>Поиск: ${fn:escapeXml(query)} || Alex Coffee</title>
+        <link rel="shortcut icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link rel="icon" href="<c:url value="/resources/img/favicon.ico"/>" type="image/x-icon">
+        <link href="<c:url value="/resources/css/bootstrap.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/animate.css"/>" rel="stylesheet" type="text/css">
+        <link href="<c:url value="/resources/css/style.min.css"/>" rel="stylesheet" type="text/css">
+        <link href="https://maxcdn.bootstrapcdn.com/font-awesome/4.4.0/css/font-awesome.min.css" rel="stylesheet"
+              type="text/css">
+    </head>
+    <body>
+    <jsp:include page="/WEB-INF/views/client/template/navbar.jsp"/>
+    <div class="container-fluid">
+        <section id="products">
+            <div class="row products">
+                <div class="col-xs-12 col-sm-12 col-md-12 col-lg-12 col-xl-12">
+                    <h3 class="intro-text text-shadow">
+                        <span class="home-block-name color-green">Поиск:</span>
+                        <span class="home-block-name color-brown"> ${fn:escapeXml(query)}</span>
+                        <c:if test="${fn:length(products) eq 0}">
+                            <span class="color-red"> - ничего не найдено!</span>
+                        </c:if>
+                    </h3>
+                    <%-- PRODUCTS LIST --%>
+                    <jsp:include page="/WEB-INF/views/client/template/products_list.jsp"/>
+                </div>
+            </div>
+        </section>
+    </div>
+    <jsp:include page="/WEB-INF/views/client/template/footer.jsp"/>
+    <script src="<c:url value="/resources/js/jquery-1.11.1.min.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/jquery.appear.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/bootstrap.min.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/main.js"/>" type="text/javascript"></script>
+    <script src="<c:url value="/resources/js/jquery.maskedinput.min.js"/>" type="text/javascript"></script>
+    </body>
+    </html>
+</compress:html>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
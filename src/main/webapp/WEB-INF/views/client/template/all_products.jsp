@@ -0,0 +1,8 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+
+<jsp:include page="/WEB-INF/views/client/template/some_products.jsp"/>
+<jsp:include page="/WEB-INF/views/template/pagination.jsp">
+    <jsp:param name="url" value="/product/all"/>
+</jsp:include>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
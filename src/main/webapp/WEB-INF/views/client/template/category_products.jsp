@@ -0,0 +1,62 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+
+<div class="row products">
+    <div class="col-xs-12 col-sm-12 col-md-12 col-lg-12 col-xl-12">
+        <h3 class="intro-text label-categories">
+            <c:set var="thumb" value="${empty category.photo.photoLinkThumb ?
+                    category.photo.photoLinkShort : category.photo.photoLinkThumb}"/>
+            <img id="label-category" width="150px" height="150px" alt="${category.title}"
+                 src="<c:url value="/resources/img/${thumb}"/>"
+                 <c:if test="${not empty category.photo.photoLinkThumb2x}">srcset="<c:url value="/resources/img/${thumb}"/> 1x, <c:url value="/resources/img/${category.photo.photoLinkThumb2x}"/> 2x"</c:if>>
+            <div class="text-shadow">
+                <span class="home-block-name color-green">${category.title}</span>
+                <c:if test="${fn:length(products) eq 0}">
+                    <span class="home-block-name color-red"> - список пуст!</span>
+                </c:if>
+            </div>
+        </h3>
+    </div>
+    <c:if test="${fn:length(facets) gt 0}">
+        <div class="col-xs-10 col-xs-offset-1 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
+            <form action="<c:url value="/category/${category.url}"/>" method="get" class="facets">
+                <div class="row">
+                    <c:forEach items="${facets}" var="facet">
+                        <div class="col-xs-12 col-sm-6 col-md-3 col-lg-3 col-xl-3">
+                            <p><b>${facet.name}</b></p>
+                            <c:forEach items="${facet.values}" var="value">
+                                <div class="checkbox">
+                                    <label>
+                                        <input type="checkbox" name="f" value="${fn:escapeXml(value.key)}"
+                                               <c:if test="${value.selected}">checked</c:if>
+                                               <c:if test="${!value.selected and value.count eq 0}">disabled</c:if>
+                                               onchange="this.form.submit()">
+                                            ${value.title} (${value.count})
+                                    </label>
+                                </div>
+                            </c:forEach>
+                        </div>
+                    </c:forEach>
+                </div>
+                <noscript>
+                    <button class="btn btn-success" type="submit">Показать</button>
+                </noscript>
+                <p>
+                    Найдено товаров: ${fn:length(products)} из ${total}.
+                    <a href="<c:url value="/category/${category.url}"/>"
+                       title="Показать все товары категории">Сбросить фильтр</a>
+                </p>
+            </form>
+        </div>
+    </c:if>
+    <jsp:include page="/WEB-INF/views/client/template/products_list.jsp"/>
+    <div class="col-xs-10 col-xs-offset-1 col-sm-10 col-sm-offset-1 col-md-10 col-md-offset-1 col-lg-10 col-lg-offset-1 col-xl-10 col-xl-offset-1">
+        <h4 class="text-all-products text-shadow">
+            <a href="<c:url value="/product/all"/>"
+               title="Перейти ко всем товарам">Весь ассортимент кофе</a>
+        </h4>
+    </div>
+</div>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
@@ -40,6 +40,10 @@
                             <a href="<c:url value="/home#contacts"/>">Контакты</a>
                         </li>
                     </ul>
+                    <form class="navbar-form navbar-left hidden-sm" action="<c:url value="/search"/>" method="get">
+                        <input type="text" class="form-control" name="q" placeholder="Поиск товаров"
+                               value="<c:out value="${query}"/>" required>
+                    </form>
                     <ul class="nav navbar-nav navbar-right">
                         <li id="nav-cart">
                             <a href="<c:url value="/cart"/>">
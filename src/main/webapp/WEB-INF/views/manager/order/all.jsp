@@ -48,10 +48,10 @@
                                     <td>${order.number}</td>
                                     <td>
                                         <c:choose>
-                                            <c:when test="${order.status eq status_new}">
-                                                <span class="color-green">${order.status.description}</span>
+                                            <c:when test="${order.status eq status_new.title}">
+                                                <span class="color-green">${order.statusDescription}</span>
                                             </c:when>
-                                            <c:otherwise>${order.status.description}</c:otherwise>
+                                            <c:otherwise>${order.statusDescription}</c:otherwise>
                                         </c:choose>
                                     </td>
                                     <td class="hidden-xs">${order.date}</td>
@@ -60,7 +60,7 @@
                                            title="Смотреть заказ ${order.number}">
                                             <button class="btn btn-info" type="submit">Смотреть</button>
                                         </a>
-                                        <c:if test="${(order.status eq status_new) or (order.manager eq auth_user)}">
+                                        <c:if test="${(order.status eq status_new.title) or (order.managerId ne null and order.managerId eq auth_user.id)}">
                                             <a href="<c:url value="/managers/order/edit/${order.id}"/>"
                                                title="Редактировать заказ ${order.number}">
                                                 <button class="btn btn-success" type="submit">Редактировать</button>
@@ -70,6 +70,9 @@
                                 </tr>
                             </c:forEach>
                         </table>
+                        <jsp:include page="/WEB-INF/views/template/keyset_pagination.jsp">
+                            <jsp:param name="url" value="/managers/order/all"/>
+                        </jsp:include>
                     </div>
                 </c:if>
             </div>
@@ -6,6 +6,7 @@ Disallow: /managers
 Disallow: /login
 Disallow: /cart
 Disallow: /checkout
+Disallow: /search
 Disallow: /resources
 Host: alexcoffee.com.ua
 
@@ -15,6 +16,7 @@ Disallow: /managers
 Disallow: /login
 Disallow: /cart
 Disallow: /checkout
+Disallow: /search
 Disallow: /resources
 
 User-agent: *
@@ -24,6 +26,7 @@ Disallow: /managers
 Disallow: /login
 Disallow: /cart
 Disallow: /checkout
+Disallow: /search
 Disallow: /resources
 
 Sitemap: http://alexcoffee.com.ua/sitemap.xml
@@ -0,0 +1,26 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+
+<%-- Ссылки на порции списка, параметр url - адрес списка, атрибут page - текущая порция (Slice),
+     следующая порция начинается после кода последней строки текущей --%>
+<c:if test="${page ne null and (not empty param.after or page.hasNext())}">
+    <div class="text-center">
+        <ul class="pagination">
+            <c:if test="${not empty param.after}">
+                <li>
+                    <a href="<c:url value="${param.url}"><c:param name="size" value="${page.size}"/></c:url>"
+                       title="Первая страница">&laquo;</a>
+                </li>
+            </c:if>
+            <c:if test="${page.hasNext()}">
+                <li>
+                    <a href="<c:url value="${param.url}"><c:param name="after" value="${page.content[fn:length(page.content) - 1].id}"/><c:param name="size" value="${page.size}"/></c:url>"
+                       title="Следующая страница">&raquo;</a>
+                </li>
+            </c:if>
+        </ul>
+    </div>
+</c:if>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
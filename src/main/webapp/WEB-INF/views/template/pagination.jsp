@@ -0,0 +1,32 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+
+<%-- Ссылки на страницы списка, параметр url - адрес списка, атрибут page - текущая страница --%>
+<c:if test="${page ne null and page.totalPages gt 1}">
+    <div class="text-center">
+        <ul class="pagination">
+            <c:if test="${not page.first}">
+                <li>
+                    <a href="<c:url value="${param.url}"><c:param name="page" value="${page.number - 1}"/><c:param name="size" value="${page.size}"/></c:url>"
+                       title="Предыдущая страница">&laquo;</a>
+                </li>
+            </c:if>
+            <c:forEach begin="${page.number gt 4 ? page.number - 4 : 0}"
+                       end="${page.number + 4 lt page.totalPages - 1 ? page.number + 4 : page.totalPages - 1}"
+                       var="number">
+                <li<c:if test="${number eq page.number}"> class="active"</c:if>>
+                    <a href="<c:url value="${param.url}"><c:param name="page" value="${number}"/><c:param name="size" value="${page.size}"/></c:url>"
+                       title="Страница ${number + 1}">${number + 1}</a>
+                </li>
+            </c:forEach>
+            <c:if test="${not page.last}">
+                <li>
+                    <a href="<c:url value="${param.url}"><c:param name="page" value="${page.number + 1}"/><c:param name="size" value="${page.size}"/></c:url>"
+                       title="Следующая страница">&raquo;</a>
+                </li>
+            </c:if>
+        </ul>
+    </div>
+</c:if>
+
+<%-- Yurii Salimov (yuriy.alex.salimov@gmail.com) --%>
@@ -0,0 +1,71 @@
+package ua.com.alexcoffee.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.metrics.interfaces.MethodMetrics;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class MetricsAspectTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"MetricsAspect\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"MetricsAspect\" - FINISH.\n");
+    }
+
+    @Test
+    public void aroundAdviceTest() throws Throwable {
+        System.out.print("-> aroundAdvice() - ");
+
+        MethodMetrics metrics = mock(MethodMetrics.class);
+        Method method = Object.class.getMethod("toString");
+        ProceedingJoinPoint joinPoint = getJoinPoint(method);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertEquals(new MetricsAspect(metrics).aroundAdvice(joinPoint), "result");
+        verify(metrics).record(eq(String.class), eq(method), anyLong(), eq(false));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void aroundAdviceExceptionTest() throws Throwable {
+        System.out.print("-> aroundAdvice() exception - ");
+
+        MethodMetrics metrics = mock(MethodMetrics.class);
+        Method method = Object.class.getMethod("toString");
+        ProceedingJoinPoint joinPoint = getJoinPoint(method);
+        IllegalStateException exception = new IllegalStateException();
+        when(joinPoint.proceed()).thenThrow(exception);
+
+        try {
+            new MetricsAspect(metrics).aroundAdvice(joinPoint);
+            fail();
+        } catch (IllegalStateException ex) {
+            assertSame(ex, exception);
+        }
+        verify(metrics).record(eq(String.class), eq(method), anyLong(), eq(true));
+
+        System.out.println("OK!");
+    }
+
+    private static ProceedingJoinPoint getJoinPoint(Method method) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn("target");
+        return joinPoint;
+    }
+}
@@ -0,0 +1,127 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.model.Product;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static ua.com.alexcoffee.tools.MockModel.getProduct;
+import static ua.com.alexcoffee.tools.MockModel.getTenProducts;
+
+public class CatalogCacheImplTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CatalogCacheImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CatalogCacheImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void getProductTest() {
+        System.out.print("-> getProduct() - ");
+
+        CatalogCache cache = new CatalogCacheImpl();
+        AtomicInteger loads = new AtomicInteger();
+        Product product = getProduct();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(cache.getProduct("url", () -> {
+                loads.incrementAndGet();
+                return product;
+            }), product);
+        }
+        assertEquals(loads.get(), 1);
+        assertEquals(cache.getHitCount(), 4);
+        assertEquals(cache.getMissCount(), 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getProductsIsUnmodifiableTest() {
+        System.out.println("-> getProductsIsUnmodifiable() - OK!");
+
+        CatalogCache cache = new CatalogCacheImpl();
+        List<Product> products = cache.getProducts("all", () -> getTenProducts());
+        products.clear();
+    }
+
+    @Test
+    public void invalidateTest() {
+        System.out.print("-> invalidate() - ");
+
+        CatalogCache cache = new CatalogCacheImpl();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getProducts("all", () -> {
+            loads.incrementAndGet();
+            return getTenProducts();
+        });
+        cache.invalidate();
+        cache.getProducts("all", () -> {
+            loads.incrementAndGet();
+            return getTenProducts();
+        });
+
+        assertEquals(loads.get(), 2);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertEquals(cache.getVersion(), 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getFragmentTest() {
+        System.out.print("-> getFragment() - ");
+
+        CatalogCache cache = new CatalogCacheImpl();
+        AtomicInteger renders = new AtomicInteger();
+        long lastModified = cache.getLastModified();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(cache.getFragment("products:0:12", () -> "<div>" + renders.incrementAndGet() + "</div>"),
+                    "<div>1</div>");
+        }
+        cache.invalidate();
+
+        assertEquals(cache.getFragment("products:0:12", () -> "<div>" + renders.incrementAndGet() + "</div>"),
+                "<div>2</div>");
+        assertTrue(cache.getLastModified() >= lastModified);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void jmxTest() throws Exception {
+        System.out.print("-> jmx() - ");
+
+        CatalogCache cache = new CatalogCacheImpl();
+        cache.getProduct("url", () -> getProduct());
+        cache.getProduct("url", () -> getProduct());
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        AnnotationMBeanExporter exporter = new AnnotationMBeanExporter();
+        exporter.setServer(server);
+        exporter.registerManagedResource(cache);
+
+        ObjectName name = new ObjectName("ua.com.alexcoffee:type=CatalogCache");
+        assertEquals(server.getAttribute(name, "HitCount"), 1L);
+        assertEquals(server.getAttribute(name, "MissCount"), 1L);
+        assertEquals(server.getAttribute(name, "EvictionCount"), 0L);
+
+        System.out.println("OK!");
+    }
+}
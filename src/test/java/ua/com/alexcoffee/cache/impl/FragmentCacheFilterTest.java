@@ -0,0 +1,124 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class FragmentCacheFilterTest {
+
+    private CatalogCache cache;
+    private FragmentCacheFilter filter;
+    private AtomicInteger renders;
+    private FilterChain chain;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"FragmentCacheFilter\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"FragmentCacheFilter\" - FINISH.\n");
+    }
+
+    @Before
+    public void initFilter() {
+        this.cache = new CatalogCacheImpl();
+        this.filter = new FragmentCacheFilter(this.cache);
+        this.renders = new AtomicInteger();
+        this.chain = (request, response) -> response.getWriter()
+                .write("<div>" + this.renders.incrementAndGet() + "</div>");
+    }
+
+    @Test
+    public void doFilterTest() throws Exception {
+        System.out.print("-> doFilter() - ");
+
+        assertEquals(doFilter("products:0:12"), "<div>1</div>");
+        assertEquals(doFilter("products:0:12"), "<div>1</div>");
+        assertEquals(doFilter("products:1:12"), "<div>2</div>");
+
+        this.cache.invalidate();
+        assertEquals(doFilter("products:0:12"), "<div>3</div>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterWithoutKeyTest() throws Exception {
+        System.out.print("-> doFilter() without key - ");
+
+        assertEquals(doFilter(null), "<div>1</div>");
+        assertEquals(doFilter(null), "<div>2</div>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterWithContentTest() throws Exception {
+        System.out.print("-> doFilter() with content - ");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(FragmentCacheFilter.KEY_ATTRIBUTE, "products:0:12");
+        request.setAttribute(FragmentCacheFilter.CONTENT_ATTRIBUTE, "<div>cached</div>");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, this.chain);
+        assertEquals(response.getContentAsString(), "<div>cached</div>");
+        assertEquals(this.renders.get(), 0);
+        assertEquals(doFilter("products:0:12"), "<div>1</div>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterWithSessionInUrlTest() throws Exception {
+        System.out.print("-> doFilter() with session in URL - ");
+
+        for (int i = 1; i <= 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAttribute(FragmentCacheFilter.KEY_ATTRIBUTE, "products:0:12");
+            MockHttpServletResponse response = new MockHttpServletResponse() {
+                @Override
+                public String encodeURL(final String url) {
+                    return url + ";jsessionid=" + request.getSession().getId();
+                }
+            };
+            this.filter.doFilter(request, response, this.chain);
+            assertEquals(response.getContentAsString(), "<div>" + i + "</div>");
+        }
+        assertEquals(doFilter("products:0:12"), "<div>3</div>");
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = ServletException.class)
+    public void doFilterErrorTest() throws Exception {
+        System.out.println("-> doFilter() error - OK!");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(FragmentCacheFilter.KEY_ATTRIBUTE, "products:0:12");
+        this.filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            throw new ServletException("render");
+        });
+    }
+
+    private String doFilter(final String key) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (key != null) {
+            request.setAttribute(FragmentCacheFilter.KEY_ATTRIBUTE, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, this.chain);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,69 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.hibernate.stat.Statistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class HibernateCacheMetricsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"HibernateCacheMetrics\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"HibernateCacheMetrics\" - FINISH.\n");
+    }
+
+    @Test
+    public void emptyTest() {
+        System.out.print("-> empty() - ");
+
+        HibernateCacheMetrics metrics = new HibernateCacheMetrics(mock(Statistics.class));
+
+        assertEquals(metrics.getEntityHitCount(), 0);
+        assertEquals(metrics.getQueryHitCount(), 0);
+        assertEquals(metrics.getHitRatio(), 0, 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void hitRatioTest() {
+        System.out.print("-> hitRatio() - ");
+
+        Statistics statistics = mock(Statistics.class);
+        when(statistics.getSecondLevelCacheHitCount()).thenReturn(6L);
+        when(statistics.getSecondLevelCacheMissCount()).thenReturn(1L);
+        when(statistics.getQueryCacheHitCount()).thenReturn(2L);
+        when(statistics.getQueryCacheMissCount()).thenReturn(1L);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+        HibernateCacheMetrics metrics = new HibernateCacheMetrics(statistics);
+
+        assertEquals(metrics.getEntityHitCount(), 6);
+        assertEquals(metrics.getQueryMissCount(), 1);
+        assertEquals(metrics.getHitRatio(), 0.8, 0.0001);
+        assertEquals(
+                metrics.toString(),
+                "entity hit/miss/put = 6/1/0, query hit/miss/put = 2/1/0"
+        );
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void clearTest() {
+        System.out.print("-> clear() - ");
+
+        Statistics statistics = mock(Statistics.class);
+        new HibernateCacheMetrics(statistics).clear();
+        verify(statistics).clear();
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,125 @@
+package ua.com.alexcoffee.cache.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.cache.interfaces.CacheStore;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LruCacheStoreTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"LruCacheStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"LruCacheStore\" - FINISH.\n");
+    }
+
+    @Test
+    public void readThroughTest() {
+        System.out.print("-> readThrough() - ");
+
+        CacheStore<String, String> cache = new LruCacheStore<>(10, 60000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(cache.get("key", () -> "value" + loads.incrementAndGet()), "value1");
+        assertEquals(cache.get("key", () -> "value" + loads.incrementAndGet()), "value1");
+        assertEquals(loads.get(), 1);
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void nullIsNotCachedTest() {
+        System.out.print("-> nullIsNotCached() - ");
+
+        CacheStore<String, String> cache = new LruCacheStore<>(10, 60000);
+
+        assertNull(cache.get("key", () -> null));
+        assertEquals(cache.size(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void maxSizeTest() {
+        System.out.print("-> maxSize() - ");
+
+        CacheStore<Integer, Integer> cache = new LruCacheStore<>(2, 60000);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.get(1, () -> -1);
+        cache.put(3, 3);
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertEquals(cache.get(1, () -> -1).intValue(), 1);
+        assertEquals(cache.get(2, () -> -1).intValue(), -1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void timeToLiveTest() throws Exception {
+        System.out.print("-> timeToLive() - ");
+
+        CacheStore<String, String> cache = new LruCacheStore<>(10, 1);
+        cache.put("key", "old");
+        Thread.sleep(10);
+
+        assertEquals(cache.get("key", () -> "new"), "new");
+        assertEquals(cache.getEvictionCount(), 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void evictAndClearTest() {
+        System.out.print("-> evictAndClear() - ");
+
+        CacheStore<String, String> cache = new LruCacheStore<>(10, 60000);
+        cache.put("one", "1");
+        cache.put("two", "2");
+        cache.put("three", "3");
+
+        cache.evict("one");
+        assertEquals(cache.size(), 2);
+
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.getEvictionCount(), 3);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void staleLoadIsNotCachedTest() {
+        System.out.print("-> staleLoadIsNotCached() - ");
+
+        CacheStore<String, String> cache = new LruCacheStore<>(10, 60000);
+        String value = cache.get("key", () -> {
+            cache.clear();
+            return "stale";
+        });
+
+        assertEquals(value, "stale");
+        assertEquals(cache.size(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongSizeTest() {
+        System.out.println("-> wrongSize() - OK!");
+
+        new LruCacheStore<String, String>(0, 60000);
+    }
+}
@@ -0,0 +1,116 @@
+package ua.com.alexcoffee.cart;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.exception.WrongInformationException;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.model.SalePosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CartItemsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CartItems\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CartItems\" - FINISH.\n");
+    }
+
+    @Test
+    public void encodeAndDecodeTest() {
+        System.out.print("-> encodeAndDecode() - ");
+
+        List<SalePosition> positions = Arrays.asList(
+                getSalePosition(7L, 1),
+                getSalePosition(300L, 2),
+                getSalePosition(Long.MAX_VALUE, Integer.MAX_VALUE)
+        );
+        Map<Long, Integer> items = CartItems.decode(CartItems.encode(positions));
+
+        assertEquals(new ArrayList<>(items.keySet()), Arrays.asList(7L, 300L, Long.MAX_VALUE));
+        assertEquals(items.get(7L), Integer.valueOf(1));
+        assertEquals(items.get(300L), Integer.valueOf(2));
+        assertEquals(items.get(Long.MAX_VALUE), Integer.valueOf(Integer.MAX_VALUE));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void compactTest() {
+        System.out.print("-> compact() - ");
+
+        byte[] data = CartItems.encode(Arrays.asList(getSalePosition(5L, 1), getSalePosition(200L, 3)));
+
+        assertEquals(data.length, 7);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void decodeEmptyTest() {
+        System.out.print("-> decodeEmpty() - ");
+
+        assertTrue(CartItems.decode(null).isEmpty());
+        assertTrue(CartItems.decode(new byte[0]).isEmpty());
+        assertTrue(CartItems.decode(CartItems.encode(new ArrayList<>())).isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void decodeCorruptedTest() {
+        System.out.print("-> decodeCorrupted() - ");
+
+        byte[] data = CartItems.encode(Arrays.asList(getSalePosition(200L, 1)));
+        CartItems.decode(Arrays.copyOf(data, data.length - 2));
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void decodeUnknownFormatTest() {
+        System.out.print("-> decodeUnknownFormat() - ");
+
+        CartItems.decode(new byte[]{3, 1, 1});
+    }
+
+    @Test
+    public void sizeTest() {
+        System.out.print("-> size() - ");
+
+        assertEquals(CartItems.size(CartItems.encode(Arrays.asList(getSalePosition(5L, 2), getSalePosition(200L, 3)))), 5);
+        assertEquals(CartItems.size(CartItems.encode(new ArrayList<>())), 0);
+        assertEquals(CartItems.size(null), 0);
+        assertEquals(CartItems.size(new byte[0]), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void decodeFirstFormatTest() {
+        System.out.print("-> decode() first format - ");
+
+        byte[] data = {1, 5, 2, 7, 3};
+        Map<Long, Integer> items = CartItems.decode(data);
+
+        assertEquals(new ArrayList<>(items.keySet()), Arrays.asList(5L, 7L));
+        assertEquals(items.get(7L), Integer.valueOf(3));
+        assertEquals(CartItems.size(data), 5);
+
+        System.out.println("OK!");
+    }
+
+    private static SalePosition getSalePosition(final long productId, final int number) {
+        Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId(productId);
+        return new SalePosition(product, number);
+    }
+}
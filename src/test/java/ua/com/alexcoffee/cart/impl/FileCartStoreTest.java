@@ -0,0 +1,85 @@
+package ua.com.alexcoffee.cart.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
+import ua.com.alexcoffee.exception.WrongInformationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.*;
+
+public class FileCartStoreTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"FileCartStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"FileCartStore\" - FINISH.\n");
+    }
+
+    @Test
+    public void saveAndLoadAndRemoveTest() throws IOException {
+        System.out.print("-> saveAndLoadAndRemove() - ");
+
+        CartStore store = new FileCartStore(Files.createTempDirectory("carts"), 60000);
+
+        assertNull(store.load("cart-1"));
+
+        store.save("cart-1", new byte[]{1, 2, 3});
+        store.save("cart-1", new byte[]{1, 5, 6});
+        assertArrayEquals(store.load("cart-1"), new byte[]{1, 5, 6});
+
+        store.remove("cart-1");
+        assertNull(store.load("cart-1"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void sharedDirectoryTest() throws IOException {
+        System.out.print("-> sharedDirectory() - ");
+
+        Path directory = Files.createTempDirectory("carts");
+        new FileCartStore(directory, 60000).save("cart-1", new byte[]{1, 2, 3});
+
+        assertArrayEquals(new FileCartStore(directory, 60000).load("cart-1"), new byte[]{1, 2, 3});
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void removeExpiredTest() throws IOException {
+        System.out.print("-> removeExpired() - ");
+
+        Path directory = Files.createTempDirectory("carts");
+        CartStore store = new FileCartStore(directory, 60000);
+        store.save("old", new byte[]{1});
+        store.save("new", new byte[]{1});
+        Files.setLastModifiedTime(
+                directory.resolve("old.cart"),
+                FileTime.fromMillis(System.currentTimeMillis() - 120000)
+        );
+
+        store.removeExpired();
+
+        assertNull(store.load("old"));
+        assertNotNull(store.load("new"));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void wrongIdTest() throws IOException {
+        System.out.print("-> wrongId() - ");
+
+        new FileCartStore(Files.createTempDirectory("carts"), 60000).load("../passwd");
+    }
+}
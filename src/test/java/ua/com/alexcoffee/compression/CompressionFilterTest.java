@@ -0,0 +1,261 @@
+package ua.com.alexcoffee.compression;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import ua.com.alexcoffee.config.AppSettings;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+public class CompressionFilterTest {
+
+    private static final String HTML_TYPE = "text/html;charset=UTF-8";
+
+    private CompressionFilter filter;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"CompressionFilter\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"CompressionFilter\" - FINISH.\n");
+    }
+
+    @Before
+    public void initFilter() {
+        AppSettings settings = new AppSettings(
+                new MockEnvironment().withProperty("alexcoffee.compression.min-size", "512")
+        );
+        this.filter = new CompressionFilter(settings);
+    }
+
+    @Test
+    public void doFilterHtmlTest() throws Exception {
+        System.out.print("-> doFilter() html - ");
+
+        MockHttpServletResponse response = doFilter("/", HTML_TYPE, getPage(100), true);
+        String html = new String(gunzip(response.getContentAsByteArray()), "UTF-8");
+
+        assertEquals(response.getHeader("Content-Encoding"), "gzip");
+        assertEquals(response.getHeader("Vary"), "Accept-Encoding");
+        assertNull(response.getHeader("Content-Length"));
+        assertFalse(html.contains("<!--"));
+        assertFalse(html.contains("  "));
+        assertTrue(html.contains("<pre>a  b</pre>"));
+        assertTrue(html.contains("Кофе"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterSmallHtmlTest() throws Exception {
+        System.out.print("-> doFilter() small html - ");
+
+        MockHttpServletResponse response = doFilter("/", HTML_TYPE, getPage(1), true);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertFalse(response.getContentAsString().contains("<!--"));
+        assertEquals(response.getContentLength(), response.getContentAsByteArray().length);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterWithoutGzipTest() throws Exception {
+        System.out.print("-> doFilter() without gzip - ");
+
+        MockHttpServletResponse response = doFilter("/", HTML_TYPE, getPage(100), false);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(response.getHeader("Vary"), "Accept-Encoding");
+        assertTrue(response.getContentAsString().startsWith("<html>"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterNotCompressibleTest() throws Exception {
+        System.out.print("-> doFilter() not compressible - ");
+
+        String content = getPage(100);
+        MockHttpServletResponse response = doFilter("/photo", "image/png", content, true);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(response.getContentAsString(), content);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterResourcesTest() throws Exception {
+        System.out.print("-> doFilter() resources - ");
+
+        String content = getPage(100);
+        MockHttpServletResponse response = doFilter("/resources/css/style.css", "text/css", content, true);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(response.getContentAsString(), content);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterEncodedTest() throws Exception {
+        System.out.print("-> doFilter() already encoded - ");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sitemap.xml");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] content = new byte[2048];
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/xml;charset=UTF-8");
+            ((HttpServletResponse) res).setHeader("Content-Encoding", "gzip");
+            res.getOutputStream().write(content);
+        });
+
+        assertArrayEquals(response.getContentAsByteArray(), content);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterStreamTest() throws Exception {
+        System.out.print("-> doFilter() stream - ");
+
+        String content = getPage(100);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("text/plain;charset=UTF-8");
+            res.getWriter().write(content);
+            res.flushBuffer();
+            assertTrue(response.getContentAsByteArray().length > 0);
+            res.getWriter().write(content);
+        });
+
+        assertEquals(response.getHeader("Content-Encoding"), "gzip");
+        assertEquals(response.getHeader("Vary"), "Accept-Encoding");
+        assertNull(response.getHeader("Content-Length"));
+        assertEquals(new String(gunzip(response.getContentAsByteArray()), "UTF-8"), content + content);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterSmallTextTest() throws Exception {
+        System.out.print("-> doFilter() small text - ");
+
+        MockHttpServletResponse response = doFilter("/", "text/plain;charset=UTF-8", "Кофе", true);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(response.getContentAsString(), "Кофе");
+        assertEquals(response.getContentLength(), response.getContentAsByteArray().length);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterAttachmentTest() throws Exception {
+        System.out.print("-> doFilter() attachment - ");
+
+        byte[] content = getPage(100).getBytes("UTF-8");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/product/export");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json;charset=UTF-8");
+            ((HttpServletResponse) res).setHeader("Content-Disposition", "attachment; filename=\"products.json\"");
+            res.setContentLength(content.length);
+            res.getOutputStream().write(content);
+            assertArrayEquals(response.getContentAsByteArray(), content);
+        });
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(response.getContentLength(), content.length);
+        assertArrayEquals(response.getContentAsByteArray(), content);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterResetBufferTest() throws Exception {
+        System.out.print("-> doFilter() reset buffer - ");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(HTML_TYPE);
+            res.getOutputStream().write("<p>error</p>".getBytes("UTF-8"));
+            res.resetBuffer();
+            res.getOutputStream().write("<p>page</p>".getBytes("UTF-8"));
+        });
+
+        assertEquals(response.getContentAsString(), "<p>page</p>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void doFilterHtmlStreamTest() throws Exception {
+        System.out.print("-> doFilter() html stream - ");
+
+        String content = getPage(100);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(HTML_TYPE);
+            res.getWriter().write(content);
+            res.flushBuffer();
+            assertTrue(response.getContentAsString().startsWith("<html> <body>"));
+            res.getWriter().write("<p>end</p>");
+        });
+
+        assertFalse(response.getContentAsString().contains("  "));
+        assertTrue(response.getContentAsString().endsWith("</html> <p>end</p>"));
+
+        System.out.println("OK!");
+    }
+
+    private MockHttpServletResponse doFilter(
+            String uri, String contentType, String content, boolean gzip
+    ) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (gzip) {
+            request.addHeader("Accept-Encoding", "gzip, deflate");
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            res.setContentType(contentType);
+            res.getWriter().write(content);
+        };
+        this.filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static String getPage(int rows) {
+        StringBuilder page = new StringBuilder("<html>\n    <body>\n        <!-- products -->\n");
+        for (int i = 0; i < rows; i++) {
+            page.append("        <div class=\"product\">\n            <p>Кофе ").append(i).append("</p>\n        </div>\n");
+        }
+        return page.append("        <pre>a  b</pre>\n    </body>\n</html>\n").toString();
+    }
+
+    private static byte[] gunzip(byte[] content) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ua.com.alexcoffee.compression;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class HtmlMinifyingOutputStreamTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"HtmlMinifyingOutputStream\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"HtmlMinifyingOutputStream\" - FINISH.\n");
+    }
+
+    @Test
+    public void spacesTest() throws Exception {
+        System.out.print("-> spaces - ");
+
+        assertEquals(minify("\n  <div   class=\"a  b\"\n   id='x'  >\n   Кофе   в зернах \n</div>\n"),
+                "<div class=\"a  b\" id='x'> Кофе в зернах </div>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void commentsTest() throws Exception {
+        System.out.print("-> comments - ");
+
+        assertEquals(minify("<p>a <!-- comment - -> --> b</p>"), "<p>a b</p>");
+        assertEquals(minify("<!--[if lt IE 9]><script src=\"x.js\"></script><![endif]-->"),
+                "<!--[if lt IE 9]><script src=\"x.js\"></script><![endif]-->");
+        assertEquals(minify("<p>a</p><!-- unclosed"), "<p>a</p>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void rawTagsTest() throws Exception {
+        System.out.print("-> raw tags - ");
+
+        String html = "<pre>a  b\n  c</pre>"
+                + "<textarea name=\"t\">  x  </textarea>"
+                + "<script>var a = 1;  <!-- keep --> if (a  <  2) {}</script>"
+                + "<STYLE>p  {  }</STYLE>";
+        assertEquals(minify(html), html);
+        assertEquals(minify("<pre>a  b</PRE>   <p>c</p>"), "<pre>a  b</PRE> <p>c</p>");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void splitWritesTest() throws Exception {
+        System.out.print("-> split writes - ");
+
+        String html = "<html>\n  <body>\n    <!-- c -->\n    <pre>a  b</pre>\n    <p>Кофе</p>\n  </body>\n</html>\n";
+        byte[] bytes = html.getBytes("UTF-8");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HtmlMinifyingOutputStream stream = new HtmlMinifyingOutputStream(out);
+        for (byte b : bytes) {
+            stream.write(b);
+        }
+        stream.finish();
+
+        assertEquals(out.toString("UTF-8"), minify(html));
+        assertEquals(out.toString("UTF-8"), "<html> <body> <pre>a  b</pre> <p>Кофе</p> </body> </html>");
+
+        System.out.println("OK!");
+    }
+
+    private static String minify(String html) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HtmlMinifyingOutputStream stream = new HtmlMinifyingOutputStream(out);
+        stream.write(html.getBytes("UTF-8"));
+        stream.finish();
+        return out.toString("UTF-8");
+    }
+}
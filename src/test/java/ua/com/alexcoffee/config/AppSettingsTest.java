@@ -0,0 +1,132 @@
+package ua.com.alexcoffee.config;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.Assert.*;
+
+public class AppSettingsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"AppSettings\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"AppSettings\" - FINISH.\n");
+    }
+
+    @Test
+    public void defaultsTest() {
+        System.out.print("-> defaults() - ");
+
+        AppSettings settings = new AppSettings(new MockEnvironment());
+
+        assertEquals(settings.getPoolMaxSize(), 20);
+        assertEquals(settings.getCartStore(), "memory");
+        assertEquals(settings.getMailHost(), "smtp.gmail.com");
+        assertEquals(settings.getOutboxDelay(), 5000);
+        assertEquals(settings.getOutboxLease(), 600000);
+        assertEquals(settings.getImportBatchSize(), 500);
+        assertEquals(settings.getPhotoStoreThreads(), 2);
+        assertEquals(settings.getPhotoStoreQueueCapacity(), 50);
+        assertEquals(settings.getThumbnailSize(), 200);
+        assertEquals(settings.getThumbnailQuality(), 80);
+        assertEquals(settings.getResourcesCachePeriod(), 31536000);
+        assertTrue(settings.getResourcesVersion().matches("[0-9a-f]+"));
+        assertEquals(settings.getCompressionMinSize(), 1024);
+        assertEquals(settings.getSqlSlowThreshold(), 500);
+        assertEquals(settings.getSqlRepeatThreshold(), 10);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void overrideTest() {
+        System.out.print("-> override() - ");
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("alexcoffee.db.pool.max", "40")
+                .withProperty("alexcoffee.cache.catalog.max-size", " 5000 ")
+                .withProperty("alexcoffee.mail.host", "smtp.example.com")
+                .withProperty("alexcoffee.resources.version", "3f2a9c41d07b6e58");
+        AppSettings settings = new AppSettings(environment);
+
+        assertEquals(settings.getPoolMaxSize(), 40);
+        assertEquals(settings.getCatalogCacheSize(), 5000);
+        assertEquals(settings.getMailHost(), "smtp.example.com");
+        assertEquals(settings.getResourcesVersion(), "3f2a9c41d07b6e58");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void invalidTest() {
+        System.out.print("-> invalid() - ");
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("alexcoffee.db.pool.max", "many")
+                .withProperty("alexcoffee.mail.tls-port", "70000")
+                .withProperty("alexcoffee.cart.store", "redis")
+                .withProperty("alexcoffee.resources.version", "1/2");
+        try {
+            new AppSettings(environment);
+            fail();
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("alexcoffee.db.pool.max"));
+            assertTrue(ex.getMessage().contains("alexcoffee.mail.tls-port"));
+            assertTrue(ex.getMessage().contains("alexcoffee.cart.store"));
+            assertTrue(ex.getMessage().contains("alexcoffee.resources.version"));
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void minIdleGreaterThanMaxTest() {
+        System.out.print("-> minIdleGreaterThanMax() - ");
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("alexcoffee.db.pool.min-idle", "30");
+        try {
+            new AppSettings(environment);
+            fail();
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("alexcoffee.db.pool.min-idle"));
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void databaseCredentialsTest() {
+        System.out.print("-> databaseCredentials() - ");
+
+        AppSettings settings = new AppSettings(
+                new MockEnvironment()
+                        .withProperty("alexcoffee.db.username", "shop")
+                        .withProperty("alexcoffee.db.password", "")
+        );
+        assertEquals(settings.getDatabaseUsername(), "shop");
+        assertEquals(settings.getDatabasePassword(), "");
+
+        settings = new AppSettings(new MockEnvironment());
+        try {
+            settings.getDatabaseUsername();
+            fail();
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("alexcoffee.db.username"));
+        }
+        try {
+            settings.getDatabasePassword();
+            fail();
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("alexcoffee.db.password"));
+        }
+
+        System.out.println("OK!");
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
@@ -22,7 +23,7 @@ import static org.mockito.Mockito.mock;
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class RootConfigTest {
@@ -121,7 +122,18 @@ public class RootConfigTest {
     public void dataSourceTest() throws Exception {
         System.out.print("-> dataSource() - ");
         RootConfig rootConfig = new RootConfig();
-        assertNotNull(rootConfig.dataSource());
+        AppSettings settings = new AppSettings(
+                new MockEnvironment()
+                        .withProperty("alexcoffee.db.username", "root")
+                        .withProperty("alexcoffee.db.password", "admin")
+        );
+        assertNotNull(
+                rootConfig.dataSource(
+                        rootConfig.poolMetrics(),
+                        rootConfig.sqlStatistics(settings),
+                        settings
+                )
+        );
         System.out.println("OK!");
     }
 
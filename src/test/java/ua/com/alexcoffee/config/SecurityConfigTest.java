@@ -17,7 +17,7 @@ import static org.junit.Assert.assertNotNull;
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class SecurityConfigTest {
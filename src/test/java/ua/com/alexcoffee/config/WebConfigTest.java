@@ -4,14 +4,19 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import ua.com.alexcoffee.controller.admin.AdminCategoriesController;
+import ua.com.alexcoffee.controller.admin.AdminMetricsController;
 import ua.com.alexcoffee.controller.admin.AdminOrdersController;
 import ua.com.alexcoffee.controller.admin.AdminProductsController;
+import ua.com.alexcoffee.controller.admin.AdminSqlController;
 import ua.com.alexcoffee.controller.admin.AdminUsersController;
 import ua.com.alexcoffee.controller.advice.AdviceController;
 import ua.com.alexcoffee.controller.client.HomeController;
@@ -20,23 +25,30 @@ import ua.com.alexcoffee.controller.manager.ManagerUsersController;
 import ua.com.alexcoffee.controller.seo.SEOController;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class WebConfigTest {
     @Autowired
     private AdminCategoriesController adminCategoriesController;
 
+    @Autowired
+    private AdminMetricsController adminMetricsController;
+
     @Autowired
     private AdminOrdersController adminOrdersController;
 
     @Autowired
     private AdminProductsController adminProductsController;
 
+    @Autowired
+    private AdminSqlController adminSqlController;
+
     @Autowired
     private AdminUsersController adminUsersController;
 
@@ -55,6 +67,12 @@ public class WebConfigTest {
     @Autowired
     private SEOController seoController;
 
+    @Autowired
+    private WebConfig webConfig;
+
+    @Autowired
+    private WebApplicationContext context;
+
     @BeforeClass
     public static void setUp() {
         System.out.println("\nTesting class \"WebConfig\" - START.\n");
@@ -72,6 +90,21 @@ public class WebConfigTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void adminMetricsControllerNotNull() {
+        System.out.print("-> adminMetricsController Not Null - ");
+        assertNotNull(adminMetricsController);
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void controllersAdvisedTest() {
+        System.out.print("-> controllers advised - ");
+        assertTrue(AopUtils.isAopProxy(homeController));
+        assertTrue(AopUtils.isAopProxy(adminOrdersController));
+        System.out.println("OK!");
+    }
+
     @Test
     public void adminOrdersControllerNotNull() {
         System.out.print("-> adminOrdersController Not Null - ");
@@ -93,6 +126,13 @@ public class WebConfigTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void adminSqlControllerNotNull() {
+        System.out.print("-> adminSqlController Not Null - ");
+        assertNotNull(adminSqlController);
+        System.out.println("OK!");
+    }
+
     @Test
     public void adminUsersControllerNotNull() {
         System.out.print("-> adminUsersController Not Null - ");
@@ -135,4 +175,13 @@ public class WebConfigTest {
         assertNotNull(webConfig.viewResolver());
         System.out.println("OK!");
     }
+
+    @Test
+    public void addResourceHandlersTest() {
+        System.out.print("-> addResourceHandlers() - ");
+        ResourceHandlerRegistry registry = new ResourceHandlerRegistry(this.context, this.context.getServletContext());
+        this.webConfig.addResourceHandlers(registry);
+        assertTrue(registry.hasMappingForPattern("/resources/**"));
+        System.out.println("OK!");
+    }
 }
@@ -3,10 +3,14 @@ package ua.com.alexcoffee.controller;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import ua.com.alexcoffee.controller.seo.SEOController;
 import ua.com.alexcoffee.tools.MockController;
 
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
 import static junit.framework.TestCase.assertNotNull;
 
 public class SEOControllerTest {
@@ -38,8 +42,43 @@ public class SEOControllerTest {
     public void getSiteMapXmlTest() throws Exception {
         System.out.print("-> getSiteMapXml() - ");
 
-        assertNotNull(seoController.getSiteMapXml());
-        assertFalse(seoController.getSiteMapXml().isEmpty());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sitemap.xml");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        seoController.getSiteMapXml(request, response);
+        assertEquals(response.getStatus(), 200);
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(response.getContentAsString().contains("<urlset"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getSiteMapXmlGzipTest() throws Exception {
+        System.out.print("-> getSiteMapXmlGzip() - ");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sitemap.xml");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        seoController.getSiteMapXml(request, response);
+        assertEquals(response.getHeader("Content-Encoding"), "gzip");
+        assertTrue(response.getContentAsByteArray().length > 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getSiteMapXmlNotModifiedTest() throws Exception {
+        System.out.print("-> getSiteMapXmlNotModified() - ");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        seoController.getSiteMapXml(new MockHttpServletRequest("GET", "/sitemap.xml"), response);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sitemap.xml");
+        request.addHeader("If-None-Match", response.getHeader("ETag"));
+        response = new MockHttpServletResponse();
+        seoController.getSiteMapXml(request, response);
+        assertEquals(response.getStatus(), 304);
+        assertEquals(response.getContentAsByteArray().length, 0);
 
         System.out.println("OK!");
     }
@@ -66,7 +66,7 @@ public class AdminCategoriesControllerTest {
         System.out.print("-> saveCategory() - ");
 
         ModelAndView modelAndView = adminCategoriesController.saveCategory("Title", "url", "Description", "Photo", null,
-                new ModelAndView());
+                new ModelAndView()).join();
         String viewName = "redirect:/admin/categories";
         checkModelAndView(modelAndView, viewName);
 
@@ -99,7 +99,7 @@ public class AdminCategoriesControllerTest {
         System.out.print("-> updateCategory() - ");
 
         ModelAndView modelAndView = adminCategoriesController.updateCategory(ID, "Title", "url", "Description",
-                ID, "Photo", null, new ModelAndView());
+                ID, "Photo", null, new ModelAndView()).join();
         String viewName = "redirect:/admin/view_category_1";
         checkModelAndView(modelAndView, viewName);
 
@@ -30,8 +30,8 @@ public class AdminOrdersControllerTest {
     public void viewAllOrdersTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = adminOrdersController.viewAllOrders(new ModelAndView());
-        String[] keys = {"orders", "status_new", "auth_user"};
+        ModelAndView modelAndView = adminOrdersController.viewAllOrders(null, 0, new ModelAndView());
+        String[] keys = {"orders", "page", "status_new", "auth_user"};
         String viewName = "admin/order/all";
         checkModelAndView(modelAndView, viewName, keys);
 
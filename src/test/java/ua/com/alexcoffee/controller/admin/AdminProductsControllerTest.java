@@ -30,8 +30,8 @@ public class AdminProductsControllerTest {
     public void viewAllProductsTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = adminProductsController.viewAllProducts(new ModelAndView());
-        String[] keys = {"products", "auth_user"};
+        ModelAndView modelAndView = adminProductsController.viewAllProducts(0, 0, new ModelAndView());
+        String[] keys = {"products", "page", "auth_user"};
         String viewName = "admin/product/all";
         checkModelAndView(modelAndView, viewName, keys);
 
@@ -50,6 +50,18 @@ public class AdminProductsControllerTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getImportPageTest() throws Exception {
+        System.out.print("-> getImportPage() - ");
+
+        ModelAndView modelAndView = adminProductsController.getImportPage(new ModelAndView());
+        String[] keys = {"formats", "auth_user"};
+        String viewName = "admin/product/import";
+        checkModelAndView(modelAndView, viewName, keys);
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void getAddProductPageTest() throws Exception {
         System.out.print("-> getAddProductPage() - ");
@@ -67,7 +79,7 @@ public class AdminProductsControllerTest {
         System.out.print("-> saveProduct() - ");
 
         ModelAndView modelAndView = adminProductsController.saveProduct("title", "url", "parameters", "description",
-                ID, "photoTitle", null, null, 1.0, new ModelAndView());
+                ID, "photoTitle", null, null, 1.0, new ModelAndView()).join();
         String viewName = "redirect:/admin/products";
         checkModelAndView(modelAndView, viewName);
 
@@ -100,7 +112,7 @@ public class AdminProductsControllerTest {
         System.out.print("-> updateProduct() - ");
 
         ModelAndView modelAndView = adminProductsController.updateProduct(ID, "title", "url", "parameters",
-                "description", ID, ID, "photoTitle", null, null, 1.0, new ModelAndView());
+                "description", ID, ID, "photoTitle", null, null, 1.0, new ModelAndView()).join();
         String viewName = "redirect:/admin/view_product_" + ID;
         checkModelAndView(modelAndView, viewName);
 
@@ -0,0 +1,56 @@
+package ua.com.alexcoffee.controller.admin;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.web.servlet.ModelAndView;
+import ua.com.alexcoffee.sql.impl.SqlStatisticsImpl;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+import ua.com.alexcoffee.tools.MockService;
+
+import static org.junit.Assert.assertTrue;
+import static ua.com.alexcoffee.tools.ModelAndViews.checkModelAndView;
+
+public class AdminSqlControllerTest {
+
+    private static SqlStatistics sqlStatistics;
+    private static AdminSqlController adminSqlController;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"AdminSqlController\" - START.\n");
+
+        sqlStatistics = new SqlStatisticsImpl(500, 10);
+        adminSqlController = new AdminSqlController(sqlStatistics, MockService.getUserService());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"AdminSqlController\" - FINISH.\n");
+    }
+
+    @Test
+    public void viewStatisticsTest() throws Exception {
+        System.out.print("-> viewStatistics() - ");
+
+        ModelAndView modelAndView = adminSqlController.viewStatistics(new ModelAndView());
+        String[] keys = {"statistics", "statements", "slow_queries", "repeated_queries", "auth_user"};
+        String viewName = "admin/sql/all";
+        checkModelAndView(modelAndView, viewName, keys);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void clearStatisticsTest() throws Exception {
+        System.out.print("-> clearStatistics() - ");
+
+        sqlStatistics.record("select 1", 1000, false);
+        ModelAndView modelAndView = adminSqlController.clearStatistics(new ModelAndView());
+        String viewName = "redirect:/admin/sql";
+        checkModelAndView(modelAndView, viewName);
+        assertTrue(sqlStatistics.getStatements().isEmpty());
+
+        System.out.println("OK!");
+    }
+}
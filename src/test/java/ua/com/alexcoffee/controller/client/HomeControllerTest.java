@@ -3,13 +3,19 @@ package ua.com.alexcoffee.controller.client;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.ModelAndView;
 import ua.com.alexcoffee.exception.ForbiddenException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.tools.MockController;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
 import static ua.com.alexcoffee.tools.MockModel.*;
+import static ua.com.alexcoffee.tools.MockService.getCatalogCache;
 import static ua.com.alexcoffee.tools.ModelAndViews.checkModelAndView;
 
 public class HomeControllerTest {
@@ -46,8 +52,10 @@ public class HomeControllerTest {
     public void viewProductsInCategoryTest() throws Exception {
         System.out.print("-> viewProductsInCategory() - ");
 
-        ModelAndView modelAndView = homeController.viewProductsInCategory(URL, new ModelAndView());
-        String[] keys = {"category", "products", "cart_size"};
+        ModelAndView modelAndView = homeController.viewProductsInCategory(
+                URL, null, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
+        String[] keys = {"category", "products", "facets", "total", "cart_size"};
         String viewName = "client/category";
         checkModelAndView(modelAndView, viewName, keys);
 
@@ -59,25 +67,102 @@ public class HomeControllerTest {
     public void viewAllProductsTest() throws Exception {
         System.out.print("-> viewAllProducts() - ");
 
-        ModelAndView modelAndView = homeController.viewAllProducts(new ModelAndView());
-        String[] keys = {"products", "cart_size"};
+        ModelAndView modelAndView = homeController.viewAllProducts(
+                0, 0, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
+        String[] keys = {"products", "page", "cart_size"};
         String viewName = "client/products";
         checkModelAndView(modelAndView, viewName, keys);
 
         System.out.println("OK!");
     }
 
+    @Test
+    @Transactional
+    public void viewAllProductsNotModifiedTest() throws Exception {
+        System.out.print("-> viewAllProducts() not modified - ");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        homeController.viewAllProducts(0, 0, new MockHttpServletRequest("GET", "/product/all"), response, new ModelAndView());
+        String eTag = response.getHeader("ETag");
+        assertNotNull(eTag);
+        assertEquals(response.getHeader("Cache-Control"), "private, no-cache");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/all");
+        request.addHeader("If-None-Match", eTag);
+        response = new MockHttpServletResponse();
+        assertNull(homeController.viewAllProducts(0, 0, request, response, new ModelAndView()));
+        assertEquals(response.getStatus(), 304);
+
+        request = new MockHttpServletRequest("GET", "/product/all");
+        request.addHeader("If-None-Match", "W/\"0-0-0\"");
+        response = new MockHttpServletResponse();
+        ModelAndView modelAndView = homeController.viewAllProducts(0, 0, request, response, new ModelAndView());
+        checkModelAndView(modelAndView, "client/products", new String[]{"products", "page", "fragment_key", "cart_size"});
+        assertEquals(response.getStatus(), 200);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void viewAllProductsFromCacheTest() throws Exception {
+        System.out.print("-> viewAllProducts() from cache - ");
+
+        getCatalogCache().getFragment("products:7:3", () -> "<div>products</div>");
+        ModelAndView modelAndView = homeController.viewAllProducts(
+                7, 3, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
+        checkModelAndView(modelAndView, "client/products", new String[]{"fragment_key", "fragment_content", "cart_size"});
+        assertEquals(modelAndView.getModel().get("fragment_content"), "<div>products</div>");
+        assertFalse(modelAndView.getModel().containsKey("products"));
+        assertFalse(modelAndView.getModel().containsKey("page"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void viewProductsInCategoryFromCacheTest() throws Exception {
+        System.out.print("-> viewProductsInCategory() from cache - ");
+
+        getCatalogCache().getFragment("category:" + URL + ":[a, b]", () -> "<div>category</div>");
+        ModelAndView modelAndView = homeController.viewProductsInCategory(
+                URL, Arrays.asList("b", "a", "b"), new MockHttpServletRequest(),
+                new MockHttpServletResponse(), new ModelAndView()
+        );
+        checkModelAndView(modelAndView, "client/category", new String[]{"category", "fragment_content", "cart_size"});
+        assertFalse(modelAndView.getModel().containsKey("products"));
+        assertFalse(modelAndView.getModel().containsKey("facets"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void searchTest() throws Exception {
+        System.out.print("-> search() - ");
+
+        ModelAndView modelAndView = homeController.search(TITLE, 0, new ModelAndView());
+        String[] keys = {"products", "query", "cart_size"};
+        String viewName = "client/search";
+        checkModelAndView(modelAndView, viewName, keys);
+
+        System.out.println("OK!");
+    }
+
     @Test
     @Transactional
     public void viewProductTest() throws Exception {
         System.out.print("-> viewProduct() - ");
 
-        ModelAndView modelAndView1 = homeController.viewProduct(URL, new ModelAndView());
+        ModelAndView modelAndView1 = homeController.viewProduct(
+                URL, new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
         String[] keys = {"product", "cart_size", "featured_products"};
         String viewName = "client/product";
         checkModelAndView(modelAndView1, viewName, keys);
 
-        ModelAndView modelAndView2 = homeController.viewProduct(Integer.toString(ARTICLE), new ModelAndView());
+        ModelAndView modelAndView2 = homeController.viewProduct(
+                Integer.toString(ARTICLE), new MockHttpServletRequest(), new MockHttpServletResponse(), new ModelAndView()
+        );
         checkModelAndView(modelAndView2, viewName, keys);
 
         System.out.println("OK!");
@@ -31,8 +31,8 @@ public class ManagerOrdersControllerTest {
     public void viewAllOrdersTest() throws Exception {
         System.out.print("-> viewAllOrders() - ");
 
-        ModelAndView modelAndView = managerOrdersController.viewAllOrders(new ModelAndView());
-        String[] keys = {"orders", "status_new", "auth_user"};
+        ModelAndView modelAndView = managerOrdersController.viewAllOrders(null, 0, new ModelAndView());
+        String[] keys = {"orders", "page", "status_new", "auth_user"};
         String viewName = "manager/order/all";
         checkModelAndView(modelAndView, viewName, keys);
 
@@ -11,6 +11,7 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.config.SecurityConfig;
 import ua.com.alexcoffee.config.WebConfig;
 import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
 import ua.com.alexcoffee.model.Category;
@@ -23,7 +24,7 @@ import static org.junit.Assert.*;
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class CategoryDAOImplTest {
@@ -1,19 +1,31 @@
 package ua.com.alexcoffee.dao.impl;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.config.SecurityConfig;
 import ua.com.alexcoffee.config.WebConfig;
 import ua.com.alexcoffee.dao.interfaces.OrderDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.model.SalePosition;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +35,7 @@ import static org.junit.Assert.*;
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class OrderDAOImplTest {
@@ -31,6 +43,12 @@ public class OrderDAOImplTest {
     @Autowired
     private OrderDAO orderDAO;
 
+    @Autowired
+    private ProductDAO productDAO;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @BeforeClass
     public static void setUp() {
         System.out.println("\nTesting class \"OrderDAOImpl\" - START.\n");
@@ -144,4 +162,41 @@ public class OrderDAOImplTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    @Transactional
+    public void listAndDetailStatementCountTest() {
+        System.out.print("-> List and detail statement count - ");
+
+        Product product = new Product("Title", "statements", null, null, 1.0);
+        productDAO.add(product);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order order = new Order();
+            order.addSalePosition(new SalePosition(product, 1));
+            orders.add(order);
+        }
+        orderDAO.add(orders);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Order> page = orderDAO.getAll(new PageRequest(0, 5, Sort.Direction.DESC, "id"));
+        for (Order order : page) {
+            order.getStatus();
+            order.getClient();
+            order.getManager();
+        }
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+
+        statistics.clear();
+        Order order = orderDAO.get(orders.get(0).getId());
+        assertEquals(order.getSalePositions().size(), 1);
+        assertNotNull(order.getSalePositions().get(0).getProduct().getTitle());
+        assertEquals(statistics.getPrepareStatementCount(), 1);
+
+        System.out.println("OK!");
+    }
 }
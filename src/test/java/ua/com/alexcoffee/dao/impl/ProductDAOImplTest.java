@@ -1,19 +1,30 @@
 package ua.com.alexcoffee.dao.impl;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.config.SecurityConfig;
 import ua.com.alexcoffee.config.WebConfig;
 import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.model.Photo;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +34,7 @@ import static org.junit.Assert.*;
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class ProductDAOImplTest {
@@ -31,6 +42,9 @@ public class ProductDAOImplTest {
     @Autowired
     private ProductDAO productDAO;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @BeforeClass
     public static void setUp() {
         System.out.println("\nTesting class \"ProductDAOImpl\" - START.\n");
@@ -179,4 +193,61 @@ public class ProductDAOImplTest {
 
         System.out.println("OK!");
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    public void pageStatementCountTest() {
+        System.out.print("-> Page and product statement count - ");
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(new Product("t" + i, "statements-" + i, null, new Photo("p" + i, "s" + i), 1.0));
+        }
+        productDAO.add(products);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Product> page = productDAO.getAll(new PageRequest(0, 5, Sort.Direction.DESC, "id"));
+        for (Product product : page) {
+            assertNotNull(product.getPhoto().getTitle());
+        }
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+
+        statistics.clear();
+        Product product = productDAO.getByUrl("statements-0");
+        assertNotNull(product.getPhoto().getTitle());
+        assertEquals(statistics.getPrepareStatementCount(), 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    @Transactional
+    public void cardsStatementCountTest() {
+        System.out.print("-> Product cards statement count - ");
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(new Product("t" + i, "cards-" + i, null, new Photo("p" + i, "s" + i), 1.0));
+        }
+        productDAO.add(products);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<ProductCard> cards = productDAO.getCards(new PageRequest(0, 5, Sort.Direction.DESC, "id"));
+        assertEquals(cards.getContent().size(), 5);
+        for (ProductCard card : cards) {
+            assertNotNull(card.getPhotoLinkShort());
+        }
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        assertEquals(statistics.getEntityLoadCount(), 0);
+
+        System.out.println("OK!");
+    }
+}
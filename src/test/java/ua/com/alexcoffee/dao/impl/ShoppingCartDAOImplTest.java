@@ -5,29 +5,39 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ua.com.alexcoffee.cart.CartItems;
+import ua.com.alexcoffee.cart.interfaces.CartStore;
 import ua.com.alexcoffee.config.RootConfig;
+import ua.com.alexcoffee.config.SecurityConfig;
 import ua.com.alexcoffee.config.WebConfig;
 import ua.com.alexcoffee.dao.interfaces.ShoppingCartDAO;
 import ua.com.alexcoffee.model.Product;
 import ua.com.alexcoffee.model.SalePosition;
 import ua.com.alexcoffee.model.ShoppingCart;
 
+import javax.servlet.http.Cookie;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebAppConfiguration
 @ContextHierarchy({
-        @ContextConfiguration(classes = RootConfig.class),
+        @ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class}),
         @ContextConfiguration(classes = WebConfig.class)
 })
 public class ShoppingCartDAOImplTest {
@@ -38,6 +48,9 @@ public class ShoppingCartDAOImplTest {
     @Autowired
     private ShoppingCart shoppingCart;
 
+    @Autowired
+    private CartStore cartStore;
+
     @BeforeClass
     public static void setUp() {
         System.out.println("\nTesting class \"ShoppingCartDAOImpl\" - START.\n");
@@ -72,6 +85,7 @@ public class ShoppingCartDAOImplTest {
 
         List<SalePosition> positions1 = new ArrayList<>();
         Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
         SalePosition position = new SalePosition(product, 1);
         positions1.add(position);
 
@@ -92,6 +106,7 @@ public class ShoppingCartDAOImplTest {
         System.out.print("-> clearSalePositions() - ");
 
         Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
         SalePosition position = new SalePosition(product, 1);
         shoppingCartDAO.addSalePosition(position);
         shoppingCartDAO.clearSalePositions();
@@ -102,6 +117,26 @@ public class ShoppingCartDAOImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void setQuantityAndDecrementTest() throws Exception {
+        System.out.print("-> setQuantity() and decrement() - ");
+
+        Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
+        shoppingCartDAO.addSalePosition(new SalePosition(product, 1));
+
+        assertTrue(shoppingCartDAO.setQuantity(1, 3));
+        assertTrue(shoppingCartDAO.getSize() == 3);
+
+        assertTrue(shoppingCartDAO.decrement(1));
+        assertTrue(shoppingCartDAO.getSize() == 2);
+        assertTrue(shoppingCartDAO.getPrice() == 20.0);
+
+        assertFalse(shoppingCartDAO.setQuantity(2, 1));
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void getTest() throws Exception {
         System.out.print("-> get() - ");
@@ -118,6 +153,7 @@ public class ShoppingCartDAOImplTest {
         assertTrue(shoppingCartDAO.getSize() == 0);
 
         Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
         SalePosition position = new SalePosition(product, 2);
         shoppingCartDAO.addSalePosition(position);
 
@@ -126,6 +162,28 @@ public class ShoppingCartDAOImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getSizeFromStoreTest() throws Exception {
+        System.out.print("-> getSize() from store - ");
+
+        Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId(Long.MAX_VALUE);
+        String id = UUID.randomUUID().toString();
+        cartStore.save(id, CartItems.encode(Collections.singletonList(new SalePosition(product, 3))));
+        MockHttpServletRequest request = (MockHttpServletRequest)
+                ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        request.setCookies(new Cookie("cart", id));
+
+        assertTrue(shoppingCartDAO.getSize() == 3);
+        assertNull(shoppingCart.getId());
+
+        assertTrue(shoppingCartDAO.getSalePositions().isEmpty());
+        assertTrue(shoppingCartDAO.getSize() == 0);
+        assertNull(cartStore.load(id));
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void getPriceTest() throws Exception {
         System.out.print("-> getPrice() - ");
@@ -133,6 +191,7 @@ public class ShoppingCartDAOImplTest {
         assertTrue(shoppingCartDAO.getPrice() == 0);
 
         Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
         SalePosition position = new SalePosition(product, 2);
         shoppingCartDAO.addSalePosition(position);
 
@@ -0,0 +1,160 @@
+package ua.com.alexcoffee.facet.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.facet.interfaces.FacetIndex;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.Facet;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BitSetFacetIndexTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"BitSetFacetIndex\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"BitSetFacetIndex\" - FINISH.\n");
+    }
+
+    @Test
+    public void parseParametersTest() {
+        System.out.print("-> parseParameters() - ");
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Вес", "1 кг");
+        expected.put("Страна", "Бразилия");
+
+        assertEquals(
+                BitSetFacetIndex.parseParameters("Вес:\t1 кг.\n<br>Без двоеточия\n<br>Цвет:  <br/>Страна:  Бразилия "),
+                expected
+        );
+        assertTrue(BitSetFacetIndex.parseParameters(null).isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getPriceBucketTest() {
+        System.out.print("-> getPriceBucket() - ");
+
+        assertEquals(BitSetFacetIndex.getPriceBucket(99.99), 0);
+        assertEquals(BitSetFacetIndex.getPriceBucket(100), 1);
+        assertEquals(BitSetFacetIndex.getPriceBucket(1000), 5);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void withoutFiltersTest() {
+        System.out.print("-> filter() without filters - ");
+
+        FacetIndex index = createIndex();
+        FacetedProducts faceted = index.filter(null);
+
+        assertEquals(index.size(), 4);
+        assertEquals(faceted.getTotal(), 4);
+        assertEquals(getIds(faceted), Arrays.asList(1L, 2L, 3L, 4L));
+        assertEquals(getNames(faceted), Arrays.asList(BitSetFacetIndex.PRICE_FACET, "Страна", "Обжарка", "Вес"));
+        assertEquals(getCounts(faceted.getFacets().get(0)), Arrays.asList(1, 2, 1));
+        assertEquals(getCounts(faceted.getFacets().get(1)), Arrays.asList(2, 1));
+        assertEquals(faceted.getFacets().get(1).getValues().get(0).getKey(), "Страна:Бразилия");
+        assertEquals(faceted.getFacets().get(0).getValues().get(2).getTitle(), "от 1000 грн");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void filterTest() {
+        System.out.print("-> filter() - ");
+
+        FacetIndex index = createIndex();
+        FacetedProducts faceted = index.filter(Collections.singletonList("Страна:Бразилия"));
+
+        assertEquals(getIds(faceted), Arrays.asList(1L, 3L));
+        assertEquals(getCounts(faceted.getFacets().get(0)), Arrays.asList(1, 1, 0));
+        assertEquals(getCounts(faceted.getFacets().get(1)), Arrays.asList(2, 1));
+        assertEquals(getCounts(faceted.getFacets().get(2)), Arrays.asList(1, 1));
+        assertTrue(faceted.getFacets().get(1).getValues().get(0).isSelected());
+        assertFalse(faceted.getFacets().get(1).getValues().get(1).isSelected());
+
+        faceted = index.filter(Arrays.asList("Страна:Бразилия", "Обжарка:темная"));
+        assertEquals(getIds(faceted), Collections.singletonList(3L));
+        assertEquals(getCounts(faceted.getFacets().get(1)), Arrays.asList(1, 1));
+
+        faceted = index.filter(Arrays.asList("Страна:Бразилия", "Страна:Колумбия"));
+        assertEquals(getIds(faceted), Arrays.asList(1L, 2L, 3L));
+
+        faceted = index.filter(Collections.singletonList("Страна:Кения"));
+        assertEquals(getIds(faceted), Arrays.asList(1L, 2L, 3L, 4L));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void emptyTest() {
+        System.out.print("-> empty() - ");
+
+        FacetIndex index = new BitSetFacetIndex(new ArrayList<>());
+        FacetedProducts faceted = index.filter(Collections.singletonList("Цена:до 100 грн"));
+
+        assertEquals(index.size(), 0);
+        assertTrue(faceted.getProducts().isEmpty());
+        assertTrue(faceted.getFacets().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    private static FacetIndex createIndex() {
+        List<Product> products = new ArrayList<>();
+        products.add(createProduct(1L, 90.0, "Страна:\tБразилия\n<br>Обжарка:\tсредняя."));
+        products.add(createProduct(2L, 150.0, "Страна: Колумбия<br>Обжарка: темная"));
+        products.add(createProduct(3L, 150.0, "Страна: Бразилия\n<br>Обжарка: темная."));
+        products.add(createProduct(4L, 1500.0, "Вес: 1 кг."));
+        return new BitSetFacetIndex(products);
+    }
+
+    private static Product createProduct(Long id, double price, String parameters) {
+        Product product = new Product("title-" + id, "url-" + id, null, null, price);
+        product.setId(id);
+        product.setParameters(parameters);
+        return product;
+    }
+
+    private static List<Long> getIds(FacetedProducts faceted) {
+        List<Long> ids = new ArrayList<>();
+        for (ProductCard card : faceted.getProducts()) {
+            ids.add(card.getId());
+        }
+        return ids;
+    }
+
+    private static List<String> getNames(FacetedProducts faceted) {
+        List<String> names = new ArrayList<>();
+        for (Facet facet : faceted.getFacets()) {
+            names.add(facet.getName());
+        }
+        return names;
+    }
+
+    private static List<Integer> getCounts(Facet facet) {
+        List<Integer> counts = new ArrayList<>();
+        for (Facet.Value value : facet.getValues()) {
+            counts.add(value.getCount());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,169 @@
+package ua.com.alexcoffee.mail.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.enums.NotificationState;
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.mail.interfaces.MailClient;
+import ua.com.alexcoffee.mail.interfaces.NotificationDispatcher;
+import ua.com.alexcoffee.tools.MockSmtpServer;
+
+import javax.mail.MessagingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class NotificationDispatcherImplTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"NotificationDispatcherImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"NotificationDispatcherImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void sendBatchOverOneConnectionTest() throws Exception {
+        System.out.print("-> sendBatchOverOneConnection() - ");
+
+        try (MockSmtpServer server = new MockSmtpServer()) {
+            NotificationDispatcher dispatcher = new NotificationDispatcherImpl(
+                    () -> new JavaMailClient(server.getProperties(), null, null, "support@alexcoffee.com.ua"),
+                    10, 10, 3, 10, 10
+            );
+            List<Notification> notifications = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Notification notification = getNotification();
+                notifications.add(notification);
+                assertTrue(dispatcher.dispatch(notification));
+            }
+            assertEquals(dispatcher.getQueueSize(), 5);
+
+            dispatcher.start();
+            for (Notification notification : notifications) {
+                assertTrue(notification.await(10, TimeUnit.SECONDS));
+                assertEquals(notification.getState(), NotificationState.SENT);
+            }
+            dispatcher.shutdown();
+
+            assertEquals(server.getConnections(), 1);
+            assertEquals(server.getMessages(), 5);
+            assertEquals(server.getRecipients().size(), 10);
+            assertEquals(dispatcher.getSentCount(), 5);
+            assertEquals(dispatcher.getQueueSize(), 0);
+        }
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void retryTest() throws Exception {
+        System.out.print("-> retry() - ");
+
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationDispatcher dispatcher = new NotificationDispatcherImpl(
+                () -> new FakeMailClient(attempts.incrementAndGet() > 2),
+                10, 10, 3, 10, 10
+        );
+        dispatcher.start();
+        Notification notification = getNotification();
+        dispatcher.dispatch(notification);
+
+        assertTrue(notification.await(10, TimeUnit.SECONDS));
+        assertEquals(notification.getState(), NotificationState.SENT);
+        assertEquals(notification.getAttempts(), 3);
+        assertEquals(dispatcher.getRetryCount(), 2);
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void failAfterMaxAttemptsTest() throws Exception {
+        System.out.print("-> failAfterMaxAttempts() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcherImpl(
+                () -> {
+                    throw new MessagingException("Connection refused");
+                },
+                10, 10, 2, 10, 10
+        );
+        dispatcher.start();
+        Notification notification = getNotification();
+        dispatcher.dispatch(notification);
+
+        assertTrue(notification.await(10, TimeUnit.SECONDS));
+        assertEquals(notification.getState(), NotificationState.FAILED);
+        assertNotNull(notification.getLastError());
+        assertEquals(dispatcher.getFailedCount(), 1);
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void backpressureTest() throws Exception {
+        System.out.print("-> backpressure() - ");
+
+        NotificationDispatcher dispatcher = new NotificationDispatcherImpl(
+                () -> new FakeMailClient(true), 2, 10, 3, 10, 10
+        );
+        assertTrue(dispatcher.dispatch(getNotification()));
+        assertTrue(dispatcher.dispatch(getNotification()));
+        assertFalse(dispatcher.dispatch(getNotification()));
+        assertEquals(dispatcher.getRejectedCount(), 1);
+        dispatcher.shutdown();
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongCapacityTest() throws Exception {
+        System.out.println("-> wrongCapacity() - OK!");
+
+        new NotificationDispatcherImpl(() -> new FakeMailClient(true), 0, 10, 3, 10, 10);
+    }
+
+    private static Notification getNotification() {
+        return new Notification(
+                "AlexCoffee || New Order",
+                "Order",
+                Arrays.asList("manager1@alexcoffee.com.ua", "manager2@alexcoffee.com.ua")
+        );
+    }
+
+    private static final class FakeMailClient implements MailClient {
+
+        private final boolean working;
+        private boolean connected = true;
+
+        FakeMailClient(final boolean working) {
+            this.working = working;
+        }
+
+        @Override
+        public void send(final Notification notification) throws MessagingException {
+            if (!this.working) {
+                throw new MessagingException("Service unavailable");
+            }
+        }
+
+        @Override
+        public boolean isConnected() {
+            return this.connected;
+        }
+
+        @Override
+        public void close() {
+            this.connected = false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ua.com.alexcoffee.metrics.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"LatencyHistogram\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"LatencyHistogram\" - FINISH.\n");
+    }
+
+    @Test
+    public void emptyTest() {
+        System.out.print("-> empty() - ");
+
+        LatencyHistogram histogram = new LatencyHistogram("service", "ProductServiceImpl.getAll");
+
+        assertEquals(histogram.getLayer(), "service");
+        assertEquals(histogram.getName(), "ProductServiceImpl.getAll");
+        assertEquals(histogram.getCalls(), 0);
+        assertArrayEquals(histogram.getPercentiles(0.5, 0.99), new long[]{0, 0});
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordTest() {
+        System.out.print("-> record() - ");
+
+        LatencyHistogram histogram = new LatencyHistogram("dao", "ProductDAOImpl.get");
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i), i % 100 == 0);
+        }
+        long[] percentiles = histogram.getPercentiles(0.5, 0.95, 0.99, 1);
+
+        assertEquals(histogram.getCalls(), 1000);
+        assertEquals(histogram.getErrors(), 10);
+        assertEquals(histogram.getTotalTime(), 500500000);
+        assertEquals(histogram.getMaxTime(), 1000000);
+        assertEquals(percentiles[0], 500000, 500000 * 0.125);
+        assertEquals(percentiles[1], 950000, 950000 * 0.125);
+        assertEquals(percentiles[2], 990000, 990000 * 0.125);
+        assertEquals(percentiles[3], 1000000);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordConcurrentTest() throws Exception {
+        System.out.print("-> record() concurrent - ");
+
+        LatencyHistogram histogram = new LatencyHistogram("controller", "HomeController.home");
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    histogram.record(j * 1000L, false);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(histogram.getCalls(), 40000);
+        assertEquals(histogram.getMaxTime(), 9999);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getIndexTest() {
+        System.out.print("-> getIndex() - ");
+
+        assertEquals(LatencyHistogram.getIndex(0), 0);
+        assertEquals(LatencyHistogram.getIndex(15), 15);
+        assertEquals(LatencyHistogram.getIndex(16), 16);
+        assertEquals(LatencyHistogram.getIndex(Long.MAX_VALUE), LatencyHistogram.BUCKET_COUNT - 1);
+        for (long value = 0; value < 100000; value++) {
+            int index = LatencyHistogram.getIndex(value);
+            assertTrue(value <= LatencyHistogram.getUpperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.getUpperBound(index - 1));
+        }
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,82 @@
+package ua.com.alexcoffee.metrics.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.controller.client.HomeController;
+import ua.com.alexcoffee.dao.impl.ProductDAOImpl;
+import ua.com.alexcoffee.service.impl.ProductServiceImpl;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+public class MethodMetricsImplTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"MethodMetricsImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"MethodMetricsImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void toTextTest() throws Exception {
+        System.out.print("-> toText() - ");
+
+        MethodMetricsImpl metrics = new MethodMetricsImpl();
+        Method method = Object.class.getMethod("toString");
+        metrics.record(ProductServiceImpl.class, method, 2000000, false);
+        metrics.record(ProductServiceImpl.class, method, 4000000, true);
+        metrics.record(ProductDAOImpl.class, method, 1000000, false);
+        String text = metrics.toText();
+
+        assertTrue(text.contains("# TYPE alexcoffee_method_calls_total counter\n"));
+        assertTrue(text.contains(
+                "alexcoffee_method_calls_total{layer=\"service\",method=\"ProductServiceImpl.toString\"} 2\n"
+        ));
+        assertTrue(text.contains(
+                "alexcoffee_method_errors_total{layer=\"service\",method=\"ProductServiceImpl.toString\"} 1\n"
+        ));
+        assertTrue(text.contains(
+                "alexcoffee_method_duration_seconds_sum{layer=\"dao\",method=\"ProductDAOImpl.toString\"} 0.001000\n"
+        ));
+        assertTrue(text.contains(
+                "alexcoffee_method_duration_max_seconds{layer=\"service\",method=\"ProductServiceImpl.toString\"} 0.004000\n"
+        ));
+        assertTrue(text.contains("quantile=\"0.99\"} "));
+        assertTrue(text.indexOf("ProductDAOImpl") < text.indexOf("ProductServiceImpl"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void recordOverloadedTest() throws Exception {
+        System.out.print("-> record() overloaded - ");
+
+        MethodMetricsImpl metrics = new MethodMetricsImpl();
+        metrics.record(String.class, String.class.getMethod("indexOf", int.class), 1000, false);
+        metrics.record(String.class, String.class.getMethod("indexOf", String.class), 1000, false);
+
+        assertTrue(metrics.toText().contains(
+                "alexcoffee_method_calls_total{layer=\"other\",method=\"String.indexOf\"} 2\n"
+        ));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getLayerTest() {
+        System.out.print("-> getLayer() - ");
+
+        assertEquals(MethodMetricsImpl.getLayer(HomeController.class), "controller");
+        assertEquals(MethodMetricsImpl.getLayer(ProductServiceImpl.class), "service");
+        assertEquals(MethodMetricsImpl.getLayer(ProductDAOImpl.class), "dao");
+        assertEquals(MethodMetricsImpl.getLayer(String.class), "other");
+
+        System.out.println("OK!");
+    }
+}
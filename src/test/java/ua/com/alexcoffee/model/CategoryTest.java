@@ -39,13 +39,14 @@ public class CategoryTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
-
-        String title = "Category";
-        String url = "cat_url";
-        Category category = new Category(title, url, "", null);
-        assertEquals(category.toEquals(), title + url);
+    public void equalsByUrlTest() {
+        System.out.print("-> equalsByUrl() - ");
+
+        Category category1 = new Category("Category", "cat_url", "", null);
+        Category category2 = new Category("Other title", "cat_url", "", null);
+        assertEquals(category1, category2);
+        assertEquals(category1.hashCode(), category2.hashCode());
+        assertFalse(category1.equals(new Category("Category", "other_url", "", null)));
 
         System.out.println("OK!");
     }
@@ -39,10 +39,30 @@ public class ModelTest {
         System.out.print("-> hashCode() - ");
 
         Status status = new Status(StatusEnum.NEW, "New");
-        assertTrue(status.toString().hashCode() == status.hashCode());
-
+        int hashCode = status.hashCode();
         status.setId((long) 2);
-        assertTrue(status.getId().hashCode() == status.hashCode());
+        assertTrue(hashCode == status.hashCode());
+
+        Photo photo = new Photo();
+        hashCode = photo.hashCode();
+        photo.setId((long) 2);
+        assertTrue(hashCode == photo.hashCode());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void equalsByIdTest() {
+        System.out.print("-> equalsById() - ");
+
+        Photo photo1 = new Photo();
+        Photo photo2 = new Photo();
+        assertFalse(photo1.equals(photo2));
+
+        photo1.setId((long) 3);
+        photo2.setId((long) 3);
+        assertEquals(photo1, photo2);
+        assertFalse(photo1.equals(new Category()));
 
         System.out.println("OK!");
     }
@@ -107,11 +107,15 @@ public class OrderTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByNumberTest() {
+        System.out.print("-> equalsByNumber() - ");
 
-        Order order = new Order();
-        assertEquals(order.toEquals(), order.getNumber());
+        Order order1 = new Order();
+        Order order2 = new Order();
+        order2.setNumber(order1.getNumber());
+        order2.setId(5L);
+        assertEquals(order1, order2);
+        assertEquals(order1.hashCode(), order2.hashCode());
 
         System.out.println("OK!");
     }
@@ -55,11 +55,14 @@ public class PhotoTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByTitleTest() {
+        System.out.print("-> equalsByTitle() - ");
 
-        Photo photo = new Photo("Photo", "link1", "link2");
-        assertEquals(photo.toEquals(), photo.toString());
+        Photo photo1 = new Photo("Title", "short", "long");
+        Photo photo2 = new Photo("Title", "", "");
+        assertEquals(photo1, photo2);
+        assertEquals(photo1.hashCode(), photo2.hashCode());
+        assertFalse(photo1.equals(new Photo("Other", "short", "long")));
 
         System.out.println("OK!");
     }
@@ -182,6 +185,28 @@ public class PhotoTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void setAndGetPhotoLinkThumbTest() {
+        System.out.print("-> setAndGetPhotoLinkThumb() - ");
+
+        Photo photo = new Photo("Title", "short.jpg");
+        assertNull(photo.getPhotoLinkThumb());
+
+        photo.setPhotoLinkThumb("short-200.jpg");
+        photo.setPhotoLinkThumb2x("short-400.jpg");
+        assertEquals(photo.getPhotoLinkThumb(), "short-200.jpg");
+        assertEquals(photo.getPhotoLinkThumb2x(), "short-400.jpg");
+
+        photo.setPhotoLinkShort("short.jpg");
+        assertEquals(photo.getPhotoLinkThumb(), "short-200.jpg");
+
+        photo.setPhotoLinkShort("other.jpg");
+        assertNull(photo.getPhotoLinkThumb());
+        assertNull(photo.getPhotoLinkThumb2x());
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void setAndGetProductTest() {
         System.out.print("-> setAndGetProduct() - ");
@@ -50,11 +50,15 @@ public class ProductTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByArticleTest() {
+        System.out.print("-> equalsByArticle() - ");
 
-        Product product = new Product("Title", "url", new Category(), new Photo(), 1000);
-        assertEquals(product.toEquals(), product.getArticle() + "Titleurl" + product.getPrice());
+        Product product1 = new Product("Title", "url", new Category(), new Photo(), 1000);
+        Product product2 = new Product("Other", "other_url", new Category(), new Photo(), 10);
+        product2.setArticle(product1.getArticle());
+        assertEquals(product1, product2);
+        assertEquals(product1.hashCode(), product1.getArticle());
+        assertEquals(product1.hashCode(), product2.hashCode());
 
         System.out.println("OK!");
     }
@@ -39,11 +39,14 @@ public class RoleTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByTitleTest() {
+        System.out.print("-> equalsByTitle() - ");
 
-        Role role = new Role(RoleEnum.ADMIN, "ADMIN");
-        assertEquals(role.toEquals(), RoleEnum.ADMIN.name());
+        Role role1 = new Role(RoleEnum.ADMIN, "Admin");
+        Role role2 = new Role(RoleEnum.ADMIN, "");
+        assertEquals(role1, role2);
+        assertEquals(role1.hashCode(), role2.hashCode());
+        assertFalse(role1.equals(new Role(RoleEnum.CLIENT, "Admin")));
 
         System.out.println("OK!");
     }
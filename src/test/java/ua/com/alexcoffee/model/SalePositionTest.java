@@ -39,17 +39,19 @@ public class SalePositionTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByProductAndIdTest() {
+        System.out.print("-> equalsByProductAndId() - ");
 
         Product product = new Product("Title", "url", null, null, 10.0);
-        product.setId(1L);
-        SalePosition salePosition = new SalePosition(product, 5);
-        salePosition.setId(2L);
-
-        String line = product.toEquals() + 2L;
+        SalePosition salePosition1 = new SalePosition(product, 5);
+        SalePosition salePosition2 = new SalePosition(product, 1);
+        assertEquals(salePosition1, salePosition2);
+        assertEquals(salePosition1.hashCode(), product.hashCode());
 
-        assertEquals(salePosition.toEquals(), line);
+        salePosition1.setId(1L);
+        salePosition2.setId(2L);
+        assertFalse(salePosition1.equals(salePosition2));
+        assertEquals(salePosition1.hashCode(), salePosition2.hashCode());
 
         System.out.println("OK!");
     }
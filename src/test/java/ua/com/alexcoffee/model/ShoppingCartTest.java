@@ -3,6 +3,7 @@ package ua.com.alexcoffee.model;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import ua.com.alexcoffee.exception.WrongInformationException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -47,7 +48,9 @@ public class ShoppingCartTest {
         System.out.print("-> addSalePosition() - ");
 
         ShoppingCart shoppingCart = new ShoppingCart();
-        SalePosition salePosition = new SalePosition(new Product(), 1);
+        Product product = new Product();
+        product.setId((long) 1);
+        SalePosition salePosition = new SalePosition(product, 1);
 
         for (int i = 0; i < 10; i++) {
             shoppingCart.addSalePosition(salePosition);
@@ -64,7 +67,9 @@ public class ShoppingCartTest {
         System.out.print("-> addSalePositions() - ");
 
         ShoppingCart shoppingCart = new ShoppingCart();
-        SalePosition salePosition = new SalePosition(new Product(), 1);
+        Product product = new Product();
+        product.setId((long) 1);
+        SalePosition salePosition = new SalePosition(product, 1);
 
         List<SalePosition> salePositions = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
@@ -79,11 +84,66 @@ public class ShoppingCartTest {
         System.out.println("OK!");
     }
 
+    @Test(expected = WrongInformationException.class)
+    public void addSalePositionWithoutProductIdTest() {
+        System.out.print("-> addSalePosition() without product id - ");
+
+        ShoppingCart shoppingCart = new ShoppingCart();
+        shoppingCart.addSalePosition(new SalePosition(new Product(), 1));
+    }
+
+    @Test
+    public void setQuantityTest() {
+        System.out.print("-> setQuantity() - ");
+
+        Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
+        ShoppingCart cart = new ShoppingCart();
+        cart.addSalePosition(new SalePosition(product, 2));
+
+        assertTrue(cart.setQuantity(1, 5));
+        assertTrue(cart.getSize() == 5);
+        assertTrue(cart.getPrice() == 50.0);
+        assertTrue(cart.getSalePosition(1).getNumber() == 5);
+
+        assertTrue(cart.setQuantity(1, 0));
+        assertTrue(cart.getSize() == 0);
+        assertTrue(cart.getPrice() == 0);
+        assertNull(cart.getSalePosition(1));
+
+        assertFalse(cart.setQuantity(1, 3));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void decrementTest() {
+        System.out.print("-> decrement() - ");
+
+        Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
+        ShoppingCart cart = new ShoppingCart();
+        cart.addSalePosition(new SalePosition(product, 2));
+
+        assertTrue(cart.decrement(1));
+        assertTrue(cart.getSize() == 1);
+        assertTrue(cart.getPrice() == 10.0);
+
+        assertTrue(cart.decrement(1));
+        assertTrue(cart.getSalePositions().isEmpty());
+        assertTrue(cart.getPrice() == 0);
+
+        assertFalse(cart.decrement(1));
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void removeSalePositionTest() {
         System.out.print("-> removeSalePosition() - ");
 
         Product product = new Product("Title", "URL", null, null, 10.0);
+        product.setId((long) 1);
         SalePosition position = new SalePosition(product, 10);
 
         ShoppingCart cart = new ShoppingCart();
@@ -140,6 +200,7 @@ public class ShoppingCartTest {
 
         ShoppingCart shoppingCart = new ShoppingCart();
         Product product = new Product("", "", null, null, 100);
+        product.setId((long) 1);
         SalePosition salePosition = new SalePosition(product, 1);
 
         for (int i = 0; i < 10; i++) {
@@ -38,11 +38,14 @@ public class StatusTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
-
-        Status status = new Status(StatusEnum.NEW, "NEW");
-        assertEquals(status.toString(), status.toEquals());
+    public void equalsByTitleTest() {
+        System.out.print("-> equalsByTitle() - ");
+
+        Status status1 = new Status(StatusEnum.NEW, "New");
+        Status status2 = new Status(StatusEnum.NEW, "");
+        assertEquals(status1, status2);
+        assertEquals(status1.hashCode(), status2.hashCode());
+        assertFalse(status1.equals(new Status(StatusEnum.CLOSED, "New")));
 
         System.out.println("OK!");
     }
@@ -39,12 +39,15 @@ public class UserTest {
     }
 
     @Test
-    public void toEqualsTest() {
-        System.out.print("-> toEquals() - ");
+    public void equalsByContactsTest() {
+        System.out.print("-> equalsByContacts() - ");
 
-        User user = new User("User", "someemail", "+380000000000", null);
-        String line = user.getName() + user.getEmail() + user.getPhone();
-        assertEquals(user.toEquals(), line);
+        User user1 = new User("User", "someemail", "+380000000000", null);
+        User user2 = new User("User", "someemail", "+380000000000", null);
+        user2.setId(7L);
+        assertEquals(user1, user2);
+        assertEquals(user1.hashCode(), user2.hashCode());
+        assertFalse(user1.equals(new User("User", "someemail", "+380000000001", null)));
 
         System.out.println("OK!");
     }
@@ -0,0 +1,201 @@
+package ua.com.alexcoffee.photo.impl;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import ua.com.alexcoffee.photo.interfaces.PhotoStore;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class FilePhotoStoreTest {
+
+    private Path directory;
+    private PhotoStore store;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"FilePhotoStore\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"FilePhotoStore\" - FINISH.\n");
+    }
+
+    @Before
+    public void initStore() throws IOException {
+        this.directory = Files.createTempDirectory("photos");
+        this.store = new FilePhotoStore(this.directory.resolve("img"), 2, 1, 0.8f);
+    }
+
+    @After
+    public void destroyStore() throws IOException {
+        this.store.shutdown();
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            List<Path> paths = files.collect(Collectors.toList());
+            for (int i = paths.size() - 1; i >= 0; i--) {
+                Files.delete(paths.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void saveTest() throws Exception {
+        System.out.print("-> save() - ");
+
+        byte[] content = new byte[200 * 1024];
+        Arrays.fill(content, (byte) 7);
+        String name = this.store.save(new MockMultipartFile("photo", "Coffee.JPG", "image/jpeg", content)).join();
+
+        assertTrue(name.matches("[0-9a-f]{64}\\.jpg"));
+        assertArrayEquals(Files.readAllBytes(this.directory.resolve("img").resolve(name)), content);
+        assertEquals(getFiles(), Arrays.asList(name));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void saveDuplicateTest() throws Exception {
+        System.out.print("-> save() duplicate - ");
+
+        byte[] content = "photo".getBytes(StandardCharsets.UTF_8);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            names.add(this.store.save(new MockMultipartFile("photo", "photo-" + i + ".png", null, content)).join());
+        }
+
+        assertEquals(names.stream().distinct().count(), 1);
+        assertEquals(getFiles(), Arrays.asList(names.get(0)));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void saveEmptyTest() throws Exception {
+        System.out.print("-> save() empty - ");
+
+        assertNull(this.store.save(null).join());
+        assertNull(this.store.save(new MockMultipartFile("photo", "photo.jpg", null, new byte[0])).join());
+        assertFalse(Files.exists(this.directory.resolve("img")));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void deleteTest() throws Exception {
+        System.out.print("-> delete() - ");
+
+        Path outside = Files.createFile(this.directory.resolve("outside.jpg"));
+        String name = this.store.save(new MockMultipartFile("photo", "photo.jpg", null, new byte[]{1, 2})).join();
+        this.store.delete("../outside.jpg");
+        this.store.delete(null);
+        this.store.delete(name);
+
+        assertTrue(Files.exists(outside));
+        assertTrue(getFiles().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void resizeTest() throws Exception {
+        System.out.print("-> resize() - ");
+
+        String name = this.store.save(createImage(1000, 500)).join();
+        String thumbnail = this.store.resize(name, 200).join();
+        BufferedImage image = ImageIO.read(this.directory.resolve("img").resolve(thumbnail).toFile());
+
+        assertEquals(thumbnail, name.substring(0, name.lastIndexOf('.')) + "-200.jpg");
+        assertEquals(image.getWidth(), 200);
+        assertEquals(image.getHeight(), 100);
+        assertEquals(this.store.resize(name, 200).join(), thumbnail);
+        assertEquals(getFiles().size(), 2);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void resizeWrongTest() throws Exception {
+        System.out.print("-> resize() wrong file - ");
+
+        String name = this.store.save(new MockMultipartFile("photo", "photo.txt", null, new byte[]{1, 2})).join();
+
+        assertNull(this.store.resize(name, 200).join());
+        assertNull(this.store.resize("../photo.png", 200).join());
+        assertNull(this.store.resize(null, 200).join());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void scaleTest() throws Exception {
+        System.out.print("-> scale() - ");
+
+        BufferedImage image = FilePhotoStore.scale(new BufferedImage(300, 1200, BufferedImage.TYPE_INT_ARGB), 400);
+        assertEquals(image.getWidth(), 100);
+        assertEquals(image.getHeight(), 400);
+        assertEquals(image.getType(), BufferedImage.TYPE_INT_RGB);
+        assertEquals(image.getRGB(0, 0), 0xFFFFFFFF);
+
+        image = FilePhotoStore.scale(new BufferedImage(50, 40, BufferedImage.TYPE_INT_RGB), 400);
+        assertEquals(image.getWidth(), 50);
+        assertEquals(image.getHeight(), 40);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getExtensionTest() throws Exception {
+        System.out.print("-> getExtension() - ");
+
+        assertEquals(FilePhotoStore.getExtension("Photo.JPEG"), ".jpeg");
+        assertEquals(FilePhotoStore.getExtension("photo"), "");
+        assertEquals(FilePhotoStore.getExtension("photo.j/pg"), "");
+        assertEquals(FilePhotoStore.getExtension(null), "");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void toHexTest() throws Exception {
+        System.out.print("-> toHex() - ");
+
+        assertEquals(FilePhotoStore.toHex(new byte[]{0, 15, (byte) 0xAB, (byte) 0xFF}), "000fabff");
+
+        System.out.println("OK!");
+    }
+
+    private static MockMultipartFile createImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("photo", "photo.png", "image/png", out.toByteArray());
+    }
+
+    private List<String> getFiles() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory.resolve("img"))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ua.com.alexcoffee.pool.impl;
+
+import com.zaxxer.hikari.metrics.MetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class HikariPoolMetricsTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"HikariPoolMetrics\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"HikariPoolMetrics\" - FINISH.\n");
+    }
+
+    @Test
+    public void emptyTest() {
+        System.out.print("-> empty() - ");
+
+        HikariPoolMetrics metrics = new HikariPoolMetrics();
+
+        assertEquals(metrics.getActiveConnections(), 0);
+        assertEquals(metrics.getPendingThreads(), 0);
+        assertEquals(metrics.getBorrowCount(), 0);
+        assertEquals(metrics.getAverageBorrowTime(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void poolStatsTest() {
+        System.out.print("-> poolStats() - ");
+
+        HikariPoolMetrics metrics = new HikariPoolMetrics();
+        metrics.create("test", new PoolStats(0) {
+            @Override
+            protected void update() {
+                this.totalConnections = 10;
+                this.idleConnections = 3;
+                this.activeConnections = 7;
+                this.pendingThreads = 2;
+            }
+        });
+
+        assertEquals(metrics.getTotalConnections(), 10);
+        assertEquals(metrics.getIdleConnections(), 3);
+        assertEquals(metrics.getActiveConnections(), 7);
+        assertEquals(metrics.getPendingThreads(), 2);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void borrowTimeTest() {
+        System.out.print("-> borrowTime() - ");
+
+        HikariPoolMetrics metrics = new HikariPoolMetrics();
+        MetricsTracker tracker = metrics.create("test", null);
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(300));
+        tracker.recordConnectionTimeout();
+
+        assertEquals(metrics.getBorrowCount(), 2);
+        assertEquals(metrics.getAverageBorrowTime(), 200);
+        assertEquals(metrics.getMaxBorrowTime(), 300);
+        assertEquals(metrics.getTimeoutCount(), 1);
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,121 @@
+package ua.com.alexcoffee.resource;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+
+public class ResourcePrecompressorTest {
+
+    private Path directory;
+    private Path source;
+    private Path target;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"ResourcePrecompressor\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"ResourcePrecompressor\" - FINISH.\n");
+    }
+
+    @Before
+    public void initDirectories() throws IOException {
+        this.directory = Files.createTempDirectory("resources");
+        this.source = this.directory.resolve("resources");
+        this.target = this.directory.resolve("precompressed");
+        Files.createDirectories(this.source.resolve("css"));
+        Files.createDirectories(this.source.resolve("img"));
+        char[] css = new char[4096];
+        Arrays.fill(css, 'a');
+        Files.write(this.source.resolve("css/style.css"), new String(css).getBytes(StandardCharsets.UTF_8));
+        Files.write(this.source.resolve("css/small.css"), "a{}".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.source.resolve("img/photo.jpg"), new byte[4096]);
+    }
+
+    @After
+    public void deleteDirectories() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            List<Path> paths = files.collect(Collectors.toList());
+            for (int i = paths.size() - 1; i >= 0; i--) {
+                Files.delete(paths.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void precompressTest() throws Exception {
+        System.out.print("-> precompress() - ");
+
+        String version = ResourcePrecompressor.precompress(this.source, this.target);
+        Path gzipped = this.target.resolve("css/style.css.gz");
+
+        assertTrue(version.matches("[0-9a-f]{16}"));
+        assertArrayEquals(gunzip(Files.readAllBytes(gzipped)), Files.readAllBytes(this.source.resolve("css/style.css")));
+        assertFalse(Files.exists(this.target.resolve("css/small.css.gz")));
+        assertFalse(Files.exists(this.target.resolve("img/photo.jpg.gz")));
+        assertEquals(ResourcePrecompressor.precompress(this.source, this.target), version);
+
+        Files.write(this.source.resolve("img/photo.jpg"), new byte[]{1});
+        assertNotEquals(ResourcePrecompressor.precompress(this.source, this.target), version);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void writeVersionTest() throws Exception {
+        System.out.print("-> writeVersion() - ");
+
+        Path file = this.directory.resolve("classes/alexcoffee-resources.properties");
+        ResourcePrecompressor.writeVersion(file, "349f4edbb211e55a");
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(Files.readAllBytes(file)));
+
+        assertEquals(properties.getProperty(ResourcePrecompressor.VERSION_KEY), "349f4edbb211e55a");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void isCompressibleTest() throws Exception {
+        System.out.print("-> isCompressible() - ");
+
+        assertTrue(ResourcePrecompressor.isCompressible("css/bootstrap.min.css"));
+        assertTrue(ResourcePrecompressor.isCompressible("fonts/glyphicons.SVG"));
+        assertFalse(ResourcePrecompressor.isCompressible("fonts/glyphicons.woff2"));
+        assertFalse(ResourcePrecompressor.isCompressible("img/photo.png"));
+        assertFalse(ResourcePrecompressor.isCompressible("LICENSE"));
+
+        System.out.println("OK!");
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ua.com.alexcoffee.search.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.ProductCard;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InvertedSearchIndexTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"InvertedSearchIndex\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"InvertedSearchIndex\" - FINISH.\n");
+    }
+
+    @Test
+    public void tokenizeTest() {
+        System.out.print("-> tokenize() - ");
+
+        assertEquals(
+                InvertedSearchIndex.tokenize("Кофе ЁЛКА, м'ята; 100% Arabica! кофе a"),
+                Arrays.asList("кофе", "елка", "мята", "100", "arabica")
+        );
+        assertTrue(InvertedSearchIndex.tokenize(null).isEmpty());
+        assertTrue(InvertedSearchIndex.tokenize(" ,.! ").isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void searchTest() {
+        System.out.print("-> search() - ");
+
+        SearchIndex index = createIndex();
+
+        assertEquals(getIds(index.search("коф", 10)), Arrays.asList(1L, 3L, 2L));
+        assertEquals(getIds(index.search("КОФЕ", 10)), Arrays.asList(1L, 3L, 2L));
+        assertEquals(getIds(index.search("кофе араб", 10)), Arrays.asList(1L));
+        assertEquals(getIds(index.search("коф", 2)), Arrays.asList(1L, 3L));
+        assertTrue(index.search("молоко", 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void putAndRemoveTest() {
+        System.out.print("-> put() and remove() - ");
+
+        SearchIndex index = createIndex();
+
+        Product product = createProduct(4L, "Капучино", "", "");
+        index.put(product);
+        assertEquals(getIds(index.search("капуч", 10)), Arrays.asList(4L));
+        assertEquals(index.size(), 4);
+
+        product.setTitle("Латте");
+        index.put(product);
+        assertTrue(index.search("капуч", 10).isEmpty());
+        assertEquals(getIds(index.search("латте", 10)), Arrays.asList(4L));
+
+        index.remove(4L);
+        assertTrue(index.search("латте", 10).isEmpty());
+        assertEquals(index.size(), 3);
+
+        index.clear();
+        assertTrue(index.isBuilt());
+        assertEquals(index.size(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void invalidateTest() {
+        System.out.print("-> invalidate() - ");
+
+        SearchIndex index = new InvertedSearchIndex();
+        assertFalse(index.isBuilt());
+
+        index.put(createProduct(1L, "Кофе", "", ""));
+        assertEquals(index.size(), 0);
+
+        index.rebuild(InvertedSearchIndexTest::getProducts);
+        assertTrue(index.isBuilt());
+        assertEquals(index.size(), 3);
+
+        index.invalidate();
+        assertFalse(index.isBuilt());
+        assertEquals(index.size(), 0);
+
+        System.out.println("OK!");
+    }
+
+    private static SearchIndex createIndex() {
+        SearchIndex index = new InvertedSearchIndex();
+        index.rebuild(InvertedSearchIndexTest::getProducts);
+        return index;
+    }
+
+    private static List<Product> getProducts() {
+        List<Product> products = new ArrayList<>();
+        products.add(createProduct(1L, "Кофе Арабика", "Страна: Бразилия", "Зерновой кофе"));
+        products.add(createProduct(2L, "Чай", "Черный", "Подходит к кофейным десертам"));
+        products.add(createProduct(3L, "Кофемашина", "Мощность: 1200 Вт", ""));
+        return products;
+    }
+
+    private static Product createProduct(Long id, String title, String parameters, String description) {
+        Product product = new Product(title, "url-" + id, null, null, 100.0);
+        product.setId(id);
+        product.setParameters(parameters);
+        product.setDescription(description);
+        return product;
+    }
+
+    private static List<Long> getIds(List<ProductCard> cards) {
+        List<Long> ids = new ArrayList<>();
+        for (ProductCard card : cards) {
+            ids.add(card.getId());
+        }
+        return ids;
+    }
+}
@@ -3,17 +3,27 @@ package ua.com.alexcoffee.service.impl;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Order;
+import ua.com.alexcoffee.model.OutboxMessage;
+import ua.com.alexcoffee.projection.OrderRow;
 import ua.com.alexcoffee.service.interfaces.OrderService;
+import ua.com.alexcoffee.tools.MockDAO;
 import ua.com.alexcoffee.tools.MockService;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
 import static ua.com.alexcoffee.tools.MockModel.*;
 
 public class OrderServiceImplTest {
@@ -134,6 +144,60 @@ public class OrderServiceImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getAllPageTest() throws Exception {
+        System.out.print("-> getAllPage() - ");
+
+        Page<Order> orders = orderService.getAll(0, 10);
+        assertNotNull(orders);
+        assertEquals(orders.getContent().size(), 10);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getRowsAfterTest() throws Exception {
+        System.out.print("-> getRowsAfter() - ");
+
+        Slice<OrderRow> rows = orderService.getRowsAfter(null, 10);
+        assertNotNull(rows);
+        assertEquals(rows.getContent().size(), 10);
+        assertNotNull(rows.getContent().get(0).getNumber());
+
+        rows = orderService.getRowsAfter(ID, 10);
+        assertNotNull(rows);
+        assertTrue(rows.hasContent());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getAllAfterTest() throws Exception {
+        System.out.print("-> getAllAfter() - ");
+
+        Slice<Order> orders = orderService.getAllAfter(ID, 10);
+        assertNotNull(orders);
+        assertTrue(orders.hasContent());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getPageableTest() throws Exception {
+        System.out.print("-> getPageable() - ");
+
+        Pageable pageable = MainServiceImpl.getPageable(-1, 0);
+        assertEquals(pageable.getPageNumber(), 0);
+        assertEquals(pageable.getPageSize(), 12);
+        assertNotNull(pageable.getSort().getOrderFor("id"));
+
+        pageable = MainServiceImpl.getPageable(3, 1000000);
+        assertEquals(pageable.getPageNumber(), 3);
+        assertEquals(pageable.getPageSize(), 100);
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void noExceptionOfVoidMethodTest() throws Exception {
         System.out.print("-> noExceptionOfVoidMethod() - ");
@@ -162,4 +226,23 @@ public class OrderServiceImplTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void checkoutTest() throws Exception {
+        System.out.print("-> checkout() - ");
+
+        Order order = getOrder();
+        orderService.checkout(order);
+        verify(MockDAO.getOrderDAO(), atLeastOnce()).add(order);
+        verify(MockDAO.getOutboxDAO(), atLeastOnce()).add(any(OutboxMessage.class));
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void checkoutNullTest() throws Exception {
+        System.out.println("-> checkoutNull() - OK!");
+
+        orderService.checkout(null);
+    }
 }
@@ -0,0 +1,215 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.dao.interfaces.OutboxDAO;
+import ua.com.alexcoffee.mail.Notification;
+import ua.com.alexcoffee.model.OutboxMessage;
+import ua.com.alexcoffee.service.interfaces.OutboxService;
+import ua.com.alexcoffee.service.interfaces.SenderService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OutboxServiceImplTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"OutboxServiceImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"OutboxServiceImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void relaySentTest() throws Exception {
+        System.out.print("-> relaySent() - ");
+
+        OutboxMessage message = getMessage(1L);
+        OutboxDAO dao = getOutboxDAO(message);
+        Notification notification = getNotification();
+        SenderService senderService = mock(SenderService.class);
+        when(senderService.send(anyString(), anyString())).thenReturn(notification);
+
+        OutboxService outboxService = new OutboxServiceImpl(dao, senderService);
+        assertEquals(outboxService.relay(), 1);
+        assertEquals(outboxService.getInFlightCount(), 1);
+
+        assertEquals(outboxService.relay(), 0);
+        verify(senderService, times(1)).send(anyString(), anyString());
+        verify(dao, never()).removeLocked(message);
+
+        notification.markSent();
+        when(dao.getPending(anyInt(), anyInt())).thenReturn(Collections.emptyList());
+        outboxService.relay();
+        verify(dao).removeLocked(message);
+        verify(dao, never()).remove(message);
+        assertEquals(outboxService.getInFlightCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void relayFailedTest() throws Exception {
+        System.out.print("-> relayFailed() - ");
+
+        OutboxMessage message = getMessage(2L);
+        OutboxDAO dao = getOutboxDAO(message);
+        Notification notification = getNotification();
+        SenderService senderService = mock(SenderService.class);
+        when(senderService.send(anyString(), anyString())).thenReturn(notification);
+
+        OutboxService outboxService = new OutboxServiceImpl(dao, senderService);
+        outboxService.relay();
+        notification.markFailed(new Exception("Connection refused"));
+        when(dao.getPending(anyInt(), anyInt())).thenReturn(Collections.emptyList());
+        outboxService.relay();
+
+        assertEquals(message.getAttempts(), 1);
+        assertNull(message.getLockedUntil());
+        verify(dao).unlock(message, true);
+        verify(dao, never()).update(message);
+        verify(dao, never()).removeLocked(message);
+        assertEquals(outboxService.getInFlightCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void relayRejectedTest() throws Exception {
+        System.out.print("-> relayRejected() - ");
+
+        OutboxDAO dao = getOutboxDAO(getMessage(3L), getMessage(4L));
+        SenderService senderService = mock(SenderService.class);
+        when(senderService.send(anyString(), anyString())).thenReturn(null);
+
+        OutboxService outboxService = new OutboxServiceImpl(dao, senderService);
+        assertEquals(outboxService.relay(), 0);
+        verify(senderService, times(1)).send(anyString(), anyString());
+        assertEquals(outboxService.getInFlightCount(), 0);
+
+        OutboxMessage rejected = dao.getPending(0, 0).get(0);
+        assertNull(rejected.getLockedUntil());
+        assertEquals(rejected.getAttempts(), 0);
+        verify(dao).unlock(rejected, false);
+        verify(dao, never()).update(rejected);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void relayLockedTest() throws Exception {
+        System.out.print("-> relayLocked() - ");
+
+        OutboxMessage message = getMessage(5L);
+        OutboxDAO dao = getOutboxDAO(message);
+        when(dao.lock(any(OutboxMessage.class), anyLong())).thenReturn(false);
+        SenderService senderService = mock(SenderService.class);
+
+        OutboxService outboxService = new OutboxServiceImpl(dao, senderService);
+        assertEquals(outboxService.relay(), 0);
+        verify(senderService, never()).send(anyString(), anyString());
+        assertEquals(outboxService.getInFlightCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void relayLeaseExpiredTest() throws Exception {
+        System.out.print("-> relayLeaseExpired() - ");
+
+        OutboxMessage message = getMessage(6L);
+        OutboxDAO dao = getOutboxDAO(message);
+        when(dao.unlock(any(OutboxMessage.class), anyBoolean())).thenReturn(false);
+        Notification notification = getNotification();
+        SenderService senderService = mock(SenderService.class);
+        when(senderService.send(anyString(), anyString())).thenReturn(notification);
+
+        OutboxService outboxService = new OutboxServiceImpl(dao, senderService);
+        outboxService.relay();
+        notification.markFailed(new Exception("Connection refused"));
+        when(dao.getPending(anyInt(), anyInt())).thenReturn(Collections.emptyList());
+        outboxService.relay();
+
+        assertEquals(message.getAttempts(), 0);
+        verify(dao, never()).update(message);
+        assertEquals(outboxService.getInFlightCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void configureTasksTest() {
+        System.out.print("-> configureTasks() - ");
+
+        AppSettings settings = new AppSettings(
+                new MockEnvironment().withProperty("alexcoffee.outbox.delay", "30000")
+        );
+        OutboxServiceImpl outboxService = new OutboxServiceImpl(
+                getOutboxDAO(), mock(SenderService.class), settings
+        );
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        outboxService.configureTasks(registrar);
+
+        assertEquals(registrar.getFixedDelayTaskList().size(), 1);
+        assertEquals(registrar.getFixedDelayTaskList().get(0).getInterval(), 30000);
+
+        System.out.println("OK!");
+    }
+
+    private static OutboxDAO getOutboxDAO(final OutboxMessage... messages) {
+        List<OutboxMessage> list = new ArrayList<>();
+        Collections.addAll(list, messages);
+        OutboxDAO dao = mock(OutboxDAO.class);
+        when(dao.getPending(anyInt(), anyInt())).thenReturn(list);
+        when(dao.lock(any(OutboxMessage.class), anyLong())).thenAnswer(invocation -> {
+            ((OutboxMessage) invocation.getArguments()[0]).setLockedUntil(new Date());
+            return true;
+        });
+        when(dao.removeLocked(any(OutboxMessage.class))).thenReturn(true);
+        when(dao.unlock(any(OutboxMessage.class), anyBoolean())).thenAnswer(invocation -> {
+            OutboxMessage message = (OutboxMessage) invocation.getArguments()[0];
+            if ((Boolean) invocation.getArguments()[1]) {
+                message.addAttempt();
+            }
+            message.setLockedUntil(null);
+            return true;
+        });
+        return dao;
+    }
+
+    private static OutboxMessage getMessage(final long id) {
+        OutboxMessage message = new OutboxMessage("AlexCoffee || New Order", "Order");
+        message.setId(id);
+        return message;
+    }
+
+    private static Notification getNotification() {
+        return new Notification(
+                "AlexCoffee || New Order",
+                "Order",
+                Collections.singletonList("manager@alexcoffee.com.ua")
+        );
+    }
+}
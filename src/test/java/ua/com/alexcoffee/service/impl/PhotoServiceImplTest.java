@@ -4,17 +4,27 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.web.multipart.MultipartFile;
+import ua.com.alexcoffee.cache.impl.CatalogCacheImpl;
+import ua.com.alexcoffee.dao.interfaces.PhotoDAO;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Photo;
+import ua.com.alexcoffee.photo.interfaces.PhotoStore;
+import ua.com.alexcoffee.search.interfaces.SearchIndex;
 import ua.com.alexcoffee.service.interfaces.PhotoService;
 import ua.com.alexcoffee.tools.MockService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
 import static ua.com.alexcoffee.tools.MockModel.*;
 
 public class PhotoServiceImplTest {
@@ -170,7 +180,35 @@ public class PhotoServiceImplTest {
         System.out.print("-> saveFile() - ");
 
         MultipartFile file = null;
-        photoService.saveFile(file);
+        assertNull(photoService.saveFile(file).join());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void createThumbnails() throws Exception {
+        System.out.print("-> createThumbnails() - ");
+
+        PhotoStore store = mock(PhotoStore.class);
+        when(store.resize("a.jpg", 200)).thenReturn(CompletableFuture.completedFuture("a-200.jpg"));
+        when(store.resize("a.jpg", 400)).thenReturn(CompletableFuture.completedFuture("a-400.jpg"));
+        when(store.resize("b.jpg", 200)).thenReturn(CompletableFuture.completedFuture(null));
+        when(store.resize("b.jpg", 400)).thenReturn(CompletableFuture.completedFuture(null));
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new UncheckedIOException(new IOException("disk")));
+        when(store.resize("c.jpg", 200)).thenReturn(failed);
+        when(store.resize("c.jpg", 400)).thenReturn(failed);
+        PhotoDAO dao = mock(PhotoDAO.class);
+        when(dao.updateThumbnails("a.jpg", "a-200.jpg", "a-400.jpg")).thenReturn(1);
+        SearchIndex searchIndex = mock(SearchIndex.class);
+        PhotoService service = new PhotoServiceImpl(dao, new CatalogCacheImpl(), searchIndex, store, 200);
+
+        assertTrue(service.createThumbnails("a.jpg").join());
+        verify(searchIndex, times(1)).invalidate();
+        assertFalse(service.createThumbnails("b.jpg").join());
+        assertFalse(service.createThumbnails("c.jpg").join());
+        assertFalse(service.createThumbnails("").join());
+        verify(dao, times(1)).updateThumbnails(anyString(), anyString(), anyString());
 
         System.out.println("OK!");
     }
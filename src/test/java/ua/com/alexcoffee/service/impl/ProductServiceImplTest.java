@@ -3,15 +3,20 @@ package ua.com.alexcoffee.service.impl;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.data.domain.Page;
 import ua.com.alexcoffee.exception.BadRequestException;
 import ua.com.alexcoffee.exception.WrongInformationException;
 import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.projection.FacetedProducts;
+import ua.com.alexcoffee.projection.ProductCard;
 import ua.com.alexcoffee.service.interfaces.ProductService;
 import ua.com.alexcoffee.tools.MockService;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static ua.com.alexcoffee.tools.MockModel.*;
@@ -118,6 +123,24 @@ public class ProductServiceImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getFacetedByCategoryUrlTest() throws Exception {
+        System.out.print("-> getFacetedByCategoryUrl() - ");
+
+        FacetedProducts faceted = productService.getByCategoryUrl(URL, null);
+        assertNotNull(faceted);
+        assertEquals(faceted.getProducts().size(), faceted.getTotal());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void getFacetedByUnknownCategoryUrlTest() throws Exception {
+        System.out.println("-> getFacetedByUnknownCategoryUrl() - OK!");
+
+        FacetedProducts faceted = productService.getByCategoryUrl(ANY_STRING, null);
+    }
+
     @Test(expected = WrongInformationException.class)
     public void getByNullCategoryUrlTest() throws Exception {
         System.out.println("-> getByCategoryNullUrl() - OK!");
@@ -230,6 +253,27 @@ public class ProductServiceImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getRandomIdsTest() throws Exception {
+        System.out.print("-> getRandomIds() - ");
+
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            ids.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            List<Long> randomIds = ProductServiceImpl.getRandomIds(ids, 12, ID);
+            assertTrue(randomIds.size() == 12);
+            assertTrue(!randomIds.contains(ID));
+            assertTrue(new HashSet<>(randomIds).size() == 12);
+        }
+        assertTrue(ProductServiceImpl.getRandomIds(ids.subList(0, 5), 12, ID).size() == 4);
+        assertTrue(ProductServiceImpl.getRandomIds(ids.subList(0, 5), 12, null).size() == 5);
+        assertTrue(ProductServiceImpl.getRandomIds(new ArrayList<>(), 12, ID).isEmpty());
+
+        System.out.println("OK!");
+    }
+
     @Test(expected = WrongInformationException.class)
     public void removeByNullUrl() throws Exception {
         System.out.print("-> removeByNullUrl() - ");
@@ -283,6 +327,43 @@ public class ProductServiceImplTest {
         System.out.println("OK!");
     }
 
+    @Test
+    public void getAllPageTest() throws Exception {
+        System.out.print("-> getAllPage() - ");
+
+        Page<Product> products = productService.getAll(0, 5);
+        assertNotNull(products);
+        assertEquals(products.getSize(), 5);
+        assertEquals(products.getTotalElements(), 10);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getCardsTest() throws Exception {
+        System.out.print("-> getCards() - ");
+
+        Page<ProductCard> cards = productService.getCards(0, 5);
+        assertNotNull(cards);
+        assertEquals(cards.getSize(), 5);
+        assertEquals(cards.getTotalElements(), 10);
+        assertNotNull(cards.getContent().get(0).getTitle());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void searchTest() throws Exception {
+        System.out.print("-> search() - ");
+
+        List<ProductCard> cards = productService.search(TITLE, 5);
+        assertEquals(cards.size(), 5);
+        assertTrue(productService.search(null, 5).isEmpty());
+        assertTrue(productService.search(ANY_STRING, 5).isEmpty());
+
+        System.out.println("OK!");
+    }
+
     @Test
     public void noExceptionOfVoidMethodTest() throws Exception {
         System.out.print("-> noExceptionOfVoidMethod() - ");
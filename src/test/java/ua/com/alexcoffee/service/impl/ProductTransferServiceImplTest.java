@@ -0,0 +1,243 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import ua.com.alexcoffee.cache.impl.CatalogCacheImpl;
+import ua.com.alexcoffee.config.AppSettings;
+import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.exception.WrongInformationException;
+import ua.com.alexcoffee.model.Category;
+import ua.com.alexcoffee.model.Photo;
+import ua.com.alexcoffee.model.Product;
+import ua.com.alexcoffee.search.impl.InvertedSearchIndex;
+import ua.com.alexcoffee.service.interfaces.ProductTransferService;
+import ua.com.alexcoffee.service.interfaces.ProductTransferService.Format;
+import ua.com.alexcoffee.service.interfaces.ProductTransferService.Report;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ProductTransferServiceImplTest {
+
+    private static final String PARAMETERS = "Вес: 1 кг.\n<br>Страна: \"Бразилия\", Минас";
+
+    private ProductDAO productDAO;
+    private List<Product> saved;
+    private List<Integer> batches;
+    private ProductTransferService productTransferService;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"ProductTransferServiceImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"ProductTransferServiceImpl\" - FINISH.\n");
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void initService() {
+        Category category = new Category("Кофе в зернах", "beans", "", null);
+        category.setId(1L);
+        CategoryDAO categoryDAO = mock(CategoryDAO.class);
+        when(categoryDAO.getAll()).thenReturn(Collections.singletonList(category));
+
+        Product product = new Product("Кофе, \"Арабика\"", "arabica", category, new Photo("Арабика", "a.jpg", "b.jpg"), 150.5);
+        product.setId(1L);
+        product.setArticle(123456);
+        product.setParameters(PARAMETERS);
+
+        this.saved = new ArrayList<>();
+        this.batches = new ArrayList<>();
+        this.productDAO = mock(ProductDAO.class);
+        when(this.productDAO.getUrls()).thenAnswer(invocation -> Stream.of("existing"));
+        when(this.productDAO.getAllAfter(null, 2)).thenReturn(new SliceImpl<>(Collections.singletonList(product)));
+        doAnswer(invocation -> {
+            Collection<Product> products = (Collection<Product>) invocation.getArguments()[0];
+            this.batches.add(products.size());
+            this.saved.addAll(products);
+            return null;
+        }).when(this.productDAO).add(anyCollectionOf(Product.class));
+
+        AppSettings settings = new AppSettings(new MockEnvironment().withProperty("alexcoffee.import.batch-size", "2"));
+        this.productTransferService = new ProductTransferServiceImpl(
+                this.productDAO, categoryDAO, new CatalogCacheImpl(), new InvertedSearchIndex(),
+                mock(PlatformTransactionManager.class), settings
+        );
+    }
+
+    @Test
+    public void importCsvTest() throws Exception {
+        System.out.print("-> importCsv() - ");
+
+        String csv = "\uFEFFTitle,url,category,price,parameters,article\r\n"
+                + "\"Кофе \"\"Арабика\"\"\",arabica,beans,\"150,5\",\"" + PARAMETERS.replace("\"", "\"\"") + "\",123456\r\n"
+                + "Кофе 2,robusta,beans,99,,\r\n"
+                + "\r\n"
+                + "Чай,tea,tea,10,,\r\n"
+                + "Дубль,existing,beans,10,,\r\n"
+                + "Без цены,no-price,beans,abc,,\r\n"
+                + "Повтор,robusta,beans,10,,\r\n"
+                + "Кофе 3,third,beans,100\r\n";
+        List<Report> progress = new ArrayList<>();
+        Report report = this.productTransferService.importProducts(new StringReader(csv), Format.CSV, progress::add);
+
+        assertEquals(report.getRead(), 7);
+        assertEquals(report.getImported(), 3);
+        assertEquals(report.getSkipped(), 4);
+        assertEquals(report.getErrors().size(), 4);
+        assertTrue(report.getErrors().get(0).startsWith("Row 3: "));
+        assertEquals(this.batches, Arrays.asList(2, 1));
+        assertEquals(progress.size(), 2);
+        assertSame(progress.get(1), report);
+
+        Product product = this.saved.get(0);
+        assertEquals(product.getTitle(), "Кофе \"Арабика\"");
+        assertEquals(product.getPrice(), 150.5, 0.001);
+        assertEquals(product.getParameters(), PARAMETERS);
+        assertEquals(product.getArticle(), 123456);
+        assertEquals(product.getCategory().getUrl(), "beans");
+        assertEquals(this.saved.get(2).getUrl(), "third");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void importJsonTest() throws Exception {
+        System.out.print("-> importJson() - ");
+
+        String json = "[{\"title\": \"Кофе\", \"url\": \"json-1\", \"category\": \"beans\", \"price\": 120.5,"
+                + " \"photo\": {\"title\": \"skip\"}, \"tags\": [1, 2]},"
+                + " {\"title\": \"\", \"url\": \"json-2\", \"category\": \"beans\", \"price\": 1},"
+                + " {\"title\": \"Кофе\", \"url\": \"json-3\", \"category\": \"beans\", \"price\": 1, \"article\": 1.5}]";
+        Report report = this.productTransferService.importProducts(new StringReader(json), Format.JSON, r -> {
+        });
+
+        assertEquals(report.getRead(), 3);
+        assertEquals(report.getImported(), 1);
+        assertEquals(report.getSkipped(), 2);
+        assertEquals(this.saved.get(0).getPrice(), 120.5, 0.001);
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void importJsonNotArrayTest() throws Exception {
+        System.out.println("-> importJsonNotArray() - OK!");
+
+        this.productTransferService.importProducts(new StringReader("{\"title\": \"Кофе\"}"), Format.JSON, r -> {
+        });
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void importCsvUnclosedQuoteTest() throws Exception {
+        System.out.println("-> importCsvUnclosedQuote() - OK!");
+
+        this.productTransferService.importProducts(
+                new StringReader("title,url,category,price\n\"Кофе,arabica,beans,10\n"), Format.CSV, r -> {
+                }
+        );
+    }
+
+    @Test
+    public void exportCsvTest() throws Exception {
+        System.out.print("-> exportCsv() - ");
+
+        StringWriter writer = new StringWriter();
+        this.productTransferService.exportProducts(writer, Format.CSV);
+        ProductTransferServiceImpl.CsvRowReader reader = new ProductTransferServiceImpl.CsvRowReader(
+                new StringReader(writer.toString())
+        );
+        Map<String, String> row = reader.next();
+
+        assertTrue(writer.toString().startsWith(String.join(",", ProductTransferServiceImpl.COLUMNS) + "\r\n"));
+        assertEquals(row.get("title"), "Кофе, \"Арабика\"");
+        assertEquals(row.get("parameters"), PARAMETERS);
+        assertEquals(row.get("category"), "beans");
+        assertEquals(row.get("article"), "123456");
+        assertEquals(row.get("small_photo"), "a.jpg");
+        assertNull(reader.next());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void exportJsonTest() throws Exception {
+        System.out.print("-> exportJson() - ");
+
+        StringWriter writer = new StringWriter();
+        this.productTransferService.exportProducts(writer, Format.JSON);
+        String json = writer.toString();
+
+        assertTrue(json.startsWith("[{\"article\":123456,"));
+        assertTrue(json.contains("\"price\":150.5"));
+        assertTrue(json.contains("\"category\":\"beans\""));
+        assertTrue(json.endsWith("}]"));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void exportKeysetTest() throws Exception {
+        System.out.print("-> exportKeyset() - ");
+
+        Product first = new Product("Арабика", "arabica", null, null, 10);
+        first.setId(7L);
+        Product second = new Product("Робуста", "robusta", null, null, 20);
+        second.setId(9L);
+        when(this.productDAO.getAllAfter(null, 2)).thenReturn(
+                new SliceImpl<>(Collections.singletonList(first), new PageRequest(0, 2), true)
+        );
+        when(this.productDAO.getAllAfter(7L, 2)).thenReturn(
+                new SliceImpl<>(Collections.singletonList(second), new PageRequest(0, 2), false)
+        );
+
+        StringWriter writer = new StringWriter();
+        this.productTransferService.exportProducts(writer, Format.CSV);
+
+        assertTrue(writer.toString().contains("arabica"));
+        assertTrue(writer.toString().contains("robusta"));
+        verify(this.productDAO).getAllAfter(7L, 2);
+        verify(this.productDAO, never()).getAll(any(Pageable.class));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void formatTest() throws Exception {
+        System.out.print("-> format() - ");
+
+        assertEquals(Format.of("csv"), Format.CSV);
+        assertEquals(Format.of("JSON"), Format.JSON);
+        assertEquals(Format.JSON.getExtension(), "json");
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = WrongInformationException.class)
+    public void unknownFormatTest() throws Exception {
+        System.out.println("-> unknownFormat() - OK!");
+
+        Format.of("xml");
+    }
+}
@@ -3,13 +3,17 @@ package ua.com.alexcoffee.service.impl;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import ua.com.alexcoffee.mail.impl.JavaMailClient;
 import ua.com.alexcoffee.model.Order;
 import ua.com.alexcoffee.service.interfaces.SenderService;
 import ua.com.alexcoffee.tools.MockService;
+import ua.com.alexcoffee.tools.MockSmtpServer;
 
 import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static ua.com.alexcoffee.tools.MockModel.getOrder;
 
 public class SenderServiceImplTest {
@@ -50,4 +54,29 @@ public class SenderServiceImplTest {
 
         System.out.println("OK!");
     }
+
+    @Test
+    public void sendTest() throws Exception {
+        System.out.print("-> send() - ");
+
+        try (MockSmtpServer server = new MockSmtpServer()) {
+            SenderServiceImpl senderService = new SenderServiceImpl(
+                    MockService.getUserService(),
+                    () -> new JavaMailClient(server.getProperties(), null, null, "support@alexcoffee.com.ua")
+            );
+            senderService.start();
+            assertTrue(senderService.send(getOrder()));
+            assertTrue(senderService.send(getOrder()));
+
+            long start = System.currentTimeMillis();
+            while (senderService.getDispatcher().getSentCount() < 2 && System.currentTimeMillis() - start < 10000) {
+                Thread.sleep(10);
+            }
+            assertEquals(senderService.getDispatcher().getSentCount(), 2);
+            assertEquals(server.getMessages(), 2);
+            senderService.shutdown();
+        }
+
+        System.out.println("OK!");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package ua.com.alexcoffee.service.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StreamUtils;
+import ua.com.alexcoffee.cache.impl.CatalogCacheImpl;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.dao.interfaces.CategoryDAO;
+import ua.com.alexcoffee.dao.interfaces.ProductDAO;
+import ua.com.alexcoffee.exception.BadRequestException;
+import ua.com.alexcoffee.service.interfaces.SitemapService;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SitemapServiceImplTest {
+
+    private static ProductDAO productDAO;
+    private static CategoryDAO categoryDAO;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"SitemapServiceImpl\" - START.\n");
+
+        productDAO = mock(ProductDAO.class);
+        when(productDAO.getUrls()).thenAnswer(invocation -> Stream.of("coffee-1", "coffee-2", "coffee-3"));
+        categoryDAO = mock(CategoryDAO.class);
+        when(categoryDAO.getUrls()).thenAnswer(invocation -> Stream.of("beans"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"SitemapServiceImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void getUrlSetTest() throws Exception {
+        System.out.print("-> getUrlSet() - ");
+
+        SitemapService sitemapService = new SitemapServiceImpl(
+                productDAO, categoryDAO, new CatalogCacheImpl(), mock(PlatformTransactionManager.class)
+        );
+        String xml = unzip(sitemapService.get(0));
+        assertTrue(xml.contains("<urlset"));
+        assertTrue(xml.contains("<loc>http://alexcoffee.com.ua/category/beans</loc>"));
+        assertTrue(xml.contains("<loc>http://alexcoffee.com.ua/product/coffee-3</loc>"));
+        assertEquals(xml.split("<url>").length - 1, 9);
+        assertArrayEquals(sitemapService.get(0).getContent(), sitemapService.get(1).getContent());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void getIndexTest() throws Exception {
+        System.out.print("-> getIndex() - ");
+
+        SitemapService sitemapService = new SitemapServiceImpl(
+                productDAO, categoryDAO, new CatalogCacheImpl(), mock(PlatformTransactionManager.class), 4
+        );
+        String index = unzip(sitemapService.get(0));
+        assertTrue(index.contains("<sitemapindex"));
+        assertTrue(index.contains("<loc>http://alexcoffee.com.ua/sitemap-3.xml</loc>"));
+        assertFalse(index.contains("sitemap-4.xml"));
+        assertEquals(unzip(sitemapService.get(3)).split("<url>").length - 1, 1);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void rebuildOnCatalogChangeTest() throws Exception {
+        System.out.print("-> rebuildOnCatalogChange() - ");
+
+        CatalogCache catalogCache = new CatalogCacheImpl();
+        SitemapService sitemapService = new SitemapServiceImpl(
+                productDAO, categoryDAO, catalogCache, mock(PlatformTransactionManager.class)
+        );
+        SitemapService.Document first = sitemapService.get(0);
+        assertSame(sitemapService.get(0), first);
+
+        catalogCache.invalidate();
+        SitemapService.Document second = sitemapService.get(0);
+        assertNotSame(second, first);
+        assertEquals(second.getETag(), first.getETag());
+
+        System.out.println("OK!");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void getUnknownTest() throws Exception {
+        System.out.println("-> getUnknown() - OK!");
+
+        SitemapService sitemapService = new SitemapServiceImpl(
+                productDAO, categoryDAO, new CatalogCacheImpl(), mock(PlatformTransactionManager.class)
+        );
+        sitemapService.get(2);
+    }
+
+    private static String unzip(final SitemapService.Document document) throws Exception {
+        return StreamUtils.copyToString(
+                new GZIPInputStream(new ByteArrayInputStream(document.getContent())),
+                StandardCharsets.UTF_8
+        );
+    }
+}
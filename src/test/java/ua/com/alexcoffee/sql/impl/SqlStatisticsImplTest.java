@@ -0,0 +1,133 @@
+package ua.com.alexcoffee.sql.impl;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.sql.QueryEvent;
+import ua.com.alexcoffee.sql.StatementStats;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SqlStatisticsImplTest {
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"SqlStatisticsImpl\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"SqlStatisticsImpl\" - FINISH.\n");
+    }
+
+    @Test
+    public void recordTest() {
+        System.out.print("-> record() - ");
+
+        SqlStatisticsImpl statistics = new SqlStatisticsImpl(500, 10);
+        statistics.record("select * from products where id = 1", TimeUnit.MILLISECONDS.toNanos(2), false);
+        statistics.record("select * from products  where id = 25", TimeUnit.MILLISECONDS.toNanos(4), true);
+        statistics.record("select * from categories", TimeUnit.MILLISECONDS.toNanos(10), false);
+        List<StatementStats> statements = statistics.getStatements();
+
+        assertEquals(statements.size(), 2);
+        assertEquals(statements.get(0).getSql(), "select * from categories");
+        assertEquals(statements.get(1).getSql(), "select * from products where id = ?");
+        assertEquals(statements.get(1).getCount(), 2);
+        assertEquals(statements.get(1).getErrors(), 1);
+        assertEquals(statements.get(1).getTotalTime(), 6, 0);
+        assertEquals(statements.get(1).getAverageTime(), 3, 0);
+        assertEquals(statements.get(1).getMaxTime(), 4, 0);
+        assertTrue(statistics.getSlowQueries().isEmpty());
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void slowQueryTest() {
+        System.out.print("-> slow query - ");
+
+        SqlStatisticsImpl statistics = new SqlStatisticsImpl(500, 10);
+        statistics.beginRequest("GET /category/coffee");
+        statistics.record("select * from orders", TimeUnit.MILLISECONDS.toNanos(700), false);
+        statistics.endRequest();
+        statistics.record("delete from carts", TimeUnit.SECONDS.toNanos(1), false);
+        List<QueryEvent> queries = statistics.getSlowQueries();
+
+        assertEquals(queries.size(), 2);
+        assertEquals(queries.get(0).getSql(), "delete from carts");
+        assertNull(queries.get(0).getRequest());
+        assertEquals(queries.get(1).getValue(), 700);
+        assertEquals(queries.get(1).getRequest(), "GET /category/coffee");
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void repeatedQueryTest() {
+        System.out.print("-> repeated query - ");
+
+        SqlStatisticsImpl statistics = new SqlStatisticsImpl(500, 3);
+        statistics.beginRequest("GET /");
+        statistics.record("select * from categories", 1000, false);
+        for (int i = 0; i < 5; i++) {
+            statistics.record("select * from photos where id = " + i, 1000, false);
+        }
+        statistics.beginRequest("GET /error");
+        statistics.record("select * from photos where id = 9", 1000, false);
+        statistics.endRequest();
+        statistics.endRequest();
+        statistics.record("select * from photos where id = 10", 1000, false);
+        List<QueryEvent> queries = statistics.getRepeatedQueries();
+
+        assertEquals(queries.size(), 1);
+        assertEquals(queries.get(0).getSql(), "select * from photos where id = ?");
+        assertEquals(queries.get(0).getValue(), 6);
+        assertEquals(queries.get(0).getRequest(), "GET /");
+        assertEquals(statistics.getRequestCount(), 1);
+        assertEquals(statistics.getMaxRequestStatements(), 7);
+        assertEquals(statistics.getAverageRequestStatements(), 7, 0);
+
+        statistics.clear();
+        assertTrue(statistics.getStatements().isEmpty());
+        assertTrue(statistics.getRepeatedQueries().isEmpty());
+        assertEquals(statistics.getRequestCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void endRequestWithoutBeginTest() {
+        System.out.print("-> endRequest() without begin - ");
+
+        SqlStatisticsImpl statistics = new SqlStatisticsImpl(500, 3);
+        statistics.endRequest();
+
+        assertEquals(statistics.getRequestCount(), 0);
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void normalizeTest() {
+        System.out.print("-> normalize() - ");
+
+        assertEquals(
+                SqlStatisticsImpl.normalize("select p.id from products p\n  where p.title = 'It''s' and p.price > 10.5"),
+                "select p.id from products p where p.title = ? and p.price > ?"
+        );
+        assertEquals(
+                SqlStatisticsImpl.normalize("select photo0_.id from photos photo0_ where photo0_.id IN (1, 2, 3)"),
+                "select photo0_.id from photos photo0_ where photo0_.id in (?)"
+        );
+        assertEquals(
+                SqlStatisticsImpl.normalize("insert into orders (a, b) values (?, ?)"),
+                "insert into orders (a, b) values (?, ?)"
+        );
+
+        System.out.println("OK!");
+    }
+}
@@ -0,0 +1,104 @@
+package ua.com.alexcoffee.sql.impl;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import ua.com.alexcoffee.sql.interfaces.SqlStatistics;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class StatisticsDataSourceTest {
+
+    private DataSource target;
+    private Connection connection;
+    private SqlStatistics statistics;
+    private StatisticsDataSource dataSource;
+
+    @BeforeClass
+    public static void setUp() {
+        System.out.println("\nTesting class \"StatisticsDataSource\" - START.\n");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        System.out.println("Testing class \"StatisticsDataSource\" - FINISH.\n");
+    }
+
+    @Before
+    public void initDataSource() throws SQLException {
+        this.target = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        this.connection = mock(Connection.class);
+        when(this.target.getConnection()).thenReturn(this.connection);
+        this.statistics = mock(SqlStatistics.class);
+        this.dataSource = new StatisticsDataSource(this.target, this.statistics);
+    }
+
+    @Test
+    public void preparedStatementTest() throws Exception {
+        System.out.print("-> prepareStatement() - ");
+
+        String sql = "select * from products where id = ?";
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(this.connection.prepareStatement(sql)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        Connection proxy = this.dataSource.getConnection();
+        PreparedStatement prepared = proxy.prepareStatement(sql);
+        prepared.setLong(1, 5);
+
+        assertSame(prepared.executeQuery(), resultSet);
+        assertSame(prepared.getConnection(), proxy);
+        verify(statement).setLong(1, 5);
+        verify(this.statistics).record(eq(sql), anyLong(), eq(false));
+
+        proxy.close();
+        verify(this.connection).close();
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void statementTest() throws Exception {
+        System.out.print("-> createStatement() - ");
+
+        Statement statement = mock(Statement.class);
+        when(this.connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate("delete from carts")).thenThrow(new SQLException("locked"));
+
+        Statement created = this.dataSource.getConnection().createStatement();
+        created.addBatch("delete from orders where id = 1");
+        created.executeBatch();
+        try {
+            created.executeUpdate("delete from carts");
+            fail();
+        } catch (SQLException ex) {
+            assertEquals(ex.getMessage(), "locked");
+        }
+
+        verify(this.statistics).record(eq(StatisticsDataSource.BATCH), anyLong(), eq(false));
+        verify(this.statistics).record(eq("delete from carts"), anyLong(), eq(true));
+
+        System.out.println("OK!");
+    }
+
+    @Test
+    public void closeTest() throws Exception {
+        System.out.print("-> close() - ");
+
+        this.dataSource.close();
+        verify((Closeable) this.target).close();
+
+        System.out.println("OK!");
+    }
+}
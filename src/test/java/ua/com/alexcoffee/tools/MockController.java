@@ -108,7 +108,9 @@ public final class MockController {
         CategoryService categoryService = getCategoryService();
         PhotoService photoService = getPhotoService();
         UserService userService = getUserService();
-        return new AdminProductsController(productService, categoryService, photoService, userService);
+        ProductTransferService productTransferService = getProductTransferService();
+        return new AdminProductsController(productService, categoryService, photoService, userService,
+                productTransferService);
     }
 
     private static AdminUsersController initAdminUsersController() {
@@ -124,9 +126,8 @@ public final class MockController {
         OrderService orderService = getOrderService();
         StatusService statusService = getStatusService();
         RoleService roleService = getRoleService();
-        SenderService senderService = getSenderService();
         return new HomeController(productService, categoryService, shoppingCartService,
-                orderService, statusService, roleService, senderService);
+                orderService, statusService, roleService, getCatalogCache());
     }
 
     private static ManagerOrdersController initManagerOrdersController() {
@@ -150,8 +151,7 @@ public final class MockController {
     }
 
     private static SEOController initSeoController() {
-        ProductService productService = getProductService();
-        CategoryService categoryService = getCategoryService();
-        return new SEOController(productService, categoryService);
+        SitemapService sitemapService = getSitemapService();
+        return new SEOController(sitemapService);
     }
 }
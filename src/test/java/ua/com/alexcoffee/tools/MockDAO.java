@@ -1,13 +1,23 @@
 package ua.com.alexcoffee.tools;
 
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import ua.com.alexcoffee.dao.interfaces.*;
 import ua.com.alexcoffee.enums.RoleEnum;
 import ua.com.alexcoffee.enums.StatusEnum;
 import ua.com.alexcoffee.model.*;
+import ua.com.alexcoffee.projection.OrderRow;
+import ua.com.alexcoffee.projection.ProductCard;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static ua.com.alexcoffee.tools.MockModel.*;
@@ -16,6 +26,7 @@ public final class MockDAO {
 
     private static CategoryDAO categoryDAO;
     private static OrderDAO orderDAO;
+    private static OutboxDAO outboxDAO;
     private static PhotoDAO photoDAO;
     private static ProductDAO productDAO;
     private static RoleDAO roleDAO;
@@ -41,6 +52,14 @@ public final class MockDAO {
     }
 
 
+    public static OutboxDAO getOutboxDAO() {
+        if (outboxDAO == null) {
+            outboxDAO = mock(OutboxDAO.class);
+        }
+        return outboxDAO;
+    }
+
+
     public static PhotoDAO getPhotoDAO() {
         if (photoDAO == null) {
             photoDAO = initPhotoDAO();
@@ -108,12 +127,17 @@ public final class MockDAO {
         when(categoryDAO.get(URL)).thenReturn(category);
         when(categoryDAO.get(ANY_STRING)).thenReturn(null);
         when(categoryDAO.getAll()).thenReturn(categories);
+        when(categoryDAO.getUrls()).thenAnswer(invocation -> Stream.of(URL));
         return categoryDAO;
     }
 
     private static OrderDAO initOrderDAO() {
         Order order = getOrder();
         List<Order> orders = getTenOrders();
+        List<OrderRow> rows = new ArrayList<>();
+        for (Order item : orders) {
+            rows.add(new OrderRow(item));
+        }
 
         OrderDAO orderDAO = mock(OrderDAO.class);
         when(orderDAO.get(ID)).thenReturn(order);
@@ -121,6 +145,9 @@ public final class MockDAO {
         when(orderDAO.get(NUMBER)).thenReturn(order);
         when(orderDAO.get(ANY_STRING)).thenReturn(null);
         when(orderDAO.getAll()).thenReturn(orders);
+        when(orderDAO.getAll(any(Pageable.class))).thenReturn(new PageImpl<>(orders));
+        when(orderDAO.getRowsAfter(any(), anyInt())).thenReturn(new SliceImpl<>(rows));
+        when(orderDAO.getAllAfter(anyLong(), anyInt())).thenReturn(new SliceImpl<>(orders));
         return orderDAO;
     }
 
@@ -140,6 +167,12 @@ public final class MockDAO {
     private static ProductDAO initProductDAO() {
         Product product = getProduct();
         List<Product> products = getTenProducts();
+        List<Long> ids = new ArrayList<>();
+        List<ProductCard> cards = new ArrayList<>();
+        for (Product item : products) {
+            ids.add(item.getId());
+            cards.add(new ProductCard(item));
+        }
 
         ProductDAO productDAO = mock(ProductDAO.class);
         when(productDAO.get(ID)).thenReturn(product);
@@ -151,6 +184,13 @@ public final class MockDAO {
         when(productDAO.getListByCategoryId(ID)).thenReturn(products);
         when(productDAO.getListByCategoryId(UNKNOWN_ID)).thenReturn(new ArrayList<>());
         when(productDAO.getAll()).thenReturn(products);
+        when(productDAO.getAll(any(Pageable.class))).thenReturn(new PageImpl<>(products));
+        when(productDAO.getCards(any(Pageable.class))).thenReturn(new PageImpl<>(cards));
+        when(productDAO.getAllIds()).thenReturn(ids);
+        when(productDAO.getIdsByCategoryId(ID)).thenReturn(ids);
+        when(productDAO.getIdsByCategoryId(UNKNOWN_ID)).thenReturn(new ArrayList<>());
+        when(productDAO.getList(anyCollectionOf(Long.class))).thenReturn(products);
+        when(productDAO.getUrls()).thenAnswer(invocation -> products.stream().map(Product::getUrl));
         return productDAO;
     }
 
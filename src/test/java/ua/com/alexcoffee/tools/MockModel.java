@@ -214,6 +214,7 @@ public final class MockModel {
         for (int i = 0; i < 10; i++) {
             SalePosition salePosition = initSalePosition();
             salePosition.setId((long) i);
+            salePosition.getProduct().setId((long) i);
             salePositions.add(salePosition);
         }
         return salePositions;
@@ -1,9 +1,15 @@
 package ua.com.alexcoffee.tools;
 
+import org.springframework.transaction.PlatformTransactionManager;
+import ua.com.alexcoffee.cache.impl.CatalogCacheImpl;
+import ua.com.alexcoffee.cache.interfaces.CatalogCache;
+import ua.com.alexcoffee.config.AppSettings;
 import ua.com.alexcoffee.dao.interfaces.*;
+import ua.com.alexcoffee.search.impl.InvertedSearchIndex;
 import ua.com.alexcoffee.service.impl.*;
 import ua.com.alexcoffee.service.interfaces.*;
 
+import static org.mockito.Mockito.mock;
 import static ua.com.alexcoffee.tools.MockDAO.*;
 
 public final class MockService {
@@ -12,12 +18,15 @@ public final class MockService {
     private static OrderService orderService;
     private static PhotoService photoService;
     private static ProductService productService;
+    private static ProductTransferService productTransferService;
     private static RoleService roleService;
     private static SalePositionService salePositionService;
     private static SenderService senderService;
+    private static SitemapService sitemapService;
     private static ShoppingCartService shoppingCartService;
     private static StatusService statusService;
     private static UserService userService;
+    private static CatalogCache catalogCache;
 
     public static CategoryService getCategoryService() {
         if (categoryService == null) {
@@ -47,6 +56,13 @@ public final class MockService {
         return productService;
     }
 
+    public static ProductTransferService getProductTransferService() {
+        if (productTransferService == null) {
+            productTransferService = initProductTransferService();
+        }
+        return productTransferService;
+    }
+
     public static RoleService getRoleService() {
         if (roleService == null) {
             roleService = initRoleService();
@@ -68,6 +84,13 @@ public final class MockService {
         return senderService;
     }
 
+    public static SitemapService getSitemapService() {
+        if (sitemapService == null) {
+            sitemapService = initSitemapService();
+        }
+        return sitemapService;
+    }
+
     public static ShoppingCartService getShoppingCartService() {
         if (shoppingCartService == null) {
             shoppingCartService = initShoppingCartService();
@@ -89,25 +112,41 @@ public final class MockService {
         return userService;
     }
 
+    public static CatalogCache getCatalogCache() {
+        if (catalogCache == null) {
+            catalogCache = new CatalogCacheImpl();
+        }
+        return catalogCache;
+    }
+
     private static CategoryService initCategoryService() {
         CategoryDAO categoryDAO = getCategoryDAO();
-        return new CategoryServiceImpl(categoryDAO);
+        return new CategoryServiceImpl(categoryDAO, getCatalogCache());
     }
 
     private static OrderService initOrderService() {
         OrderDAO orderDAO = getOrderDAO();
-        return new OrderServiceImpl(orderDAO);
+        OutboxDAO outboxDAO = getOutboxDAO();
+        return new OrderServiceImpl(orderDAO, outboxDAO);
     }
 
     private static PhotoService initPhotoService() {
         PhotoDAO photoDAO = getPhotoDAO();
-        return new PhotoServiceImpl(photoDAO);
+        return new PhotoServiceImpl(photoDAO, getCatalogCache(), new InvertedSearchIndex(), new AppSettings());
     }
 
     private static ProductService initProductService() {
         ProductDAO productDAO = getProductDAO();
         CategoryDAO categoryDAO = getCategoryDAO();
-        return new ProductServiceImpl(productDAO, categoryDAO);
+        return new ProductServiceImpl(productDAO, categoryDAO, getCatalogCache(), new InvertedSearchIndex());
+    }
+
+    private static ProductTransferService initProductTransferService() {
+        ProductDAO productDAO = getProductDAO();
+        CategoryDAO categoryDAO = getCategoryDAO();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        return new ProductTransferServiceImpl(productDAO, categoryDAO, getCatalogCache(),
+                new InvertedSearchIndex(), transactionManager, new AppSettings());
     }
 
     private static RoleService initRoleService() {
@@ -122,7 +161,14 @@ public final class MockService {
 
     private static SenderService initSenderService() {
         UserService userService = getUserService();
-        return new SenderServiceImpl(userService);
+        return new SenderServiceImpl(userService, new AppSettings());
+    }
+
+    private static SitemapService initSitemapService() {
+        ProductDAO productDAO = getProductDAO();
+        CategoryDAO categoryDAO = getCategoryDAO();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        return new SitemapServiceImpl(productDAO, categoryDAO, getCatalogCache(), transactionManager);
     }
 
     private static ShoppingCartService initShoppingCartService() {
@@ -0,0 +1,97 @@
+package ua.com.alexcoffee.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class MockSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+    public MockSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        final Thread thread = new Thread(this::accept, "mock-smtp");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public Properties getProperties() {
+        Properties properties = new Properties();
+        properties.put("mail.smtp.host", "localhost");
+        properties.put("mail.smtp.port", String.valueOf(this.serverSocket.getLocalPort()));
+        properties.put("mail.smtp.connectiontimeout", "5000");
+        properties.put("mail.smtp.timeout", "5000");
+        return properties;
+    }
+
+    public int getConnections() {
+        return this.connections.get();
+    }
+
+    public int getMessages() {
+        return this.messages.get();
+    }
+
+    public List<String> getRecipients() {
+        return this.recipients;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+    }
+
+    private void accept() {
+        while (!this.serverSocket.isClosed()) {
+            try (Socket socket = this.serverSocket.accept()) {
+                this.connections.incrementAndGet();
+                talk(socket);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void talk(final Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)
+        );
+        PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+        reply(out, "220 localhost");
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase();
+            if (command.startsWith("RCPT TO:")) {
+                this.recipients.add(line.substring(8).trim().replaceAll("[<>]", ""));
+                reply(out, "250 OK");
+            } else if (command.startsWith("DATA")) {
+                reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                while ((line = in.readLine()) != null && !line.equals(".")) {
+                    // skip message body
+                }
+                this.messages.incrementAndGet();
+                reply(out, "250 OK");
+            } else if (command.startsWith("QUIT")) {
+                reply(out, "221 Bye");
+                return;
+            } else {
+                reply(out, "250 OK");
+            }
+        }
+    }
+
+    private static void reply(final PrintWriter out, final String text) {
+        out.print(text + "\r\n");
+        out.flush();
+    }
+}